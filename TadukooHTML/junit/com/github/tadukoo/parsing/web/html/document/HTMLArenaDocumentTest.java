@@ -0,0 +1,216 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLBatchParser;
+import com.github.tadukoo.parsing.web.html.parser.HTMLBatchResult;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLArenaDocumentTest implements HTMLTagConstants{
+	/** A document with a bit of everything in it */
+	private static final String HTML = "<!DOCTYPE html>\n<html lang=\"en\"><head><title>Tom &amp; Jerry</title>" +
+			"<meta charset=\"utf-8\"></head>\n<body><!-- c --><p class=\"intro\" hidden>Hi<br>there</p>" +
+			"<my-widget data-x=\"1\" size=3><i>a</i></my-widget>text</body></html>\n";
+	
+	/**
+	 * Checks that the node at the cursor matches the given node of an {@link HTMLDocument}, along with everything
+	 * under it
+	 *
+	 * @param expected The node from the {@link HTMLDocument}
+	 * @param cursor The cursor, on the matching node (it's left there)
+	 */
+	private static void assertSameTree(HTMLNode expected, HTMLArenaCursor cursor){
+		if(expected instanceof HTMLElement element){
+			assertEquals(element.getTagName(), cursor.getTagName());
+			Map<String, String> attributes = element.getTag().getAttributes();
+			assertEquals(attributes.size(), cursor.getAttributeCount());
+			int index = 0;
+			for(Map.Entry<String, String> attribute: attributes.entrySet()){
+				assertEquals(attribute.getKey(), cursor.getAttributeName(index));
+				assertEquals(attribute.getValue(), cursor.getAttributeValue(index));
+				index++;
+			}
+		}else if(expected instanceof HTMLText text){
+			assertTrue(cursor.isText());
+			assertEquals(text.getText(), cursor.getText());
+		}else if(expected instanceof HTMLComment comment){
+			assertTrue(cursor.isComment());
+			assertEquals(comment.getComment(), cursor.getText());
+		}else{
+			assertTrue(cursor.isDocument());
+		}
+		
+		if(expected instanceof HTMLParentNode parent && !parent.getChildren().isEmpty()){
+			int node = cursor.getNode();
+			assertTrue(cursor.toFirstChild());
+			for(int i = 0; i < parent.getChildren().size(); i++){
+				assertSameTree(parent.getChildren().get(i), cursor);
+				assertEquals(i < parent.getChildren().size() - 1, cursor.toNextSibling());
+			}
+			assertTrue(cursor.toParent());
+			assertEquals(node, cursor.getNode());
+		}else{
+			assertFalse(cursor.copy().toFirstChild());
+		}
+	}
+	
+	@Test
+	public void testSameAsTree(){
+		HTMLArenaDocument arena = HTMLArenaDocument.parse(HTML);
+		HTMLDocument document = HTMLDocument.parse(HTML);
+		assertEquals(document.getDoctype(), arena.getDoctype());
+		assertSameTree(document, arena.cursor());
+	}
+	
+	@Test
+	public void testNodes(){
+		HTMLArenaDocument document = HTMLArenaDocument.parse(HTML);
+		// document, html, head, title, text, meta, body, comment, p, text, br, text, my-widget, i, text, text
+		assertEquals(16, document.getNodeCount());
+		HTMLArenaCursor cursor = document.cursor();
+		assertTrue(cursor.isDocument());
+		assertFalse(cursor.toParent());
+		assertFalse(cursor.toNextSibling());
+		assertTrue(cursor.toFirstChild());
+		assertEquals(HTML_ROOT_TAG_NAME, cursor.getTagName());
+		assertEquals("en", cursor.getAttribute(LANG_ATTRIBUTE_NAME));
+		assertFalse(cursor.toNextSibling());
+		
+		cursor.moveTo(8);
+		assertEquals(HTML_PARAGRAPH_TAG_NAME, cursor.getTagName());
+		assertEquals(2, cursor.getAttributeCount());
+		assertEquals("intro", cursor.getAttribute(CLASS_ATTRIBUTE_NAME));
+		assertTrue(cursor.toFirstChild());
+		assertEquals("Hi", cursor.getText());
+		assertNull(cursor.getTagName());
+		assertEquals(0, cursor.getAttributeCount());
+		assertTrue(cursor.toNextSibling());
+		assertEquals("br", cursor.getTagName());
+		assertNull(cursor.getText());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(16));
+		assertThrows(IndexOutOfBoundsException.class, () -> cursor.getAttributeName(0));
+	}
+	
+	@Test
+	public void testSharedNames(){
+		HTMLArenaDocument document = HTMLArenaDocument.parse(HTML);
+		HTMLArenaCursor cursor = document.cursor();
+		cursor.moveTo(6);
+		assertEquals(HTMLArenaDocument.sharedNameID(HTML_BODY_TAG_NAME), cursor.getNameID());
+		cursor.moveTo(8);
+		assertEquals(HTMLArenaDocument.sharedNameID(CLASS_ATTRIBUTE_NAME), cursor.getAttributeNameID(0));
+		// The same names have the same IDs in another document
+		HTMLArenaCursor other = HTMLArenaDocument.parse("<p class=\"x\"></p>").cursor();
+		assertTrue(other.toFirstChild());
+		assertEquals(cursor.getNameID(), other.getNameID());
+		assertEquals(cursor.getAttributeNameID(0), other.getAttributeNameID(0));
+		assertTrue(HTMLArenaDocument.sharedNameID(HTML_PARAGRAPH_TAG_NAME) < HTMLArenaDocument.sharedNameCount());
+	}
+	
+	@Test
+	public void testLocalNames(){
+		HTMLArenaDocument document = HTMLArenaDocument.parse(HTML);
+		assertEquals(-1, HTMLArenaDocument.sharedNameID("my-widget"));
+		HTMLArenaCursor cursor = document.cursor();
+		cursor.moveTo(12);
+		assertEquals("my-widget", cursor.getTagName());
+		assertTrue(cursor.getNameID() >= HTMLArenaDocument.sharedNameCount());
+		assertEquals("1", cursor.getAttribute("data-x"));
+		assertEquals("3", cursor.getAttribute("size"));
+		assertNull(cursor.getAttribute("missing"));
+	}
+	
+	@Test
+	public void testValuelessAttribute(){
+		HTMLArenaCursor cursor = HTMLArenaDocument.parse("<p hidden></p>").cursor();
+		assertTrue(cursor.toFirstChild());
+		assertEquals(1, cursor.getAttributeCount());
+		assertEquals(HIDDEN_ATTRIBUTE_NAME, cursor.getAttributeName(0));
+		assertNull(cursor.getAttributeValue(0));
+	}
+	
+	@Test
+	public void testTextJoinedAndTopLevelWhitespaceDropped(){
+		HTMLArenaDocument document = HTMLArenaDocument.parse(" \n<!--a--> <p>a &lt; b &amp c</p>\n");
+		assertEquals(4, document.getNodeCount());
+		HTMLArenaCursor cursor = document.cursor();
+		assertTrue(cursor.toFirstChild());
+		assertEquals("a", cursor.getText());
+		assertTrue(cursor.toNextSibling());
+		assertTrue(cursor.toFirstChild());
+		assertEquals("a < b & c", cursor.getText());
+		assertFalse(cursor.toNextSibling());
+	}
+	
+	@Test
+	public void testFormattedDocument(){
+		String html = "<!DOCTYPE html>\n<html>\n\t<head>\n\t\t<title>Title</title>\n\t</head>\n\t<body>\n" +
+				"\t\t<p>\n\t\t\tSome <b>text</b>\n\t\t</p>\n\t</body>\n</html>\n";
+		HTMLArenaDocument arena = HTMLArenaDocument.parse(html);
+		// document, html, head, title, text, body, p, text, b, text, text
+		assertEquals(11, arena.getNodeCount());
+		assertSameTree(HTMLDocument.parse(html), arena.cursor());
+	}
+	
+	@Test
+	public void testEmpty(){
+		HTMLArenaDocument document = HTMLArenaDocument.parse("");
+		assertEquals(1, document.getNodeCount());
+		assertNull(document.getDoctype());
+		assertFalse(document.cursor().toFirstChild());
+	}
+	
+	@Test
+	public void testDeepAndWide(){
+		StringBuilder html = new StringBuilder();
+		for(int i = 0; i < 100; i++){
+			html.append("<div>");
+		}
+		for(int i = 0; i < 1000; i++){
+			html.append("<span id=\"s").append(i).append("\">").append(i).append("</span>");
+		}
+		HTMLArenaDocument arena = HTMLArenaDocument.parse(html);
+		assertEquals(1 + 100 + 2000, arena.getNodeCount());
+		assertSameTree(HTMLDocument.parse(html), arena.cursor());
+		HTMLArenaCursor cursor = arena.cursor();
+		cursor.moveTo(arena.getNodeCount() - 2);
+		assertEquals("s999", cursor.getAttribute(ID_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testParsePath() throws IOException{
+		Path path = Files.createTempFile("arena", ".html");
+		try{
+			Files.write(path, HTML.getBytes(StandardCharsets.UTF_8));
+			assertSameTree(HTMLDocument.parse(HTML), HTMLArenaDocument.parse(path).cursor());
+		}finally{
+			Files.delete(path);
+		}
+	}
+	
+	@Test
+	public void testBatchParser(){
+		try(HTMLBatchParser<HTMLArenaDocument> parser = new HTMLBatchParser<>(HTMLArenaDocumentHandler::new, 2)){
+			List<Integer> counts = parser.parse(Stream.of("<p>a</p>", HTML, "<b>c</b>"), true)
+					.map(HTMLBatchResult::getResult)
+					.map(HTMLArenaDocument::getNodeCount)
+					.collect(Collectors.toList());
+			assertEquals(List.of(3, 16, 3), counts);
+		}
+	}
+}
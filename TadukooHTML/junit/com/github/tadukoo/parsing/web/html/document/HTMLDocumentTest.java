@@ -0,0 +1,156 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLBatchParser;
+import com.github.tadukoo.parsing.web.html.parser.HTMLBatchResult;
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLDocumentTest implements HTMLTagConstants{
+	/** A document whose tags all follow the sub tag whitelists */
+	private static final String VALID_HTML = "<!DOCTYPE html><html lang=\"en\"><head><title>Tom &amp; Jerry</title>" +
+			"<meta charset=\"utf-8\"><script>if(a < b){ }</script></head><body><p class=\"intro\">Hi<br>there" +
+			"<!-- c --></p><iframe src=\"f.html\"></iframe></body></html>";
+	
+	@Test
+	public void testParseAndRender(){
+		HTMLDocument document = HTMLDocument.parse(VALID_HTML);
+		assertEquals("html", document.getDoctype());
+		assertEquals(VALID_HTML, document.toString());
+		HTMLElement html = document.getRootElement();
+		assertSame(HTMLRootTag.class, html.getTag().getClass());
+		assertSame(document, html.getParent());
+		HTMLElement title = (HTMLElement) ((HTMLElement) html.getChildren().get(0)).getChildren().get(0);
+		assertEquals("Tom & Jerry", ((HTMLText) title.getChildren().get(0)).getText());
+	}
+	
+	@Test
+	public void testTextJoined(){
+		HTMLDocument document = HTMLDocument.parse("<p>a &lt; b &amp c</p>");
+		HTMLElement paragraph = document.getRootElement();
+		assertEquals(1, paragraph.getChildren().size());
+		assertEquals("a < b & c", ((HTMLText) paragraph.getChildren().get(0)).getText());
+	}
+	
+	@Test
+	public void testTopLevelWhitespaceDropped(){
+		HTMLDocument document = HTMLDocument.parse("<!DOCTYPE html>\n<!-- top -->\n<html> </html>\n");
+		assertEquals(2, document.getChildren().size());
+		assertEquals(" top ", ((HTMLComment) document.getChildren().get(0)).getComment());
+		assertEquals("<!DOCTYPE html><!-- top --><html></html>", document.toString());
+	}
+	
+	@Test
+	public void testFormattedDocument(){
+		String html = "<!DOCTYPE html>\n<html lang=\"en\">\n\t<head>\n\t\t<title>Title</title>\n\t</head>\n" +
+				"\t<body>\n\t\t<p>\n\t\t\tSome <b>text</b>\n\t\t</p>\n\t</body>\n</html>\n";
+		String expected = "<!DOCTYPE html><html lang=\"en\"><head><title>Title</title></head><body><p>\n\t\t\tSome " +
+				"<b>text</b>\n\t\t</p></body></html>";
+		for(HTMLNestingValidationMode mode: HTMLNestingValidationMode.values()){
+			HTMLDocument document = HTMLDocument.parse(html, mode);
+			assertEquals(expected, document.toString());
+			assertTrue(document.getViolations().isEmpty());
+		}
+	}
+	
+	@Test
+	public void testTextStillChecked(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> HTMLDocument.parse(
+				"<html>\n<head> x </head></html>", HTMLNestingValidationMode.STRICT));
+		assertEquals("text is not allowed in tag head!", e.getMessage());
+	}
+	
+	@Test
+	public void testEmpty(){
+		HTMLDocument document = HTMLDocument.parse("");
+		assertNull(document.getDoctype());
+		assertNull(document.getRootElement());
+		assertEquals("", document.toString());
+	}
+	
+	@Test
+	public void testValidNestingPasses(){
+		HTMLDocument document = HTMLDocument.parse(VALID_HTML, HTMLNestingValidationMode.STRICT);
+		assertEquals(VALID_HTML, document.toString());
+		assertTrue(HTMLDocument.parse(VALID_HTML, HTMLNestingValidationMode.REPORT).getViolations().isEmpty());
+	}
+	
+	@Test
+	public void testStrict(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> HTMLDocument.parse(
+				"<html><head><p>x</p></head></html>", HTMLNestingValidationMode.STRICT));
+		assertEquals("tag p is not allowed in tag head!", e.getMessage());
+	}
+	
+	@Test
+	public void testLenient(){
+		HTMLDocument document = HTMLDocument.parse("<html><head><p>x<b>y</b></p><title>t</title></head>" +
+				"<body>text<p>a</p></body></html>", HTMLNestingValidationMode.LENIENT);
+		assertEquals("<html><head><title>t</title></head><body><p>a</p></body></html>", document.toString());
+		assertTrue(document.getViolations().isEmpty());
+	}
+	
+	@Test
+	public void testReport(){
+		String html = "<html lang=\"en\"><head><p>x</p></head><body>text<div></div></body></html>";
+		HTMLDocument document = HTMLDocument.parse(html, HTMLNestingValidationMode.REPORT);
+		assertEquals(html, document.toString());
+		assertEquals(List.of("tag p is not allowed in tag head!", "text is not allowed in tag body!",
+				"tag div is not allowed in tag body!"), document.getViolations());
+	}
+	
+	@Test
+	public void testNone(){
+		String html = "text<html lang=\"en\"><head><p>x</p></head></html>";
+		HTMLDocument document = HTMLDocument.parse(html);
+		assertEquals(html, document.toString());
+		assertTrue(document.getViolations().isEmpty());
+	}
+	
+	@Test
+	public void testBuildByHand(){
+		HTMLDocument document = new HTMLDocument("html");
+		HTMLElement html = document.appendChild(new HTMLElement(HTMLRootTag.builder().lang("en").build()));
+		html.appendChild(new HTMLElement(HTMLBodyTag.builder().build()));
+		assertThrows(IllegalArgumentException.class, () -> document.appendText("x"));
+		assertEquals("<!DOCTYPE html><html lang=\"en\"><body></body></html>", document.toString());
+		assertEquals(html, document.getRootElement());
+	}
+	
+	@Test
+	public void testParsePath() throws IOException{
+		Path path = Files.createTempFile("document", ".html");
+		try{
+			Files.write(path, VALID_HTML.getBytes(StandardCharsets.UTF_8));
+			assertEquals(VALID_HTML, HTMLDocument.parse(path, HTMLNestingValidationMode.STRICT).toString());
+		}finally{
+			Files.delete(path);
+		}
+	}
+	
+	@Test
+	public void testBatchParser(){
+		try(HTMLBatchParser<HTMLDocument> parser = new HTMLBatchParser<>(HTMLDocumentHandler::new, 2)){
+			List<String> documents = parser.parse(Stream.of("<p>a</p>", VALID_HTML, "<b>c</b>"), true)
+					.map(HTMLBatchResult::getResult)
+					.map(HTMLDocument::toString)
+					.collect(Collectors.toList());
+			assertEquals(List.of("<p>a</p>", VALID_HTML, "<b>c</b>"), documents);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLHeadTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.body.HTMLIFrameTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLElementTest implements HTMLTagConstants{
+	
+	/**
+	 * @param tagName The name of a tag
+	 * @return A new element for a plain {@link HTMLTag} with the given name
+	 */
+	private static HTMLElement element(String tagName){
+		return new HTMLElement(HTMLTag.tagBuilder().tagName(tagName).build());
+	}
+	
+	@Test
+	public void testBuildAndRender(){
+		HTMLElement html = new HTMLElement(HTMLRootTag.builder().lang("en").build());
+		html.appendChild(new HTMLElement(HTMLHeadTag.builder().build()))
+				.appendChild(element(HTML_TITLE_TAG_NAME))
+				.appendText("Tom & Jerry");
+		HTMLElement body = html.appendChild(new HTMLElement(HTMLBodyTag.builder().build()));
+		HTMLElement paragraph = body.appendChild(element(HTML_PARAGRAPH_TAG_NAME));
+		paragraph.appendText("1 < 2");
+		paragraph.appendChild(new HTMLComment(" note "));
+		assertEquals("<html lang=\"en\"><head><title>Tom &amp; Jerry</title></head><body><p>1 &lt; 2<!-- note -->" +
+				"</p></body></html>", html.toString());
+		assertSame(html, body.getParent());
+		assertEquals(List.of(paragraph), body.getChildren());
+	}
+	
+	@Test
+	public void testWhitelistEnforced(){
+		HTMLElement head = new HTMLElement(HTMLHeadTag.builder().build());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> head.appendChild(element(HTML_PARAGRAPH_TAG_NAME)));
+		assertEquals("tag p is not allowed in tag head!", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> head.appendText("text"));
+		assertEquals("text is not allowed in tag head!", e.getMessage());
+		assertTrue(head.getChildren().isEmpty());
+	}
+	
+	@Test
+	public void testBlacklistEnforced(){
+		HTMLElement html = new HTMLElement(HTMLRootTag.builder().build());
+		assertFalse(html.canContain(new HTMLElement(HTMLRootTag.builder().build())));
+		HTMLElement div = new HTMLElement(HTMLTag.tagBuilder().tagName("div").invalidSubTag("div").build());
+		assertThrows(IllegalArgumentException.class, () -> div.appendChild(element("div")));
+		assertTrue(div.canContain(element("span")));
+	}
+	
+	@Test
+	public void testInlineFrameOnlyHoldsContent(){
+		HTMLElement iframe = new HTMLElement(HTMLIFrameTag.builder().build());
+		assertFalse(iframe.canContain(element(HTML_PARAGRAPH_TAG_NAME)));
+		iframe.appendText("<p>fallback</p>");
+		assertEquals("<iframe><p>fallback</p></iframe>", iframe.toString());
+	}
+	
+	@Test
+	public void testCommentsAllowedAnywhere(){
+		HTMLElement head = new HTMLElement(HTMLHeadTag.builder().build());
+		head.appendChild(new HTMLComment("c"));
+		assertEquals("<head><!--c--></head>", head.toString());
+	}
+	
+	@Test
+	public void testVoidTagsCantContainAnything(){
+		HTMLElement br = new HTMLElement(HTMLTag.tagBuilder().tagName("br").disableClosingTag().build());
+		assertFalse(br.canContain(new HTMLText("x")));
+		assertThrows(IllegalArgumentException.class, () -> br.appendChild(element("b")));
+	}
+	
+	@Test
+	public void testRawTextNotEscaped(){
+		HTMLElement script = element(HTML_SCRIPT_TAG_NAME);
+		assertTrue(script.hasRawText());
+		script.appendText("if(a < b && c){ }");
+		assertEquals("<script>if(a < b && c){ }</script>", script.toString());
+	}
+	
+	@Test
+	public void testNodeOnlyHasOneParent(){
+		HTMLElement div = element("div");
+		HTMLElement span = div.appendChild(element("span"));
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> element("p").appendChild(span));
+		assertEquals("the node is already in tag div!", e.getMessage());
+		assertTrue(div.removeChild(span));
+		assertNull(span.getParent());
+		assertFalse(div.removeChild(span));
+		element("p").appendChild(span);
+	}
+	
+	@Test
+	public void testCantAddToItself(){
+		HTMLElement div = element("div");
+		HTMLElement span = div.appendChild(element("span"));
+		assertThrows(IllegalArgumentException.class, () -> div.appendChild(div));
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> span.appendChild(div));
+		assertEquals("tag div can't be added inside itself!", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> span.appendChild(new HTMLDocument()));
+		assertEquals("<div><span></span></div>", div.toString());
+	}
+	
+	@Test
+	public void testInsertChild(){
+		HTMLElement list = element(HTML_UNORDERED_LIST_TAG_NAME);
+		list.appendChild(element("li")).appendText("b");
+		list.insertChild(0, element("li")).appendText("a");
+		assertEquals("<ul><li>a</li><li>b</li></ul>", list.toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.insertChild(5, element("li")));
+	}
+	
+	@Test
+	public void testChildrenReadOnly(){
+		HTMLElement div = element("div");
+		assertThrows(UnsupportedOperationException.class, () -> div.getChildren().add(new HTMLText("x")));
+	}
+}
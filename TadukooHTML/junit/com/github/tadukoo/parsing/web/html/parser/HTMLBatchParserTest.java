@@ -0,0 +1,259 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLBatchParserTest implements HTMLTagConstants{
+	/** The documents used in most of the tests */
+	private static final List<String> DOCUMENTS = IntStream.range(0, 50)
+			.mapToObj(i -> "<html><body>" + "<p>text</p>".repeat(i % 5) + "<div id=d" + i + "></div></body></html>")
+			.collect(Collectors.toList());
+	
+	/** The number of documents being parsed right now */
+	private final AtomicInteger active = new AtomicInteger();
+	/** The most documents that have been parsed at once */
+	private final AtomicInteger mostActive = new AtomicInteger();
+	
+	/**
+	 * An {@link HTMLResultHandler} that gets the names of the tags in a document, and fails on a {@code <fail>} tag
+	 * (with an exception), an {@code <error>} tag (with a StackOverflowError), or an {@code <oom>} tag (with an
+	 * OutOfMemoryError)
+	 */
+	private static class TagNamesHandler implements HTMLResultHandler<List<String>>{
+		/** The names of the tags that have been opened */
+		private final List<String> tagNames = new ArrayList<>();
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean startTag(HTMLTag tag){
+			if(tag.getTagName().equals("fail")){
+				throw new IllegalStateException("failed");
+			}else if(tag.getTagName().equals("error")){
+				throw new StackOverflowError("error");
+			}else if(tag.getTagName().equals("oom")){
+				throw new OutOfMemoryError("oom");
+			}
+			tagNames.add(tag.getTagName());
+			return true;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public List<String> getResult(){
+			return tagNames;
+		}
+	}
+	
+	/**
+	 * A {@link TagNamesHandler} that keeps track of how many documents are being parsed at once
+	 */
+	private class CountingHandler extends TagNamesHandler{
+		
+		/**
+		 * Counts this document as being parsed
+		 */
+		private CountingHandler(){
+			mostActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public List<String> getResult(){
+			try{
+				// Give the other documents time to start
+				Thread.sleep(2);
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+			active.decrementAndGet();
+			return super.getResult();
+		}
+	}
+	
+	/**
+	 * @param html The HTML of a document
+	 * @return The names of the tags in the document, from an {@link HTMLParser}
+	 */
+	private static List<String> parseSequentially(String html){
+		TagNamesHandler handler = new TagNamesHandler();
+		new HTMLParser(handler).parse(html);
+		return handler.getResult();
+	}
+	
+	@Test
+	public void testParseAll(){
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(TagNamesHandler::new, 4)){
+			List<HTMLBatchResult<List<String>>> results = parser.parseAll(DOCUMENTS).join();
+			assertEquals(DOCUMENTS.size(), results.size());
+			for(int i = 0; i < DOCUMENTS.size(); i++){
+				assertEquals(i, results.get(i).getIndex());
+				assertTrue(results.get(i).isSuccessful());
+				assertEquals(parseSequentially(DOCUMENTS.get(i)), results.get(i).getResult());
+			}
+		}
+	}
+	
+	@Test
+	public void testOrderedStream(){
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(TagNamesHandler::new, 3)){
+			List<HTMLBatchResult<List<String>>> results = parser.parse(DOCUMENTS.stream(), true)
+					.collect(Collectors.toList());
+			for(int i = 0; i < DOCUMENTS.size(); i++){
+				assertEquals(i, results.get(i).getIndex());
+				assertEquals(parseSequentially(DOCUMENTS.get(i)), results.get(i).getResult());
+			}
+		}
+	}
+	
+	@Test
+	public void testUnorderedStream(){
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(TagNamesHandler::new, 3)){
+			List<HTMLBatchResult<List<String>>> results = parser.parse(DOCUMENTS.stream(), false)
+					.collect(Collectors.toList());
+			assertEquals(DOCUMENTS.size(), results.size());
+			boolean[] seen = new boolean[DOCUMENTS.size()];
+			for(HTMLBatchResult<List<String>> result: results){
+				assertFalse(seen[result.getIndex()]);
+				seen[result.getIndex()] = true;
+				assertEquals(parseSequentially(DOCUMENTS.get(result.getIndex())), result.getResult());
+			}
+		}
+	}
+	
+	@Test
+	public void testFailuresAreIsolated(){
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(TagNamesHandler::new, 1)){
+			List<HTMLBatchResult<List<String>>> results = parser.parseAll(
+					List.of("<p>a</p>", "<div><fail></div>", "<b>b</b>")).join();
+			assertEquals(List.of(HTML_PARAGRAPH_TAG_NAME), results.get(0).getResult());
+			assertFalse(results.get(1).isSuccessful());
+			assertNull(results.get(1).getResult());
+			assertEquals("failed", results.get(1).getFailure().getMessage());
+			// The parser that failed isn't reused, so the next document starts fresh
+			assertEquals(List.of("b"), results.get(2).getResult());
+		}
+	}
+	
+	@Test
+	public void testErrorsAreIsolated(){
+		List<String> documents = List.of("<p>a</p>", "<div><error></div>", "<b>b</b>");
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(TagNamesHandler::new, 1)){
+			for(boolean ordered: new boolean[]{true, false}){
+				List<HTMLBatchResult<List<String>>> results = parser.parse(documents.stream(), ordered)
+						.sorted(Comparator.comparingInt(HTMLBatchResult::getIndex))
+						.collect(Collectors.toList());
+				assertEquals(3, results.size());
+				assertEquals(List.of(HTML_PARAGRAPH_TAG_NAME), results.get(0).getResult());
+				assertFalse(results.get(1).isSuccessful());
+				assertTrue(results.get(1).getFailure() instanceof IllegalStateException);
+				assertTrue(results.get(1).getFailure().getCause() instanceof StackOverflowError);
+				assertEquals(List.of("b"), results.get(2).getResult());
+			}
+			assertFalse(parser.parseAll(documents).join().get(1).isSuccessful());
+		}
+	}
+	
+	@Test
+	public void testVirtualMachineErrorsAreThrown(){
+		List<String> documents = List.of("<p>a</p>", "<div><oom></div>", "<b>b</b>");
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(TagNamesHandler::new, 1)){
+			for(boolean ordered: new boolean[]{true, false}){
+				OutOfMemoryError error = assertThrows(OutOfMemoryError.class,
+						() -> parser.parse(documents.stream(), ordered).collect(Collectors.toList()));
+				assertEquals("oom", error.getMessage());
+			}
+			CompletionException e = assertThrows(CompletionException.class, () -> parser.parseAll(documents).join());
+			assertTrue(e.getCause() instanceof OutOfMemoryError);
+			// The parser can still be used afterwards
+			assertEquals(List.of("b"), parser.parseAll(List.of("<b>b</b>")).join().get(0).getResult());
+		}
+	}
+	
+	@Test
+	public void testMaxConcurrency(){
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(CountingHandler::new, 3)){
+			List<HTMLBatchResult<List<String>>> results = parser.parseAll(DOCUMENTS).join();
+			assertEquals(DOCUMENTS.size(), results.size());
+			assertTrue(mostActive.get() <= 3, "most active was " + mostActive.get());
+			assertEquals(0, active.get());
+		}
+	}
+	
+	@Test
+	public void testBackpressure(){
+		AtomicInteger taken = new AtomicInteger();
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(TagNamesHandler::new, 2);
+				Stream<HTMLBatchResult<List<String>>> results = parser.parse(
+						DOCUMENTS.stream().peek(document -> taken.incrementAndGet()), true)){
+			Iterator<HTMLBatchResult<List<String>>> iterator = results.iterator();
+			assertEquals(0, taken.get());
+			assertEquals(0, iterator.next().getIndex());
+			assertEquals(2, taken.get());
+			assertEquals(1, iterator.next().getIndex());
+			assertEquals(3, taken.get());
+		}
+	}
+	
+	@Test
+	public void testStreamClosesDocuments(){
+		AtomicInteger closed = new AtomicInteger();
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(TagNamesHandler::new, 2)){
+			parser.parse(DOCUMENTS.stream().onClose(closed::incrementAndGet), false).close();
+			assertEquals(1, closed.get());
+		}
+	}
+	
+	@Test
+	public void testParseAllFiles() throws IOException{
+		Path file = Files.createTempFile("batch", ".html");
+		try(HTMLBatchParser<List<String>> parser = new HTMLBatchParser<>(TagNamesHandler::new, 2)){
+			Files.writeString(file, DOCUMENTS.get(7));
+			Path missing = file.resolveSibling(file.getFileName() + ".missing");
+			List<HTMLBatchResult<List<String>>> results = parser.parseAllFiles(List.of(file, missing)).join();
+			assertEquals(parseSequentially(DOCUMENTS.get(7)), results.get(0).getResult());
+			assertSame(NoSuchFileException.class, results.get(1).getFailure().getClass());
+		}finally{
+			Files.delete(file);
+		}
+	}
+	
+	@Test
+	public void testRootTags(){
+		try(HTMLBatchParser<HTMLRootTag> parser = HTMLBatchParser.rootTags(2)){
+			List<HTMLBatchResult<HTMLRootTag>> results = parser.parse(
+					Stream.of("<html lang=fr><body><p>salut</p></body></html>", "<p>no root</p>"), true)
+					.collect(Collectors.toList());
+			assertEquals("fr", results.get(0).getResult().getAttribute(LANG_ATTRIBUTE_NAME));
+			assertTrue(results.get(1).isSuccessful());
+			assertNull(results.get(1).getResult());
+		}
+	}
+	
+	@Test
+	public void testMaxConcurrencyTooSmall(){
+		assertThrows(IllegalArgumentException.class, () -> new HTMLBatchParser<>(TagNamesHandler::new, 0));
+	}
+}
@@ -0,0 +1,66 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLByteSequenceTest{
+	
+	/**
+	 * @param text Some text
+	 * @return A view over the text encoded as UTF-8, with a byte before and after it that aren't in the view
+	 */
+	private HTMLByteSequence sequence(String text){
+		byte[] bytes = ("<" + text + ">").getBytes(StandardCharsets.UTF_8);
+		return new HTMLByteSequence(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8, 1, bytes.length - 2);
+	}
+	
+	@Test
+	public void testASCII(){
+		HTMLByteSequence sequence = sequence("hello");
+		assertTrue(sequence.isASCII());
+		assertEquals(5, sequence.length());
+		assertEquals(5, sequence.getByteLength());
+		assertEquals('e', sequence.charAt(1));
+		assertEquals("hello", sequence.toString());
+	}
+	
+	@Test
+	public void testNonASCII(){
+		HTMLByteSequence sequence = sequence("caf\u00e9 \uD83D\uDE00");
+		assertFalse(sequence.isASCII());
+		assertEquals(7, sequence.length());
+		assertEquals(10, sequence.getByteLength());
+		assertEquals('\u00e9', sequence.charAt(3));
+		assertEquals("caf\u00e9 \uD83D\uDE00", sequence.toString());
+	}
+	
+	@Test
+	public void testToStringCached(){
+		HTMLByteSequence sequence = sequence("hello");
+		assertSame(sequence.toString(), sequence.toString());
+	}
+	
+	@Test
+	public void testSubSequence(){
+		CharSequence subSequence = sequence("hello").subSequence(1, 4);
+		assertTrue(subSequence instanceof HTMLByteSequence);
+		assertEquals("ell", subSequence.toString());
+		assertEquals("af\u00e9", sequence("caf\u00e9").subSequence(1, 4).toString());
+	}
+	
+	@Test
+	public void testByteAt(){
+		HTMLByteSequence sequence = sequence("\u00e9");
+		assertEquals((byte) 0xC3, sequence.byteAt(0));
+		assertEquals((byte) 0xA9, sequence.byteAt(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> sequence.byteAt(2));
+	}
+}
@@ -0,0 +1,116 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeRegistry;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeWhitelist;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLNameTableTest implements HTMLTagConstants{
+	
+	@Test
+	public void testTagNames(){
+		assertSame(HTML_ROOT_TAG_NAME, HTMLNameTable.TAG_NAMES.find("html", 0, 4));
+		assertSame(HTML_INLINE_FRAME_TAG_NAME, HTMLNameTable.TAG_NAMES.find("iframe", 0, 6));
+		assertSame(HTML_HEADING_6_TAG_NAME, HTMLNameTable.TAG_NAMES.find("h6", 0, 2));
+	}
+	
+	@Test
+	public void testAttributeNames(){
+		assertSame(ON_MOUSE_DOWN_ATTRIBUTE_NAME, HTMLNameTable.ATTRIBUTE_NAMES.find("onmousedown", 0, 11));
+		assertSame(CLASS_ATTRIBUTE_NAME, HTMLNameTable.ATTRIBUTE_NAMES.find("class", 0, 5));
+	}
+	
+	@Test
+	public void testAttributeNamesOnlyStandard(){
+		HTMLAttributeWhitelist.of("name-table-test-custom");
+		assertEquals(HTMLAttributeRegistry.STANDARD_ATTRIBUTE_COUNT, HTMLNameTable.ATTRIBUTE_NAMES.size());
+		assertNull(HTMLNameTable.ATTRIBUTE_NAMES.find("name-table-test-custom", 0, 22));
+	}
+	
+	@Test
+	public void testAttributeIndexIsOrdinal(){
+		for(int ordinal = 0; ordinal < HTMLAttributeRegistry.STANDARD_ATTRIBUTE_COUNT; ordinal++){
+			String name = HTMLAttributeRegistry.nameOf(ordinal);
+			assertEquals(ordinal, HTMLNameTable.ATTRIBUTE_NAMES.indexOf(name, 0, name.length()));
+		}
+	}
+	
+	@Test
+	public void testFindIgnoresCase(){
+		assertSame(HTML_BODY_TAG_NAME, HTMLNameTable.TAG_NAMES.find("<BoDy>", 1, 5));
+	}
+	
+	@Test
+	public void testFindMissing(){
+		assertNull(HTMLNameTable.TAG_NAMES.find("bodyx", 0, 5));
+		assertNull(HTMLNameTable.TAG_NAMES.find("", 0, 0));
+	}
+	
+	@Test
+	public void testResolveUnknownIsLowercase(){
+		assertEquals("my-tag", HTMLNameTable.TAG_NAMES.resolve("My-Tag", 0, 6));
+	}
+	
+	@Test
+	public void testCustomTable(){
+		HTMLNameTable table = new HTMLNameTable(List.of("a", "b", "c"));
+		assertSame("b", table.resolve("B", 0, 1));
+		assertNull(table.find("d", 0, 1));
+	}
+	
+	@Test
+	public void testEveryNameFound(){
+		for(HTMLNameTable table: List.of(HTMLNameTable.TAG_NAMES, HTMLNameTable.ATTRIBUTE_NAMES)){
+			assertTrue(table.size() > 0);
+			for(int index = 0; index < table.size(); index++){
+				String name = table.nameAt(index);
+				String upper = "<" + name.toUpperCase(Locale.ROOT) + ">";
+				assertEquals(index, table.indexOf(name, 0, name.length()));
+				assertEquals(index, table.indexOf(upper, 1, upper.length() - 1));
+				ByteBuffer bytes = ByteBuffer.wrap(upper.getBytes(StandardCharsets.US_ASCII));
+				assertEquals(index, table.indexOf(bytes, 1, upper.length() - 1));
+				assertEquals(-1, table.indexOf(name + "x", 0, name.length() + 1));
+			}
+		}
+	}
+	
+	@Test
+	public void testBytesMissing(){
+		ByteBuffer bytes = ByteBuffer.wrap("b\u00f6dy".getBytes(StandardCharsets.UTF_8));
+		assertEquals(-1, HTMLNameTable.TAG_NAMES.indexOf(bytes, 0, bytes.limit()));
+		assertEquals(-1, HTMLNameTable.TAG_NAMES.indexOf(ByteBuffer.allocate(0), 0, 0));
+	}
+	
+	@Test
+	public void testIndexesInOrderGiven(){
+		HTMLNameTable table = new HTMLNameTable(List.of("c", "a", "c", "b"));
+		assertEquals(3, table.size());
+		assertEquals("c", table.nameAt(0));
+		assertEquals(1, table.indexOf("A", 0, 1));
+		assertEquals(2, table.indexOf("b", 0, 1));
+	}
+	
+	@Test
+	public void testLargeTable(){
+		List<String> names = new ArrayList<>();
+		for(int i = 0; i < 5000; i++){
+			names.add("name-" + i);
+		}
+		HTMLNameTable table = new HTMLNameTable(names);
+		for(int i = 0; i < names.size(); i++){
+			assertEquals(i, table.indexOf(names.get(i), 0, names.get(i).length()));
+		}
+		assertEquals(-1, table.indexOf("name-5000", 0, 9));
+	}
+}
@@ -0,0 +1,179 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HTMLParallelParserTest implements HTMLTagConstants{
+	/** The pool to parse on (its threads are daemons, so it doesn't need to be shut down) */
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+	
+	/**
+	 * An {@link HTMLParseHandler} that records the events it gets as Strings (merging text that's split up), and
+	 * skips the contents of the tags with the given names
+	 */
+	private static class RecordingHandler implements HTMLParseHandler{
+		/** The names of the tags whose contents should be skipped */
+		private final Set<String> skippedTagNames;
+		/** The events that have been recorded */
+		private final List<String> events = new ArrayList<>();
+		/** The tags that have been opened */
+		private final List<HTMLTag> tags = new ArrayList<>();
+		/** The text that's been gathered since the last event that wasn't text */
+		private final StringBuilder text = new StringBuilder();
+		
+		/**
+		 * @param skippedTagNames The names of the tags whose contents should be skipped
+		 */
+		private RecordingHandler(String ... skippedTagNames){
+			this.skippedTagNames = Set.of(skippedTagNames);
+		}
+		
+		/**
+		 * Records the given event, after any text that's been gathered
+		 *
+		 * @param event The event to record
+		 */
+		private void record(String event){
+			if(!text.isEmpty()){
+				events.add("text(" + text + ")");
+				text.setLength(0);
+			}
+			events.add(event);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean startTag(HTMLTag tag){
+			tags.add(tag);
+			record("start(" + tag.getTagName() + ")");
+			return !skippedTagNames.contains(tag.getTagName());
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void endTag(HTMLTag tag){
+			record("end(" + tag.getTagName() + ")");
+			// Make sure the tag being closed is the one that was opened
+			events.add(String.valueOf(tags.indexOf(tag)));
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void text(CharSequence text){
+			this.text.append(text);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void comment(CharSequence comment){
+			record("comment(" + comment + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void doctype(CharSequence doctype){
+			record("doctype(" + doctype + ")");
+		}
+	}
+	
+	/**
+	 * @param sections The number of sections in the body
+	 * @return A document with the given number of sections in the body
+	 */
+	private String document(int sections){
+		StringBuilder html = new StringBuilder("<!DOCTYPE html><html><head><title>T</title></head>\n<body id=b>");
+		for(int i = 0; i < sections; i++){
+			html.append("<div class=\"s\" id=").append(i).append("><p>x<br>y</p><!-- <p> -->")
+					.append("<script>if(a<b)'<p>'</script><span title='<p>'>z</span><img src=a.png/></div>\n")
+					.append("<table><tr><td>").append(i).append("</table>text<ul><li>a<li>b</ul>");
+		}
+		return html.append("</body>\n</html>").toString();
+	}
+	
+	/**
+	 * @param html The HTML to parse
+	 * @param skippedTagNames The names of the tags whose contents should be skipped
+	 * @return The handler after parsing the HTML with a single {@link HTMLParser}
+	 */
+	private RecordingHandler parse(String html, String ... skippedTagNames){
+		RecordingHandler handler = new RecordingHandler(skippedTagNames);
+		new HTMLParser(handler).parse(html);
+		return handler;
+	}
+	
+	/**
+	 * @param html The HTML to parse
+	 * @param skippedTagNames The names of the tags whose contents should be skipped
+	 * @return The handler after parsing the HTML with an {@link HTMLParallelParser}, splitting it as much as it can
+	 */
+	private RecordingHandler parseInParallel(String html, String ... skippedTagNames){
+		RecordingHandler handler = new RecordingHandler(skippedTagNames);
+		new HTMLParallelParser(handler, POOL, 1).parse(html);
+		return handler;
+	}
+	
+	@Test
+	public void testSameAsParser(){
+		String html = document(50);
+		RecordingHandler expected = parse(html);
+		RecordingHandler handler = parseInParallel(html);
+		assertEquals(expected.events, handler.events);
+		assertEquals(expected.tags, handler.tags);
+		assertSame(expected.tags.get(1).getClass(), handler.tags.get(1).getClass());
+	}
+	
+	@Test
+	public void testSkipping(){
+		String html = document(20);
+		assertEquals(parse(html, "div", "table").events, parseInParallel(html, "div", "table").events);
+		assertEquals(parse(html, HTML_BODY_TAG_NAME).events, parseInParallel(html, HTML_BODY_TAG_NAME).events);
+	}
+	
+	@Test
+	public void testLazyAttributes(){
+		String html = document(20);
+		RecordingHandler handler = new RecordingHandler();
+		HTMLParallelParser parser = new HTMLParallelParser(handler, POOL, 1);
+		parser.setLazyAttributes(true);
+		parser.parse(html);
+		assertEquals(parse(html).tags, handler.tags);
+	}
+	
+	@Test
+	public void testUnclosedTags(){
+		String html = "<html><body><p>a</p><div><p>b<div>c";
+		assertEquals(parse(html).events, parseInParallel(html).events);
+	}
+	
+	@Test
+	public void testNoBody(){
+		String html = "<p>a</p><p>b</p>";
+		assertEquals(parse(html).events, parseInParallel(html).events);
+	}
+	
+	@Test
+	public void testBadSplitsFallBack(){
+		String html = document(5);
+		RecordingHandler expected = parse(html);
+		String[] splitTagNames = {HTML_ROOT_TAG_NAME, HTML_BODY_TAG_NAME};
+		
+		// Split in the middle of an attribute value
+		RecordingHandler handler = new RecordingHandler();
+		new HTMLParallelParser(handler, POOL).parse(html, new int[]{html.indexOf("'<p>'") + 1}, splitTagNames);
+		assertEquals(expected.events, handler.events);
+		
+		// Split inside a div
+		handler = new RecordingHandler();
+		new HTMLParallelParser(handler, POOL).parse(html, new int[]{html.indexOf("<p>x")}, splitTagNames);
+		assertEquals(expected.events, handler.events);
+	}
+}
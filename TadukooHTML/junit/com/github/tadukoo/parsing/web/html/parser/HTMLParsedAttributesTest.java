@@ -0,0 +1,115 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeMap;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HTMLParsedAttributesTest implements HTMLTagConstants{
+	/** Start tags with all sorts of attribute syntax, including odd (but valid) HTML */
+	private static final List<String> TAGS = List.of(
+			"<p class=\"a b\" id='c' title=d hidden lang=\"\">",
+			"<p CLASS=X data-Y = 'z'>",
+			"<p a/ =b>",
+			"<p a /c=d/>",
+			"<p =x y=>",
+			"<p a=\"1\"b='2'c=3 d>",
+			"<p a=b/c>",
+			"<p a=\"x>y\" b='\"'>",
+			"<p id=1 id=2>",
+			"<img src=x.png />",
+			"<p title=\"caf\u00e9 \u20ac\">",
+			"<p\ta\n=\r'b'\f>"
+	);
+	
+	/**
+	 * @param tag A start tag
+	 * @return The attributes in the tag, as the {@link HTMLTokenizer} finds them one at a time (keeping the first
+	 * of any repeated names, as the {@link HTMLParser} does)
+	 */
+	private Map<String, String> tokenizedAttributes(String tag){
+		HTMLAttributeMap attributes = new HTMLAttributeMap();
+		new HTMLTokenizer(new HTMLTokenHandler(){
+			/** {@inheritDoc} */
+			@Override
+			public void attribute(String name, CharSequence value){
+				if(!attributes.containsKey(name)){
+					attributes.put(name, value == null?null:value.toString());
+				}
+			}
+		}).tokenize(tag);
+		return attributes;
+	}
+	
+	/**
+	 * @param tag A start tag
+	 * @return The attributes of the tag, as captured by the {@link HTMLTokenizer}
+	 */
+	private String capturedAttributes(String tag){
+		StringBuilder captured = new StringBuilder();
+		HTMLTokenizer tokenizer = new HTMLTokenizer(new HTMLTokenHandler(){
+			/** {@inheritDoc} */
+			@Override
+			public void rawAttributes(CharSequence attributes){
+				captured.append(attributes);
+			}
+		});
+		tokenizer.setCapturingAttributes(true);
+		tokenizer.tokenize(tag);
+		return captured.toString();
+	}
+	
+	@Test
+	public void testSameAsTokenizer(){
+		for(String tag: TAGS){
+			assertEquals(tokenizedAttributes(tag), new HTMLParsedAttributes(capturedAttributes(tag)), tag);
+		}
+	}
+	
+	@Test
+	public void testGetSameAsTokenizer(){
+		for(String tag: TAGS){
+			Map<String, String> expected = tokenizedAttributes(tag);
+			HTMLParsedAttributes attributes = new HTMLParsedAttributes(capturedAttributes(tag));
+			for(String name: expected.keySet()){
+				assertEquals(expected.get(name), attributes.get(name), tag + " " + name);
+			}
+			assertFalse(attributes.isMaterialized());
+		}
+	}
+	
+	@Test
+	public void testLookupDoesNotMaterialize(){
+		HTMLParsedAttributes attributes = new HTMLParsedAttributes(" href=\"https://example.com\" class=link hidden");
+		assertEquals("https://example.com", attributes.get("href"));
+		assertEquals("link", attributes.get(CLASS_ATTRIBUTE_NAME));
+		assertNull(attributes.get(ID_ATTRIBUTE_NAME));
+		assertFalse(attributes.containsKey(ID_ATTRIBUTE_NAME));
+		assertFalse(attributes.isMaterialized());
+		assertEquals(3, attributes.size());
+	}
+	
+	@Test
+	public void testKnownNamesAreConstants(){
+		HTMLParsedAttributes attributes = new HTMLParsedAttributes(" ID=main");
+		assertSame(ID_ATTRIBUTE_NAME, attributes.materialize().nameAt(0));
+	}
+	
+	@Test
+	public void testByteSequence(){
+		byte[] bytes = " title=\"caf\u00e9\" id=x".getBytes(StandardCharsets.UTF_8);
+		HTMLParsedAttributes attributes = new HTMLParsedAttributes(
+				new HTMLByteSequence(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8, 0, bytes.length));
+		assertEquals("caf\u00e9", attributes.get(TITLE_ATTRIBUTE_NAME));
+		assertEquals("x", attributes.get(ID_ATTRIBUTE_NAME));
+	}
+}
@@ -0,0 +1,391 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLHeadTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.body.HTMLIFrameTag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLParserTest implements HTMLTagConstants{
+	
+	/**
+	 * An {@link HTMLParseHandler} that records the events it gets as Strings, and skips the contents of the tags
+	 * with the given names
+	 */
+	private static class RecordingHandler implements HTMLParseHandler{
+		/** The names of the tags whose contents should be skipped */
+		private final Set<String> skippedTagNames;
+		/** The events that have been recorded */
+		private final List<String> events = new ArrayList<>();
+		/** The tags that have been opened */
+		private final List<HTMLTag> tags = new ArrayList<>();
+		
+		/**
+		 * @param skippedTagNames The names of the tags whose contents should be skipped
+		 */
+		private RecordingHandler(String ... skippedTagNames){
+			this.skippedTagNames = Set.of(skippedTagNames);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean startTag(HTMLTag tag){
+			tags.add(tag);
+			events.add("start(" + tag.getTagName() + ")");
+			return !skippedTagNames.contains(tag.getTagName());
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void endTag(HTMLTag tag){
+			events.add("end(" + tag.getTagName() + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void text(CharSequence text){
+			events.add("text(" + text + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void comment(CharSequence comment){
+			events.add("comment(" + comment + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void doctype(CharSequence doctype){
+			events.add("doctype(" + doctype + ")");
+		}
+	}
+	
+	/**
+	 * @param html The HTML to parse
+	 * @param skippedTagNames The names of the tags whose contents should be skipped
+	 * @return The handler after parsing the HTML
+	 */
+	private RecordingHandler parse(String html, String ... skippedTagNames){
+		RecordingHandler handler = new RecordingHandler(skippedTagNames);
+		new HTMLParser(handler).parse(html);
+		return handler;
+	}
+	
+	@Test
+	public void testDocumentTagTypes(){
+		RecordingHandler handler = parse("<!DOCTYPE html><html><head></head><body><iframe></iframe><p></p>" +
+				"</body></html>");
+		assertEquals(List.of("doctype(html)", "start(html)", "start(head)", "end(head)", "start(body)",
+				"start(iframe)", "end(iframe)", "start(p)", "end(p)", "end(body)", "end(html)"), handler.events);
+		assertSame(HTMLRootTag.class, handler.tags.get(0).getClass());
+		assertSame(HTMLHeadTag.class, handler.tags.get(1).getClass());
+		assertSame(HTMLBodyTag.class, handler.tags.get(2).getClass());
+		assertSame(HTMLIFrameTag.class, handler.tags.get(3).getClass());
+		assertSame(HTMLTag.class, handler.tags.get(4).getClass());
+	}
+	
+	@Test
+	public void testSameTagsAsBuilders(){
+		RecordingHandler handler = parse("<html lang=\"en\"><body id=main onload='init()' hidden>" +
+				"<p class=intro>Hi</p></body></html>");
+		assertEquals(HTMLRootTag.builder().lang("en").build(), handler.tags.get(0));
+		assertEquals(HTMLBodyTag.builder().id("main").onload("init()").hidden().build(), handler.tags.get(1));
+		assertEquals(HTMLTag.tagBuilder().tagName(HTML_PARAGRAPH_TAG_NAME).classAttribute("intro").build(),
+				handler.tags.get(2));
+	}
+	
+	@Test
+	public void testRootTagWithoutLang(){
+		// The builder's default lang isn't added to parsed tags
+		RecordingHandler handler = parse("<html><body></body></html><html dir=ltr></html>");
+		assertEquals(Map.of(), handler.tags.get(0).getAttributes());
+		assertEquals(Map.of(DIR_ATTRIBUTE_NAME, "ltr"), handler.tags.get(2).getAttributes());
+		assertEquals("<html>", handler.tags.get(0).toOpeningTag());
+	}
+	
+	@Test
+	public void testFirstDuplicateAttributeWins(){
+		RecordingHandler handler = parse("<p B=1 b=2 id=x ID=y>x</p>");
+		assertEquals(Map.of("b", "1", ID_ATTRIBUTE_NAME, "x"), handler.tags.get(0).getAttributes());
+	}
+	
+	@Test
+	public void testAttributesNotValidated(){
+		RecordingHandler handler = parse("<head data-x=1 custom=\"a b\"></head>");
+		Map<String, String> attributes = new HashMap<>();
+		attributes.put("data-x", "1");
+		attributes.put("custom", "a b");
+		assertEquals(attributes, handler.tags.get(0).getAttributes());
+	}
+	
+	@Test
+	public void testVoidTags(){
+		RecordingHandler handler = parse("<p>a<br>b<img src=x.png><span/>c</p>");
+		assertEquals(List.of("start(p)", "text(a)", "start(br)", "end(br)", "text(b)", "start(img)", "end(img)",
+				"start(span)", "end(span)", "text(c)", "end(p)"), handler.events);
+		assertFalse(handler.tags.get(1).hasClosingTag());
+		assertFalse(handler.tags.get(3).hasClosingTag());
+		assertTrue(handler.tags.get(0).hasClosingTag());
+	}
+	
+	@Test
+	public void testEndTagClosesInnerTags(){
+		assertEquals(List.of("start(div)", "start(p)", "start(b)", "text(x)", "end(b)", "end(p)", "end(div)"),
+				parse("<div><p><b>x</div>").events);
+	}
+	
+	@Test
+	public void testUnmatchedEndTagIgnored(){
+		assertEquals(List.of("start(p)", "text(x)", "end(p)"), parse("<p></span>x</p></p>").events);
+	}
+	
+	@Test
+	public void testOpenTagsClosedAtEnd(){
+		assertEquals(List.of("start(html)", "start(body)", "text(x)", "end(body)", "end(html)"),
+				parse("<html><body>x").events);
+	}
+	
+	@Test
+	public void testSkipBody(){
+		RecordingHandler handler = parse("<html><head><title>T</title><meta charset=utf-8></head>" +
+				"<body><div><p>skipped</p><!-- c --></div></body></html>", HTML_BODY_TAG_NAME);
+		assertEquals(List.of("start(html)", "start(head)", "start(title)", "text(T)", "end(title)", "start(meta)",
+				"end(meta)", "end(head)", "start(body)", "end(body)", "end(html)"), handler.events);
+	}
+	
+	@Test
+	public void testSkipNestedSameName(){
+		assertEquals(List.of("start(div)", "end(div)", "text(after)"),
+				parse("<div><div>x</div>y<br></div>after", "div").events);
+	}
+	
+	@Test
+	public void testReuse(){
+		RecordingHandler handler = new RecordingHandler("div");
+		HTMLParser parser = new HTMLParser(handler);
+		parser.parse("<div><p>");
+		parser.parse("<p>x");
+		assertEquals(List.of("start(div)", "end(div)", "start(p)", "text(x)", "end(p)"), handler.events);
+	}
+	
+	@Test
+	public void testDeepNesting(){
+		String html = "<div>".repeat(100) + "x" + "</div>".repeat(100);
+		RecordingHandler handler = parse(html);
+		assertEquals(201, handler.events.size());
+		assertEquals("end(div)", handler.events.get(200));
+	}
+	
+	@Test
+	public void testFeedSendsTagsEarly(){
+		RecordingHandler handler = new RecordingHandler();
+		HTMLParser parser = new HTMLParser(handler);
+		parser.feed(CharBuffer.wrap("<html><body onload=\"in"));
+		assertEquals(List.of("start(html)"), handler.events);
+		parser.feed(CharBuffer.wrap("it()\"><p>Hi"));
+		assertEquals(List.of("start(html)", "start(body)", "start(p)", "text(Hi)"), handler.events);
+		assertEquals(HTMLBodyTag.builder().onload("init()").build(), handler.tags.get(1));
+		parser.end();
+		assertEquals(List.of("start(html)", "start(body)", "start(p)", "text(Hi)", "end(p)", "end(body)",
+				"end(html)"), handler.events);
+	}
+	
+	@Test
+	public void testCharacterReferencesDecoded(){
+		RecordingHandler handler = parse("<p title=\"a &amp; &quot;b&quot;\" data-x=&#x41;&#66;>x &lt; y&nbsp;&copy z" +
+				"</p>");
+		assertEquals(List.of("start(p)", "text(x < y\u00a0\u00a9 z)", "end(p)"), handler.events);
+		assertEquals("a & \"b\"", handler.tags.get(0).getAttribute(TITLE_ATTRIBUTE_NAME));
+		assertEquals("AB", handler.tags.get(0).getAttribute("data-x"));
+		assertEquals("<p data-x=\"AB\" title=\"a &amp; &quot;b&quot;\">", handler.tags.get(0).toOpeningTag());
+	}
+	
+	@Test
+	public void testCharacterReferencesInLinks(){
+		// Legacy references without a ; aren't decoded in attribute values when they're followed by = or a letter
+		RecordingHandler handler = parse("<a href=\"/?a=1&copy=2&amp=3&not;x&reg\">?a=1&copy=2</a>");
+		assertEquals("/?a=1&copy=2&amp=3\u00acx\u00ae", handler.tags.get(0).getAttribute("href"));
+		assertEquals("text(?a=1\u00a9=2)", handler.events.get(1));
+	}
+	
+	@Test
+	public void testCharacterReferencesNotDecodedInScripts(){
+		assertEquals(List.of("start(script)", "text(a &amp;&amp; b)", "end(script)", "start(title)", "text(a & b)",
+				"end(title)"), parse("<script>a &amp;&amp; b</script><title>a &amp; b</title>").events);
+	}
+	
+	@Test
+	public void testCharacterReferencesCutOffBetweenChunks(){
+		String html = "<p>a &notin; b &amp c &#x1F600; d&</p>e&amp";
+		RecordingHandler expected = parse(html);
+		// A reference that's held back is given to the handler on its own
+		assertEquals(List.of("start(p)", "text(a \u2209 b & c \ud83d\ude00 d)", "text(&)", "end(p)", "text(e)",
+				"text(&)"), expected.events);
+		for(int chunkSize = 1; chunkSize <= 8; chunkSize++){
+			RecordingHandler handler = new RecordingHandler();
+			HTMLParser parser = new HTMLParser(handler);
+			for(int i = 0; i < html.length(); i += chunkSize){
+				parser.feed(html.substring(i, Math.min(i + chunkSize, html.length())));
+			}
+			parser.end();
+			assertEquals(String.join("", expected.events).replace(")text(", ""),
+					String.join("", handler.events).replace(")text(", ""), "chunk size " + chunkSize);
+		}
+	}
+	
+	@Test
+	public void testFeedBytesGivesSameTags(){
+		String html = "<html lang=\"fr\"><body><p title=\"\u00e9t\u00e9\">caf\u00e9</p><br></body></html>";
+		byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+		RecordingHandler expected = parse(html);
+		for(int chunkSize = 1; chunkSize <= 8; chunkSize++){
+			RecordingHandler handler = new RecordingHandler();
+			HTMLParser parser = new HTMLParser(handler);
+			for(int i = 0; i < bytes.length; i += chunkSize){
+				parser.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+			}
+			parser.end();
+			assertEquals(expected.tags, handler.tags, "chunk size " + chunkSize);
+			// Text can be split differently between chunks
+			assertEquals(String.join("", expected.events).replace(")text(", ""),
+					String.join("", handler.events).replace(")text(", ""), "chunk size " + chunkSize);
+		}
+	}
+	
+	@Test
+	public void testParsePath() throws IOException{
+		String html = "<html><head><title>T\u00eftle</title></head><body><p id=\"\u00e9\">x</p></body></html>";
+		Path path = Files.createTempFile("parser", ".html");
+		try{
+			Files.write(path, html.getBytes(StandardCharsets.UTF_8));
+			RecordingHandler handler = new RecordingHandler();
+			new HTMLParser(handler).parse(path);
+			assertEquals(parse(html).events, handler.events);
+			assertEquals(parse(html).tags, handler.tags);
+		}finally{
+			Files.delete(path);
+		}
+	}
+	
+	@Test
+	public void testReader() throws IOException{
+		String html = "<html><body onload=init()><p>Hi</p></body></html>";
+		RecordingHandler handler = new RecordingHandler();
+		new HTMLParser(handler).parse(new StringReader(html));
+		assertEquals(parse(html).events, handler.events);
+		assertEquals(parse(html).tags, handler.tags);
+	}
+	
+	/**
+	 * @param html The HTML to parse
+	 * @return The handler after parsing the HTML with lazy attributes
+	 */
+	private RecordingHandler parseLazily(String html){
+		RecordingHandler handler = new RecordingHandler();
+		HTMLParser parser = new HTMLParser(handler);
+		parser.setLazyAttributes(true);
+		parser.parse(html);
+		return handler;
+	}
+	
+	@Test
+	public void testLazyAttributesSameTags(){
+		String html = "<html lang=\"en\"><body id=main onload='init()' hidden><p class=intro a/ =b c=d/>Hi</p>" +
+				"<a href=\"https://example.com\"title=x>link</a><br/><img src=x.png alt=\"\" /><b></b></body></html>";
+		RecordingHandler expected = parse(html);
+		RecordingHandler handler = parseLazily(html);
+		assertEquals(expected.events, handler.events);
+		assertEquals(expected.tags, handler.tags);
+	}
+	
+	@Test
+	public void testLazyRootTagWithoutLang(){
+		RecordingHandler handler = parseLazily("<html><body></body></html>");
+		assertEquals(Map.of(), handler.tags.get(0).getAttributes());
+		assertFalse(handler.tags.get(0).hasAttribute(LANG_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testLazyFirstDuplicateAttributeWins(){
+		String html = "<p B=1 b=2 id=x hidden ID=y HIDDEN=z>x</p>";
+		assertEquals("1", parseLazily(html).tags.get(0).getAttribute("b"));
+		assertNull(parseLazily(html).tags.get(0).getAttribute(HIDDEN_ATTRIBUTE_NAME));
+		RecordingHandler handler = parseLazily(html);
+		assertEquals(parse(html).tags, handler.tags);
+		assertEquals(3, handler.tags.get(0).getAttributes().size());
+	}
+	
+	@Test
+	public void testLazyGetAttribute(){
+		RecordingHandler handler = parseLazily("<body onload=init()><a href=\"/home\" HIDDEN>x</a><iframe src=f>" +
+				"</iframe></body>");
+		assertEquals("init()", handler.tags.get(0).getAttribute(ON_LOAD_ATTRIBUTE_NAME));
+		assertEquals("/home", handler.tags.get(1).getAttribute("href"));
+		assertTrue(handler.tags.get(1).hasAttribute(HIDDEN_ATTRIBUTE_NAME));
+		assertFalse(handler.tags.get(1).hasAttribute(ID_ATTRIBUTE_NAME));
+		assertEquals("f", handler.tags.get(2).getAttribute("src"));
+		assertEquals("<a hidden href=\"/home\"></a>", handler.tags.get(1).toString());
+	}
+	
+	@Test
+	public void testLazyAttributesDecoded(){
+		RecordingHandler handler = parseLazily("<a href=\"/?a=1&amp;b=2\" title='&lt;x&gt;'>x</a>");
+		assertEquals("/?a=1&b=2", handler.tags.get(0).getAttribute("href"));
+		assertEquals(parse("<a href=\"/?a=1&amp;b=2\" title='&lt;x&gt;'>x</a>").tags, handler.tags);
+	}
+	
+	@Test
+	public void testLazyFeedBytesGivesSameTags(){
+		String html = "<html lang=\"fr\"><body><p title=\"\u00e9t\u00e9\"  id = x >caf\u00e9</p><br></body></html>";
+		byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+		RecordingHandler expected = parse(html);
+		for(int chunkSize = 1; chunkSize <= 8; chunkSize++){
+			RecordingHandler handler = new RecordingHandler();
+			HTMLParser parser = new HTMLParser(handler);
+			parser.setLazyAttributes(true);
+			for(int i = 0; i < bytes.length; i += chunkSize){
+				parser.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+			}
+			parser.end();
+			assertEquals(expected.tags, handler.tags, "chunk size " + chunkSize);
+		}
+	}
+	
+	@Test
+	public void testLazyParsePath() throws IOException{
+		String html = "<html><head><title>T</title></head><body><p id=\"\u00e9\" class=a>x</p></body></html>";
+		Path path = Files.createTempFile("parser", ".html");
+		try{
+			Files.write(path, html.getBytes(StandardCharsets.UTF_8));
+			RecordingHandler handler = new RecordingHandler();
+			HTMLParser parser = new HTMLParser(handler);
+			parser.setLazyAttributes(true);
+			parser.parse(path);
+			assertEquals("\u00e9", handler.tags.get(4).getAttribute(ID_ATTRIBUTE_NAME));
+			assertEquals(parse(html).tags, handler.tags);
+		}finally{
+			Files.delete(path);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLSplitScannerTest implements HTMLTagConstants{
+	/** A top-level child of the body with things in it that look like tags but aren't */
+	private static final String SECTION = "<div class=\"s\"><p>x<br>y</p><!-- <p> --><script>if(a<b)'<p>'</script>" +
+			"<span title='<p>' data-x=a>z</span><img src=a.png/></div>\n";
+	
+	/**
+	 * @param sections The number of sections in the body
+	 * @return A document with the given number of sections in the body
+	 */
+	private String document(int sections){
+		return "<!DOCTYPE html><html><head><title>a<p></title></head>\n<body onload=\"f('<p>')\">" +
+				SECTION.repeat(sections) + "</body></html>";
+	}
+	
+	@Test
+	public void testSplitsBeforeEachChildOfBody(){
+		String html = document(10);
+		HTMLSplitScanner scanner = new HTMLSplitScanner(html, 1);
+		int[] splits = scanner.scan();
+		assertEquals(10, splits.length);
+		for(int split: splits){
+			assertTrue(html.startsWith("<div", split), "split at " + split);
+		}
+		assertArrayEquals(new String[]{HTML_ROOT_TAG_NAME, HTML_BODY_TAG_NAME}, scanner.getSplitTagNames());
+	}
+	
+	@Test
+	public void testMinPieceLength(){
+		String html = document(10);
+		int[] splits = new HTMLSplitScanner(html, SECTION.length() * 3).scan();
+		assertEquals(2, splits.length);
+		assertTrue(splits[0] >= SECTION.length() * 3);
+		assertTrue(splits[1] - splits[0] >= SECTION.length() * 3);
+		assertTrue(html.length() - splits[1] >= SECTION.length() * 3);
+	}
+	
+	@Test
+	public void testNoBody(){
+		HTMLSplitScanner scanner = new HTMLSplitScanner("<div><p>a</p><p>b</p></div>", 1);
+		assertEquals(0, scanner.scan().length);
+		assertEquals(0, scanner.getSplitTagNames().length);
+	}
+	
+	@Test
+	public void testNestedChildrenNotSplit(){
+		String html = "<html><body><div><p>a</p><p>b</p></div><ul><li>c</ul></body></html>";
+		int[] splits = new HTMLSplitScanner(html, 1).scan();
+		assertArrayEquals(new int[]{html.indexOf("<div"), html.indexOf("<ul")}, splits);
+	}
+	
+	@Test
+	public void testNoSplitsAfterBodyClosed(){
+		String html = "<html><body><p>a</p><p>b</p></body><p>c</p></html>";
+		int[] splits = new HTMLSplitScanner(html, 1).scan();
+		assertArrayEquals(new int[]{html.indexOf("<p>a"), html.indexOf("<p>b")}, splits);
+	}
+	
+	@Test
+	public void testUnclosedComment(){
+		String html = "<html><body><p>a</p><!-- <p>b</p><p>c</p>";
+		int[] splits = new HTMLSplitScanner(html, 1).scan();
+		assertArrayEquals(new int[]{html.indexOf("<p>a")}, splits);
+	}
+}
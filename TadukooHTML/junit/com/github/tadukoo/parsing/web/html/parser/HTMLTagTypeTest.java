@@ -0,0 +1,60 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLHeadTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.body.HTMLIFrameTag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HTMLTagTypeTest implements HTMLTagConstants{
+	
+	@Test
+	public void testOf(){
+		assertSame(HTMLTagType.ROOT, HTMLTagType.of(HTML_ROOT_TAG_NAME));
+		assertSame(HTMLTagType.HEAD, HTMLTagType.of(HTML_HEAD_TAG_NAME));
+		assertSame(HTMLTagType.BODY, HTMLTagType.of(HTML_BODY_TAG_NAME));
+		assertSame(HTMLTagType.INLINE_FRAME, HTMLTagType.of(HTML_INLINE_FRAME_TAG_NAME));
+		assertSame(HTMLTagType.OTHER, HTMLTagType.of(HTML_PARAGRAPH_TAG_NAME));
+		assertSame(HTMLTagType.OTHER, HTMLTagType.of("my-element"));
+	}
+	
+	@Test
+	public void testOfIgnoresCase(){
+		assertSame(HTMLTagType.BODY, HTMLTagType.of("<BoDy>", 1, 5));
+		assertSame(HTMLTagType.INLINE_FRAME, HTMLTagType.of("IFRAME"));
+	}
+	
+	@Test
+	public void testOfBytes(){
+		ByteBuffer bytes = ByteBuffer.wrap("<HTML><head>".getBytes(StandardCharsets.US_ASCII));
+		assertSame(HTMLTagType.ROOT, HTMLTagType.of(bytes, 1, 5));
+		assertSame(HTMLTagType.HEAD, HTMLTagType.of(bytes, 7, 11));
+		assertSame(HTMLTagType.OTHER, HTMLTagType.of(bytes, 0, 5));
+	}
+	
+	@Test
+	public void testForIndex(){
+		assertSame(HTMLTagType.OTHER, HTMLTagType.forIndex(-1));
+		assertSame(HTMLTagType.ROOT, HTMLTagType.forIndex(HTMLNameTable.TAG_NAMES.indexOf("html", 0, 4)));
+	}
+	
+	@Test
+	public void testNewBuilder(){
+		assertSame(HTMLRootTag.class, HTMLTagType.ROOT.newBuilder(HTML_ROOT_TAG_NAME).build().getClass());
+		assertSame(HTMLHeadTag.class, HTMLTagType.HEAD.newBuilder(HTML_HEAD_TAG_NAME).build().getClass());
+		assertSame(HTMLBodyTag.class, HTMLTagType.BODY.newBuilder(HTML_BODY_TAG_NAME).build().getClass());
+		assertSame(HTMLIFrameTag.class,
+				HTMLTagType.INLINE_FRAME.newBuilder(HTML_INLINE_FRAME_TAG_NAME).build().getClass());
+		HTMLTag tag = HTMLTagType.OTHER.newBuilder("my-element").build();
+		assertSame(HTMLTag.class, tag.getClass());
+		assertEquals("my-element", tag.getTagName());
+	}
+}
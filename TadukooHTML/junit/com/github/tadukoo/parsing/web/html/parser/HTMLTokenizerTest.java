@@ -0,0 +1,553 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLTokenizerTest implements HTMLTagConstants{
+	/** An HTML document using most of what the tokenizer handles */
+	private static final String DOCUMENT = """
+			<!DOCTYPE html>
+			<HTML lang="en">
+			<head><title>A < B &amp; C</title>
+			<script type='text/javascript'>if(a<b && c>d){ x = "</scrip"; }</script>
+			<style>p > a{ color:blue; }</STYLE >
+			</head>
+			<!-- a comment with -- dashes -->
+			<body onload=init() hidden data-x = "1">
+			<p class="intro" id='main'>Hello<br/>World</p>
+			<img src=a.png alt="" />
+			<iframe><p>not a tag</p></iframe>
+			<?xml version="1.0"?>
+			1 < 2 </ p>
+			</body></html>""";
+	
+	/**
+	 * An {@link HTMLTokenHandler} that records the events it gets as Strings, merging text that's split into
+	 * more than one event
+	 */
+	private static class RecordingHandler implements HTMLTokenHandler{
+		/** The events that have been recorded */
+		private final List<String> events = new ArrayList<>();
+		/** The text that's been gathered since the last event that wasn't text */
+		private final StringBuilder text = new StringBuilder();
+		
+		/**
+		 * Records the given event, after any text that's been gathered
+		 *
+		 * @param event The event to record
+		 */
+		private void record(String event){
+			flushText();
+			events.add(event);
+		}
+		
+		/**
+		 * Records any text that's been gathered
+		 */
+		private void flushText(){
+			if(!text.isEmpty()){
+				events.add("text(" + text + ")");
+				text.setLength(0);
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void startTag(String tagName){
+			record("start(" + tagName + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void attribute(String name, CharSequence value){
+			record("attr(" + name + (value != null?"=" + value:"") + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void rawAttributes(CharSequence attributes){
+			record("raw(" + attributes + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void startTagEnd(String tagName, boolean selfClosing){
+			record("startEnd(" + tagName + (selfClosing?", self":"") + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void endTag(String tagName){
+			record("end(" + tagName + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void text(CharSequence text){
+			this.text.append(text);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void comment(CharSequence comment){
+			record("comment(" + comment + ")");
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void doctype(CharSequence doctype){
+			record("doctype(" + doctype + ")");
+		}
+		
+		/**
+		 * @return The events that have been recorded
+		 */
+		public List<String> getEvents(){
+			flushText();
+			return events;
+		}
+	}
+	
+	/**
+	 * @param html The HTML to tokenize
+	 * @return The events from tokenizing the HTML all at once
+	 */
+	private List<String> tokenize(String html){
+		RecordingHandler handler = new RecordingHandler();
+		new HTMLTokenizer(handler).tokenize(html);
+		return handler.getEvents();
+	}
+	
+	/**
+	 * @param html The HTML to tokenize
+	 * @param chunkSize The size of the chunks to feed the HTML in
+	 * @return The events from tokenizing the HTML in chunks
+	 */
+	private List<String> tokenizeInChunks(String html, int chunkSize){
+		RecordingHandler handler = new RecordingHandler();
+		HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+		for(int i = 0; i < html.length(); i += chunkSize){
+			// Use CharBuffers so the chunks aren't Strings
+			tokenizer.feed(CharBuffer.wrap(html, i, Math.min(html.length(), i + chunkSize)));
+		}
+		tokenizer.end();
+		return handler.getEvents();
+	}
+	
+	@Test
+	public void testStartAndEndTags(){
+		assertEquals(List.of("start(p)", "startEnd(p)", "text(Hi)", "end(p)"), tokenize("<p>Hi</p>"));
+	}
+	
+	@Test
+	public void testAttributes(){
+		assertEquals(List.of("start(p)", "attr(class=a b)", "attr(id=c)", "attr(title=d)", "attr(hidden)",
+				"attr(lang=)", "startEnd(p)"),
+				tokenize("<p class=\"a b\" id='c' title=d hidden lang=\"\">"));
+	}
+	
+	@Test
+	public void testAttributeWithSpacesAroundEquals(){
+		assertEquals(List.of("start(p)", "attr(id=x)", "attr(hidden)", "startEnd(p)"),
+				tokenize("<p id = \"x\" hidden >"));
+	}
+	
+	@Test
+	public void testSelfClosing(){
+		assertEquals(List.of("start(br)", "startEnd(br, self)", "start(img)", "attr(src=a.png)",
+				"startEnd(img, self)"), tokenize("<br/><img src=a.png />"));
+	}
+	
+	@Test
+	public void testNamesResolvedToConstants(){
+		List<String> names = new ArrayList<>();
+		new HTMLTokenizer(new HTMLTokenHandler(){
+			@Override
+			public void startTag(String tagName){
+				names.add(tagName);
+			}
+			
+			@Override
+			public void attribute(String name, CharSequence value){
+				names.add(name);
+			}
+		}).tokenize("<BODY Class=x><Custom-Tag>");
+		assertSame(HTML_BODY_TAG_NAME, names.get(0));
+		assertSame(CLASS_ATTRIBUTE_NAME, names.get(1));
+		assertEquals("custom-tag", names.get(2));
+	}
+	
+	@Test
+	public void testAttributeNameIndexIsOrdinal(){
+		List<Integer> ordinals = new ArrayList<>();
+		HTMLTokenizer[] tokenizer = new HTMLTokenizer[1];
+		tokenizer[0] = new HTMLTokenizer(new HTMLTokenHandler(){
+			@Override
+			public void attribute(String name, CharSequence value){
+				ordinals.add(tokenizer[0].getNameIndex());
+			}
+		});
+		tokenizer[0].tokenize("<p hidden ID=x custom title>");
+		assertEquals(List.of(HTMLAttributeRegistry.ordinalOf(HIDDEN_ATTRIBUTE_NAME),
+				HTMLAttributeRegistry.ordinalOf(ID_ATTRIBUTE_NAME), -1,
+				HTMLAttributeRegistry.ordinalOf(TITLE_ATTRIBUTE_NAME)), ordinals);
+	}
+	
+	@Test
+	public void testNamesCutOffResolvedToConstants(){
+		String html = "<BODY Class=x><IFrame></iframe>";
+		for(int chunkSize = 1; chunkSize <= html.length(); chunkSize++){
+			List<String> names = new ArrayList<>();
+			List<HTMLTagType> types = new ArrayList<>();
+			HTMLTokenizer[] tokenizer = new HTMLTokenizer[1];
+			tokenizer[0] = new HTMLTokenizer(new HTMLTokenHandler(){
+				@Override
+				public void startTag(String tagName){
+					names.add(tagName);
+					types.add(HTMLTagType.forIndex(tokenizer[0].getNameIndex()));
+				}
+				
+				@Override
+				public void attribute(String name, CharSequence value){
+					names.add(name);
+				}
+				
+				@Override
+				public void endTag(String tagName){
+					names.add(tagName);
+				}
+			});
+			for(int i = 0; i < html.length(); i += chunkSize){
+				tokenizer[0].feed(CharBuffer.wrap(html, i, Math.min(html.length(), i + chunkSize)));
+			}
+			tokenizer[0].end();
+			assertSame(HTML_BODY_TAG_NAME, names.get(0));
+			assertSame(CLASS_ATTRIBUTE_NAME, names.get(1));
+			assertSame(HTML_INLINE_FRAME_TAG_NAME, names.get(2));
+			assertSame(HTML_INLINE_FRAME_TAG_NAME, names.get(3));
+			assertEquals(List.of(HTMLTagType.BODY, HTMLTagType.INLINE_FRAME), types);
+		}
+	}
+	
+	@Test
+	public void testComment(){
+		assertEquals(List.of("text(a)", "comment( b -- c )", "text(d)", "comment()"),
+				tokenize("a<!-- b -- c -->d<!---->"));
+	}
+	
+	@Test
+	public void testDoctype(){
+		assertEquals(List.of("doctype(html)"), tokenize("<!DOCTYPE html>"));
+	}
+	
+	@Test
+	public void testProcessingInstructionIsComment(){
+		assertEquals(List.of("comment(?xml version=\"1.0\"?)"), tokenize("<?xml version=\"1.0\"?>"));
+	}
+	
+	@Test
+	public void testLessThanInText(){
+		assertEquals(List.of("text(1 < 2 <)"), tokenize("1 < 2 <"));
+	}
+	
+	@Test
+	public void testRawText(){
+		assertEquals(List.of("start(script)", "startEnd(script)", "text(a<b</scrip</p>)", "end(script)",
+				"start(p)", "startEnd(p)"), tokenize("<script>a<b</scrip</p></SCRIPT><p>"));
+	}
+	
+	@Test
+	public void testRawTextEndTagWithSpace(){
+		assertEquals(List.of("start(style)", "startEnd(style)", "text(x)", "end(style)"),
+				tokenize("<style>x</style >"));
+	}
+	
+	@Test
+	public void testIncompleteTagDropped(){
+		// The start tag event is sent as soon as the name is known
+		assertEquals(List.of("text(a)", "start(p)"), tokenize("a<p class=\"b"));
+	}
+	
+	@Test
+	public void testDocument(){
+		assertEquals(List.of(
+				"doctype(html)", "text(\n)",
+				"start(html)", "attr(lang=en)", "startEnd(html)", "text(\n)",
+				"start(head)", "startEnd(head)",
+				"start(title)", "startEnd(title)", "text(A < B &amp; C)", "end(title)", "text(\n)",
+				"start(script)", "attr(type=text/javascript)", "startEnd(script)",
+				"text(if(a<b && c>d){ x = \"</scrip\"; })", "end(script)", "text(\n)",
+				"start(style)", "startEnd(style)", "text(p > a{ color:blue; })", "end(style)", "text(\n)",
+				"end(head)", "text(\n)",
+				"comment( a comment with -- dashes )", "text(\n)",
+				"start(body)", "attr(onload=init())", "attr(hidden)", "attr(data-x=1)", "startEnd(body)", "text(\n)",
+				"start(p)", "attr(class=intro)", "attr(id=main)", "startEnd(p)", "text(Hello)",
+				"start(br)", "startEnd(br, self)", "text(World)", "end(p)", "text(\n)",
+				"start(img)", "attr(src=a.png)", "attr(alt=)", "startEnd(img, self)", "text(\n)",
+				"start(iframe)", "startEnd(iframe)", "text(<p>not a tag</p>)", "end(iframe)", "text(\n)",
+				"comment(?xml version=\"1.0\"?)", "text(\n1 < 2 )", "comment( p)", "text(\n)",
+				"end(body)", "end(html)"), tokenize(DOCUMENT));
+	}
+	
+	@Test
+	public void testChunksGiveSameEvents(){
+		List<String> expected = tokenize(DOCUMENT);
+		for(int chunkSize = 1; chunkSize <= 20; chunkSize++){
+			assertEquals(expected, tokenizeInChunks(DOCUMENT, chunkSize), "chunk size " + chunkSize);
+		}
+	}
+	
+	@Test
+	public void testEverySplitGivesSameEvents(){
+		List<String> expected = tokenize(DOCUMENT);
+		for(int split = 1; split < DOCUMENT.length(); split++){
+			RecordingHandler handler = new RecordingHandler();
+			HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+			tokenizer.feed(new StringBuilder(DOCUMENT.substring(0, split)));
+			tokenizer.feed(new StringBuilder(DOCUMENT.substring(split)));
+			tokenizer.end();
+			assertEquals(expected, handler.getEvents(), "split at " + split);
+		}
+	}
+	
+	@Test
+	public void testFeedCharBufferConsumesIt(){
+		CharBuffer chunk = CharBuffer.wrap("<p>x");
+		HTMLTokenizer tokenizer = new HTMLTokenizer(new RecordingHandler());
+		tokenizer.feed(chunk);
+		assertFalse(chunk.hasRemaining());
+	}
+	
+	@Test
+	public void testFeedBytes(){
+		String html = "<p title=\"caf\u00e9\">\u00fcber \uD83D\uDE00 \u20ac</p>";
+		byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+		List<String> expected = tokenize(html);
+		// Split at every byte, including inside the multi-byte characters
+		for(int split = 0; split <= bytes.length; split++){
+			RecordingHandler handler = new RecordingHandler();
+			HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+			ByteBuffer first = ByteBuffer.wrap(bytes, 0, split);
+			tokenizer.feed(first);
+			assertFalse(first.hasRemaining());
+			tokenizer.feed(ByteBuffer.wrap(bytes, split, bytes.length - split));
+			tokenizer.end();
+			assertEquals(expected, handler.getEvents(), "split at " + split);
+		}
+	}
+	
+	@Test
+	public void testFeedBytesOneAtATime(){
+		byte[] bytes = DOCUMENT.replace("Hello", "H\u00e9llo \uD83D\uDE00").getBytes(StandardCharsets.UTF_8);
+		RecordingHandler handler = new RecordingHandler();
+		HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+		for(byte b: bytes){
+			tokenizer.feed(ByteBuffer.wrap(new byte[]{b}));
+		}
+		tokenizer.end();
+		assertEquals(tokenize(new String(bytes, StandardCharsets.UTF_8)), handler.getEvents());
+	}
+	
+	@Test
+	public void testFeedBytesLargerThanBuffer(){
+		String html = "<p>" + "\u00e9".repeat(HTMLTokenizer.READ_BUFFER_SIZE * 2) + "</p>";
+		RecordingHandler handler = new RecordingHandler();
+		HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+		tokenizer.feed(ByteBuffer.wrap(html.getBytes(StandardCharsets.UTF_8)));
+		tokenizer.end();
+		assertEquals(tokenize(html), handler.getEvents());
+	}
+	
+	@Test
+	public void testFeedBytesOtherCharset(){
+		RecordingHandler handler = new RecordingHandler();
+		HTMLTokenizer tokenizer = new HTMLTokenizer(handler, StandardCharsets.ISO_8859_1);
+		tokenizer.feed(ByteBuffer.wrap("<p>caf\u00e9".getBytes(StandardCharsets.ISO_8859_1)));
+		tokenizer.end();
+		assertEquals(List.of("start(p)", "startEnd(p)", "text(caf\u00e9)"), handler.getEvents());
+	}
+	
+	@Test
+	public void testFeedBytesCutOffCharacter(){
+		RecordingHandler handler = new RecordingHandler();
+		HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+		tokenizer.feed(ByteBuffer.wrap(new byte[]{'a', (byte) 0xC3}));
+		tokenizer.end();
+		tokenizer.feed(ByteBuffer.wrap(new byte[]{'<', 'b', '>'}));
+		tokenizer.end();
+		assertEquals(List.of("text(a\uFFFD)", "start(b)", "startEnd(b)"), handler.getEvents());
+	}
+	
+	/**
+	 * Writes the given HTML to a temporary file and tokenizes it from there
+	 *
+	 * @param html The HTML to tokenize
+	 * @param charset The charset to write the file in and tokenize it with
+	 * @param windowSize The most bytes to map at once
+	 * @return The events from tokenizing the file
+	 * @throws IOException If anything goes wrong with the file
+	 */
+	private List<String> tokenizeFile(String html, Charset charset, long windowSize) throws IOException{
+		Path path = Files.createTempFile("tokenizer", ".html");
+		try{
+			Files.write(path, html.getBytes(charset));
+			RecordingHandler handler = new RecordingHandler();
+			new HTMLTokenizer(handler, charset).tokenize(path, windowSize);
+			return handler.getEvents();
+		}finally{
+			Files.delete(path);
+		}
+	}
+	
+	@Test
+	public void testTokenizePath() throws IOException{
+		String html = DOCUMENT.replace("Hello", "H\u00e9llo \uD83D\uDE00").replace("intro", "\u20acintro");
+		assertEquals(tokenize(html), tokenizeFile(html, StandardCharsets.UTF_8, HTMLTokenizer.MAP_WINDOW_SIZE));
+	}
+	
+	@Test
+	public void testTokenizePathInWindows() throws IOException{
+		// Small windows, so tokens and characters are cut off between them all over the place
+		String html = DOCUMENT.replace("Hello", "H\u00e9llo \uD83D\uDE00").replace("intro", "\u20acintro");
+		List<String> expected = tokenize(html);
+		for(int windowSize = 4; windowSize <= 24; windowSize++){
+			assertEquals(expected, tokenizeFile(html, StandardCharsets.UTF_8, windowSize), "window " + windowSize);
+		}
+	}
+	
+	@Test
+	public void testTokenizePathLatin1() throws IOException{
+		String html = "<p title=caf\u00e9>\u00fcber</p>";
+		assertEquals(tokenize(html), tokenizeFile(html, StandardCharsets.ISO_8859_1, 5));
+	}
+	
+	@Test
+	public void testTokenizePathDecoded() throws IOException{
+		// UTF-16 isn't read directly, so it goes through the decoder
+		String html = "<p title=caf\u00e9>\u00fcber</p>";
+		assertEquals(tokenize(html), tokenizeFile(html, StandardCharsets.UTF_16BE, 6));
+	}
+	
+	@Test
+	public void testTokenizeEmptyPath() throws IOException{
+		assertEquals(List.of(), tokenizeFile("", StandardCharsets.UTF_8, HTMLTokenizer.MAP_WINDOW_SIZE));
+	}
+	
+	@Test
+	public void testTokenizePathGivesByteSequences() throws IOException{
+		Path path = Files.createTempFile("tokenizer", ".html");
+		try{
+			Files.write(path, "<p title=\"caf\u00e9\">x</p>".getBytes(StandardCharsets.UTF_8));
+			List<CharSequence> values = new ArrayList<>();
+			new HTMLTokenizer(new HTMLTokenHandler(){
+				@Override
+				public void attribute(String name, CharSequence value){
+					assertTrue(value instanceof HTMLByteSequence);
+					values.add(value.toString());
+				}
+				
+				@Override
+				public void text(CharSequence text){
+					assertTrue(text instanceof HTMLByteSequence);
+					values.add(text.toString());
+				}
+			}).tokenize(path);
+			assertEquals(List.of("caf\u00e9", "x"), values);
+		}finally{
+			Files.delete(path);
+		}
+	}
+	
+	@Test
+	public void testReader() throws IOException{
+		RecordingHandler handler = new RecordingHandler();
+		new HTMLTokenizer(handler).tokenize(new StringReader(DOCUMENT));
+		assertEquals(tokenize(DOCUMENT), handler.getEvents());
+	}
+	
+	@Test
+	public void testReaderLargerThanBuffer() throws IOException{
+		String html = "<p>" + "x".repeat(HTMLTokenizer.READ_BUFFER_SIZE * 3) + "</p>";
+		RecordingHandler handler = new RecordingHandler();
+		new HTMLTokenizer(handler).tokenize(new StringReader(html));
+		assertEquals(tokenize(html), handler.getEvents());
+	}
+	
+	@Test
+	public void testReuseAfterEnd(){
+		RecordingHandler handler = new RecordingHandler();
+		HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+		tokenizer.feed("<p class=\"a");
+		tokenizer.end();
+		tokenizer.tokenize("<b>");
+		assertEquals(List.of("start(p)", "start(b)", "startEnd(b)"), handler.getEvents());
+	}
+	
+	/**
+	 * @param html The HTML to tokenize
+	 * @param chunkSize The size of the chunks to feed the HTML in
+	 * @return The events from tokenizing the HTML in chunks while capturing attributes
+	 */
+	private List<String> tokenizeCapturingAttributes(String html, int chunkSize){
+		RecordingHandler handler = new RecordingHandler();
+		HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+		tokenizer.setCapturingAttributes(true);
+		for(int i = 0; i < html.length(); i += chunkSize){
+			tokenizer.feed(CharBuffer.wrap(html, i, Math.min(html.length(), i + chunkSize)));
+		}
+		tokenizer.end();
+		return handler.getEvents();
+	}
+	
+	@Test
+	public void testCapturingAttributes(){
+		assertEquals(List.of("start(p)", "raw( class=\"a b\" id='c>')", "startEnd(p)", "text(x)", "end(p)",
+				"start(br)", "startEnd(br, self)", "start(img)", "raw( src=x.png /)", "startEnd(img, self)",
+				"start(b)", "startEnd(b)"),
+				tokenizeCapturingAttributes("<p class=\"a b\" id='c>'>x</p><br/><img src=x.png /><b >", 1000));
+	}
+	
+	@Test
+	public void testCapturingAttributesInChunks(){
+		List<String> expected = tokenizeCapturingAttributes(DOCUMENT, DOCUMENT.length());
+		for(int chunkSize = 1; chunkSize <= 16; chunkSize++){
+			assertEquals(expected, tokenizeCapturingAttributes(DOCUMENT, chunkSize), "chunk size " + chunkSize);
+		}
+	}
+	
+	@Test
+	public void testCapturingAttributesInWindows() throws IOException{
+		String html = "<p title=\"\u00e9t\u00e9\" id=x>a</p><b   hidden ><i\t>";
+		List<String> expected = tokenizeCapturingAttributes(html, html.length());
+		Path path = Files.createTempFile("tokenizer", ".html");
+		try{
+			Files.write(path, html.getBytes(StandardCharsets.UTF_8));
+			for(int windowSize = 4; windowSize <= 24; windowSize++){
+				RecordingHandler handler = new RecordingHandler();
+				HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+				tokenizer.setCapturingAttributes(true);
+				tokenizer.tokenize(path, windowSize);
+				assertEquals(expected, handler.getEvents(), "window size " + windowSize);
+			}
+		}finally{
+			Files.delete(path);
+		}
+	}
+}
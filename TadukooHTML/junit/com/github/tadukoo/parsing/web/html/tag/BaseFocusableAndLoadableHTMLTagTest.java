@@ -8,8 +8,8 @@ import java.util.Map;
 import java.util.Set;
 
 @SuppressWarnings("unchecked")
-public abstract class BaseFocusableAndLoadableHTMLTagTest<Builder extends BaseFocusableAndLoadableHTMLTagBuilder>
-		extends BaseFocusableHTMLTagTest<Builder>{
+public abstract class BaseFocusableAndLoadableHTMLTagTest<
+		Builder extends BaseFocusableAndLoadableHTMLTagBuilder<Builder>> extends BaseFocusableHTMLTagTest<Builder>{
 	
 	/**
 	 * Constructs a new {@link BaseFocusableAndLoadableHTMLTagTest} using the given parameters
@@ -31,7 +31,7 @@ public abstract class BaseFocusableAndLoadableHTMLTagTest<Builder extends BaseFo
 	/** {@inheritDoc} */
 	@Override
 	protected Builder setAllAttributes(){
-		return (Builder) super.setAllAttributes()
+		return super.setAllAttributes()
 				.onload(SCRIPT_TEST_VALUE)
 				.onunload(SCRIPT_TEST_VALUE);
 	}
@@ -8,7 +8,7 @@ import java.util.Map;
 import java.util.Set;
 
 @SuppressWarnings("unchecked")
-public abstract class BaseFocusableHTMLTagTest<Builder extends BaseFocusableHTMLTagBuilder>
+public abstract class BaseFocusableHTMLTagTest<Builder extends BaseFocusableHTMLTagBuilder<Builder>>
 		extends BaseHTMLTagTest<Builder>{
 	
 	/**
@@ -31,7 +31,7 @@ public abstract class BaseFocusableHTMLTagTest<Builder extends BaseFocusableHTML
 	/** {@inheritDoc} */
 	@Override
 	protected Builder setAllAttributes(){
-		return (Builder) super.setAllAttributes()
+		return super.setAllAttributes()
 				.onblur(SCRIPT_TEST_VALUE)
 				.onfocus(SCRIPT_TEST_VALUE)
 				.onkeydown(SCRIPT_TEST_VALUE)
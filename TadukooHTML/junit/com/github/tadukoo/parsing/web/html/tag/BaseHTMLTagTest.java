@@ -1,24 +1,39 @@
 package com.github.tadukoo.parsing.web.html.tag;
 
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeMap;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeRegistry;
 import com.github.tadukoo.parsing.web.html.tag.builder.BaseHTMLTagBuilder;
+import com.github.tadukoo.parsing.web.html.tag.builder.HTMLAttributeValidationMode;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.map.MapUtil;
 import com.github.tadukoo.util.tuple.Pair;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 @SuppressWarnings("unchecked")
-public abstract class BaseHTMLTagTest<Builder extends BaseHTMLTagBuilder>
+public abstract class BaseHTMLTagTest<Builder extends BaseHTMLTagBuilder<Builder>>
 		implements HTMLTagConstants, DefaultTagTestValues{
 	/** The name to use for the {@link HTMLTag} */
 	protected String tagName;
@@ -59,14 +74,22 @@ public abstract class BaseHTMLTagTest<Builder extends BaseHTMLTagBuilder>
 	 * @return The {@link #defaultBuilder} with the attributes wiped (useful for dealing with default attributes)
 	 */
 	protected Builder wipeAttributes(){
-		return (Builder) defaultBuilder.attributes(new HashMap<>());
+		return defaultBuilder.attributes(new HashMap<>());
+	}
+	
+	/**
+	 * @return The {@link #defaultBuilder} after it's been {@link BaseHTMLTagBuilder#reset() reset}, with anything
+	 * required for building set again
+	 */
+	protected Builder resetBuilder(){
+		return defaultBuilder.reset();
 	}
 	
 	/**
 	 * @return The {@link #defaultBuilder} with all the attributes set
 	 */
 	protected Builder setAllAttributes(){
-		return (Builder) wipeAttributes()
+		return wipeAttributes()
 				.accesskey(ACCESS_KEY_TEST_VALUE)
 				.classAttribute(CLASS_TEST_VALUE)
 				.contenteditable(CONTENT_EDITABLE_TEST_VALUE)
@@ -199,6 +222,50 @@ public abstract class BaseHTMLTagTest<Builder extends BaseHTMLTagBuilder>
 		assertEquals(tagName, tag.getTagName());
 	}
 	
+	/**
+	 * Test that the default whitelists and blacklist are correct, and are shared between {@link HTMLTag HTMLTags}
+	 * rather than copied for each one
+	 */
+	@Test
+	public void testDefaultWhitelistsShared(){
+		HTMLTag tag = defaultBuilder.build();
+		HTMLTag tag2 = defaultBuilder.build();
+		assertEquals(attributeWhitelist, tag.getAttributeWhitelist());
+		assertEquals(subTagWhitelist, tag.getSubTagWhitelist());
+		assertEquals(subTagBlacklist, tag.getSubTagBlacklist());
+		assertSame(tag.getAttributeWhitelist(), tag2.getAttributeWhitelist());
+		assertSame(tag.getSubTagWhitelist(), tag2.getSubTagWhitelist());
+		assertSame(tag.getSubTagBlacklist(), tag2.getSubTagBlacklist());
+	}
+	
+	/**
+	 * Test that resetting the builder after setting everything gets back to the default {@link HTMLTag}, and
+	 * doesn't change a tag that was already built
+	 */
+	@Test
+	public void testReset(){
+		HTMLTag defaultTag = defaultBuilder.build();
+		HTMLTag allAttributesTag = setAllAttributes().cacheRendering().build();
+		HTMLTag tag = resetBuilder().build();
+		assertEquals(defaultTag, tag);
+		assertEquals(defaultTag.toString(), tag.toString());
+		assertFalse(tag.isRenderingCached());
+		assertEquals(makeAllAttributesMap(), allAttributesTag.getAttributes());
+		assertTrue(allAttributesTag.isRenderingCached());
+	}
+	
+	/**
+	 * Test that everything in the built {@link HTMLTag} is immutable
+	 */
+	@Test
+	public void testImmutable(){
+		HTMLTag tag = setAllAttributes().build();
+		assertThrows(UnsupportedOperationException.class, () -> tag.getAttributes().clear());
+		assertThrows(UnsupportedOperationException.class, () -> tag.getAttributeWhitelist().clear());
+		assertThrows(UnsupportedOperationException.class, () -> tag.getSubTagWhitelist().add(TEST_TAG_NAME));
+		assertThrows(UnsupportedOperationException.class, () -> tag.getSubTagBlacklist().add(TEST_TAG_NAME));
+	}
+	
 	/**
 	 * Test that the default attributes for the created {@link HTMLTag} are correct
 	 */
@@ -629,4 +696,281 @@ public abstract class BaseHTMLTagTest<Builder extends BaseHTMLTagBuilder>
 				makeAllAttributesString() +
 				">"  + (closingTag?"</" + tagName + ">":""), tag.toString());
 	}
+	
+	/**
+	 * Test rendering the opening tag to an {@link Appendable} when all attributes are set
+	 */
+	@Test
+	public void testRenderOpeningToAllAttributes() throws IOException{
+		HTMLTag tag = setAllAttributes().build();
+		StringBuilder out = new StringBuilder();
+		tag.renderOpeningTo(out);
+		assertEquals(tag.toOpeningTag(), out.toString());
+	}
+	
+	/**
+	 * Test rendering the closing tag to an {@link Appendable}
+	 */
+	@Test
+	public void testRenderClosingTo() throws IOException{
+		HTMLTag tag = defaultBuilder.build();
+		StringBuilder out = new StringBuilder();
+		tag.renderClosingTo(out);
+		assertEquals(tag.toClosingTag(), out.toString());
+	}
+	
+	/**
+	 * Test rendering the full tag to an {@link Appendable} when all attributes are set
+	 */
+	@Test
+	public void testRenderToAllAttributes() throws IOException{
+		HTMLTag tag = setAllAttributes().build();
+		StringBuilder out = new StringBuilder();
+		tag.renderTo(out);
+		assertEquals(tag.toString(), out.toString());
+	}
+	
+	/**
+	 * Test that rendering multiple tags to the same {@link Appendable} appends them in order
+	 */
+	@Test
+	public void testRenderToReusedBuffer() throws IOException{
+		HTMLTag tag = setAllAttributes().build();
+		StringBuilder out = new StringBuilder("start");
+		tag.renderTo(out);
+		tag.renderTo(out);
+		assertEquals("start" + tag + tag, out.toString());
+	}
+	
+	/**
+	 * Test that rendering isn't cached by default
+	 */
+	@Test
+	public void testRenderingNotCachedByDefault(){
+		HTMLTag tag = defaultBuilder.build();
+		assertFalse(tag.isRenderingCached());
+	}
+	
+	/**
+	 * Test that a tag with rendering cached renders the same as one without
+	 */
+	@Test
+	public void testCachedRenderingMatchesUncached() throws IOException{
+		HTMLTag uncached = setAllAttributes().build();
+		HTMLTag cached = setAllAttributes().cacheRendering().build();
+		assertTrue(cached.isRenderingCached());
+		assertEquals(uncached.toOpeningTag(), cached.toOpeningTag());
+		assertEquals(uncached.toClosingTag(), cached.toClosingTag());
+		assertEquals(uncached.toString(), cached.toString());
+		
+		StringBuilder out = new StringBuilder();
+		cached.renderOpeningTo(out);
+		cached.renderClosingTo(out);
+		cached.renderTo(out);
+		assertEquals(uncached.toString() + uncached, out.toString());
+	}
+	
+	/**
+	 * Test that a tag with rendering cached only renders itself once
+	 */
+	@Test
+	public void testCachedRenderingReused(){
+		HTMLTag tag = setAllAttributes().cacheRendering(true).build();
+		assertSame(tag.toOpeningTag(), tag.toOpeningTag());
+		assertSame(tag.toClosingTag(), tag.toClosingTag());
+		assertSame(tag.toString(), tag.toString());
+	}
+	
+	/**
+	 * Test writing the tag as UTF-8 to a {@link ByteBuffer} when all attributes are set
+	 */
+	@Test
+	public void testWriteToByteBufferAllAttributes(){
+		HTMLTag tag = setAllAttributes().build();
+		ByteBuffer buffer = ByteBuffer.allocate(2048);
+		tag.writeTo(buffer);
+		assertEquals(tag.toString(), new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Test writing the tag as UTF-8 to a {@link ByteBuffer} when rendering is cached
+	 */
+	@Test
+	public void testWriteToByteBufferCached(){
+		HTMLTag tag = setAllAttributes().cacheRendering().build();
+		ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+		tag.writeTo(buffer);
+		tag.writeTo(buffer);
+		byte[] bytes = new byte[buffer.position()];
+		buffer.flip().get(bytes);
+		assertEquals(tag.toString() + tag, new String(bytes, StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Test that writing to a {@link ByteBuffer} without enough room leaves its position alone
+	 */
+	@Test
+	public void testWriteToByteBufferOverflow(){
+		HTMLTag tag = setAllAttributes().build();
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		buffer.put((byte) 'a');
+		assertThrows(BufferOverflowException.class, () -> tag.writeTo(buffer));
+		assertEquals(1, buffer.position());
+	}
+	
+	/**
+	 * Test writing the tag as UTF-8 to an {@link OutputStream}, including non-ASCII attribute values
+	 */
+	@Test
+	public void testWriteToOutputStream() throws IOException{
+		HTMLTag tag = wipeAttributes().title("caf\u00e9 \ud83d\ude00").build();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		tag.writeTo(out);
+		assertArrayEquals(tag.toString().getBytes(StandardCharsets.UTF_8), out.toByteArray());
+	}
+	
+	/**
+	 * @param mode The {@link HTMLAttributeValidationMode} to use
+	 * @return The {@link #defaultBuilder} with a few valid attributes, a data attribute, and a custom attribute
+	 * that isn't in the whitelist
+	 */
+	protected Builder setInvalidAttribute(HTMLAttributeValidationMode mode){
+		return wipeAttributes()
+				.id(ID_TEST_VALUE)
+				.data(DATA_TEST_KEY_NAME, DATA_TEST_VALUE)
+				.attribute(TEST_CUSTOM_ATTR_NAME, TEST_CUSTOM_ATTR_VALUE)
+				.attributeValidation(mode);
+	}
+	
+	/**
+	 * Test that strict validation passes when all the attributes are valid, including data attributes
+	 */
+	@Test
+	public void testStrictValidationValid(){
+		HTMLTag tag = wipeAttributes()
+				.id(ID_TEST_VALUE)
+				.data(DATA_TEST_KEY_NAME, DATA_TEST_VALUE)
+				.attributeValidation(HTMLAttributeValidationMode.STRICT)
+				.build();
+		assertEquals(MapUtil.createMap(Pair.of(ID_ATTRIBUTE_NAME, ID_TEST_VALUE),
+				Pair.of(DATA_ATTRIBUTE_NAME_PREFIX + DATA_TEST_KEY_NAME, DATA_TEST_VALUE)), tag.getAttributes());
+	}
+	
+	/**
+	 * Test that strict validation throws an error for an attribute that isn't in the whitelist
+	 */
+	@Test
+	public void testStrictValidationInvalid(){
+		String tagType = defaultBuilder.build().getClass().getSimpleName();
+		try{
+			setInvalidAttribute(HTMLAttributeValidationMode.STRICT).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Errors encountered in building a " + tagType + ": \nattribute " + TEST_CUSTOM_ATTR_NAME +
+					" is not in the attribute whitelist!", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Test that validation works the same for attributes added along with their ordinals, including when there
+	 * are too many attributes to keep them in order and they're checked by name instead
+	 */
+	@Test
+	public void testReportValidationWithOrdinals(){
+		Builder builder = defaultBuilder.attributes(new HTMLAttributeMap())
+				.attribute(ID_ATTRIBUTE_NAME, HTMLAttributeRegistry.ordinalOf(ID_ATTRIBUTE_NAME), ID_TEST_VALUE)
+				.attribute(DATA_ATTRIBUTE_NAME_PREFIX + DATA_TEST_KEY_NAME, -1, DATA_TEST_VALUE)
+				.attribute(TEST_CUSTOM_ATTR_NAME, -1, TEST_CUSTOM_ATTR_VALUE)
+				.attributeValidation(HTMLAttributeValidationMode.REPORT);
+		HTMLTag tag = builder.build();
+		assertEquals(ID_TEST_VALUE, tag.getAttributes().get(ID_ATTRIBUTE_NAME));
+		assertEquals(List.of("attribute " + TEST_CUSTOM_ATTR_NAME + " is not in the attribute whitelist!"),
+				builder.getAttributeViolations());
+		
+		// Enough attributes that the map is promoted
+		for(int i = 0; i < HTMLAttributeMap.MAX_LINEAR_SIZE; i++){
+			builder.attribute(DATA_ATTRIBUTE_NAME_PREFIX + i, -1, DATA_TEST_VALUE);
+		}
+		builder.build();
+		assertEquals(List.of("attribute " + TEST_CUSTOM_ATTR_NAME + " is not in the attribute whitelist!"),
+				builder.getAttributeViolations());
+		
+		// And with attributes that aren't an HTMLAttributeMap
+		builder.attributes(new HashMap<>())
+				.attribute(TEST_CUSTOM_ATTR_NAME, -1, TEST_CUSTOM_ATTR_VALUE)
+				.build();
+		assertEquals(List.of("attribute " + TEST_CUSTOM_ATTR_NAME + " is not in the attribute whitelist!"),
+				builder.getAttributeViolations());
+	}
+	
+	/**
+	 * Test that lenient validation leaves out an attribute that isn't in the whitelist, without changing the
+	 * attributes in the builder
+	 */
+	@Test
+	public void testLenientValidation(){
+		Builder builder = setInvalidAttribute(HTMLAttributeValidationMode.LENIENT);
+		HTMLTag tag = builder.build();
+		assertEquals(MapUtil.createMap(Pair.of(ID_ATTRIBUTE_NAME, ID_TEST_VALUE),
+				Pair.of(DATA_ATTRIBUTE_NAME_PREFIX + DATA_TEST_KEY_NAME, DATA_TEST_VALUE)), tag.getAttributes());
+		assertTrue(builder.getAttributeViolations().isEmpty());
+		assertEquals(TEST_CUSTOM_ATTR_VALUE,
+				builder.attributeValidation(HTMLAttributeValidationMode.NONE).build()
+						.getAttributes().get(TEST_CUSTOM_ATTR_NAME));
+	}
+	
+	/**
+	 * Test that report validation keeps an attribute that isn't in the whitelist, but reports it
+	 */
+	@Test
+	public void testReportValidation(){
+		Builder builder = setInvalidAttribute(HTMLAttributeValidationMode.REPORT);
+		HTMLTag tag = builder.build();
+		assertEquals(TEST_CUSTOM_ATTR_VALUE, tag.getAttributes().get(TEST_CUSTOM_ATTR_NAME));
+		assertEquals(List.of("attribute " + TEST_CUSTOM_ATTR_NAME + " is not in the attribute whitelist!"),
+				builder.getAttributeViolations());
+		
+		// Violations are cleared on the next build
+		builder.attributes(new HashMap<>()).build();
+		assertTrue(builder.getAttributeViolations().isEmpty());
+		
+		// And when validation is turned off for the next build
+		builder = setInvalidAttribute(HTMLAttributeValidationMode.REPORT);
+		builder.build();
+		assertEquals(1, builder.getAttributeViolations().size());
+		builder.attributeValidation(HTMLAttributeValidationMode.NONE).build();
+		assertTrue(builder.getAttributeViolations().isEmpty());
+	}
+	
+	/**
+	 * Test that no validation is done by default
+	 */
+	@Test
+	public void testNoValidationByDefault(){
+		Builder builder = setInvalidAttribute(HTMLAttributeValidationMode.NONE);
+		HTMLTag tag = builder.build();
+		assertEquals(TEST_CUSTOM_ATTR_VALUE, tag.getAttributes().get(TEST_CUSTOM_ATTR_NAME));
+		assertTrue(builder.getAttributeViolations().isEmpty());
+	}
+	
+	/**
+	 * Test that {@link HTMLTag#canContain(String)} matches checking the sub tag whitelist and blacklist
+	 */
+	@Test
+	public void testCanContain(){
+		HTMLTag tag = defaultBuilder.build();
+		Set<String> names = new HashSet<>(Set.of(TEST_TAG_NAME, HTML_CONTENT_NAME, HTML_ROOT_TAG_NAME,
+				HTML_HEAD_TAG_NAME, HTML_BODY_TAG_NAME, HTML_PARAGRAPH_TAG_NAME));
+		names.addAll(VALID_HTML_BODY_SUB_TAGS);
+		names.addAll(VALID_HTML_HEAD_SUB_TAGS);
+		names.addAll(subTagWhitelist);
+		names.addAll(subTagBlacklist);
+		for(String name: names){
+			boolean expected = !subTagBlacklist.contains(name) &&
+					(subTagWhitelist.isEmpty() || subTagWhitelist.contains(name));
+			assertEquals(expected, tag.canContain(name), name);
+			// Check a copy of the name too, so it's not just matching the same instance
+			assertEquals(expected, tag.canContain(new String(name)), name);
+		}
+	}
 }
@@ -8,7 +8,7 @@ import java.util.Map;
 import java.util.Set;
 
 @SuppressWarnings("unchecked")
-public abstract class BaseLoadableHTMLTagTest<Builder extends BaseLoadableHTMLTagBuilder>
+public abstract class BaseLoadableHTMLTagTest<Builder extends BaseLoadableHTMLTagBuilder<Builder>>
 		extends BaseHTMLTagTest<Builder>{
 	
 	/**
@@ -30,7 +30,7 @@ public abstract class BaseLoadableHTMLTagTest<Builder extends BaseLoadableHTMLTa
 	/** {@inheritDoc} */
 	@Override
 	protected Builder setAllAttributes(){
-		return (Builder) super.setAllAttributes()
+		return super.setAllAttributes()
 				.onload(SCRIPT_TEST_VALUE)
 				.onunload(SCRIPT_TEST_VALUE);
 	}
@@ -0,0 +1,100 @@
+package com.github.tadukoo.parsing.web.html.tag;
+
+import com.github.tadukoo.parsing.web.html.tag.body.HTMLIFrameTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLSubTagTableTest implements HTMLTagConstants, DefaultTagTestValues{
+	
+	@Test
+	public void testSharedTables(){
+		assertSame(HTMLSubTagTable.UNRESTRICTED, HTMLSubTagTable.of(Set.of(), Set.of()));
+		assertSame(HTMLSubTagTable.ROOT_SUB_TAGS,
+				HTMLSubTagTable.of(VALID_HTML_ROOT_SUB_TAGS, INVALID_HTML_ROOT_SUB_TAGS));
+		assertSame(HTMLSubTagTable.HEAD_SUB_TAGS,
+				HTMLSubTagTable.of(VALID_HTML_HEAD_SUB_TAGS, INVALID_HTML_HEAD_SUB_TAGS));
+		assertSame(HTMLSubTagTable.BODY_SUB_TAGS, HTMLSubTagTable.of(VALID_HTML_BODY_SUB_TAGS, Set.of()));
+		assertSame(HTMLSubTagTable.INLINE_FRAME_SUB_TAGS,
+				HTMLSubTagTable.of(VALID_HTML_INLINE_FRAME_SUB_TAGS, Set.of()));
+	}
+	
+	@Test
+	public void testCustomSetsCompileNewTable(){
+		assertNotSame(HTMLSubTagTable.BODY_SUB_TAGS,
+				HTMLSubTagTable.of(new HashSet<>(VALID_HTML_BODY_SUB_TAGS), Set.of()));
+	}
+	
+	@Test
+	public void testUnrestricted(){
+		assertTrue(HTMLSubTagTable.UNRESTRICTED.canContain(TEST_TAG_NAME));
+		assertTrue(HTMLSubTagTable.UNRESTRICTED.canContain(HTML_CONTENT_NAME));
+	}
+	
+	@Test
+	public void testBodySubTags(){
+		for(String name: VALID_HTML_BODY_SUB_TAGS){
+			assertTrue(HTMLSubTagTable.BODY_SUB_TAGS.canContain(name), name);
+		}
+		assertFalse(HTMLSubTagTable.BODY_SUB_TAGS.canContain(HTML_TITLE_TAG_NAME));
+		assertFalse(HTMLSubTagTable.BODY_SUB_TAGS.canContain(HTML_ROOT_TAG_NAME));
+		assertFalse(HTMLSubTagTable.BODY_SUB_TAGS.canContain(HTML_CONTENT_NAME));
+	}
+	
+	@Test
+	public void testHeadSubTags(){
+		for(String name: VALID_HTML_HEAD_SUB_TAGS){
+			assertTrue(HTMLSubTagTable.HEAD_SUB_TAGS.canContain(name), name);
+		}
+		assertFalse(HTMLSubTagTable.HEAD_SUB_TAGS.canContain(HTML_ROOT_TAG_NAME));
+		assertFalse(HTMLSubTagTable.HEAD_SUB_TAGS.canContain(HTML_PARAGRAPH_TAG_NAME));
+	}
+	
+	@Test
+	public void testInlineFrameContent(){
+		assertTrue(HTMLSubTagTable.INLINE_FRAME_SUB_TAGS.canContain(HTML_CONTENT_NAME));
+		assertFalse(HTMLSubTagTable.INLINE_FRAME_SUB_TAGS.canContain(HTML_PARAGRAPH_TAG_NAME));
+		assertTrue(HTMLIFrameTag.builder().build().canContain(HTML_CONTENT_NAME));
+	}
+	
+	@Test
+	public void testBlacklistOnly(){
+		HTMLSubTagTable table = HTMLSubTagTable.of(Set.of(), Set.of(HTML_ROOT_TAG_NAME));
+		assertFalse(table.canContain(HTML_ROOT_TAG_NAME));
+		assertTrue(table.canContain(HTML_PARAGRAPH_TAG_NAME));
+	}
+	
+	@Test
+	public void testBlacklistWinsOverWhitelist(){
+		HTMLSubTagTable table = HTMLSubTagTable.of(Set.of(HTML_PARAGRAPH_TAG_NAME, HTML_TABLE_TAG_NAME),
+				Set.of(HTML_TABLE_TAG_NAME));
+		assertTrue(table.canContain(HTML_PARAGRAPH_TAG_NAME));
+		assertFalse(table.canContain(HTML_TABLE_TAG_NAME));
+	}
+	
+	@Test
+	public void testTableSize(){
+		// The table is a power of 2 with room for every name
+		int size = HTMLSubTagTable.BODY_SUB_TAGS.getSize();
+		assertEquals(0, size & (size - 1));
+		assertTrue(size >= VALID_HTML_BODY_SUB_TAGS.size());
+	}
+	
+	@Test
+	public void testSameHashCodeFallback(){
+		// "Aa" and "BB" have the same hash code, so they can't be perfectly hashed
+		assertEquals("Aa".hashCode(), "BB".hashCode());
+		HTMLSubTagTable table = HTMLSubTagTable.of(Set.of("Aa", "BB"), Set.of());
+		assertEquals(0, table.getSize());
+		assertTrue(table.canContain("Aa"));
+		assertTrue(table.canContain("BB"));
+		assertFalse(table.canContain(TEST_TAG_NAME));
+	}
+}
@@ -3,7 +3,11 @@ package com.github.tadukoo.parsing.web.html.tag;
 import com.github.tadukoo.util.SetUtil;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class HTMLTagConstantsTest implements HTMLTagConstants{
 	
@@ -26,6 +30,16 @@ public class HTMLTagConstantsTest implements HTMLTagConstants{
 		assertEquals("body", HTML_BODY_TAG_NAME);
 	}
 	
+	@Test
+	public void testVALID_HTML_ROOT_SUB_TAGS(){
+		assertEquals(SetUtil.createSet(HTML_HEAD_TAG_NAME, HTML_BODY_TAG_NAME), VALID_HTML_ROOT_SUB_TAGS);
+	}
+	
+	@Test
+	public void testINVALID_HTML_ROOT_SUB_TAGS(){
+		assertEquals(SetUtil.createSet(HTML_ROOT_TAG_NAME), INVALID_HTML_ROOT_SUB_TAGS);
+	}
+	
 	/*
 	 * Head Tag Names
 	 */
@@ -72,6 +86,11 @@ public class HTMLTagConstantsTest implements HTMLTagConstants{
 				HTML_SCRIPT_TAG_NAME, HTML_NOSCRIPT_TAG_NAME), VALID_HTML_HEAD_SUB_TAGS);
 	}
 	
+	@Test
+	public void testINVALID_HTML_HEAD_SUB_TAGS(){
+		assertEquals(SetUtil.createSet(HTML_ROOT_TAG_NAME), INVALID_HTML_HEAD_SUB_TAGS);
+	}
+	
 	/*
 	 * Body Tag Names
 	 */
@@ -159,6 +178,11 @@ public class HTMLTagConstantsTest implements HTMLTagConstants{
 		assertEquals("{CONTENT}", HTML_CONTENT_NAME);
 	}
 	
+	@Test
+	public void testVALID_HTML_INLINE_FRAME_SUB_TAGS(){
+		assertEquals(SetUtil.createSet(HTML_CONTENT_NAME), VALID_HTML_INLINE_FRAME_SUB_TAGS);
+	}
+	
 	/*
 	 * Global Attribute Names
 	 */
@@ -558,6 +582,27 @@ public class HTMLTagConstantsTest implements HTMLTagConstants{
 		assertEquals("onscroll", ON_SCROLL_ATTRIBUTE_NAME);
 	}
 	
+	@Test
+	public void testROOT_TAG_ATTRIBUTE_WHITELIST(){
+		assertEquals(SetUtil.mergeSets(ALL_GLOBAL_ATTRIBUTE_WHITELIST, SetUtil.createSet(ON_SCROLL_ATTRIBUTE_NAME)),
+				ROOT_TAG_ATTRIBUTE_WHITELIST);
+	}
+	
+	/*
+	 * Shared Sets
+	 */
+	
+	@Test
+	public void testSharedSetsImmutable(){
+		for(Set<String> set: List.of(ALL_GLOBAL_ATTRIBUTE_WHITELIST, GLOBAL_FOCUSABLE_ATTRIBUTE_WHITELIST,
+				GLOBAL_LOADABLE_ATTRIBUTE_WHITELIST, GLOBAL_FOCUSABLE_AND_LOADABLE_ATTRIBUTE_WHITELIST,
+				BODY_TAG_ATTRIBUTE_WHITELIST, ROOT_TAG_ATTRIBUTE_WHITELIST, VALID_HTML_ROOT_SUB_TAGS,
+				INVALID_HTML_ROOT_SUB_TAGS, VALID_HTML_HEAD_SUB_TAGS, INVALID_HTML_HEAD_SUB_TAGS,
+				VALID_HTML_BODY_SUB_TAGS, VALID_HTML_INLINE_FRAME_SUB_TAGS)){
+			assertThrows(UnsupportedOperationException.class, () -> set.add("test"));
+		}
+	}
+	
 	/*
 	 * Default Values
 	 */
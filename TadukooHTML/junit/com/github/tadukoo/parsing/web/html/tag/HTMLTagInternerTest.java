@@ -0,0 +1,122 @@
+package com.github.tadukoo.parsing.web.html.tag;
+
+import com.github.tadukoo.parsing.web.html.tag.body.HTMLIFrameTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HTMLTagInternerTest implements HTMLTagConstants, DefaultTagTestValues{
+	
+	/**
+	 * @return A new {@link HTMLTag} that's equal to every other one made by this method
+	 */
+	private HTMLTag makeRow(){
+		return HTMLTag.tagBuilder().tagName(HTML_PARAGRAPH_TAG_NAME)
+				.classAttribute(CLASS_TEST_VALUE)
+				.style(STYLE_TEST_VALUE)
+				.build();
+	}
+	
+	@Test
+	public void testDefaultCapacity(){
+		assertEquals(HTMLTagInterner.DEFAULT_CAPACITY, new HTMLTagInterner().getCapacity());
+	}
+	
+	@Test
+	public void testCapacityRoundedUp(){
+		assertEquals(128, new HTMLTagInterner(100).getCapacity());
+		assertEquals(4, new HTMLTagInterner(1).getCapacity());
+	}
+	
+	@Test
+	public void testInvalidCapacity(){
+		assertThrows(IllegalArgumentException.class, () -> new HTMLTagInterner(0));
+	}
+	
+	@Test
+	public void testInternFirstTag(){
+		HTMLTag tag = makeRow();
+		assertSame(tag, new HTMLTagInterner().intern(tag));
+	}
+	
+	@Test
+	public void testInternEqualTags(){
+		HTMLTagInterner interner = new HTMLTagInterner();
+		HTMLTag tag = interner.intern(makeRow());
+		assertSame(tag, interner.intern(makeRow()));
+	}
+	
+	@Test
+	public void testInternDifferentTags(){
+		HTMLTagInterner interner = new HTMLTagInterner();
+		HTMLTag tag = interner.intern(makeRow());
+		HTMLTag other = HTMLTag.tagBuilder().tagName(HTML_PARAGRAPH_TAG_NAME).id(ID_TEST_VALUE).build();
+		assertSame(other, interner.intern(other));
+		assertSame(tag, interner.intern(makeRow()));
+	}
+	
+	@Test
+	public void testInternKeepsType(){
+		HTMLTagInterner interner = new HTMLTagInterner();
+		HTMLIFrameTag iframe = interner.intern(HTMLIFrameTag.builder().build());
+		assertSame(iframe, interner.intern(HTMLIFrameTag.builder().build()));
+	}
+	
+	@Test
+	public void testInternSharesCachedRendering(){
+		HTMLTagInterner interner = new HTMLTagInterner();
+		HTMLTag tag = interner.intern(HTMLTag.tagBuilder().tagName(HTML_PARAGRAPH_TAG_NAME)
+				.classAttribute(CLASS_TEST_VALUE).style(STYLE_TEST_VALUE).cacheRendering().build());
+		String rendered = tag.toString();
+		assertSame(rendered, interner.intern(makeRow()).toString());
+	}
+	
+	@Test
+	public void testInternBounded(){
+		HTMLTagInterner interner = new HTMLTagInterner(4);
+		List<HTMLTag> tags = new ArrayList<>();
+		for(int i = 0; i < 100; i++){
+			HTMLTag tag = HTMLTag.tagBuilder().tagName(HTML_PARAGRAPH_TAG_NAME).id("row-" + i).build();
+			tags.add(tag);
+			assertSame(tag, interner.intern(tag));
+		}
+		assertEquals(4, interner.getCapacity());
+	}
+	
+	@Test
+	public void testClear(){
+		HTMLTagInterner interner = new HTMLTagInterner();
+		HTMLTag tag = interner.intern(makeRow());
+		interner.clear();
+		HTMLTag other = makeRow();
+		assertNotSame(tag, other);
+		assertSame(other, interner.intern(other));
+	}
+	
+	@Test
+	public void testInternConcurrently() throws Exception{
+		HTMLTagInterner interner = new HTMLTagInterner();
+		HTMLTag canonical = interner.intern(makeRow());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<HTMLTag>> results = new ArrayList<>();
+			for(int i = 0; i < 100; i++){
+				results.add(executor.submit(() -> interner.intern(makeRow())));
+			}
+			for(Future<HTMLTag> result: results){
+				assertSame(canonical, result.get());
+			}
+		}finally{
+			executor.shutdown();
+		}
+	}
+}
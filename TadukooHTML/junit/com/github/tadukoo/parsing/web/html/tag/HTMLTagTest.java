@@ -3,11 +3,21 @@ package com.github.tadukoo.parsing.web.html.tag;
 import com.github.tadukoo.util.SetUtil;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -18,6 +28,12 @@ public class HTMLTagTest extends BaseHTMLTagTest<HTMLTag.HTMLTagBuilder>{
 				SetUtil.createSet(), SetUtil.createSet(), HTMLTag.tagBuilder().tagName(TEST_TAG_NAME));
 	}
 	
+	/** {@inheritDoc} */
+	@Override
+	protected HTMLTag.HTMLTagBuilder resetBuilder(){
+		return super.resetBuilder().tagName(TEST_TAG_NAME);
+	}
+	
 	@Test
 	public void testMissingTagName(){
 		try{
@@ -38,6 +54,27 @@ public class HTMLTagTest extends BaseHTMLTagTest<HTMLTag.HTMLTagBuilder>{
 		assertEquals(SetUtil.createSet(TEST_CUSTOM_ATTR_NAME), tag.getAttributeWhitelist());
 	}
 	
+	@Test
+	public void testSetValidAttributeCopiesSharedWhitelist(){
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME)
+				.validAttribute(TEST_CUSTOM_ATTR_NAME)
+				.build();
+		assertEquals(SetUtil.mergeSets(ALL_GLOBAL_ATTRIBUTE_WHITELIST, SetUtil.createSet(TEST_CUSTOM_ATTR_NAME)),
+				tag.getAttributeWhitelist());
+		assertFalse(ALL_GLOBAL_ATTRIBUTE_WHITELIST.contains(TEST_CUSTOM_ATTR_NAME));
+	}
+	
+	@Test
+	public void testSetValidAttributeAfterWhitelistCopiesIt(){
+		Set<String> whitelist = Set.of(ID_ATTRIBUTE_NAME);
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME)
+				.attributeWhitelist(whitelist)
+				.validAttribute(TEST_CUSTOM_ATTR_NAME)
+				.build();
+		assertEquals(SetUtil.createSet(ID_ATTRIBUTE_NAME, TEST_CUSTOM_ATTR_NAME), tag.getAttributeWhitelist());
+		assertEquals(Set.of(ID_ATTRIBUTE_NAME), whitelist);
+	}
+	
 	@Test
 	public void testSetAttributesWhitelist(){
 		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).attributeWhitelist(new HashSet<>()).build();
@@ -81,6 +118,14 @@ public class HTMLTagTest extends BaseHTMLTagTest<HTMLTag.HTMLTagBuilder>{
 		assertEquals(SetUtil.createSet(HTML_HEAD_TAG_NAME), tag.getSubTagBlacklist());
 	}
 	
+	@Test
+	public void testSetValidAndInvalidSubTagDoNotShareSets(){
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).validSubTag(HTML_ROOT_TAG_NAME).build();
+		HTMLTag tag2 = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).invalidSubTag(HTML_HEAD_TAG_NAME).build();
+		assertEquals(SetUtil.createSet(), tag.getSubTagBlacklist());
+		assertEquals(SetUtil.createSet(), tag2.getSubTagWhitelist());
+	}
+	
 	@Test
 	public void testSetSubTagBlacklist(){
 		Set<String> blacklist = SetUtil.createSet(HTML_ROOT_TAG_NAME, HTML_HEAD_TAG_NAME);
@@ -99,4 +144,177 @@ public class HTMLTagTest extends BaseHTMLTagTest<HTMLTag.HTMLTagBuilder>{
 		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).disableClosingTag().build();
 		assertEquals("<" + TEST_TAG_NAME + ">", tag.toString());
 	}
+	
+	@Test
+	public void testOpeningTagAttributesSorted(){
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME)
+				.title(TITLE_TEST_VALUE)
+				.hidden()
+				.classAttribute(CLASS_TEST_VALUE)
+				.build();
+		assertEquals("<" + TEST_TAG_NAME + " class=\"" + CLASS_TEST_VALUE + "\" hidden title=\"" + TITLE_TEST_VALUE +
+				"\">", tag.toOpeningTag());
+	}
+	
+	@Test
+	public void testOpeningTagEscapesValues(){
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).title("a & \"b\" <c>\u00a0").build();
+		assertEquals("<" + TEST_TAG_NAME + " title=\"a &amp; &quot;b&quot; <c>&nbsp;\">", tag.toOpeningTag());
+	}
+	
+	@Test
+	public void testWriteToEscapesValues() throws IOException{
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).title("caf\u00e9 & \"\u00a0\"").build();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		tag.writeTo(out);
+		assertArrayEquals(tag.toString().getBytes(StandardCharsets.UTF_8), out.toByteArray());
+		assertEquals("<" + TEST_TAG_NAME + " title=\"caf\u00e9 &amp; &quot;&nbsp;&quot;\"></" + TEST_TAG_NAME + ">",
+				tag.toString());
+	}
+	
+	@Test
+	public void testOpeningTagFrozenAtBuild(){
+		HTMLTag.HTMLTagBuilder builder = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE);
+		HTMLTag tag = builder.build();
+		builder.classAttribute(CLASS_TEST_VALUE);
+		assertEquals("<" + TEST_TAG_NAME + " id=\"" + ID_TEST_VALUE + "\">", tag.toOpeningTag());
+	}
+	
+	@Test
+	public void testAttributesFrozenAtBuild(){
+		HTMLTag.HTMLTagBuilder builder = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE);
+		HTMLTag tag = builder.build();
+		builder.classAttribute(CLASS_TEST_VALUE);
+		assertEquals(Map.of(ID_ATTRIBUTE_NAME, ID_TEST_VALUE), tag.getAttributes());
+	}
+	
+	@Test
+	public void testBuilderHasAttribute(){
+		HTMLTag.HTMLTagBuilder builder = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE);
+		assertTrue(builder.hasAttribute(ID_ATTRIBUTE_NAME));
+		assertFalse(builder.hasAttribute(CLASS_ATTRIBUTE_NAME));
+		assertFalse(builder.reset().hasAttribute(ID_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testAttributesReadOnly(){
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE).build();
+		assertThrows(UnsupportedOperationException.class,
+				() -> tag.getAttributes().put(CLASS_ATTRIBUTE_NAME, CLASS_TEST_VALUE));
+	}
+	
+	@Test
+	public void testEquals(){
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE).build();
+		HTMLTag tag2 = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE).cacheRendering().build();
+		assertEquals(tag, tag2);
+		assertEquals(tag.hashCode(), tag2.hashCode());
+	}
+	
+	@Test
+	public void testNotEquals(){
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE).build();
+		assertNotEquals(tag, HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).build());
+		assertNotEquals(tag, HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE).disableClosingTag().build());
+		assertNotEquals(tag, HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE)
+				.validSubTag(HTML_PARAGRAPH_TAG_NAME).build());
+		assertNotEquals(tag, HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE)
+				.validAttribute(TEST_CUSTOM_ATTR_NAME).build());
+		assertNotEquals(HTMLTag.tagBuilder().tagName(HTML_BODY_TAG_NAME).build(), HTMLBodyTag.builder().build());
+	}
+	
+	@Test
+	public void testResetClearsTagNameAndClosingTag(){
+		HTMLTag.HTMLTagBuilder builder = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).disableClosingTag();
+		builder.reset();
+		assertThrows(IllegalArgumentException.class, builder::build);
+		assertTrue(builder.tagName(TEST_TAG_NAME).build().hasClosingTag());
+	}
+	
+	@Test
+	public void testResetWhitelists(){
+		HTMLTag.HTMLTagBuilder builder = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME)
+				.validAttribute(TEST_CUSTOM_ATTR_NAME)
+				.validSubTag(HTML_PARAGRAPH_TAG_NAME)
+				.invalidSubTag(HTML_ROOT_TAG_NAME);
+		HTMLTag tag = builder.build();
+		HTMLTag resetTag = builder.reset().tagName(TEST_TAG_NAME).build();
+		assertSame(ALL_GLOBAL_ATTRIBUTE_WHITELIST, resetTag.getAttributeWhitelist());
+		assertEquals(SetUtil.createSet(), resetTag.getSubTagWhitelist());
+		assertEquals(SetUtil.createSet(), resetTag.getSubTagBlacklist());
+		assertTrue(tag.getAttributeWhitelist().contains(TEST_CUSTOM_ATTR_NAME));
+		assertEquals(SetUtil.createSet(HTML_PARAGRAPH_TAG_NAME), tag.getSubTagWhitelist());
+		assertEquals(SetUtil.createSet(HTML_ROOT_TAG_NAME), tag.getSubTagBlacklist());
+	}
+	
+	@Test
+	public void testGetAttribute(){
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).id(ID_TEST_VALUE).hidden().build();
+		assertEquals(ID_TEST_VALUE, tag.getAttribute(ID_ATTRIBUTE_NAME));
+		assertTrue(tag.hasAttribute(HIDDEN_ATTRIBUTE_NAME));
+		assertNull(tag.getAttribute(HIDDEN_ATTRIBUTE_NAME));
+		assertFalse(tag.hasAttribute(TITLE_ATTRIBUTE_NAME));
+		assertNull(tag.getAttribute(TITLE_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testResetReplacedAttributes(){
+		Map<String, String> attributes = new HashMap<>();
+		attributes.put(ID_ATTRIBUTE_NAME, ID_TEST_VALUE);
+		HTMLTag.HTMLTagBuilder builder = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).attributes(attributes);
+		assertEquals(attributes, builder.build().getAttributes());
+		assertTrue(builder.reset().tagName(TEST_TAG_NAME).build().getAttributes().isEmpty());
+		assertEquals(Map.of(ID_ATTRIBUTE_NAME, ID_TEST_VALUE), attributes);
+	}
+	
+	@Test
+	public void testWhitelistsFrozenAtBuild(){
+		HTMLTag.HTMLTagBuilder builder = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME)
+				.attributeWhitelist(new HashSet<>())
+				.validAttribute(ID_ATTRIBUTE_NAME)
+				.validSubTag(HTML_PARAGRAPH_TAG_NAME)
+				.invalidSubTag(HTML_ROOT_TAG_NAME);
+		HTMLTag tag = builder.build();
+		builder.validAttribute(CLASS_ATTRIBUTE_NAME).validSubTag(HTML_TABLE_TAG_NAME).invalidSubTag(HTML_HEAD_TAG_NAME);
+		assertEquals(SetUtil.createSet(ID_ATTRIBUTE_NAME), tag.getAttributeWhitelist());
+		assertEquals(SetUtil.createSet(HTML_PARAGRAPH_TAG_NAME), tag.getSubTagWhitelist());
+		assertEquals(SetUtil.createSet(HTML_ROOT_TAG_NAME), tag.getSubTagBlacklist());
+	}
+	
+	@Test
+	public void testGivenWhitelistsFrozenAtBuild(){
+		Set<String> attributeWhitelist = SetUtil.createSet(ID_ATTRIBUTE_NAME);
+		Set<String> subTagWhitelist = SetUtil.createSet(HTML_PARAGRAPH_TAG_NAME);
+		Set<String> subTagBlacklist = SetUtil.createSet(HTML_ROOT_TAG_NAME);
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME)
+				.attributeWhitelist(attributeWhitelist)
+				.subTagWhitelist(subTagWhitelist)
+				.subTagBlacklist(subTagBlacklist)
+				.build();
+		attributeWhitelist.add(CLASS_ATTRIBUTE_NAME);
+		subTagWhitelist.add(HTML_TABLE_TAG_NAME);
+		subTagBlacklist.add(HTML_HEAD_TAG_NAME);
+		assertEquals(SetUtil.createSet(ID_ATTRIBUTE_NAME), tag.getAttributeWhitelist());
+		assertEquals(SetUtil.createSet(HTML_PARAGRAPH_TAG_NAME), tag.getSubTagWhitelist());
+		assertEquals(SetUtil.createSet(HTML_ROOT_TAG_NAME), tag.getSubTagBlacklist());
+	}
+	
+	@Test
+	public void testImmutableWhitelistsNotCopied(){
+		Set<String> subTagWhitelist = Set.of(HTML_PARAGRAPH_TAG_NAME);
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME).subTagWhitelist(subTagWhitelist).build();
+		assertSame(subTagWhitelist, tag.getSubTagWhitelist());
+	}
+	
+	@Test
+	public void testNullWhitelistsAreEmpty(){
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(TEST_TAG_NAME)
+				.attributeWhitelist(null)
+				.subTagWhitelist(null)
+				.subTagBlacklist(null)
+				.build();
+		assertEquals(SetUtil.createSet(), tag.getAttributeWhitelist());
+		assertEquals(SetUtil.createSet(), tag.getSubTagWhitelist());
+		assertEquals(SetUtil.createSet(), tag.getSubTagBlacklist());
+	}
 }
@@ -0,0 +1,256 @@
+package com.github.tadukoo.parsing.web.html.tag.attribute;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLAttributeMapTest implements HTMLTagConstants{
+	
+	/**
+	 * @param size The number of attributes to put in the map
+	 * @return A Map of attributes named "attr-0" to "attr-(size-1)", each with the value "value-#"
+	 */
+	private Map<String, String> makeAttributes(int size){
+		Map<String, String> attributes = new HashMap<>();
+		for(int i = 0; i < size; i++){
+			attributes.put("attr-" + i, "value-" + i);
+		}
+		return attributes;
+	}
+	
+	@Test
+	public void testEmpty(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		assertTrue(map.isEmpty());
+		assertFalse(map.isReadOnly());
+		assertNull(map.get(ID_ATTRIBUTE_NAME));
+		assertFalse(map.containsKey(ID_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testPutAndGet(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		assertNull(map.put(ID_ATTRIBUTE_NAME, ID_ATTRIBUTE_NAME + "-value"));
+		map.put(HIDDEN_ATTRIBUTE_NAME, null);
+		assertEquals(2, map.size());
+		assertEquals(ID_ATTRIBUTE_NAME + "-value", map.get(ID_ATTRIBUTE_NAME));
+		assertNull(map.get(HIDDEN_ATTRIBUTE_NAME));
+		assertTrue(map.containsKey(HIDDEN_ATTRIBUTE_NAME));
+		assertFalse(map.containsKey(5));
+	}
+	
+	@Test
+	public void testPutReplaces(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.put(ID_ATTRIBUTE_NAME, "a");
+		assertEquals("a", map.put(ID_ATTRIBUTE_NAME, "b"));
+		assertEquals(1, map.size());
+		assertEquals("b", map.get(ID_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testPutNullName(){
+		assertThrows(NullPointerException.class, () -> new HTMLAttributeMap().put(null, "a"));
+	}
+	
+	@Test
+	public void testKeepsInsertionOrder(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.put(STYLE_ATTRIBUTE_NAME, "a");
+		map.put(CLASS_ATTRIBUTE_NAME, "b");
+		map.put(ID_ATTRIBUTE_NAME, "c");
+		assertEquals(List.of(STYLE_ATTRIBUTE_NAME, CLASS_ATTRIBUTE_NAME, ID_ATTRIBUTE_NAME),
+				new ArrayList<>(map.keySet()));
+		assertEquals(CLASS_ATTRIBUTE_NAME, map.nameAt(1));
+		assertEquals("b", map.valueAt(1));
+	}
+	
+	@Test
+	public void testRemove(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.putAll(makeAttributes(3));
+		assertEquals("value-1", map.remove("attr-1"));
+		assertNull(map.remove("attr-1"));
+		assertEquals(2, map.size());
+		assertFalse(map.containsKey("attr-1"));
+		assertEquals("value-2", map.get("attr-2"));
+	}
+	
+	@Test
+	public void testIteratorRemove(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.putAll(makeAttributes(4));
+		map.keySet().removeIf(name -> name.endsWith("1") || name.endsWith("2"));
+		assertEquals(2, map.size());
+		assertTrue(map.containsKey("attr-0"));
+		assertTrue(map.containsKey("attr-3"));
+	}
+	
+	@Test
+	public void testIteratorRemoveWithoutNext(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.put(ID_ATTRIBUTE_NAME, "a");
+		Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+		assertThrows(IllegalStateException.class, iterator::remove);
+	}
+	
+	@Test
+	public void testClear(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.putAll(makeAttributes(12));
+		map.clear();
+		assertTrue(map.isEmpty());
+		map.put(ID_ATTRIBUTE_NAME, "a");
+		assertEquals(ID_ATTRIBUTE_NAME, map.nameAt(0));
+		assertEquals("a", map.valueAt(0));
+	}
+	
+	@Test
+	public void testPromotion(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.putAll(makeAttributes(HTMLAttributeMap.MAX_LINEAR_SIZE));
+		assertEquals(map.get(map.nameAt(0)), map.valueAt(0));
+		map.put("attr-extra", "value-extra");
+		assertEquals(HTMLAttributeMap.MAX_LINEAR_SIZE + 1, map.size());
+		assertEquals("value-extra", map.get("attr-extra"));
+		assertEquals("value-3", map.get("attr-3"));
+		assertThrows(IllegalStateException.class, () -> map.nameAt(0));
+		Map<String, String> expected = makeAttributes(HTMLAttributeMap.MAX_LINEAR_SIZE);
+		expected.put("attr-extra", "value-extra");
+		assertEquals(expected, map);
+	}
+	
+	@Test
+	public void testEquals(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.putAll(makeAttributes(3));
+		assertEquals(makeAttributes(3), map);
+		assertEquals(makeAttributes(3).hashCode(), map.hashCode());
+	}
+	
+	@Test
+	public void testSortedCopyOf(){
+		Map<String, String> attributes = new HashMap<>();
+		attributes.put(TITLE_ATTRIBUTE_NAME, "a");
+		attributes.put(HIDDEN_ATTRIBUTE_NAME, null);
+		attributes.put(CLASS_ATTRIBUTE_NAME, "b");
+		HTMLAttributeMap copy = HTMLAttributeMap.sortedCopyOf(attributes);
+		assertTrue(copy.isReadOnly());
+		assertEquals(attributes, copy);
+		assertEquals(List.of(CLASS_ATTRIBUTE_NAME, HIDDEN_ATTRIBUTE_NAME, TITLE_ATTRIBUTE_NAME),
+				new ArrayList<>(copy.keySet()));
+		assertEquals(TITLE_ATTRIBUTE_NAME, copy.nameAt(2));
+		assertEquals("a", copy.valueAt(2));
+	}
+	
+	@Test
+	public void testSortedCopyOfIsACopy(){
+		Map<String, String> attributes = makeAttributes(2);
+		HTMLAttributeMap copy = HTMLAttributeMap.sortedCopyOf(attributes);
+		attributes.put(ID_ATTRIBUTE_NAME, "a");
+		assertEquals(2, copy.size());
+	}
+	
+	@Test
+	public void testSortedCopyOfEmpty(){
+		assertSame(HTMLAttributeMap.EMPTY, HTMLAttributeMap.sortedCopyOf(new HashMap<>()));
+		assertSame(HTMLAttributeMap.EMPTY, HTMLAttributeMap.sortedCopyOf(null));
+	}
+	
+	@Test
+	public void testSortedCopyOfReadOnly(){
+		HTMLAttributeMap copy = HTMLAttributeMap.sortedCopyOf(makeAttributes(2));
+		assertSame(copy, HTMLAttributeMap.sortedCopyOf(copy));
+	}
+	
+	@Test
+	public void testSortedCopyOfLarge(){
+		Map<String, String> attributes = makeAttributes(30);
+		HTMLAttributeMap copy = HTMLAttributeMap.sortedCopyOf(attributes);
+		assertEquals(attributes, copy);
+		for(int i = 0; i < 30; i++){
+			assertEquals("value-" + i, copy.get("attr-" + i));
+		}
+		assertNull(copy.get("attr-30"));
+		assertFalse(copy.containsKey("attr"));
+	}
+	
+	@Test
+	public void testReadOnly(){
+		HTMLAttributeMap copy = HTMLAttributeMap.sortedCopyOf(makeAttributes(2));
+		assertThrows(UnsupportedOperationException.class, () -> copy.put(ID_ATTRIBUTE_NAME, "a"));
+		assertThrows(UnsupportedOperationException.class, () -> copy.remove("attr-0"));
+		assertThrows(UnsupportedOperationException.class, copy::clear);
+		assertThrows(UnsupportedOperationException.class, () -> copy.keySet().clear());
+		assertEquals(2, copy.size());
+	}
+	
+	@Test
+	public void testOrdinalAt(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.put(ID_ATTRIBUTE_NAME, "a");
+		map.put("attr-0", "b");
+		map.put(CLASS_ATTRIBUTE_NAME, HTMLAttributeRegistry.ordinalOf(CLASS_ATTRIBUTE_NAME), "c");
+		map.put(STYLE_ATTRIBUTE_NAME, "d");
+		map.put(TITLE_ATTRIBUTE_NAME, "e");
+		assertEquals(HTMLAttributeRegistry.ordinalOf(ID_ATTRIBUTE_NAME), map.ordinalAt(0));
+		assertEquals(-1, map.ordinalAt(1));
+		assertEquals(HTMLAttributeRegistry.ordinalOf(CLASS_ATTRIBUTE_NAME), map.ordinalAt(2));
+		assertEquals(HTMLAttributeRegistry.ordinalOf(TITLE_ATTRIBUTE_NAME), map.ordinalAt(4));
+		
+		// The ordinals move along with their attributes
+		map.remove(ID_ATTRIBUTE_NAME);
+		assertEquals(-1, map.ordinalAt(0));
+		assertEquals(HTMLAttributeRegistry.ordinalOf(CLASS_ATTRIBUTE_NAME), map.ordinalAt(1));
+		assertEquals(HTMLAttributeRegistry.ordinalOf(STYLE_ATTRIBUTE_NAME), map.ordinalAt(2));
+		map.clear();
+		map.put(LANG_ATTRIBUTE_NAME, "f");
+		assertEquals(HTMLAttributeRegistry.ordinalOf(LANG_ATTRIBUTE_NAME), map.ordinalAt(0));
+	}
+	
+	@Test
+	public void testOrdinalAtAfterRemovingBeforeLookingUp(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		map.put(ID_ATTRIBUTE_NAME, HTMLAttributeRegistry.ordinalOf(ID_ATTRIBUTE_NAME), "a");
+		for(int i = 0; i < 4; i++){
+			map.put("attr-" + i, String.valueOf(i));
+		}
+		map.put(CLASS_ATTRIBUTE_NAME, "b");
+		map.remove(ID_ATTRIBUTE_NAME);
+		assertEquals(-1, map.ordinalAt(0));
+		assertEquals(HTMLAttributeRegistry.ordinalOf(CLASS_ATTRIBUTE_NAME), map.ordinalAt(4));
+		map.remove("attr-0");
+		map.put(STYLE_ATTRIBUTE_NAME, "c");
+		assertEquals(HTMLAttributeRegistry.ordinalOf(CLASS_ATTRIBUTE_NAME), map.ordinalAt(3));
+		assertEquals(HTMLAttributeRegistry.ordinalOf(STYLE_ATTRIBUTE_NAME), map.ordinalAt(4));
+	}
+	
+	@Test
+	public void testOrdinalAtReadOnly(){
+		HTMLAttributeMap copy = HTMLAttributeMap.sortedCopyOf(Map.of(ID_ATTRIBUTE_NAME, "a", "attr-0", "b"));
+		assertEquals("attr-0", copy.nameAt(0));
+		assertEquals(-1, copy.ordinalAt(0));
+		assertEquals(HTMLAttributeRegistry.ordinalOf(ID_ATTRIBUTE_NAME), copy.ordinalAt(1));
+	}
+	
+	@Test
+	public void testOrdinalAtPromoted(){
+		HTMLAttributeMap map = new HTMLAttributeMap();
+		assertFalse(map.isPromoted());
+		map.putAll(makeAttributes(HTMLAttributeMap.MAX_LINEAR_SIZE + 1));
+		assertTrue(map.isPromoted());
+		assertThrows(IllegalStateException.class, () -> map.ordinalAt(0));
+	}
+}
@@ -0,0 +1,57 @@
+package com.github.tadukoo.parsing.web.html.tag.attribute;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLAttributeRegistryTest implements HTMLTagConstants{
+	
+	@Test
+	public void testStandardAttributeOrdinals(){
+		assertEquals(0, HTMLAttributeRegistry.ordinalOf(ACCESS_KEY_ATTRIBUTE_NAME));
+		assertEquals(1, HTMLAttributeRegistry.ordinalOf(CLASS_ATTRIBUTE_NAME));
+		assertEquals(HTMLAttributeRegistry.STANDARD_ATTRIBUTE_COUNT - 1,
+				HTMLAttributeRegistry.ordinalOf(ON_SCROLL_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testStandardAttributesCoverWhitelists(){
+		for(String attribute: BODY_TAG_ATTRIBUTE_WHITELIST){
+			assertTrue(HTMLAttributeRegistry.ordinalOf(attribute) < HTMLAttributeRegistry.STANDARD_ATTRIBUTE_COUNT);
+		}
+	}
+	
+	@Test
+	public void testNameOf(){
+		for(int ordinal = 0; ordinal < HTMLAttributeRegistry.STANDARD_ATTRIBUTE_COUNT; ordinal++){
+			assertEquals(ordinal, HTMLAttributeRegistry.ordinalOf(HTMLAttributeRegistry.nameOf(ordinal)));
+		}
+	}
+	
+	@Test
+	public void testOrdinalOfUnregistered(){
+		assertEquals(-1, HTMLAttributeRegistry.ordinalOf("registry-test-unregistered"));
+	}
+	
+	@Test
+	public void testOrdinalOfNull(){
+		assertEquals(-1, HTMLAttributeRegistry.ordinalOf(null));
+	}
+	
+	@Test
+	public void testCustomAttributesNotRegistered(){
+		HTMLAttributeWhitelist.of("registry-test-custom");
+		ALL_GLOBAL_ATTRIBUTE_WHITELIST.with("registry-test-custom-2");
+		assertEquals(-1, HTMLAttributeRegistry.ordinalOf("registry-test-custom"));
+		assertEquals(-1, HTMLAttributeRegistry.ordinalOf("registry-test-custom-2"));
+	}
+	
+	@Test
+	public void testNameOfNonStandard(){
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> HTMLAttributeRegistry.nameOf(HTMLAttributeRegistry.STANDARD_ATTRIBUTE_COUNT));
+	}
+}
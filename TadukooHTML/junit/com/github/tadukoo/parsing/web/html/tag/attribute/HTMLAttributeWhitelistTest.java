@@ -0,0 +1,141 @@
+package com.github.tadukoo.parsing.web.html.tag.attribute;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.util.SetUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLAttributeWhitelistTest implements HTMLTagConstants{
+	
+	@Test
+	public void testOf(){
+		HTMLAttributeWhitelist whitelist = HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME, CLASS_ATTRIBUTE_NAME);
+		assertEquals(2, whitelist.size());
+		assertTrue(whitelist.contains(ID_ATTRIBUTE_NAME));
+		assertTrue(whitelist.contains(CLASS_ATTRIBUTE_NAME));
+		assertFalse(whitelist.contains(STYLE_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testEmpty(){
+		HTMLAttributeWhitelist whitelist = HTMLAttributeWhitelist.of();
+		assertTrue(whitelist.isEmpty());
+		assertFalse(whitelist.contains(ID_ATTRIBUTE_NAME));
+		assertFalse(whitelist.iterator().hasNext());
+	}
+	
+	@Test
+	public void testContainsNonString(){
+		assertFalse(ALL_GLOBAL_ATTRIBUTE_WHITELIST.contains(5));
+		assertFalse(ALL_GLOBAL_ATTRIBUTE_WHITELIST.contains(null));
+	}
+	
+	@Test
+	public void testContainsOrdinal(){
+		HTMLAttributeWhitelist whitelist = HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME);
+		assertTrue(whitelist.containsOrdinal(HTMLAttributeRegistry.ordinalOf(ID_ATTRIBUTE_NAME)));
+		assertFalse(whitelist.containsOrdinal(HTMLAttributeRegistry.ordinalOf(CLASS_ATTRIBUTE_NAME)));
+		assertFalse(whitelist.containsOrdinal(-1));
+		assertFalse(whitelist.containsOrdinal(1000));
+	}
+	
+	@Test
+	public void testUnion(){
+		HTMLAttributeWhitelist whitelist = HTMLAttributeWhitelist.union(HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME),
+				HTMLAttributeWhitelist.of(CLASS_ATTRIBUTE_NAME, ID_ATTRIBUTE_NAME));
+		assertEquals(SetUtil.createSet(ID_ATTRIBUTE_NAME, CLASS_ATTRIBUTE_NAME), whitelist);
+	}
+	
+	@Test
+	public void testWith(){
+		HTMLAttributeWhitelist whitelist = HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME);
+		HTMLAttributeWhitelist withClass = whitelist.with(CLASS_ATTRIBUTE_NAME);
+		assertEquals(SetUtil.createSet(ID_ATTRIBUTE_NAME, CLASS_ATTRIBUTE_NAME), withClass);
+		assertEquals(SetUtil.createSet(ID_ATTRIBUTE_NAME), whitelist);
+		assertSame(withClass, withClass.with(ID_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testCustomAttributes(){
+		HTMLAttributeWhitelist whitelist = ALL_GLOBAL_ATTRIBUTE_WHITELIST.with("whitelist-test-custom");
+		assertTrue(whitelist.contains("whitelist-test-custom"));
+		assertEquals(ALL_GLOBAL_ATTRIBUTE_WHITELIST.size() + 1, whitelist.size());
+		assertFalse(ALL_GLOBAL_ATTRIBUTE_WHITELIST.contains("whitelist-test-custom"));
+	}
+	
+	@Test
+	public void testCustomAttributesWithStandard(){
+		HTMLAttributeWhitelist whitelist = HTMLAttributeWhitelist.of("whitelist-test-custom", ID_ATTRIBUTE_NAME);
+		assertEquals(List.of(ID_ATTRIBUTE_NAME, "whitelist-test-custom"), new ArrayList<>(whitelist));
+		assertSame(whitelist, whitelist.with("whitelist-test-custom"));
+		assertEquals(SetUtil.createSet(ID_ATTRIBUTE_NAME, CLASS_ATTRIBUTE_NAME, "whitelist-test-custom"),
+				HTMLAttributeWhitelist.union(whitelist, HTMLAttributeWhitelist.of(CLASS_ATTRIBUTE_NAME)));
+		assertEquals(HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME, "whitelist-test-custom"), whitelist);
+		assertNotEquals(HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME, "whitelist-test-other"), whitelist);
+		assertNotEquals(HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME), whitelist);
+	}
+	
+	@Test
+	public void testNullAttribute(){
+		HTMLAttributeWhitelist whitelist = HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME, null);
+		assertEquals(2, whitelist.size());
+		assertTrue(whitelist.contains(null));
+		assertEquals(SetUtil.createSet(ID_ATTRIBUTE_NAME, null), whitelist);
+		assertTrue(ALL_GLOBAL_ATTRIBUTE_WHITELIST.with(null).contains(null));
+	}
+	
+	@Test
+	public void testManyCustomAttributes(){
+		String[] attributes = new String[100];
+		for(int i = 0; i < attributes.length; i++){
+			attributes[i] = "whitelist-test-many-" + i;
+		}
+		HTMLAttributeWhitelist whitelist = HTMLAttributeWhitelist.of(attributes);
+		assertEquals(attributes.length, whitelist.size());
+		assertEquals(SetUtil.createSet(attributes), whitelist);
+	}
+	
+	@Test
+	public void testIteratorInOrdinalOrder(){
+		List<String> attributes = new ArrayList<>();
+		for(String attribute: HTMLAttributeWhitelist.of(STYLE_ATTRIBUTE_NAME, ACCESS_KEY_ATTRIBUTE_NAME,
+				ON_SCROLL_ATTRIBUTE_NAME)){
+			attributes.add(attribute);
+		}
+		assertEquals(List.of(ACCESS_KEY_ATTRIBUTE_NAME, STYLE_ATTRIBUTE_NAME, ON_SCROLL_ATTRIBUTE_NAME), attributes);
+	}
+	
+	@Test
+	public void testIteratorExhausted(){
+		Iterator<String> iterator = HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME).iterator();
+		assertEquals(ID_ATTRIBUTE_NAME, iterator.next());
+		assertThrows(NoSuchElementException.class, iterator::next);
+	}
+	
+	@Test
+	public void testEquals(){
+		assertEquals(HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME), HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME));
+		assertEquals(HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME), SetUtil.createSet(ID_ATTRIBUTE_NAME));
+		assertEquals(SetUtil.createSet(ID_ATTRIBUTE_NAME).hashCode(),
+				HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME).hashCode());
+		assertNotEquals(HTMLAttributeWhitelist.of(ID_ATTRIBUTE_NAME), HTMLAttributeWhitelist.of(CLASS_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testImmutable(){
+		assertThrows(UnsupportedOperationException.class, () -> ALL_GLOBAL_ATTRIBUTE_WHITELIST.add(ID_ATTRIBUTE_NAME));
+		assertThrows(UnsupportedOperationException.class,
+				() -> ALL_GLOBAL_ATTRIBUTE_WHITELIST.remove(ID_ATTRIBUTE_NAME));
+	}
+}
@@ -0,0 +1,116 @@
+package com.github.tadukoo.parsing.web.html.tag.attribute;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLLazyAttributeMapTest implements HTMLTagConstants{
+	
+	/**
+	 * An {@link HTMLLazyAttributeMap} over a list of names and values, which counts how many times the attributes
+	 * are gone through
+	 */
+	private static class CountingAttributes extends HTMLLazyAttributeMap{
+		/** The attribute names and values, interleaved */
+		private final String[] entries;
+		/** The number of times the attributes have been gone through */
+		private int passes;
+		
+		/**
+		 * @param entries The attribute names and values, interleaved
+		 */
+		private CountingAttributes(String ... entries){
+			this.entries = entries;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		protected void forEachAttribute(BiConsumer<String, CharSequence> action){
+			passes++;
+			for(int i = 0; i < entries.length; i += 2){
+				action.accept(entries[i], entries[i + 1]);
+			}
+		}
+	}
+	
+	@Test
+	public void testGetWithoutMaterializing(){
+		CountingAttributes attributes = new CountingAttributes(ID_ATTRIBUTE_NAME, "main", HIDDEN_ATTRIBUTE_NAME, null);
+		assertEquals("main", attributes.get(ID_ATTRIBUTE_NAME));
+		assertNull(attributes.get(HIDDEN_ATTRIBUTE_NAME));
+		assertNull(attributes.get(TITLE_ATTRIBUTE_NAME));
+		assertNull(attributes.get(5));
+		assertTrue(attributes.containsKey(HIDDEN_ATTRIBUTE_NAME));
+		assertFalse(attributes.containsKey(TITLE_ATTRIBUTE_NAME));
+		assertFalse(attributes.isMaterialized());
+	}
+	
+	@Test
+	public void testFirstDuplicateWins(){
+		CountingAttributes attributes = new CountingAttributes(ID_ATTRIBUTE_NAME, "a", ID_ATTRIBUTE_NAME, "b",
+				HIDDEN_ATTRIBUTE_NAME, null, HIDDEN_ATTRIBUTE_NAME, "c");
+		assertEquals("a", attributes.get(ID_ATTRIBUTE_NAME));
+		assertNull(attributes.get(HIDDEN_ATTRIBUTE_NAME));
+		Map<String, String> expected = new HashMap<>();
+		expected.put(ID_ATTRIBUTE_NAME, "a");
+		expected.put(HIDDEN_ATTRIBUTE_NAME, null);
+		assertEquals(expected, attributes);
+	}
+	
+	@Test
+	public void testMaterializedOnce(){
+		CountingAttributes attributes = new CountingAttributes(TITLE_ATTRIBUTE_NAME, "t", ID_ATTRIBUTE_NAME, "main");
+		HTMLAttributeMap materialized = attributes.materialize();
+		assertTrue(attributes.isMaterialized());
+		assertTrue(materialized.isReadOnly());
+		assertEquals(ID_ATTRIBUTE_NAME, materialized.nameAt(0));
+		assertSame(materialized, attributes.materialize());
+		assertEquals(2, attributes.size());
+		assertEquals("t", attributes.get(TITLE_ATTRIBUTE_NAME));
+		assertEquals(1, attributes.passes);
+	}
+	
+	@Test
+	public void testEqualsOtherMaps(){
+		Map<String, String> expected = new HashMap<>();
+		expected.put(ID_ATTRIBUTE_NAME, "main");
+		expected.put(HIDDEN_ATTRIBUTE_NAME, null);
+		CountingAttributes attributes = new CountingAttributes(ID_ATTRIBUTE_NAME, "main", HIDDEN_ATTRIBUTE_NAME, null);
+		assertEquals(expected, attributes);
+		assertEquals(attributes, expected);
+		assertEquals(expected.hashCode(), attributes.hashCode());
+	}
+	
+	@Test
+	public void testReadOnly(){
+		CountingAttributes attributes = new CountingAttributes(ID_ATTRIBUTE_NAME, "main");
+		assertThrows(UnsupportedOperationException.class, () -> attributes.put(TITLE_ATTRIBUTE_NAME, "t"));
+		assertThrows(UnsupportedOperationException.class, () -> attributes.remove(ID_ATTRIBUTE_NAME));
+	}
+	
+	@Test
+	public void testTagKeepsLazyAttributes(){
+		CountingAttributes attributes = new CountingAttributes(ID_ATTRIBUTE_NAME, "main", TITLE_ATTRIBUTE_NAME, "t");
+		HTMLTag tag = HTMLTag.tagBuilder().tagName(HTML_PARAGRAPH_TAG_NAME).attributes(attributes).build();
+		assertEquals("main", tag.getAttribute(ID_ATTRIBUTE_NAME));
+		assertTrue(tag.hasAttribute(TITLE_ATTRIBUTE_NAME));
+		assertFalse(tag.hasAttribute(HIDDEN_ATTRIBUTE_NAME));
+		assertFalse(attributes.isMaterialized());
+		
+		assertEquals("<p id=\"main\" title=\"t\"></p>", tag.toString());
+		assertTrue(attributes.isMaterialized());
+		assertSame(attributes.materialize(), tag.getAttributes());
+		assertEquals(HTMLTag.tagBuilder().tagName(HTML_PARAGRAPH_TAG_NAME).id("main").title("t").build(), tag);
+	}
+}
@@ -0,0 +1,93 @@
+package com.github.tadukoo.parsing.web.html.tag.builder;
+
+import com.github.tadukoo.parsing.web.html.tag.DefaultTagTestValues;
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLTagBuilderPoolTest implements HTMLTagConstants, DefaultTagTestValues{
+	
+	@Test
+	public void testAcquireNew(){
+		AtomicInteger created = new AtomicInteger();
+		HTMLTagBuilderPool<HTMLBodyTag.HTMLBodyTagBuilder> pool = new HTMLTagBuilderPool<>(() -> {
+			created.incrementAndGet();
+			return HTMLBodyTag.builder();
+		});
+		pool.acquire();
+		pool.acquire();
+		assertEquals(2, created.get());
+	}
+	
+	@Test
+	public void testReleasedBuilderReused(){
+		HTMLTagBuilderPool<HTMLBodyTag.HTMLBodyTagBuilder> pool = new HTMLTagBuilderPool<>(HTMLBodyTag::builder);
+		HTMLBodyTag.HTMLBodyTagBuilder builder = pool.acquire();
+		builder.id(ID_TEST_VALUE);
+		pool.release(builder);
+		HTMLBodyTag.HTMLBodyTagBuilder reused = pool.acquire();
+		assertSame(builder, reused);
+		assertTrue(reused.build().getAttributes().isEmpty());
+	}
+	
+	@Test
+	public void testMaxPooledBuilders(){
+		HTMLTagBuilderPool<HTMLBodyTag.HTMLBodyTagBuilder> pool = new HTMLTagBuilderPool<>(HTMLBodyTag::builder, 1);
+		HTMLBodyTag.HTMLBodyTagBuilder builder = pool.acquire();
+		HTMLBodyTag.HTMLBodyTagBuilder builder2 = pool.acquire();
+		pool.release(builder);
+		pool.release(builder2);
+		assertSame(builder, pool.acquire());
+		assertNotSame(builder2, pool.acquire());
+	}
+	
+	@Test
+	public void testNegativeMaxPooledBuilders(){
+		assertThrows(IllegalArgumentException.class, () -> new HTMLTagBuilderPool<>(HTMLBodyTag::builder, -1));
+	}
+	
+	@Test
+	public void testBuild(){
+		HTMLTagBuilderPool<HTMLRootTag.HTMLRootTagBuilder> pool = new HTMLTagBuilderPool<>(HTMLRootTag::builder);
+		HTMLRootTag tag = pool.build(builder -> builder.lang(LANG_TEST_VALUE).build());
+		assertEquals(Map.of(LANG_ATTRIBUTE_NAME, LANG_TEST_VALUE), tag.getAttributes());
+		HTMLRootTag tag2 = pool.build(builder -> builder.build());
+		assertEquals(Map.of(LANG_ATTRIBUTE_NAME, DEFAULT_LANG_VALUE), tag2.getAttributes());
+		assertEquals(Map.of(LANG_ATTRIBUTE_NAME, LANG_TEST_VALUE), tag.getAttributes());
+	}
+	
+	@Test
+	public void testBuildNested(){
+		HTMLTagBuilderPool<HTMLBodyTag.HTMLBodyTagBuilder> pool = new HTMLTagBuilderPool<>(HTMLBodyTag::builder);
+		HTMLBodyTag outer = pool.build(builder -> {
+			builder.id("outer");
+			HTMLBodyTag inner = pool.build(innerBuilder -> innerBuilder.id("inner").build());
+			assertEquals(Map.of(ID_ATTRIBUTE_NAME, "inner"), inner.getAttributes());
+			return builder.build();
+		});
+		assertEquals(Map.of(ID_ATTRIBUTE_NAME, "outer"), outer.getAttributes());
+	}
+	
+	@Test
+	public void testBuildReleasesOnException(){
+		HTMLTagBuilderPool<HTMLBodyTag.HTMLBodyTagBuilder> pool = new HTMLTagBuilderPool<>(HTMLBodyTag::builder);
+		HTMLBodyTag.HTMLBodyTagBuilder builder = pool.acquire();
+		pool.release(builder);
+		assertThrows(IllegalStateException.class, () -> pool.build(b -> {
+			b.id(ID_TEST_VALUE);
+			throw new IllegalStateException();
+		}));
+		assertSame(builder, pool.acquire());
+		assertTrue(builder.build().getAttributes().isEmpty());
+	}
+}
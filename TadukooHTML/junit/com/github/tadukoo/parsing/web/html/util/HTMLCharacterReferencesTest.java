@@ -0,0 +1,158 @@
+package com.github.tadukoo.parsing.web.html.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLCharacterReferencesTest{
+	
+	@Test
+	public void testDecodeNothing(){
+		String text = "no references here";
+		assertFalse(HTMLCharacterReferences.mayContainReferences(text));
+		assertSame(text, HTMLCharacterReferences.decodeText(text));
+		assertSame(text, HTMLCharacterReferences.decodeAttributeValue(text));
+	}
+	
+	@Test
+	public void testDecodeNamed(){
+		assertEquals("a & b < c > \"d\" \u00a0\u00e9", HTMLCharacterReferences.decodeText(
+				"a &amp; b &lt; c &gt; &quot;d&quot; &nbsp;&eacute;"));
+	}
+	
+	@Test
+	public void testDecodeSupplementaryAndTwoCodePoints(){
+		assertEquals("\ud835\udd04 \u2242\u0338", HTMLCharacterReferences.decodeText("&Afr; &NotEqualTilde;"));
+	}
+	
+	@Test
+	public void testDecodeLongestName(){
+		assertEquals("\u2209", HTMLCharacterReferences.decodeText("&notin;"));
+		assertEquals("\u00acit;", HTMLCharacterReferences.decodeText("&notit;"));
+		assertEquals("\u2233", HTMLCharacterReferences.decodeText("&CounterClockwiseContourIntegral;"));
+	}
+	
+	@Test
+	public void testDecodeLegacyWithoutSemicolon(){
+		assertEquals("\u00a9 2024 & \u00e9t\u00e9",
+				HTMLCharacterReferences.decodeText("&copy 2024 &amp &eacutet&eacute"));
+		// Only the legacy names can leave out the ;
+		assertEquals("&hellip and &Afr", HTMLCharacterReferences.decodeText("&hellip and &Afr"));
+	}
+	
+	@Test
+	public void testDecodeAttributeValueLegacy(){
+		assertEquals("?a=1&copy=2&ampx", HTMLCharacterReferences.decodeAttributeValue("?a=1&copy=2&ampx"));
+		assertEquals("?a=1\u00a9-2&", HTMLCharacterReferences.decodeAttributeValue("?a=1&copy-2&amp"));
+		assertEquals("\u00a9=2", HTMLCharacterReferences.decodeAttributeValue("&copy;=2"));
+	}
+	
+	@Test
+	public void testDecodeNotReferences(){
+		assertEquals("& &; &# &#x &#; &nosuch; a&&b &", HTMLCharacterReferences.decodeText(
+				"& &; &# &#x &#; &nosuch; a&&b &"));
+	}
+	
+	@Test
+	public void testDecodeNumeric(){
+		assertEquals("A B C \ud83d\ude00 D",
+				HTMLCharacterReferences.decodeText("&#65; &#x42; &#X43 &#x1f600; &#0068"));
+	}
+	
+	@Test
+	public void testDecodeNumericReplaced(){
+		assertEquals("\ufffd \ufffd \ufffd \ufffd", HTMLCharacterReferences.decodeText(
+				"&#0; &#xD800; &#x110000; &#99999999999999999999;"));
+		assertEquals("\u20ac \u2014 \u0081", HTMLCharacterReferences.decodeText("&#128; &#x97; &#x81;"));
+	}
+	
+	@Test
+	public void testDecodeToAppendable() throws IOException{
+		StringBuilder out = new StringBuilder("> ");
+		HTMLCharacterReferences.decodeAttributeValue(new StringBuilder("x&amp;y"), out);
+		assertEquals("> x&y", out.toString());
+	}
+	
+	@Test
+	public void testDecodeTextPiece() throws IOException{
+		StringBuilder out = new StringBuilder();
+		assertEquals(7, HTMLCharacterReferences.decodeTextPiece("a &lt; &no", out));
+		assertEquals("a < ", out.toString());
+		out.setLength(0);
+		assertEquals(4, HTMLCharacterReferences.decodeTextPiece("abc &#12", out));
+		assertEquals("abc ", out.toString());
+		out.setLength(0);
+		assertEquals(1, HTMLCharacterReferences.decodeTextPiece("a&", out));
+		out.setLength(0);
+		// Nothing can continue a finished reference or a name that isn't in the table
+		assertEquals(8, HTMLCharacterReferences.decodeTextPiece("&amp; &1", out));
+		assertEquals("& &1", out.toString());
+	}
+	
+	@Test
+	public void testEscapeNothing(){
+		String text = "nothing to escape here = ' /";
+		assertSame(text, HTMLCharacterReferences.escapeText(text));
+		assertSame(text, HTMLCharacterReferences.escapeAttributeValue(text));
+	}
+	
+	@Test
+	public void testEscapeText(){
+		assertEquals("a &lt;b&gt; &amp;&nbsp;\"c\"", HTMLCharacterReferences.escapeText("a <b> &\u00a0\"c\""));
+	}
+	
+	@Test
+	public void testEscapeAttributeValue(){
+		assertEquals("a <b> &amp;&nbsp;&quot;c&quot;",
+				HTMLCharacterReferences.escapeAttributeValue("a <b> &\u00a0\"c\""));
+	}
+	
+	@Test
+	public void testEscapeToAppendable() throws IOException{
+		StringBuilder out = new StringBuilder();
+		HTMLCharacterReferences.escapeText(new StringBuilder("1 < 2"), out);
+		HTMLCharacterReferences.escapeAttributeValue("\"", out);
+		assertEquals("1 &lt; 2&quot;", out.toString());
+	}
+	
+	@Test
+	public void testEscapeRoundTrip(){
+		String text = "caf\u00e9 & <tags> \"quoted\" \u00a0 \ud83d\ude00 &amp;";
+		assertEquals(text, HTMLCharacterReferences.decodeText(HTMLCharacterReferences.escapeText(text)));
+		assertEquals(text, HTMLCharacterReferences.decodeAttributeValue(
+				HTMLCharacterReferences.escapeAttributeValue(text)));
+	}
+	
+	@Test
+	public void testPutEscaped(){
+		String text = "caf\u00e9 & <b> \"\u00a0\" \ud83d\ude00";
+		ByteBuffer buffer = ByteBuffer.allocate(128);
+		HTMLCharacterReferences.putEscapedText(buffer, text);
+		byte[] expected = HTMLCharacterReferences.escapeText(text).getBytes(StandardCharsets.UTF_8);
+		assertEquals(expected.length, HTMLCharacterReferences.escapedTextUTF8Length(text));
+		assertArrayEquals(expected, Arrays.copyOf(buffer.array(), buffer.position()));
+		
+		buffer = ByteBuffer.allocateDirect(128);
+		HTMLCharacterReferences.putEscapedAttributeValue(buffer, text);
+		expected = HTMLCharacterReferences.escapeAttributeValue(text).getBytes(StandardCharsets.UTF_8);
+		assertEquals(expected.length, HTMLCharacterReferences.escapedAttributeValueUTF8Length(text));
+		byte[] actual = new byte[buffer.position()];
+		buffer.flip().get(actual);
+		assertArrayEquals(expected, actual);
+	}
+	
+	@Test
+	public void testMayContainReferences(){
+		assertTrue(HTMLCharacterReferences.mayContainReferences(new StringBuilder("a&b")));
+		assertFalse(HTMLCharacterReferences.mayContainReferences(new StringBuilder("ab")));
+	}
+}
@@ -0,0 +1,54 @@
+package com.github.tadukoo.parsing.web.html.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HTMLEntityTrieTest{
+	
+	/**
+	 * @param name A name, without the {@code &}
+	 * @return The index of the node the name ends at, or -1 if the name isn't in the trie
+	 */
+	private static int find(String name){
+		int node = HTMLEntityTrie.ROOT;
+		for(int i = 0; i < name.length() && node != -1; i++){
+			node = HTMLEntityTrie.child(node, name.charAt(i));
+		}
+		return node;
+	}
+	
+	@Test
+	public void testValues(){
+		assertEquals("&", HTMLEntityTrie.valueOf(find("amp;")));
+		assertEquals("&", HTMLEntityTrie.valueOf(find("AMP")));
+		assertEquals("\u2233", HTMLEntityTrie.valueOf(find("CounterClockwiseContourIntegral;")));
+		assertEquals("\ud835\udd04", HTMLEntityTrie.valueOf(find("Afr;")));
+		assertEquals("\u226a\u20d2", HTMLEntityTrie.valueOf(find("nLt;")));
+	}
+	
+	@Test
+	public void testPrefixesHaveNoValue(){
+		assertNull(HTMLEntityTrie.valueOf(find("am")));
+		assertNull(HTMLEntityTrie.valueOf(find("Afr")));
+		assertTrue(HTMLEntityTrie.hasChildren(find("not")));
+		assertFalse(HTMLEntityTrie.hasChildren(find("notin;")));
+	}
+	
+	@Test
+	public void testMissing(){
+		assertEquals(-1, find("nosuch;"));
+		assertEquals(-1, find("1"));
+		assertEquals(-1, HTMLEntityTrie.child(HTMLEntityTrie.ROOT, '\u00e9'));
+		assertEquals(-1, HTMLEntityTrie.child(find("amp"), 'x'));
+	}
+	
+	@Test
+	public void testSize(){
+		// Every distinct prefix of the 2231 names, plus the root
+		assertEquals(9854, HTMLEntityTrie.size());
+	}
+}
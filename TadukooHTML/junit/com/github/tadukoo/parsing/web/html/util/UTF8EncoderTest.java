@@ -0,0 +1,69 @@
+package com.github.tadukoo.parsing.web.html.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UTF8EncoderTest{
+	private static final String ASCII_TEXT = "color:blue;text-align:center;";
+	private static final String MIXED_TEXT = "caf\u00e9 \u20ac10 \ud83d\ude00!";
+	
+	private void checkEncoding(String text, ByteBuffer buffer){
+		byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+		assertEquals(expected.length, UTF8Encoder.utf8Length(text));
+		
+		UTF8Encoder.putUTF8(buffer, text);
+		assertEquals(expected.length, buffer.position());
+		byte[] actual = new byte[buffer.position()];
+		buffer.flip().get(actual);
+		assertArrayEquals(expected, actual);
+	}
+	
+	@Test
+	public void testASCIIHeapBuffer(){
+		checkEncoding(ASCII_TEXT, ByteBuffer.allocate(64));
+	}
+	
+	@Test
+	public void testASCIIDirectBuffer(){
+		checkEncoding(ASCII_TEXT, ByteBuffer.allocateDirect(64));
+	}
+	
+	@Test
+	public void testMixedHeapBuffer(){
+		checkEncoding(MIXED_TEXT, ByteBuffer.allocate(64));
+	}
+	
+	@Test
+	public void testMixedDirectBuffer(){
+		checkEncoding(MIXED_TEXT, ByteBuffer.allocateDirect(64));
+	}
+	
+	@Test
+	public void testUnpairedSurrogates(){
+		checkEncoding("a\ud83db\ude00c", ByteBuffer.allocate(64));
+	}
+	
+	@Test
+	public void testSlicedHeapBuffer(){
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		buffer.position(10);
+		ByteBuffer slice = buffer.slice();
+		UTF8Encoder.putUTF8(slice, ASCII_TEXT);
+		byte[] expected = ASCII_TEXT.getBytes(StandardCharsets.UTF_8);
+		assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), 10, 10 + expected.length));
+	}
+	
+	@Test
+	public void testOverflow(){
+		assertThrows(BufferOverflowException.class,
+				() -> UTF8Encoder.putUTF8(ByteBuffer.allocate(4), ASCII_TEXT));
+	}
+}
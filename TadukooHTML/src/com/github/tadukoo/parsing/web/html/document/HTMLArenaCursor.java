@@ -0,0 +1,233 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import java.util.Objects;
+
+/**
+ * A read-only view of one node of an {@link HTMLArenaDocument} at a time, which is moved around the document
+ * rather than making an object for every node. The move methods ({@link #toParent()}, {@link #toFirstChild()},
+ * and {@link #toNextSibling()}) return whether there was a node to move to, and leave the cursor where it was if
+ * there wasn't, so a whole subtree can be walked with a single cursor:
+ * <pre>{@code
+ * if(cursor.toFirstChild()){
+ *     do{
+ *         // read the child
+ *     }while(cursor.toNextSibling());
+ *     cursor.toParent();
+ * }
+ * }</pre>
+ * As the nodes are stored in document order, every node can also be visited with {@link #moveTo(int)} in a loop
+ * up to {@link HTMLArenaDocument#getNodeCount()}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLArenaCursor{
+	/** The document being read */
+	private final HTMLArenaDocument document;
+	/** The index of the current node */
+	private int node;
+	
+	/**
+	 * Constructs a new {@link HTMLArenaCursor} on the given node
+	 *
+	 * @param document The document to read
+	 * @param node The index of the node to start on
+	 */
+	HTMLArenaCursor(HTMLArenaDocument document, int node){
+		this.document = document;
+		this.node = node;
+	}
+	
+	/**
+	 * @return The document being read
+	 */
+	public HTMLArenaDocument getDocument(){
+		return document;
+	}
+	
+	/**
+	 * @return The index of the current node
+	 */
+	public int getNode(){
+		return node;
+	}
+	
+	/**
+	 * @return A new {@link HTMLArenaCursor} on the same node, which can be moved separately from this one
+	 */
+	public HTMLArenaCursor copy(){
+		return new HTMLArenaCursor(document, node);
+	}
+	
+	/**
+	 * Moves to the given node
+	 *
+	 * @param node The index of the node to move to
+	 * @throws IndexOutOfBoundsException If there's no node at the index
+	 */
+	public void moveTo(int node){
+		this.node = Objects.checkIndex(node, document.getNodeCount());
+	}
+	
+	/**
+	 * Moves to the node the current node is in
+	 *
+	 * @return Whether the cursor moved ({@code false} on the document node)
+	 */
+	public boolean toParent(){
+		return move(document.parentOf(node));
+	}
+	
+	/**
+	 * Moves to the first node in the current node
+	 *
+	 * @return Whether the cursor moved ({@code false} if the current node is empty)
+	 */
+	public boolean toFirstChild(){
+		return move(document.firstChildOf(node));
+	}
+	
+	/**
+	 * Moves to the node after the current node in its parent
+	 *
+	 * @return Whether the cursor moved ({@code false} if the current node is the last in its parent)
+	 */
+	public boolean toNextSibling(){
+		return move(document.nextSiblingOf(node));
+	}
+	
+	/**
+	 * Moves to the given node, if there is one
+	 *
+	 * @param node The index of the node to move to, or {@link HTMLArenaDocument#NO_NODE}
+	 * @return Whether the cursor moved
+	 */
+	private boolean move(int node){
+		if(node == HTMLArenaDocument.NO_NODE){
+			return false;
+		}
+		this.node = node;
+		return true;
+	}
+	
+	/**
+	 * @return The name ID of the current node: the ID of the tag name for an element (see
+	 * {@link HTMLArenaDocument#sharedNameID(String)}), or {@link HTMLArenaDocument#TEXT_ID},
+	 * {@link HTMLArenaDocument#COMMENT_ID}, or {@link HTMLArenaDocument#DOCUMENT_ID}
+	 */
+	public int getNameID(){
+		return document.nameIDOf(node);
+	}
+	
+	/**
+	 * @return Whether the current node is an element
+	 */
+	public boolean isElement(){
+		return document.nameIDOf(node) >= 0;
+	}
+	
+	/**
+	 * @return Whether the current node is text
+	 */
+	public boolean isText(){
+		return document.nameIDOf(node) == HTMLArenaDocument.TEXT_ID;
+	}
+	
+	/**
+	 * @return Whether the current node is a comment
+	 */
+	public boolean isComment(){
+		return document.nameIDOf(node) == HTMLArenaDocument.COMMENT_ID;
+	}
+	
+	/**
+	 * @return Whether the current node is the document node
+	 */
+	public boolean isDocument(){
+		return document.nameIDOf(node) == HTMLArenaDocument.DOCUMENT_ID;
+	}
+	
+	/**
+	 * @return The tag name of the current node, or null if it isn't an element
+	 */
+	public String getTagName(){
+		int nameID = document.nameIDOf(node);
+		return nameID >= 0?document.nameOf(nameID):null;
+	}
+	
+	/**
+	 * @return The text of the current node (or of the comment, not including the {@code <!--} and {@code -->}),
+	 * or null if it isn't text or a comment
+	 */
+	public String getText(){
+		if(isElement() || isDocument()){
+			return null;
+		}
+		int span = document.spanStartOf(node);
+		return document.dataOf(document.spanAt(span), document.spanAt(span + 1));
+	}
+	
+	/**
+	 * @return The number of attributes of the current node (0 if it isn't an element)
+	 */
+	public int getAttributeCount(){
+		return isElement()?
+				(document.spanEndOf(node) - document.spanStartOf(node)) / HTMLArenaDocument.ATTRIBUTE_SPAN_SIZE:0;
+	}
+	
+	/**
+	 * @param index The index of an attribute of the current node (they're in the order the tag renders them in)
+	 * @return The index in the spans of the attribute
+	 * @throws IndexOutOfBoundsException If the current node doesn't have an attribute at the index
+	 */
+	private int attributeSpan(int index){
+		Objects.checkIndex(index, getAttributeCount());
+		return document.spanStartOf(node) + index * HTMLArenaDocument.ATTRIBUTE_SPAN_SIZE;
+	}
+	
+	/**
+	 * @param index The index of an attribute of the current node
+	 * @return The ID of the attribute's name
+	 * @throws IndexOutOfBoundsException If the current node doesn't have an attribute at the index
+	 */
+	public int getAttributeNameID(int index){
+		return document.spanAt(attributeSpan(index));
+	}
+	
+	/**
+	 * @param index The index of an attribute of the current node
+	 * @return The name of the attribute
+	 * @throws IndexOutOfBoundsException If the current node doesn't have an attribute at the index
+	 */
+	public String getAttributeName(int index){
+		return document.nameOf(getAttributeNameID(index));
+	}
+	
+	/**
+	 * @param index The index of an attribute of the current node
+	 * @return The value of the attribute, or null if it doesn't have one (e.g. {@code hidden})
+	 * @throws IndexOutOfBoundsException If the current node doesn't have an attribute at the index
+	 */
+	public String getAttributeValue(int index){
+		int span = attributeSpan(index);
+		int start = document.spanAt(span + 1);
+		return start == -1?null:document.dataOf(start, document.spanAt(span + 2));
+	}
+	
+	/**
+	 * Gets the value of an attribute of the current node by its name
+	 *
+	 * @param name The name of the attribute
+	 * @return The value of the attribute, or null if it doesn't have one or the current node doesn't have the
+	 * attribute
+	 */
+	public String getAttribute(String name){
+		int count = getAttributeCount();
+		for(int index = 0; index < count; index++){
+			if(getAttributeName(index).equals(name)){
+				return getAttributeValue(index);
+			}
+		}
+		return null;
+	}
+}
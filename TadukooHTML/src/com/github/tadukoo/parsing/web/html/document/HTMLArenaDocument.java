@@ -0,0 +1,281 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLNameTable;
+import com.github.tadukoo.parsing.web.html.parser.HTMLParser;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only parsed HTML document, stored as columns of ints rather than as a tree of objects. This is an
+ * alternative to {@link HTMLDocument} for jobs that read through a lot of documents without changing them, where
+ * one object per node (along with its {@link com.github.tadukoo.parsing.web.html.tag.HTMLTag HTMLTag}, attribute
+ * Map, and child List) costs too much memory and too many pointer chases.
+ * <br><br>
+ * Each node is an index, and has an entry in each of these columns:
+ * <table>
+ *     <caption>Node Columns</caption>
+ *     <tr>
+ *         <th>Column</th>
+ *         <th>Value</th>
+ *     </tr>
+ *     <tr>
+ *         <td>Parent</td>
+ *         <td>The node this node is in, or {@link #NO_NODE} for the document node</td>
+ *     </tr>
+ *     <tr>
+ *         <td>First Child</td>
+ *         <td>The first node in this node, or {@link #NO_NODE} if it's empty</td>
+ *     </tr>
+ *     <tr>
+ *         <td>Next Sibling</td>
+ *         <td>The node after this one in its parent, or {@link #NO_NODE} if it's the last</td>
+ *     </tr>
+ *     <tr>
+ *         <td>Name ID</td>
+ *         <td>The ID of the tag name for an element, or {@link #TEXT_ID}, {@link #COMMENT_ID}, or
+ *         {@link #DOCUMENT_ID}</td>
+ *     </tr>
+ *     <tr>
+ *         <td>Span Start</td>
+ *         <td>Where the node's spans start in the side column of spans (they end where the next node's start)</td>
+ *     </tr>
+ * </table>
+ * The spans of an element are its attributes, as 3 ints each (the ID of the name, and the start and end of the
+ * value in the data, or -1 for both if it has no value), and the span of text or a comment is 2 ints (its start
+ * and end in the data). The data is a single String holding all the text, comments, and attribute values. Node 0
+ * is the document itself, holding the nodes at the top level, and the nodes are stored in document order, so
+ * every node's children come after it and a plain loop over the nodes visits them in order.
+ * <br><br>
+ * Names are stored as IDs into a string table: the tag and attribute names in {@link HTMLTagConstants} have the
+ * same ID in every document ({@link #sharedNameID(String)}), so they can be compared as ints, and other names get
+ * IDs after those, which are only good for the document they're in. An element takes 20 bytes plus 12 for each
+ * attribute, compared to well over 100 for an {@link HTMLElement} and its tag.
+ * <br><br>
+ * Documents are read with an {@link HTMLArenaCursor} from {@link #cursor()}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLArenaDocument{
+	/** The index used for a missing node (e.g. the next sibling of the last child) */
+	public static final int NO_NODE = -1;
+	/** The name ID of a text node */
+	public static final int TEXT_ID = -1;
+	/** The name ID of a comment node */
+	public static final int COMMENT_ID = -2;
+	/** The name ID of the document node */
+	public static final int DOCUMENT_ID = -3;
+	/** The index of the document node */
+	public static final int DOCUMENT_NODE = 0;
+	/** The number of ints in the span of an attribute */
+	static final int ATTRIBUTE_SPAN_SIZE = 3;
+	/** The names shared by every document: all the tag and attribute names in {@link HTMLTagConstants} */
+	private static final String[] SHARED_NAMES;
+	/** The IDs of the {@link #SHARED_NAMES} */
+	private static final Map<String, Integer> SHARED_IDS;
+	static{
+		Set<String> names = new LinkedHashSet<>();
+		for(HTMLNameTable table: new HTMLNameTable[]{HTMLNameTable.TAG_NAMES, HTMLNameTable.ATTRIBUTE_NAMES}){
+			for(int index = 0; index < table.size(); index++){
+				names.add(table.nameAt(index));
+			}
+		}
+		SHARED_NAMES = names.toArray(new String[0]);
+		SHARED_IDS = new HashMap<>(SHARED_NAMES.length * 2);
+		for(int id = 0; id < SHARED_NAMES.length; id++){
+			SHARED_IDS.put(SHARED_NAMES[id], id);
+		}
+	}
+	
+	/** The number of nodes, including the document node */
+	private final int nodeCount;
+	/** The parent column */
+	private final int[] parents;
+	/** The first child column */
+	private final int[] firstChildren;
+	/** The next sibling column */
+	private final int[] nextSiblings;
+	/** The name ID column */
+	private final int[] nameIDs;
+	/** The span start column (with an extra entry at the end, for where the last node's spans end) */
+	private final int[] spanStarts;
+	/** The side column of spans */
+	private final int[] spans;
+	/** The text, comments, and attribute values */
+	private final String data;
+	/** The names only in this document, by their ID minus the number of shared names */
+	private final String[] localNames;
+	/** The doctype of this document (e.g. {@code html}), or null if it doesn't have one */
+	private final String doctype;
+	
+	/**
+	 * Constructs a new {@link HTMLArenaDocument}, used by the {@link HTMLArenaDocumentHandler} once it's built the
+	 * columns (which are kept as they are, not copied)
+	 *
+	 * @param nodeCount The number of nodes, including the document node
+	 * @param parents The parent column
+	 * @param firstChildren The first child column
+	 * @param nextSiblings The next sibling column
+	 * @param nameIDs The name ID column
+	 * @param spanStarts The span start column, with an extra entry at the end
+	 * @param spans The side column of spans
+	 * @param data The text, comments, and attribute values
+	 * @param localNames The names only in this document
+	 * @param doctype The doctype of the document, or null if it doesn't have one
+	 */
+	HTMLArenaDocument(
+			int nodeCount, int[] parents, int[] firstChildren, int[] nextSiblings, int[] nameIDs,
+			int[] spanStarts, int[] spans, String data, String[] localNames, String doctype){
+		this.nodeCount = nodeCount;
+		this.parents = parents;
+		this.firstChildren = firstChildren;
+		this.nextSiblings = nextSiblings;
+		this.nameIDs = nameIDs;
+		this.spanStarts = spanStarts;
+		this.spans = spans;
+		this.data = data;
+		this.localNames = localNames;
+		this.doctype = doctype;
+	}
+	
+	/**
+	 * Parses the given HTML into a new {@link HTMLArenaDocument}
+	 *
+	 * @param html The HTML to parse
+	 * @return The parsed document
+	 */
+	public static HTMLArenaDocument parse(CharSequence html){
+		HTMLArenaDocumentHandler handler = new HTMLArenaDocumentHandler();
+		new HTMLParser(handler).parse(html);
+		return handler.getResult();
+	}
+	
+	/**
+	 * Parses the given file into a new {@link HTMLArenaDocument} (see {@link HTMLParser#parse(Path)})
+	 *
+	 * @param path The path of the file to parse
+	 * @return The parsed document
+	 * @throws IOException If anything goes wrong in mapping the file
+	 */
+	public static HTMLArenaDocument parse(Path path) throws IOException{
+		HTMLArenaDocumentHandler handler = new HTMLArenaDocumentHandler();
+		new HTMLParser(handler).parse(path);
+		return handler.getResult();
+	}
+	
+	/**
+	 * @return The number of names that have the same ID in every document
+	 */
+	public static int sharedNameCount(){
+		return SHARED_NAMES.length;
+	}
+	
+	/**
+	 * @param name A tag or attribute name (in lowercase)
+	 * @return The ID the name has in every document, or -1 if it isn't one of the names in {@link HTMLTagConstants}
+	 */
+	public static int sharedNameID(String name){
+		Integer id = SHARED_IDS.get(name);
+		return id != null?id:-1;
+	}
+	
+	/**
+	 * @return The doctype of this document (e.g. {@code html}), or null if it doesn't have one
+	 */
+	public String getDoctype(){
+		return doctype;
+	}
+	
+	/**
+	 * @return The number of nodes in this document, including the document node
+	 */
+	public int getNodeCount(){
+		return nodeCount;
+	}
+	
+	/**
+	 * @return A new {@link HTMLArenaCursor} on the document node
+	 */
+	public HTMLArenaCursor cursor(){
+		return new HTMLArenaCursor(this, DOCUMENT_NODE);
+	}
+	
+	/**
+	 * @param id The ID of a name in this document
+	 * @return The name with the given ID
+	 */
+	public String nameOf(int id){
+		return id < SHARED_NAMES.length?SHARED_NAMES[id]:localNames[id - SHARED_NAMES.length];
+	}
+	
+	/**
+	 * @param node The index of a node
+	 * @return The parent of the node, or {@link #NO_NODE} for the document node
+	 */
+	int parentOf(int node){
+		return parents[node];
+	}
+	
+	/**
+	 * @param node The index of a node
+	 * @return The first child of the node, or {@link #NO_NODE} if it's empty
+	 */
+	int firstChildOf(int node){
+		return firstChildren[node];
+	}
+	
+	/**
+	 * @param node The index of a node
+	 * @return The next sibling of the node, or {@link #NO_NODE} if it's the last one in its parent
+	 */
+	int nextSiblingOf(int node){
+		return nextSiblings[node];
+	}
+	
+	/**
+	 * @param node The index of a node
+	 * @return The name ID of the node
+	 */
+	int nameIDOf(int node){
+		return nameIDs[node];
+	}
+	
+	/**
+	 * @param node The index of a node
+	 * @return The index in the spans of the node's first span
+	 */
+	int spanStartOf(int node){
+		return spanStarts[node];
+	}
+	
+	/**
+	 * @param node The index of a node
+	 * @return The index in the spans after the node's last span
+	 */
+	int spanEndOf(int node){
+		return spanStarts[node + 1];
+	}
+	
+	/**
+	 * @param index An index in the spans
+	 * @return The span at the given index
+	 */
+	int spanAt(int index){
+		return spans[index];
+	}
+	
+	/**
+	 * @param start The start of a range in the data
+	 * @param end The end of the range in the data
+	 * @return The data in the given range
+	 */
+	String dataOf(int start, int end){
+		return data.substring(start, end);
+	}
+}
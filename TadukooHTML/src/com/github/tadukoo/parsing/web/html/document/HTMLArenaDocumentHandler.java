@@ -0,0 +1,263 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLBatchParser;
+import com.github.tadukoo.parsing.web.html.parser.HTMLParser;
+import com.github.tadukoo.parsing.web.html.parser.HTMLResultHandler;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds an {@link HTMLArenaDocument} from the events of an {@link HTMLParser}. Each {@link HTMLTag} is only
+ * read for its name and attributes, which go into the columns of the document, so the tag itself can be garbage
+ * collected right away. Like the {@link HTMLDocumentHandler}, the text that the parser gives in pieces is joined
+ * back into single text nodes, and text that's only whitespace is dropped wherever its parent can't contain text
+ * (e.g. the top level of the document or a {@code head}).
+ * <br><br>
+ * A handler builds a single document, so it can be given to an {@link HTMLBatchParser} to parse many documents
+ * (e.g. {@code new HTMLBatchParser<>(HTMLArenaDocumentHandler::new)}).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLArenaDocumentHandler implements HTMLResultHandler<HTMLArenaDocument>{
+	/** The number of nodes there's room for at first (the columns grow as needed) */
+	private static final int INITIAL_NODES = 64;
+	/** The number of open nodes there's room for at first (the stacks grow as needed) */
+	private static final int INITIAL_DEPTH = 32;
+	
+	/** The number of nodes so far, including the document node */
+	private int nodeCount;
+	/** The parent column */
+	private int[] parents = new int[INITIAL_NODES];
+	/** The first child column */
+	private int[] firstChildren = new int[INITIAL_NODES];
+	/** The next sibling column */
+	private int[] nextSiblings = new int[INITIAL_NODES];
+	/** The name ID column */
+	private int[] nameIDs = new int[INITIAL_NODES];
+	/** The span start column (with room for the extra entry at the end) */
+	private int[] spanStarts = new int[INITIAL_NODES + 1];
+	/** The side column of spans */
+	private int[] spans = new int[INITIAL_NODES * 2];
+	/** The number of ints in {@link #spans} so far */
+	private int spanCount;
+	/** The text, comments, and attribute values */
+	private final StringBuilder data = new StringBuilder();
+	/** The index in {@link #data} where the text that hasn't been made into a node yet starts */
+	private int textStart;
+	/** The names only in this document */
+	private final List<String> localNames = new ArrayList<>();
+	/** The IDs of the {@link #localNames} */
+	private final Map<String, Integer> localIDs = new HashMap<>();
+	/** The open nodes, from the document in */
+	private int[] openNodes = new int[INITIAL_DEPTH];
+	/** The last child of each open node so far (or {@link HTMLArenaDocument#NO_NODE} if it has none yet) */
+	private int[] lastChildren = new int[INITIAL_DEPTH];
+	/** Whether each open node can contain text (and so keeps text that's only whitespace) */
+	private boolean[] textAllowed = new boolean[INITIAL_DEPTH];
+	/** The number of open nodes */
+	private int depth;
+	/** The doctype of the document, or null if it hasn't been found */
+	private String doctype;
+	
+	/**
+	 * Constructs a new {@link HTMLArenaDocumentHandler}
+	 */
+	public HTMLArenaDocumentHandler(){
+		int document = addNode(HTMLArenaDocument.DOCUMENT_ID);
+		openNodes[0] = document;
+		lastChildren[0] = HTMLArenaDocument.NO_NODE;
+		depth = 1;
+	}
+	
+	/**
+	 * Adds a node to the columns, as the last child of the innermost open node (if there is one)
+	 *
+	 * @param nameID The name ID of the node
+	 * @return The index of the node
+	 */
+	private int addNode(int nameID){
+		if(nodeCount == parents.length){
+			int capacity = nodeCount * 2;
+			parents = Arrays.copyOf(parents, capacity);
+			firstChildren = Arrays.copyOf(firstChildren, capacity);
+			nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+			nameIDs = Arrays.copyOf(nameIDs, capacity);
+			spanStarts = Arrays.copyOf(spanStarts, capacity + 1);
+		}
+		int node = nodeCount++;
+		nameIDs[node] = nameID;
+		firstChildren[node] = HTMLArenaDocument.NO_NODE;
+		nextSiblings[node] = HTMLArenaDocument.NO_NODE;
+		spanStarts[node] = spanCount;
+		if(depth == 0){
+			parents[node] = HTMLArenaDocument.NO_NODE;
+		}else{
+			int parent = openNodes[depth - 1];
+			parents[node] = parent;
+			int previous = lastChildren[depth - 1];
+			if(previous == HTMLArenaDocument.NO_NODE){
+				firstChildren[parent] = node;
+			}else{
+				nextSiblings[previous] = node;
+			}
+			lastChildren[depth - 1] = node;
+		}
+		return node;
+	}
+	
+	/**
+	 * Adds an int to the side column of spans
+	 *
+	 * @param span The int to add
+	 */
+	private void addSpan(int span){
+		if(spanCount == spans.length){
+			spans = Arrays.copyOf(spans, spanCount * 2);
+		}
+		spans[spanCount++] = span;
+	}
+	
+	/**
+	 * Adds a node for the given range of the data
+	 *
+	 * @param nameID The name ID of the node ({@link HTMLArenaDocument#TEXT_ID} or
+	 * {@link HTMLArenaDocument#COMMENT_ID})
+	 * @param start The start of the node's range in the data
+	 */
+	private void addDataNode(int nameID, int start){
+		addNode(nameID);
+		addSpan(start);
+		addSpan(data.length());
+	}
+	
+	/**
+	 * @param name A tag or attribute name
+	 * @return The ID of the name in this document
+	 */
+	private int nameID(String name){
+		int id = HTMLArenaDocument.sharedNameID(name);
+		if(id != -1){
+			return id;
+		}
+		Integer localID = localIDs.get(name);
+		if(localID == null){
+			localID = HTMLArenaDocument.sharedNameCount() + localNames.size();
+			localNames.add(name);
+			localIDs.put(name, localID);
+		}
+		return localID;
+	}
+	
+	/**
+	 * Makes the text that's been given so far into a single text node
+	 */
+	private void flushText(){
+		if(data.length() == textStart){
+			return;
+		}
+		if(textAllowed[depth - 1] || !isBlank(textStart)){
+			addDataNode(HTMLArenaDocument.TEXT_ID, textStart);
+		}else{
+			data.setLength(textStart);
+		}
+		textStart = data.length();
+	}
+	
+	/**
+	 * @param start The index in the data to check from
+	 * @return Whether the data from the given index on is only whitespace
+	 */
+	private boolean isBlank(int start){
+		for(int i = start; i < data.length(); i++){
+			if(!Character.isWhitespace(data.charAt(i))){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean startTag(HTMLTag tag){
+		flushText();
+		int node = addNode(nameID(tag.getTagName()));
+		for(Map.Entry<String, String> attribute: tag.getAttributes().entrySet()){
+			addSpan(nameID(attribute.getKey()));
+			String value = attribute.getValue();
+			if(value == null){
+				addSpan(-1);
+				addSpan(-1);
+			}else{
+				addSpan(data.length());
+				data.append(value);
+				addSpan(data.length());
+			}
+		}
+		textStart = data.length();
+		if(depth == openNodes.length){
+			openNodes = Arrays.copyOf(openNodes, depth * 2);
+			lastChildren = Arrays.copyOf(lastChildren, depth * 2);
+			textAllowed = Arrays.copyOf(textAllowed, depth * 2);
+		}
+		openNodes[depth] = node;
+		lastChildren[depth] = HTMLArenaDocument.NO_NODE;
+		// The same check as HTMLElement makes for text
+		textAllowed[depth] = tag.hasClosingTag() && tag.canContain(HTMLTagConstants.HTML_CONTENT_NAME);
+		depth++;
+		return true;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void endTag(HTMLTag tag){
+		flushText();
+		depth--;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void text(CharSequence text){
+		data.append(text);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void comment(CharSequence comment){
+		flushText();
+		int start = data.length();
+		data.append(comment);
+		addDataNode(HTMLArenaDocument.COMMENT_ID, start);
+		textStart = data.length();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void doctype(CharSequence doctype){
+		flushText();
+		if(this.doctype == null){
+			this.doctype = doctype.toString();
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The columns are trimmed to the number of nodes, so the document doesn't hold on to any spare room.
+	 */
+	@Override
+	public HTMLArenaDocument getResult(){
+		flushText();
+		spanStarts[nodeCount] = spanCount;
+		return new HTMLArenaDocument(nodeCount, Arrays.copyOf(parents, nodeCount),
+				Arrays.copyOf(firstChildren, nodeCount), Arrays.copyOf(nextSiblings, nodeCount),
+				Arrays.copyOf(nameIDs, nodeCount), Arrays.copyOf(spanStarts, nodeCount + 1),
+				Arrays.copyOf(spans, spanCount), data.toString(), localNames.toArray(new String[0]), doctype);
+	}
+}
@@ -0,0 +1,36 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import java.io.IOException;
+
+/**
+ * A comment in the tree of an {@link HTMLDocument}, which can be anywhere in the tree
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLComment extends HTMLNode{
+	/** The text of the comment, not including the {@code <!--} and {@code -->} */
+	private final String comment;
+	
+	/**
+	 * Constructs a new {@link HTMLComment} with the given text
+	 *
+	 * @param comment The text of the comment, not including the {@code <!--} and {@code -->}
+	 */
+	public HTMLComment(String comment){
+		this.comment = comment;
+	}
+	
+	/**
+	 * @return The text of the comment, not including the {@code <!--} and {@code -->}
+	 */
+	public String getComment(){
+		return comment;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void renderTo(Appendable out) throws IOException{
+		out.append("<!--").append(comment).append("-->");
+	}
+}
@@ -0,0 +1,154 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLParser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The root of the tree of an HTML document, which holds the {@link HTMLElement HTMLElements} (normally just the
+ * {@code html} element) and {@link HTMLComment HTMLComments} at the top level of the document, along with its
+ * doctype. A document can be built by hand, starting from {@link #HTMLDocument(String)} and adding nodes with
+ * {@link #appendChild(HTMLNode)}, or parsed from HTML with {@link #parse(CharSequence)}.
+ * <br><br>
+ * Rendering a document (with {@link #renderTo(Appendable)} or {@link #toString()}) renders the doctype followed by
+ * the whole tree, through the one {@link Appendable}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLDocument extends HTMLParentNode{
+	/** The doctype of this document (e.g. {@code html}), or null if it doesn't have one */
+	private String doctype;
+	/** The nesting violations found when this document was parsed */
+	private final List<String> violations = new ArrayList<>();
+	
+	/**
+	 * Constructs a new empty {@link HTMLDocument} without a doctype
+	 */
+	public HTMLDocument(){
+		this(null);
+	}
+	
+	/**
+	 * Constructs a new empty {@link HTMLDocument} with the given doctype
+	 *
+	 * @param doctype The doctype of the document (e.g. {@code html}), or null if it doesn't have one
+	 */
+	public HTMLDocument(String doctype){
+		this.doctype = doctype;
+	}
+	
+	/**
+	 * Parses the given HTML into a new {@link HTMLDocument}, without checking the nesting of its tags
+	 *
+	 * @param html The HTML to parse
+	 * @return The parsed document
+	 */
+	public static HTMLDocument parse(CharSequence html){
+		return parse(html, HTMLNestingValidationMode.NONE);
+	}
+	
+	/**
+	 * Parses the given HTML into a new {@link HTMLDocument}
+	 *
+	 * @param html The HTML to parse
+	 * @param nestingValidation How to check the nesting of the tags
+	 * @return The parsed document
+	 * @throws IllegalArgumentException If using {@link HTMLNestingValidationMode#STRICT} and a node isn't allowed
+	 * where it is
+	 */
+	public static HTMLDocument parse(CharSequence html, HTMLNestingValidationMode nestingValidation){
+		HTMLDocumentHandler handler = new HTMLDocumentHandler(nestingValidation);
+		new HTMLParser(handler).parse(html);
+		return handler.getResult();
+	}
+	
+	/**
+	 * Parses the given file into a new {@link HTMLDocument} (see {@link HTMLParser#parse(Path)})
+	 *
+	 * @param path The path of the file to parse
+	 * @param nestingValidation How to check the nesting of the tags
+	 * @return The parsed document
+	 * @throws IOException If anything goes wrong in mapping the file
+	 * @throws IllegalArgumentException If using {@link HTMLNestingValidationMode#STRICT} and a node isn't allowed
+	 * where it is
+	 */
+	public static HTMLDocument parse(Path path, HTMLNestingValidationMode nestingValidation) throws IOException{
+		HTMLDocumentHandler handler = new HTMLDocumentHandler(nestingValidation);
+		new HTMLParser(handler).parse(path);
+		return handler.getResult();
+	}
+	
+	/**
+	 * @return The doctype of this document (e.g. {@code html}), or null if it doesn't have one
+	 */
+	public String getDoctype(){
+		return doctype;
+	}
+	
+	/**
+	 * @param doctype The doctype of this document (e.g. {@code html}), or null if it doesn't have one
+	 */
+	public void setDoctype(String doctype){
+		this.doctype = doctype;
+	}
+	
+	/**
+	 * @return The first element at the top level of this document (normally the {@code html} element), or null
+	 * if there isn't one
+	 */
+	public HTMLElement getRootElement(){
+		for(HTMLNode child: getChildren()){
+			if(child instanceof HTMLElement element){
+				return element;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * @return The nesting violations found when this document was parsed with
+	 * {@link HTMLNestingValidationMode#REPORT} (empty otherwise)
+	 */
+	public List<String> getViolations(){
+		return Collections.unmodifiableList(violations);
+	}
+	
+	/**
+	 * Records a nesting violation found while parsing this document
+	 *
+	 * @param violation The message for the violation
+	 */
+	void addViolation(String violation){
+		violations.add(violation);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * A document can contain elements and comments, but not text.
+	 */
+	@Override
+	public boolean canContain(HTMLNode child){
+		return child instanceof HTMLElement || child instanceof HTMLComment;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	String describe(){
+		return "the document";
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void renderTo(Appendable out) throws IOException{
+		if(doctype != null){
+			out.append("<!DOCTYPE ").append(doctype).append('>');
+		}
+		renderChildrenTo(out);
+	}
+}
@@ -0,0 +1,145 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLBatchParser;
+import com.github.tadukoo.parsing.web.html.parser.HTMLParser;
+import com.github.tadukoo.parsing.web.html.parser.HTMLResultHandler;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+
+import java.util.Arrays;
+
+/**
+ * Builds an {@link HTMLDocument} from the events of an {@link HTMLParser}. Each {@link HTMLTag} becomes an
+ * {@link HTMLElement}, and the text that the parser gives in pieces is joined back into single {@link HTMLText}
+ * nodes. The nesting of the nodes is checked with the given {@link HTMLNestingValidationMode}. Text that's only
+ * whitespace (e.g. the line breaks and indentation between the tags of a formatted document) is dropped wherever
+ * its parent can't contain text, like the top level of the document or a {@code head}, rather than being treated
+ * as a violation.
+ * <br><br>
+ * A handler builds a single document, so it can be given to an {@link HTMLBatchParser} to parse many documents
+ * into trees (e.g. {@code new HTMLBatchParser<>(HTMLDocumentHandler::new)}).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLDocumentHandler implements HTMLResultHandler<HTMLDocument>{
+	/** The number of open nodes there's room for at first (the stack grows as needed) */
+	private static final int INITIAL_DEPTH = 32;
+	
+	/** How the nesting of the nodes is checked */
+	private final HTMLNestingValidationMode nestingValidation;
+	/** The document being built */
+	private final HTMLDocument document = new HTMLDocument();
+	/** The open nodes, from the document in (elements that were left out are still here until they're closed) */
+	private HTMLParentNode[] openNodes = new HTMLParentNode[INITIAL_DEPTH];
+	/** The number of open nodes */
+	private int depth;
+	/** The text that hasn't been added to the tree yet */
+	private final StringBuilder text = new StringBuilder();
+	
+	/**
+	 * Constructs a new {@link HTMLDocumentHandler} that doesn't check the nesting of the nodes
+	 */
+	public HTMLDocumentHandler(){
+		this(HTMLNestingValidationMode.NONE);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLDocumentHandler}
+	 *
+	 * @param nestingValidation How to check the nesting of the nodes
+	 */
+	public HTMLDocumentHandler(HTMLNestingValidationMode nestingValidation){
+		this.nestingValidation = nestingValidation;
+		openNodes[depth++] = document;
+	}
+	
+	/**
+	 * Adds a node to the innermost open node, checking that it's allowed there
+	 *
+	 * @param node The node to add
+	 * @return Whether the node was added ({@code false} if it was left out)
+	 * @throws IllegalArgumentException If using {@link HTMLNestingValidationMode#STRICT} and the node isn't
+	 * allowed in its parent
+	 */
+	private boolean add(HTMLNode node){
+		HTMLParentNode parent = openNodes[depth - 1];
+		if(nestingValidation != HTMLNestingValidationMode.NONE && !parent.canContain(node)){
+			switch(nestingValidation){
+				case STRICT -> throw new IllegalArgumentException(parent.makeViolationMessage(node));
+				case LENIENT -> {
+					return false;
+				}
+				case REPORT -> document.addViolation(parent.makeViolationMessage(node));
+			}
+		}
+		parent.addChild(node);
+		return true;
+	}
+	
+	/**
+	 * Adds the text that's been given so far to the tree, as a single {@link HTMLText}
+	 */
+	private void flushText(){
+		if(text.length() == 0){
+			return;
+		}
+		HTMLText node = new HTMLText(text.toString());
+		if(!node.getText().isBlank() || openNodes[depth - 1].canContain(node)){
+			add(node);
+		}
+		text.setLength(0);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The contents of an element that's left out are skipped.
+	 */
+	@Override
+	public boolean startTag(HTMLTag tag){
+		flushText();
+		HTMLElement element = new HTMLElement(tag);
+		boolean added = add(element);
+		if(depth == openNodes.length){
+			openNodes = Arrays.copyOf(openNodes, depth * 2);
+		}
+		openNodes[depth++] = element;
+		return added;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void endTag(HTMLTag tag){
+		flushText();
+		openNodes[--depth] = null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void text(CharSequence text){
+		this.text.append(text);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void comment(CharSequence comment){
+		flushText();
+		add(new HTMLComment(comment.toString()));
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void doctype(CharSequence doctype){
+		flushText();
+		if(document.getDoctype() == null){
+			document.setDoctype(doctype.toString());
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public HTMLDocument getResult(){
+		flushText();
+		return document;
+	}
+}
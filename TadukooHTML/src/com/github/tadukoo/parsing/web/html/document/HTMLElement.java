@@ -0,0 +1,84 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+
+import java.io.IOException;
+
+/**
+ * An {@link HTMLTag} in the tree of an {@link HTMLDocument}, along with the nodes inside it. The tag decides what
+ * the element can contain: another element is allowed if {@link HTMLTag#canContain(String)} allows its tag name,
+ * and text is allowed if it allows {@link HTMLTagConstants#HTML_CONTENT_NAME} (so an {@code iframe} can only hold
+ * text, and a {@code head} can't hold text at all). Comments are allowed anywhere. A tag without a closing tag
+ * (e.g. {@code <br>}) can't contain anything, as there'd be no way to render it.
+ * <br><br>
+ * An element is rendered as its tag's opening tag, its children, and its closing tag. The text in a
+ * {@code script}, {@code style}, or {@code iframe} is rendered as it is, and all other text is escaped.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLElement extends HTMLParentNode implements HTMLTagConstants{
+	/** The {@link HTMLTag} this element is */
+	private final HTMLTag tag;
+	
+	/**
+	 * Constructs a new {@link HTMLElement} for the given tag, without any children
+	 *
+	 * @param tag The {@link HTMLTag} this element is
+	 */
+	public HTMLElement(HTMLTag tag){
+		this.tag = tag;
+	}
+	
+	/**
+	 * @return The {@link HTMLTag} this element is
+	 */
+	public HTMLTag getTag(){
+		return tag;
+	}
+	
+	/**
+	 * @return The name of this element's tag
+	 */
+	public String getTagName(){
+		return tag.getTagName();
+	}
+	
+	/**
+	 * @return Whether the text in this element is rendered as it is, rather than escaped (for the contents of a
+	 * {@code script}, {@code style}, or {@code iframe}, which the parser doesn't decode either)
+	 */
+	public boolean hasRawText(){
+		String tagName = tag.getTagName();
+		return tagName.equals(HTML_SCRIPT_TAG_NAME) || tagName.equals(HTML_STYLE_TAG_NAME) ||
+				tagName.equals(HTML_INLINE_FRAME_TAG_NAME);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean canContain(HTMLNode child){
+		if(child instanceof HTMLComment){
+			return true;
+		}
+		if(!tag.hasClosingTag()){
+			return false;
+		}
+		return child instanceof HTMLElement element?tag.canContain(element.getTagName()):
+				child instanceof HTMLText && tag.canContain(HTML_CONTENT_NAME);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	String describe(){
+		return "tag " + tag.getTagName();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void renderTo(Appendable out) throws IOException{
+		tag.renderOpeningTo(out);
+		renderChildrenTo(out);
+		tag.renderClosingTo(out);
+	}
+}
@@ -0,0 +1,20 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+/**
+ * How an {@link HTMLDocumentHandler} checks the nesting of the tags it reads against the sub tag whitelists and
+ * blacklists of their parents (see {@link com.github.tadukoo.parsing.web.html.tag.HTMLTag#canContain(String)}).
+ * Nodes added by hand with {@link HTMLParentNode#appendChild(HTMLNode)} are always checked.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public enum HTMLNestingValidationMode{
+	/** Nesting isn't checked at all, so the tree is the same as the HTML (the default) */
+	NONE,
+	/** Any node that isn't allowed in its parent causes an {@link IllegalArgumentException} */
+	STRICT,
+	/** Any node that isn't allowed in its parent is left out of the tree (along with its contents) */
+	LENIENT,
+	/** Nodes that aren't allowed in their parent are kept, but are reported in {@link HTMLDocument#getViolations()} */
+	REPORT
+}
@@ -0,0 +1,60 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A node in the tree of an {@link HTMLDocument}: an {@link HTMLElement}, {@link HTMLText}, or {@link HTMLComment}
+ * (or the document itself). Each node has at most one parent, which is set when it's added to an
+ * {@link HTMLParentNode}.
+ * <br><br>
+ * A node and everything under it are rendered by {@link #renderTo(Appendable)}, which goes down the tree and
+ * appends every node to the same {@link Appendable}, so rendering a whole document only makes the one buffer
+ * ({@link #toString()} uses a single StringBuilder).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public abstract class HTMLNode{
+	/** The node this node is in, or null if it hasn't been added to one */
+	private HTMLParentNode parent;
+	
+	/**
+	 * @return The node this node is in, or null if it hasn't been added to one
+	 */
+	public HTMLParentNode getParent(){
+		return parent;
+	}
+	
+	/**
+	 * Sets the node this node is in, to be called by the {@link HTMLParentNode} as it's added and removed
+	 *
+	 * @param parent The node this node is in, or null if it's been removed
+	 */
+	void setParent(HTMLParentNode parent){
+		this.parent = parent;
+	}
+	
+	/**
+	 * Appends this node and everything under it to the given {@link Appendable}
+	 *
+	 * @param out The {@link Appendable} to render to
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	public abstract void renderTo(Appendable out) throws IOException;
+	
+	/**
+	 * @return This node and everything under it, rendered as HTML
+	 */
+	@Override
+	public String toString(){
+		StringBuilder html = new StringBuilder();
+		try{
+			renderTo(html);
+		}catch(IOException e){
+			// StringBuilder doesn't actually throw IOExceptions
+			throw new UncheckedIOException(e);
+		}
+		return html.toString();
+	}
+}
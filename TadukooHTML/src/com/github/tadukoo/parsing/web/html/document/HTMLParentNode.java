@@ -0,0 +1,145 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link HTMLNode} that holds other nodes: an {@link HTMLElement} or the {@link HTMLDocument}. Each parent
+ * decides which nodes it {@link #canContain(HTMLNode) can contain}, and nodes added with
+ * {@link #appendChild(HTMLNode)} or {@link #insertChild(int, HTMLNode)} are checked against it, so a tree built by
+ * hand always follows the sub tag whitelists and blacklists of its tags.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public abstract class HTMLParentNode extends HTMLNode{
+	/** The nodes in this node, in order */
+	private final List<HTMLNode> children = new ArrayList<>();
+	/** A read-only view of {@link #children} */
+	private final List<HTMLNode> childrenView = Collections.unmodifiableList(children);
+	
+	/**
+	 * @return The nodes in this node, in order (read-only, but it changes as nodes are added and removed)
+	 */
+	public List<HTMLNode> getChildren(){
+		return childrenView;
+	}
+	
+	/**
+	 * Checks whether the given node is allowed in this node
+	 *
+	 * @param child The node to check
+	 * @return Whether the node can be added to this node
+	 */
+	public abstract boolean canContain(HTMLNode child);
+	
+	/**
+	 * @return A description of this node for error messages (e.g. {@code tag body})
+	 */
+	abstract String describe();
+	
+	/**
+	 * Adds the given node to the end of this node's children
+	 *
+	 * @param child The node to add
+	 * @param <N> The type of node being added
+	 * @return The node that was added, to continue building under it
+	 * @throws IllegalArgumentException If the node isn't allowed in this node, already has a parent, or is the
+	 * document or this node (or a node this node is in)
+	 */
+	public <N extends HTMLNode> N appendChild(N child){
+		return insertChild(children.size(), child);
+	}
+	
+	/**
+	 * Adds the given text to the end of this node's children
+	 *
+	 * @param text The text to add (as plain text - it's escaped when it's rendered)
+	 * @return The {@link HTMLText} that was added
+	 * @throws IllegalArgumentException If this node can't contain text
+	 */
+	public HTMLText appendText(String text){
+		return appendChild(new HTMLText(text));
+	}
+	
+	/**
+	 * Adds the given node to this node's children at the given index
+	 *
+	 * @param index The index to add the node at
+	 * @param child The node to add
+	 * @param <N> The type of node being added
+	 * @return The node that was added, to continue building under it
+	 * @throws IllegalArgumentException If the node isn't allowed in this node, already has a parent, or is the
+	 * document or this node (or a node this node is in)
+	 * @throws IndexOutOfBoundsException If the index is less than 0 or more than the number of children
+	 */
+	public <N extends HTMLNode> N insertChild(int index, N child){
+		if(child.getParent() != null){
+			throw new IllegalArgumentException("the node is already in " + child.getParent().describe() + "!");
+		}
+		if(child instanceof HTMLDocument){
+			throw new IllegalArgumentException("the document can't be added to another node!");
+		}
+		for(HTMLParentNode ancestor = this; ancestor != null; ancestor = ancestor.getParent()){
+			if(ancestor == child){
+				throw new IllegalArgumentException(ancestor.describe() + " can't be added inside itself!");
+			}
+		}
+		if(!canContain(child)){
+			throw new IllegalArgumentException(makeViolationMessage(child));
+		}
+		children.add(index, child);
+		child.setParent(this);
+		return child;
+	}
+	
+	/**
+	 * Adds the given node to the end of this node's children without checking it, used by the
+	 * {@link HTMLDocumentHandler} for nodes it just made
+	 *
+	 * @param child The node to add
+	 */
+	void addChild(HTMLNode child){
+		children.add(child);
+		child.setParent(this);
+	}
+	
+	/**
+	 * Removes the given node from this node's children
+	 *
+	 * @param child The node to remove
+	 * @return Whether the node was removed ({@code false} if it isn't in this node)
+	 */
+	public boolean removeChild(HTMLNode child){
+		if(child.getParent() != this){
+			return false;
+		}
+		children.remove(child);
+		child.setParent(null);
+		return true;
+	}
+	
+	/**
+	 * @param child A node that isn't allowed in this node
+	 * @return The message to use for the node
+	 */
+	String makeViolationMessage(HTMLNode child){
+		String childDescription = child instanceof HTMLParentNode parent?parent.describe():
+				child instanceof HTMLComment?"comment":"text";
+		return childDescription + " is not allowed in " + describe() + "!";
+	}
+	
+	/**
+	 * Appends all the children of this node, in order, to the given {@link Appendable}
+	 *
+	 * @param out The {@link Appendable} to render to
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	protected void renderChildrenTo(Appendable out) throws IOException{
+		for(HTMLNode child: children){
+			child.renderTo(out);
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.github.tadukoo.parsing.web.html.document;
+
+import com.github.tadukoo.parsing.web.html.util.HTMLCharacterReferences;
+
+import java.io.IOException;
+
+/**
+ * Text in the tree of an {@link HTMLDocument}. The text is kept as plain text (character references are already
+ * decoded), and is escaped with {@link HTMLCharacterReferences} as it's rendered, unless it's in an element that
+ * {@link HTMLElement#hasRawText() has raw text}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLText extends HTMLNode{
+	/** The text */
+	private final String text;
+	
+	/**
+	 * Constructs a new {@link HTMLText} with the given text
+	 *
+	 * @param text The text (as plain text - it's escaped when it's rendered)
+	 */
+	public HTMLText(String text){
+		this.text = text;
+	}
+	
+	/**
+	 * @return The text
+	 */
+	public String getText(){
+		return text;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void renderTo(Appendable out) throws IOException{
+		if(getParent() instanceof HTMLElement element && element.hasRawText()){
+			out.append(text);
+		}else{
+			HTMLCharacterReferences.escapeText(text, out);
+		}
+	}
+}
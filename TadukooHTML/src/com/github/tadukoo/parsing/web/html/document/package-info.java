@@ -0,0 +1,5 @@
+/**
+ * Contains a tree model of HTML documents, made of {@link com.github.tadukoo.parsing.web.html.tag.HTMLTag HTMLTags}
+ * with their children and text
+ */
+package com.github.tadukoo.parsing.web.html.document;
@@ -0,0 +1,531 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses lots of documents at once (e.g. thousands of small pages), each on its own thread, making a result out of
+ * each one with a new {@link HTMLResultHandler} from the given factory. The documents can be given as a
+ * {@link Collection}, to get all the results back in a {@link CompletableFuture}, or as a {@link Stream}, to get a
+ * lazy Stream of the results, either in the same order as the documents or in the order they finish.
+ * <br><br>
+ * The documents are parsed on virtual threads when they're available (Java 21 and up), or otherwise on a pool of
+ * daemon threads. No more than the max concurrency are ever parsed at once, across all the batches given to this
+ * parser. The documents are only taken from the Collection or Stream as there's room for them, so a Stream of
+ * documents that's being read in (e.g. from files or the network) is never read too far ahead of the parsing, and
+ * a Stream of results is never parsed too far ahead of whatever is reading it.
+ * <br><br>
+ * If a document can't be parsed (e.g. its file can't be read, its handler throws an exception, or it's nested
+ * deeply enough to overflow the stack), only that document's {@link HTMLBatchResult} has the failure - the rest of
+ * the batch is still parsed, whether the results are ordered or not. Any other Error (e.g. an OutOfMemoryError)
+ * may have left the JVM broken, so it isn't kept to its document: it's thrown to whatever is reading the results,
+ * which ends the batch. The
+ * {@link HTMLParser HTMLParsers} are reused from one document to the next, so lots of small documents don't each
+ * pay for making a new parser.
+ * <br><br>
+ * An {@link HTMLBatchParser} is safe to use from any number of threads. It should be {@link #close() closed} when
+ * it's no longer needed, to stop its threads.
+ *
+ * @param <R> The type of result made from each document
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLBatchParser<R> implements AutoCloseable{
+	
+	/**
+	 * Parses a single document with an {@link HTMLParser}
+	 *
+	 * @param <I> The type of the document (e.g. its text, or the path of its file)
+	 */
+	@FunctionalInterface
+	private interface DocumentParser<I>{
+		
+		/**
+		 * Parses the given document
+		 *
+		 * @param parser The {@link HTMLParser} to parse it with
+		 * @param document The document to parse
+		 * @throws IOException If anything goes wrong in reading the document
+		 */
+		void parse(HTMLParser parser, I document) throws IOException;
+	}
+	
+	/** The factory for the {@link HTMLResultHandler} used on each document */
+	private final Supplier<? extends HTMLResultHandler<? extends R>> handlers;
+	/** The most documents to parse at once */
+	private final int maxConcurrency;
+	/** The {@link ExecutorService} to parse the documents on */
+	private final ExecutorService executor;
+	/** Whether the {@link ExecutorService} was made by this parser (and so should be shut down when it's closed) */
+	private final boolean ownsExecutor;
+	/** The {@link Charset} used to decode the files */
+	private final Charset charset;
+	/** Limits how many documents are parsed at once */
+	private final Semaphore permits;
+	/** The {@link Worker Workers} that aren't being used right now */
+	private final Queue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+	/** Whether the attributes of the tags are only made when they're needed */
+	private volatile boolean lazyAttributes;
+	
+	/**
+	 * Constructs a new {@link HTMLBatchParser} that parses as many documents at once as there are processors,
+	 * decoding files as UTF-8
+	 *
+	 * @param handlers The factory for the {@link HTMLResultHandler} used on each document
+	 */
+	public HTMLBatchParser(Supplier<? extends HTMLResultHandler<? extends R>> handlers){
+		this(handlers, Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLBatchParser} that decodes files as UTF-8
+	 *
+	 * @param handlers The factory for the {@link HTMLResultHandler} used on each document
+	 * @param maxConcurrency The most documents to parse at once
+	 */
+	public HTMLBatchParser(Supplier<? extends HTMLResultHandler<? extends R>> handlers, int maxConcurrency){
+		this(handlers, maxConcurrency, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLBatchParser} that parses on virtual threads if they're available, or on a pool
+	 * of daemon threads if not
+	 *
+	 * @param handlers The factory for the {@link HTMLResultHandler} used on each document
+	 * @param maxConcurrency The most documents to parse at once
+	 * @param charset The {@link Charset} used to decode the files
+	 */
+	public HTMLBatchParser(Supplier<? extends HTMLResultHandler<? extends R>> handlers, int maxConcurrency,
+			Charset charset){
+		this(handlers, maxConcurrency, charset, newExecutor(), true);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLBatchParser} that parses on the given {@link ExecutorService}. The executor
+	 * isn't shut down when this parser is closed. It needs to be able to run a thread for each document that's
+	 * being parsed at once, plus one for each batch given to {@link #parseAll(Collection)} and
+	 * {@link #parseAllFiles(Collection)} that's being parsed at the same time.
+	 *
+	 * @param handlers The factory for the {@link HTMLResultHandler} used on each document
+	 * @param maxConcurrency The most documents to parse at once
+	 * @param charset The {@link Charset} used to decode the files
+	 * @param executor The {@link ExecutorService} to parse the documents on
+	 */
+	public HTMLBatchParser(Supplier<? extends HTMLResultHandler<? extends R>> handlers, int maxConcurrency,
+			Charset charset, ExecutorService executor){
+		this(handlers, maxConcurrency, charset, executor, false);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLBatchParser} with the given parameters
+	 *
+	 * @param handlers The factory for the {@link HTMLResultHandler} used on each document
+	 * @param maxConcurrency The most documents to parse at once
+	 * @param charset The {@link Charset} used to decode the files
+	 * @param executor The {@link ExecutorService} to parse the documents on
+	 * @param ownsExecutor Whether the executor should be shut down when this parser is closed
+	 */
+	private HTMLBatchParser(Supplier<? extends HTMLResultHandler<? extends R>> handlers, int maxConcurrency,
+			Charset charset, ExecutorService executor, boolean ownsExecutor){
+		if(maxConcurrency < 1){
+			throw new IllegalArgumentException("maxConcurrency must be at least 1, but was " + maxConcurrency);
+		}
+		this.handlers = handlers;
+		this.maxConcurrency = maxConcurrency;
+		this.charset = charset;
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+		permits = new Semaphore(maxConcurrency);
+	}
+	
+	/**
+	 * Makes an {@link HTMLBatchParser} that gets the {@link HTMLRootTag} ({@code <html>}) of each document (or
+	 * null for a document without one). Since the tags don't hold what's inside them, nothing inside the root tag
+	 * is built.
+	 *
+	 * @param maxConcurrency The most documents to parse at once
+	 * @return An {@link HTMLBatchParser} that gets the root tag of each document
+	 */
+	public static HTMLBatchParser<HTMLRootTag> rootTags(int maxConcurrency){
+		return new HTMLBatchParser<>(RootTagHandler::new, maxConcurrency);
+	}
+	
+	/**
+	 * Makes the {@link ExecutorService} to parse on: one that starts a virtual thread for each task if they're
+	 * available, or otherwise a pool of daemon threads. Virtual threads are looked up reflectively, as they only
+	 * came in with Java 21.
+	 *
+	 * @return A new {@link ExecutorService} to parse on
+	 */
+	private static ExecutorService newExecutor(){
+		try{
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}catch(ReflectiveOperationException | RuntimeException e){
+			// Virtual threads aren't available (or are still a preview feature that isn't turned on)
+			return Executors.newCachedThreadPool(task -> {
+				Thread thread = new Thread(task, "HTMLBatchParser");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+	
+	/**
+	 * @return The most documents that are parsed at once
+	 */
+	public int getMaxConcurrency(){
+		return maxConcurrency;
+	}
+	
+	/**
+	 * @return Whether the attributes of the tags are only made when they're needed
+	 */
+	public boolean isLazyAttributes(){
+		return lazyAttributes;
+	}
+	
+	/**
+	 * Sets whether the attributes of the tags are kept as the text they were written in and only made when
+	 * they're needed (see {@link HTMLParser#setLazyAttributes(boolean)})
+	 *
+	 * @param lazyAttributes Whether to only make the attributes of the tags when they're needed
+	 */
+	public void setLazyAttributes(boolean lazyAttributes){
+		this.lazyAttributes = lazyAttributes;
+	}
+	
+	/**
+	 * Parses all the given documents
+	 *
+	 * @param documents The HTML of each document
+	 * @return A {@link CompletableFuture} of the results, in the same order as the documents
+	 */
+	public CompletableFuture<List<HTMLBatchResult<R>>> parseAll(Collection<? extends CharSequence> documents){
+		return parseAll(documents, HTMLParser::parse);
+	}
+	
+	/**
+	 * Parses all the given files (see {@link HTMLParser#parse(Path)})
+	 *
+	 * @param files The paths of the files to parse
+	 * @return A {@link CompletableFuture} of the results, in the same order as the files
+	 */
+	public CompletableFuture<List<HTMLBatchResult<R>>> parseAllFiles(Collection<Path> files){
+		return parseAll(files, HTMLParser::parse);
+	}
+	
+	/**
+	 * Parses the given documents, taking them from the given Stream as there's room for them. The documents are
+	 * only parsed as the results are read, and the given Stream is closed when the returned one is.
+	 *
+	 * @param documents The HTML of each document
+	 * @param ordered Whether to give the results in the same order as the documents (if not, they're given in the
+	 * order they finish)
+	 * @return A Stream of the results
+	 */
+	public Stream<HTMLBatchResult<R>> parse(Stream<? extends CharSequence> documents, boolean ordered){
+		return stream(documents, ordered, HTMLParser::parse);
+	}
+	
+	/**
+	 * Parses the given files (see {@link HTMLParser#parse(Path)}), taking them from the given Stream as there's
+	 * room for them. The files are only parsed as the results are read, and the given Stream is closed when the
+	 * returned one is.
+	 *
+	 * @param files The paths of the files to parse
+	 * @param ordered Whether to give the results in the same order as the files (if not, they're given in the
+	 * order they finish)
+	 * @return A Stream of the results
+	 */
+	public Stream<HTMLBatchResult<R>> parseFiles(Stream<Path> files, boolean ordered){
+		return stream(files, ordered, HTMLParser::parse);
+	}
+	
+	/**
+	 * Parses all the given documents, collecting the results on the {@link ExecutorService}
+	 *
+	 * @param documents The documents to parse
+	 * @param documentParser Parses a single document
+	 * @param <I> The type of the documents
+	 * @return A {@link CompletableFuture} of the results, in the same order as the documents
+	 */
+	private <I> CompletableFuture<List<HTMLBatchResult<R>>> parseAll(
+			Collection<? extends I> documents, DocumentParser<I> documentParser){
+		Results<I> results = new Results<>(documents.iterator(), true, documentParser);
+		return CompletableFuture.supplyAsync(() -> {
+			List<HTMLBatchResult<R>> list = new ArrayList<>(documents.size());
+			results.forEachRemaining(list::add);
+			return list;
+		}, executor);
+	}
+	
+	/**
+	 * Parses the given documents as the results are read
+	 *
+	 * @param documents The documents to parse
+	 * @param ordered Whether to give the results in the same order as the documents
+	 * @param documentParser Parses a single document
+	 * @param <I> The type of the documents
+	 * @return A Stream of the results
+	 */
+	private <I> Stream<HTMLBatchResult<R>> stream(
+			Stream<? extends I> documents, boolean ordered, DocumentParser<I> documentParser){
+		Results<I> results = new Results<>(documents.iterator(), ordered, documentParser);
+		int characteristics = Spliterator.NONNULL | (ordered?Spliterator.ORDERED:0);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, characteristics), false)
+				.onClose(documents::close);
+	}
+	
+	/**
+	 * Makes the result for a document that couldn't be parsed. Only an Exception or a StackOverflowError is kept
+	 * to its document - any other Error (e.g. an OutOfMemoryError or an InternalError) is thrown again instead.
+	 *
+	 * @param index The position of the document in the batch
+	 * @param failure Whatever stopped the document from being parsed (unwrapped if it's a
+	 * {@link CompletionException})
+	 * @param <R> The type of result made from each document
+	 * @return The failed result, with the failure (wrapped in an {@link IllegalStateException} if it isn't an
+	 * Exception)
+	 */
+	private static <R> HTMLBatchResult<R> failedResult(int index, Throwable failure){
+		if(failure instanceof CompletionException && failure.getCause() != null){
+			failure = failure.getCause();
+		}
+		if(failure instanceof Error error && !(failure instanceof StackOverflowError)){
+			throw error;
+		}
+		return new HTMLBatchResult<>(index, null,
+				failure instanceof Exception exception?exception:new IllegalStateException(failure));
+	}
+	
+	/**
+	 * Parses a single document, on a thread from the {@link ExecutorService}
+	 *
+	 * @param index The position of the document in the batch
+	 * @param document The document to parse
+	 * @param documentParser Parses the document
+	 * @param <I> The type of the document
+	 * @return The result of parsing the document
+	 */
+	private <I> HTMLBatchResult<R> parseDocument(int index, I document, DocumentParser<I> documentParser){
+		permits.acquireUninterruptibly();
+		Worker worker = idleWorkers.poll();
+		if(worker == null){
+			worker = new Worker(charset);
+		}
+		try{
+			HTMLResultHandler<? extends R> handler = handlers.get();
+			worker.handler = handler;
+			worker.parser.setLazyAttributes(lazyAttributes);
+			documentParser.parse(worker.parser, document);
+			R result = handler.getResult();
+			worker.handler = null;
+			idleWorkers.add(worker);
+			return new HTMLBatchResult<>(index, result, null);
+		}catch(Exception | StackOverflowError e){
+			// The worker's parser may have been left partway through the document, so it isn't reused
+			return failedResult(index, e);
+		}finally{
+			permits.release();
+		}
+	}
+	
+	/**
+	 * Stops the threads this parser made (if it was given an {@link ExecutorService}, it's left running). Any
+	 * documents that are already being parsed are finished, but no more are started.
+	 */
+	@Override
+	public void close(){
+		if(ownsExecutor){
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * An {@link HTMLParser} that's reused from one document to the next, which sends the tags to the handler for
+	 * whichever document it's parsing
+	 */
+	private static final class Worker implements HTMLParseHandler{
+		/** The {@link HTMLParser} to parse the documents with */
+		private final HTMLParser parser;
+		/** The handler for the document being parsed */
+		private HTMLParseHandler handler;
+		
+		/**
+		 * @param charset The {@link Charset} used to decode the files
+		 */
+		private Worker(Charset charset){
+			parser = new HTMLParser(this, charset);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean startTag(HTMLTag tag){
+			return handler.startTag(tag);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void endTag(HTMLTag tag){
+			handler.endTag(tag);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void text(CharSequence text){
+			handler.text(text);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void comment(CharSequence comment){
+			handler.comment(comment);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void doctype(CharSequence doctype){
+			handler.doctype(doctype);
+		}
+	}
+	
+	/**
+	 * Takes documents as there's room for them, parses them on the {@link ExecutorService}, and gives back the
+	 * results. No more than the max concurrency of documents are being parsed (or waiting to be read) at once.
+	 *
+	 * @param <I> The type of the documents
+	 */
+	private final class Results<I> implements Iterator<HTMLBatchResult<R>>{
+		/** The documents that haven't been started yet */
+		private final Iterator<? extends I> documents;
+		/** Parses a single document */
+		private final DocumentParser<I> documentParser;
+		/** The documents that have been started, in order (only used for ordered results) */
+		private final ArrayDeque<CompletableFuture<HTMLBatchResult<R>>> started;
+		/** The documents that are done, in the order they finished (only used for unordered results) */
+		private final BlockingQueue<CompletableFuture<HTMLBatchResult<R>>> finished;
+		/** The position of the next document to start */
+		private int nextIndex;
+		/** The number of documents that have been started, but whose results haven't been given back */
+		private int pending;
+		
+		/**
+		 * @param documents The documents to parse
+		 * @param ordered Whether to give the results in the same order as the documents
+		 * @param documentParser Parses a single document
+		 */
+		private Results(Iterator<? extends I> documents, boolean ordered, DocumentParser<I> documentParser){
+			this.documents = documents;
+			this.documentParser = documentParser;
+			started = ordered?new ArrayDeque<>():null;
+			finished = ordered?null:new LinkedBlockingQueue<>();
+		}
+		
+		/**
+		 * Starts as many documents as there's room for
+		 */
+		private void fill(){
+			while(pending < maxConcurrency && documents.hasNext()){
+				int index = nextIndex++;
+				I document = documents.next();
+				// Anything that gets past parseDocument is handled the same way, so only an Error that can't be
+				// kept to the document leaves the future failed
+				CompletableFuture<HTMLBatchResult<R>> result = CompletableFuture.supplyAsync(
+						() -> parseDocument(index, document, documentParser), executor)
+						.handle((done, error) -> error == null?done:failedResult(index, error));
+				if(started != null){
+					started.add(result);
+				}else{
+					result.whenComplete((done, error) -> finished.add(result));
+				}
+				pending++;
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext(){
+			fill();
+			return pending != 0;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public HTMLBatchResult<R> next(){
+			if(!hasNext()){
+				throw new NoSuchElementException();
+			}
+			pending--;
+			CompletableFuture<HTMLBatchResult<R>> result;
+			if(started != null){
+				result = started.remove();
+			}else{
+				try{
+					result = finished.take();
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while waiting for a result", e);
+				}
+			}
+			try{
+				return result.join();
+			}catch(CompletionException e){
+				// Only an Error that couldn't be kept to its document gets here, so it's thrown as it is
+				if(e.getCause() instanceof Error error){
+					throw error;
+				}
+				throw e;
+			}
+		}
+	}
+	
+	/**
+	 * Gets the {@link HTMLRootTag} of a document, skipping everything inside it
+	 */
+	private static final class RootTagHandler implements HTMLResultHandler<HTMLRootTag>{
+		/** The root tag of the document, or null if it hasn't been found yet */
+		private HTMLRootTag rootTag;
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean startTag(HTMLTag tag){
+			if(rootTag == null && tag instanceof HTMLRootTag root){
+				rootTag = root;
+				return false;
+			}
+			return true;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public HTMLRootTag getResult(){
+			return rootTag;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+/**
+ * The outcome of parsing one document in a batch with an {@link HTMLBatchParser}: either the result that was made
+ * from the document, or the exception that stopped it from being parsed. A failure only affects its own document -
+ * the rest of the batch is still parsed.
+ *
+ * @param <R> The type of result made from each document
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLBatchResult<R>{
+	/** The position of the document in the batch, starting at 0 */
+	private final int index;
+	/** The result made from the document (null if it failed) */
+	private final R result;
+	/** The exception that stopped the document from being parsed (null if it didn't fail) */
+	private final Exception failure;
+	
+	/**
+	 * Constructs a new {@link HTMLBatchResult} with the given parameters
+	 *
+	 * @param index The position of the document in the batch, starting at 0
+	 * @param result The result made from the document (null if it failed)
+	 * @param failure The exception that stopped the document from being parsed (null if it didn't fail)
+	 */
+	HTMLBatchResult(int index, R result, Exception failure){
+		this.index = index;
+		this.result = result;
+		this.failure = failure;
+	}
+	
+	/**
+	 * @return The position of the document in the batch, starting at 0
+	 */
+	public int getIndex(){
+		return index;
+	}
+	
+	/**
+	 * @return Whether the document was parsed
+	 */
+	public boolean isSuccessful(){
+		return failure == null;
+	}
+	
+	/**
+	 * @return The result made from the document, or null if it failed
+	 */
+	public R getResult(){
+		return result;
+	}
+	
+	/**
+	 * @return The exception that stopped the document from being parsed (a StackOverflowError is wrapped in an
+	 * {@link IllegalStateException}), or null if it didn't fail
+	 */
+	public Exception getFailure(){
+		return failure;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		return "HTMLBatchResult{index=" + index + (failure == null?", result=" + result:", failure=" + failure) + "}";
+	}
+}
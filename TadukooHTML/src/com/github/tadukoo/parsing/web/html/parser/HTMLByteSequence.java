@@ -0,0 +1,156 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * A zero-copy view over encoded text in a {@link ByteBuffer} (e.g. part of a memory-mapped file), which is what
+ * an {@link HTMLTokenizer} gives to its handler when it's reading bytes directly. Nothing is decoded until it's
+ * needed: if all the bytes in the view are ASCII, {@link #charAt(int)} and {@link #length()} read straight from
+ * the buffer, and otherwise the view is decoded into a String the first time a character is asked for.
+ * {@link #toString()} decodes the bytes with the view's charset, which must be one where ASCII characters are
+ * always single bytes (e.g. UTF-8 or ISO-8859-1).
+ * <br><br>
+ * A view is only valid while the bytes it's over are - for the views given to a handler, that's until the
+ * handler method returns, as the tokenizer moves them on to the next token. Call {@link #toString()} to keep the
+ * text, or {@link #slice()} to keep a view over the same bytes without decoding them (the tokenizer never reuses
+ * the bytes themselves, so a slice is good for as long as the buffer is kept).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLByteSequence implements CharSequence{
+	/** The buffer holding the bytes */
+	private ByteBuffer buffer;
+	/** The charset to decode the bytes with */
+	private Charset charset;
+	/** The index in the buffer of the first byte in the view */
+	private int offset;
+	/** The number of bytes in the view */
+	private int byteLength;
+	/** Whether the bytes have been checked to see if they're all ASCII yet */
+	private boolean checkedASCII;
+	/** Whether all the bytes are ASCII (only set once {@link #checkedASCII} is) */
+	private boolean ascii;
+	/** The decoded text, once it's been needed */
+	private String decoded;
+	
+	/**
+	 * Constructs a new {@link HTMLByteSequence} over the given bytes
+	 *
+	 * @param buffer The buffer holding the bytes
+	 * @param charset The charset to decode the bytes with
+	 * @param offset The index in the buffer of the first byte in the view
+	 * @param byteLength The number of bytes in the view
+	 */
+	public HTMLByteSequence(ByteBuffer buffer, Charset charset, int offset, int byteLength){
+		set(buffer, charset, offset, byteLength);
+	}
+	
+	/**
+	 * Moves this view to the given bytes (used by the {@link HTMLTokenizer} to reuse a single view)
+	 *
+	 * @param buffer The buffer holding the bytes
+	 * @param charset The charset to decode the bytes with
+	 * @param offset The index in the buffer of the first byte in the view
+	 * @param byteLength The number of bytes in the view
+	 */
+	void set(ByteBuffer buffer, Charset charset, int offset, int byteLength){
+		this.buffer = buffer;
+		this.charset = charset;
+		this.offset = offset;
+		this.byteLength = Math.max(0, byteLength);
+		checkedASCII = false;
+		decoded = null;
+	}
+	
+	/**
+	 * Moves the start of this view forward by the given number of bytes
+	 *
+	 * @param count The number of bytes to skip
+	 */
+	void trimStart(int count){
+		count = Math.min(count, byteLength);
+		set(buffer, charset, offset + count, byteLength - count);
+	}
+	
+	/**
+	 * @return The number of bytes in this view
+	 */
+	public int getByteLength(){
+		return byteLength;
+	}
+	
+	/**
+	 * @param index The index of a byte in this view
+	 * @return The byte at that index
+	 */
+	public byte byteAt(int index){
+		if(index < 0 || index >= byteLength){
+			throw new IndexOutOfBoundsException("index " + index + " is out of bounds for length " + byteLength);
+		}
+		return buffer.get(offset + index);
+	}
+	
+	/**
+	 * @return Whether all the bytes in this view are ASCII, so each byte is one character
+	 */
+	public boolean isASCII(){
+		if(!checkedASCII){
+			ascii = true;
+			for(int i = offset, end = offset + byteLength; i < end; i++){
+				if(buffer.get(i) < 0){
+					ascii = false;
+					break;
+				}
+			}
+			checkedASCII = true;
+		}
+		return ascii;
+	}
+	
+	/**
+	 * @return A new view over the same bytes as this one, which isn't affected when this view is moved
+	 */
+	public HTMLByteSequence slice(){
+		return new HTMLByteSequence(buffer, charset, offset, byteLength);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int length(){
+		return isASCII()?byteLength:toString().length();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public char charAt(int index){
+		if(!isASCII()){
+			return toString().charAt(index);
+		}
+		return (char) byteAt(index);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public CharSequence subSequence(int start, int end){
+		if(!isASCII()){
+			return toString().substring(start, end);
+		}
+		if(start < 0 || end > byteLength || start > end){
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + byteLength);
+		}
+		return new HTMLByteSequence(buffer, charset, offset + start, end - start);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		if(decoded == null){
+			byte[] bytes = new byte[byteLength];
+			buffer.get(offset, bytes);
+			decoded = new String(bytes, charset);
+		}
+		return decoded;
+	}
+}
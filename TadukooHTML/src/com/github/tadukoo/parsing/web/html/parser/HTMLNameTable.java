@@ -0,0 +1,416 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * A fixed table of known names, used to turn the characters of a tag or attribute name into the matching
+ * constant from {@link HTMLTagConstants} without creating a new String. Names are matched ignoring ASCII case,
+ * as HTML names are case-insensitive, and names that aren't in the table are returned as a new lowercase String.
+ * <br><br>
+ * The table is a perfect hash table, worked out once when it's made: the names are grouped into buckets by their
+ * hash code, and each bucket gets a displacement that moves its names into slots no other name is in. Looking up
+ * a name then only takes one pass over its characters to hash it and one slot to compare against, whether the
+ * name is in the table or not. Names can be looked up in characters or directly in ASCII bytes, and each name
+ * has an index (the order it was given in), which can be used to look up other things about the name (e.g. the
+ * {@link HTMLTagType} of a tag name).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLNameTable{
+	/** The table of all the tag names in {@link HTMLTagConstants} (every constant ending in {@code _TAG_NAME}) */
+	public static final HTMLNameTable TAG_NAMES = new HTMLNameTable(findTagNames());
+	/**
+	 * The table of all the attribute names in {@link HTMLTagConstants}, in the order of their ordinals, so the index
+	 * of an attribute name is its ordinal in the {@link HTMLAttributeRegistry}
+	 */
+	public static final HTMLNameTable ATTRIBUTE_NAMES = new HTMLNameTable(findAttributeNames());
+	/** The most displacements tried for a bucket before giving up on the table size and trying a bigger one */
+	private static final int MAX_DISPLACEMENT = 1 << 16;
+	
+	/** The names in the table, by their index */
+	private final String[] names;
+	/** The length of the longest name in the table */
+	private final int maxLength;
+	/** The displacement of each bucket */
+	private int[] displacements;
+	/** The name in each slot (null for an empty slot) */
+	private String[] slotNames;
+	/** The hash code of the name in each slot */
+	private int[] slotHashes;
+	/** The index of the name in each slot */
+	private int[] slotIndexes;
+	/** Used to find the bucket for a hash code (the number of buckets is always a power of 2) */
+	private int bucketMask;
+	/** Used to find the slot for a displaced hash code (the table size is always a power of 2) */
+	private int slotMask;
+	
+	/**
+	 * Constructs a new {@link HTMLNameTable} of the given names
+	 *
+	 * @param names The names in the table (which should already be lowercase) - if a name is given more than
+	 * once, its index is the first one
+	 */
+	public HTMLNameTable(List<String> names){
+		List<String> distinctNames = new ArrayList<>(new LinkedHashSet<>(names));
+		this.names = distinctNames.toArray(new String[0]);
+		int[] hashes = new int[this.names.length];
+		int longest = 0;
+		for(int index = 0; index < this.names.length; index++){
+			hashes[index] = hash(this.names[index], 0, this.names[index].length());
+			longest = Math.max(longest, this.names[index].length());
+		}
+		maxLength = longest;
+		
+		// Start with twice as many slots as names, and only grow if the displacements can't be worked out
+		int size = Integer.highestOneBit(Math.max(this.names.length, 1) * 2 - 1) << 1;
+		while(!place(hashes, size)){
+			if(size >= 1 << 24){
+				throw new IllegalArgumentException("Failed to make a perfect hash table of " + distinctNames);
+			}
+			size <<= 1;
+		}
+	}
+	
+	/**
+	 * Works out a displacement for each bucket so that every name gets its own slot
+	 *
+	 * @param hashes The hash codes of the names
+	 * @param size The number of slots to use (a power of 2)
+	 * @return Whether every name got its own slot
+	 */
+	private boolean place(int[] hashes, int size){
+		int bucketCount = Integer.highestOneBit(Math.max(names.length, 1));
+		bucketMask = bucketCount - 1;
+		slotMask = size - 1;
+		displacements = new int[bucketCount];
+		slotNames = new String[size];
+		slotHashes = new int[size];
+		slotIndexes = new int[size];
+		
+		// Group the names into buckets, and place the biggest buckets first while there are the most free slots
+		List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+		for(int bucket = 0; bucket < bucketCount; bucket++){
+			buckets.add(new ArrayList<>());
+		}
+		for(int index = 0; index < names.length; index++){
+			buckets.get(mix(hashes[index]) & bucketMask).add(index);
+		}
+		Integer[] order = new Integer[bucketCount];
+		for(int bucket = 0; bucket < bucketCount; bucket++){
+			order[bucket] = bucket;
+		}
+		Arrays.sort(order, Comparator.comparingInt((Integer bucket) -> buckets.get(bucket).size()).reversed());
+		
+		int[] slots = new int[names.length];
+		for(int bucket: order){
+			List<Integer> indexes = buckets.get(bucket);
+			if(indexes.isEmpty()){
+				break;
+			}
+			int displacement = 0;
+			while(!fits(indexes, hashes, displacement, slots)){
+				if(++displacement == MAX_DISPLACEMENT){
+					return false;
+				}
+			}
+			displacements[bucket] = displacement;
+			for(int i = 0; i < indexes.size(); i++){
+				int index = indexes.get(i);
+				slotNames[slots[i]] = names[index];
+				slotHashes[slots[i]] = hashes[index];
+				slotIndexes[slots[i]] = index;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks whether the names in a bucket all land in different free slots with the given displacement
+	 *
+	 * @param indexes The indexes of the names in the bucket
+	 * @param hashes The hash codes of the names
+	 * @param displacement The displacement to try
+	 * @param slots Filled in with the slot of each name in the bucket, if they all fit
+	 * @return Whether the names all fit
+	 */
+	private boolean fits(List<Integer> indexes, int[] hashes, int displacement, int[] slots){
+		for(int i = 0; i < indexes.size(); i++){
+			int slot = mix(hashes[indexes.get(i)] ^ displacement) & slotMask;
+			if(slotNames[slot] != null){
+				return false;
+			}
+			for(int j = 0; j < i; j++){
+				if(slots[j] == slot){
+					return false;
+				}
+			}
+			slots[i] = slot;
+		}
+		return true;
+	}
+	
+	/**
+	 * @return The names of all the String constants in {@link HTMLTagConstants} ending in {@code _TAG_NAME}
+	 */
+	private static List<String> findTagNames(){
+		List<String> tagNames = new ArrayList<>();
+		for(Field field: HTMLTagConstants.class.getFields()){
+			if(field.getType() == String.class && Modifier.isStatic(field.getModifiers()) &&
+					field.getName().endsWith("_TAG_NAME")){
+				try{
+					tagNames.add((String) field.get(null));
+				}catch(IllegalAccessException e){
+					throw new IllegalStateException("Failed to read tag name " + field.getName(), e);
+				}
+			}
+		}
+		return tagNames;
+	}
+	
+	/**
+	 * @return The names of all the attributes in {@link HTMLTagConstants}
+	 */
+	private static List<String> findAttributeNames(){
+		// Only the standard names, so the table is the same however the classes happened to be loaded
+		List<String> attributeNames = new ArrayList<>();
+		for(int ordinal = 0; ordinal < HTMLAttributeRegistry.STANDARD_ATTRIBUTE_COUNT; ordinal++){
+			attributeNames.add(HTMLAttributeRegistry.nameOf(ordinal));
+		}
+		return attributeNames;
+	}
+	
+	/**
+	 * @param c A character
+	 * @return The character, converted to lowercase if it's an uppercase ASCII letter
+	 */
+	static char toLowerCase(char c){
+		return c >= 'A' && c <= 'Z'?(char) (c + ('a' - 'A')):c;
+	}
+	
+	/**
+	 * @param chars Some characters
+	 * @param start The index of the first character to convert
+	 * @param end The index after the last character to convert
+	 * @return A new String of the given range of characters, with uppercase ASCII letters converted to lowercase
+	 */
+	static String toLowerCase(CharSequence chars, int start, int end){
+		char[] lowercase = new char[end - start];
+		for(int i = start; i < end; i++){
+			lowercase[i - start] = toLowerCase(chars.charAt(i));
+		}
+		return new String(lowercase);
+	}
+	
+	/**
+	 * Hashes the given range of characters, ignoring ASCII case. Setting the {@code 0x20} bit lowercases ASCII
+	 * letters without a branch, and as names that are equal ignoring ASCII case always hash the same, it doesn't
+	 * matter what it does to other characters.
+	 *
+	 * @param chars The characters to hash
+	 * @param start The index of the first character to hash
+	 * @param end The index after the last character to hash
+	 * @return The hash code of the characters
+	 */
+	private static int hash(CharSequence chars, int start, int end){
+		int hash = 0;
+		for(int i = start; i < end; i++){
+			hash = hash(hash, chars.charAt(i));
+		}
+		return hash;
+	}
+	
+	/**
+	 * Adds a character to a hash code, so a name can be hashed a character at a time while it's being read (e.g.
+	 * by the {@link HTMLTokenizer}) instead of going over it again to look it up. Start with a hash code of 0.
+	 *
+	 * @param hash The hash code of the characters before this one
+	 * @param c The next character (or ASCII byte)
+	 * @return The hash code with the character added
+	 */
+	static int hash(int hash, char c){
+		return 31 * hash + (c | 0x20);
+	}
+	
+	/**
+	 * Hashes the given range of bytes, ignoring ASCII case (the same as {@link #hash(CharSequence, int, int)} for
+	 * ASCII bytes)
+	 *
+	 * @param bytes The bytes to hash
+	 * @param start The index of the first byte to hash
+	 * @param end The index after the last byte to hash
+	 * @return The hash code of the bytes
+	 */
+	private static int hash(ByteBuffer bytes, int start, int end){
+		int hash = 0;
+		for(int i = start; i < end; i++){
+			hash = hash(hash, (char) (bytes.get(i) & 0xFF));
+		}
+		return hash;
+	}
+	
+	/**
+	 * Mixes the bits of a hash code, so that the low bits used for the buckets and slots depend on all of them
+	 *
+	 * @param hash A hash code
+	 * @return The mixed hash code
+	 */
+	private static int mix(int hash){
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * @param hash The hash code of a name
+	 * @return The slot the name would be in, if it's in the table
+	 */
+	private int slotOf(int hash){
+		return mix(hash ^ displacements[mix(hash) & bucketMask]) & slotMask;
+	}
+	
+	/**
+	 * @param name A name in the table
+	 * @param chars The characters to compare against
+	 * @param start The index of the first character to compare
+	 * @param end The index after the last character to compare
+	 * @return Whether the characters match the name, ignoring ASCII case
+	 */
+	private static boolean matches(String name, CharSequence chars, int start, int end){
+		if(name.length() != end - start){
+			return false;
+		}
+		for(int i = start; i < end; i++){
+			if(name.charAt(i - start) != toLowerCase(chars.charAt(i))){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param name A name in the table
+	 * @param bytes The bytes to compare against
+	 * @param start The index of the first byte to compare
+	 * @param end The index after the last byte to compare
+	 * @return Whether the bytes are all ASCII and match the name, ignoring ASCII case
+	 */
+	private static boolean matches(String name, ByteBuffer bytes, int start, int end){
+		if(name.length() != end - start){
+			return false;
+		}
+		for(int i = start; i < end; i++){
+			byte b = bytes.get(i);
+			if(b < 0 || name.charAt(i - start) != toLowerCase((char) b)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @return The number of names in this table
+	 */
+	public int size(){
+		return names.length;
+	}
+	
+	/**
+	 * @param index The index of a name in this table
+	 * @return The name at the given index
+	 */
+	public String nameAt(int index){
+		return names[index];
+	}
+	
+	/**
+	 * Finds the index of the name in this table matching the given range of characters, ignoring ASCII case
+	 *
+	 * @param chars The characters of the name
+	 * @param start The index of the first character of the name
+	 * @param end The index after the last character of the name
+	 * @return The index of the matching name in this table, or -1 if there isn't one
+	 */
+	public int indexOf(CharSequence chars, int start, int end){
+		return end - start > maxLength?-1:indexOf(hash(chars, start, end), chars, start, end);
+	}
+	
+	/**
+	 * Finds the index of the name in this table matching the given range of characters, ignoring ASCII case
+	 *
+	 * @param hash The hash code of the characters, from {@link #hash(int, char)}
+	 * @param chars The characters of the name
+	 * @param start The index of the first character of the name
+	 * @param end The index after the last character of the name
+	 * @return The index of the matching name in this table, or -1 if there isn't one
+	 */
+	int indexOf(int hash, CharSequence chars, int start, int end){
+		int slot = slotOf(hash);
+		String name = slotNames[slot];
+		return name != null && slotHashes[slot] == hash && matches(name, chars, start, end)?slotIndexes[slot]:-1;
+	}
+	
+	/**
+	 * Finds the index of the name in this table matching the given range of bytes, ignoring ASCII case, without
+	 * decoding them (only names made of ASCII characters can be found this way)
+	 *
+	 * @param bytes The bytes of the name
+	 * @param start The index of the first byte of the name
+	 * @param end The index after the last byte of the name
+	 * @return The index of the matching name in this table, or -1 if there isn't one
+	 */
+	public int indexOf(ByteBuffer bytes, int start, int end){
+		return end - start > maxLength?-1:indexOf(hash(bytes, start, end), bytes, start, end);
+	}
+	
+	/**
+	 * Finds the index of the name in this table matching the given range of bytes, ignoring ASCII case
+	 *
+	 * @param hash The hash code of the bytes, from {@link #hash(int, char)}
+	 * @param bytes The bytes of the name
+	 * @param start The index of the first byte of the name
+	 * @param end The index after the last byte of the name
+	 * @return The index of the matching name in this table, or -1 if there isn't one
+	 */
+	int indexOf(int hash, ByteBuffer bytes, int start, int end){
+		int slot = slotOf(hash);
+		String name = slotNames[slot];
+		return name != null && slotHashes[slot] == hash && matches(name, bytes, start, end)?slotIndexes[slot]:-1;
+	}
+	
+	/**
+	 * Finds the name in this table matching the given range of characters, ignoring ASCII case
+	 *
+	 * @param chars The characters of the name
+	 * @param start The index of the first character of the name
+	 * @param end The index after the last character of the name
+	 * @return The matching name in this table, or {@code null} if there isn't one
+	 */
+	public String find(CharSequence chars, int start, int end){
+		int index = indexOf(chars, start, end);
+		return index != -1?names[index]:null;
+	}
+	
+	/**
+	 * Resolves the given range of characters to a name, using the matching name in this table if there is one,
+	 * and otherwise making a new lowercase String
+	 *
+	 * @param chars The characters of the name
+	 * @param start The index of the first character of the name
+	 * @param end The index after the last character of the name
+	 * @return The name, in lowercase
+	 */
+	public String resolve(CharSequence chars, int start, int end){
+		String name = find(chars, start, end);
+		return name != null?name:toLowerCase(chars, start, end);
+	}
+}
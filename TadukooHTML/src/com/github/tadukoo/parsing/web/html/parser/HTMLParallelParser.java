@@ -0,0 +1,365 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Parses a large document on more than one core, giving the same events to an {@link HTMLParseHandler} as an
+ * {@link HTMLParser} would, in the same order. It's meant for documents with a large {@code body} that has lots of
+ * top-level children (e.g. thousands of {@code <p>}, {@code <table>}, or {@code <ul>} tags).
+ * <br><br>
+ * First, an {@link HTMLSplitScanner} makes a quick pass over the document to find where it can be split between
+ * the top-level children of the body (never inside a comment, a {@code <script>}, or an attribute value). The
+ * pieces are then parsed in parallel on a {@link ForkJoinPool}, each by its own {@link HTMLParser} that starts
+ * with the tags that are open at the split (e.g. {@code html} and {@code body}) already open. Each piece's events
+ * are recorded, and once they're all done, the events are given to the handler on the calling thread, in order,
+ * so the handler doesn't need to be thread-safe and sees one ordered tree, the same as from a single parser.
+ * <br><br>
+ * Each piece checks that it ended between tags with the same tags open that the next piece starts with, so if a
+ * split ever turned out to be wrong, the document would just be parsed again by a single {@link HTMLParser}.
+ * Documents that are too small to split, or that don't have a body, are also parsed by a single parser.
+ * <br><br>
+ * The handler can still skip the contents of tags by returning {@code false} from
+ * {@link HTMLParseHandler#startTag(HTMLTag)}, but as the pieces are parsed before the handler sees any of them,
+ * the skipped tags are still built (they're just not given to the handler). The text, comments, and doctypes
+ * given to the handler aren't views here, but Strings, as they have to be kept until the handler gets them.
+ * <br><br>
+ * An {@link HTMLParallelParser} can parse any number of documents, but only one at a time.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLParallelParser{
+	/** The fewest characters in each piece by default - anything smaller isn't worth a separate task */
+	public static final int DEFAULT_MIN_PIECE_LENGTH = 1 << 16;
+	/** How many pieces to aim for per thread in the pool, so the threads stay busy if some pieces are slower */
+	private static final int PIECES_PER_THREAD = 4;
+	
+	/*
+	 * Recorded events
+	 */
+	/** A tag was opened */
+	private static final byte START_TAG = 0;
+	/** The most recently opened tag that's still open was closed */
+	private static final byte END_TAG = 1;
+	/** Text between tags */
+	private static final byte TEXT = 2;
+	/** A comment */
+	private static final byte COMMENT = 3;
+	/** A doctype */
+	private static final byte DOCTYPE = 4;
+	
+	/** The {@link HTMLParseHandler} to send the tags to */
+	private final HTMLParseHandler handler;
+	/** The {@link ForkJoinPool} to parse the pieces on */
+	private final ForkJoinPool pool;
+	/** The fewest characters to put in each piece */
+	private final int minPieceLength;
+	/** Whether the attributes of the tags are only made when they're needed */
+	private boolean lazyAttributes;
+	
+	/**
+	 * Constructs a new {@link HTMLParallelParser} that sends the tags it reads to the given handler, and parses
+	 * on the {@link ForkJoinPool#commonPool() common pool}
+	 *
+	 * @param handler The {@link HTMLParseHandler} to send the tags to
+	 */
+	public HTMLParallelParser(HTMLParseHandler handler){
+		this(handler, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLParallelParser} that sends the tags it reads to the given handler
+	 *
+	 * @param handler The {@link HTMLParseHandler} to send the tags to
+	 * @param pool The {@link ForkJoinPool} to parse the pieces on
+	 */
+	public HTMLParallelParser(HTMLParseHandler handler, ForkJoinPool pool){
+		this(handler, pool, DEFAULT_MIN_PIECE_LENGTH);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLParallelParser} that sends the tags it reads to the given handler
+	 *
+	 * @param handler The {@link HTMLParseHandler} to send the tags to
+	 * @param pool The {@link ForkJoinPool} to parse the pieces on
+	 * @param minPieceLength The fewest characters to put in each piece
+	 */
+	public HTMLParallelParser(HTMLParseHandler handler, ForkJoinPool pool, int minPieceLength){
+		this.handler = handler;
+		this.pool = pool;
+		this.minPieceLength = minPieceLength;
+	}
+	
+	/**
+	 * @return Whether the attributes of the tags are only made when they're needed
+	 */
+	public boolean isLazyAttributes(){
+		return lazyAttributes;
+	}
+	
+	/**
+	 * Sets whether the attributes of the tags are kept as the text they were written in and only made when
+	 * they're needed (see {@link HTMLParser#setLazyAttributes(boolean)})
+	 *
+	 * @param lazyAttributes Whether to only make the attributes of the tags when they're needed
+	 */
+	public void setLazyAttributes(boolean lazyAttributes){
+		this.lazyAttributes = lazyAttributes;
+	}
+	
+	/**
+	 * Parses all the given HTML, splitting it into pieces to parse in parallel if it's large enough
+	 *
+	 * @param html The HTML to parse
+	 */
+	public void parse(CharSequence html){
+		// Aim for a few pieces per thread, but don't make them too small
+		int pieceLength = Math.max(minPieceLength, html.length() / (pool.getParallelism() * PIECES_PER_THREAD));
+		HTMLSplitScanner scanner = new HTMLSplitScanner(html, pieceLength);
+		parse(html, scanner.scan(), scanner.getSplitTagNames());
+	}
+	
+	/**
+	 * Parses all the given HTML, split at the given points
+	 *
+	 * @param html The HTML to parse
+	 * @param splits The indexes to split the HTML at, in order
+	 * @param splitTagNames The names of the tags that are open at each split, from the outermost in
+	 */
+	void parse(CharSequence html, int[] splits, String[] splitTagNames){
+		if(splits.length == 0){
+			parseWholeDocument(html);
+			return;
+		}
+		
+		// Parse the pieces in parallel
+		List<ForkJoinTask<RecordedEvents>> tasks = new ArrayList<>(splits.length + 1);
+		for(int piece = 0; piece <= splits.length; piece++){
+			int start = piece == 0?0:splits[piece - 1];
+			int end = piece == splits.length?html.length():splits[piece];
+			boolean first = piece == 0;
+			boolean last = piece == splits.length;
+			tasks.add(pool.submit(() -> parsePiece(html.subSequence(start, end), splitTagNames, first, last)));
+		}
+		RecordedEvents[] pieces = new RecordedEvents[tasks.size()];
+		boolean splitCleanly = true;
+		for(int piece = 0; piece < pieces.length; piece++){
+			pieces[piece] = tasks.get(piece).join();
+			splitCleanly &= pieces[piece].endedCleanly;
+		}
+		
+		if(splitCleanly){
+			replay(pieces);
+		}else{
+			// Shouldn't happen, but the pieces can't be put back together, so parse the document the slow way
+			parseWholeDocument(html);
+		}
+	}
+	
+	/**
+	 * Parses the whole document with a single {@link HTMLParser}
+	 *
+	 * @param html The HTML to parse
+	 */
+	private void parseWholeDocument(CharSequence html){
+		HTMLParser parser = new HTMLParser(handler);
+		parser.setLazyAttributes(lazyAttributes);
+		parser.parse(html);
+	}
+	
+	/**
+	 * Parses a piece of the document, recording the events from it
+	 *
+	 * @param html The piece of the document
+	 * @param splitTagNames The names of the tags that are open at each split, from the outermost in
+	 * @param first Whether this is the first piece
+	 * @param last Whether this is the last piece
+	 * @return The events from the piece
+	 */
+	private RecordedEvents parsePiece(CharSequence html, String[] splitTagNames, boolean first, boolean last){
+		RecordedEvents events = new RecordedEvents(first?null:splitTagNames);
+		HTMLParser parser = new HTMLParser(events);
+		parser.setLazyAttributes(lazyAttributes);
+		if(!first){
+			// Start with the same tags open as at the split - the tags themselves come from an earlier piece, so
+			// they're only placeholders here (the recorded end tags don't say which tag they close)
+			HTMLTag placeholder = HTMLTag.tagBuilder().tagName(splitTagNames[splitTagNames.length - 1]).build();
+			for(String tagName: splitTagNames){
+				parser.open(tagName, placeholder);
+			}
+		}
+		if(last){
+			parser.parse(html);
+			events.endedCleanly = true;
+		}else{
+			parser.feed(html);
+			// The next piece starts with a tag, so text held back at the end can't be continued
+			parser.flushText();
+			events.endedCleanly = parser.isInText() && events.hasOpen(splitTagNames);
+		}
+		return events;
+	}
+	
+	/**
+	 * Gives the recorded events to the handler, in order, skipping the contents of any tags the handler says to
+	 *
+	 * @param pieces The events from each piece, in order
+	 */
+	private void replay(RecordedEvents[] pieces){
+		HTMLTag[] openTags = new HTMLTag[32];
+		int depth = 0;
+		// The number of tags that are open inside a skipped tag (including it), or 0 if nothing is being skipped
+		int skipDepth = 0;
+		for(RecordedEvents piece: pieces){
+			for(int i = 0; i < piece.count; i++){
+				Object value = piece.values[i];
+				switch(piece.types[i]){
+					case START_TAG -> {
+						if(skipDepth != 0){
+							skipDepth++;
+						}else{
+							HTMLTag tag = (HTMLTag) value;
+							if(depth == openTags.length){
+								openTags = Arrays.copyOf(openTags, depth * 2);
+							}
+							openTags[depth++] = tag;
+							if(!handler.startTag(tag)){
+								skipDepth = 1;
+							}
+						}
+					}
+					case END_TAG -> {
+						if(skipDepth > 1){
+							skipDepth--;
+						}else{
+							skipDepth = 0;
+							HTMLTag tag = openTags[--depth];
+							openTags[depth] = null;
+							handler.endTag(tag);
+						}
+					}
+					case TEXT -> {
+						if(skipDepth == 0){
+							handler.text((String) value);
+						}
+					}
+					case COMMENT -> {
+						if(skipDepth == 0){
+							handler.comment((String) value);
+						}
+					}
+					case DOCTYPE -> {
+						if(skipDepth == 0){
+							handler.doctype((String) value);
+						}
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * An {@link HTMLParseHandler} that records the events from a piece of a document, and keeps track of which
+	 * tags are open so it can tell whether the piece ended where the next one starts
+	 */
+	private static final class RecordedEvents implements HTMLParseHandler{
+		/** The types of the events */
+		private byte[] types = new byte[256];
+		/** The tag or text for each event (null for end tags) */
+		private Object[] values = new Object[256];
+		/** The number of events */
+		private int count;
+		/** The names of the tags that are open, from the outermost in (including any the piece started with) */
+		private String[] openTagNames;
+		/** The number of tags that were open at the start of the piece */
+		private final int startDepth;
+		/** The number of open tags */
+		private int depth;
+		/** The fewest open tags there have been, to tell if any of the tags the piece started with were closed */
+		private int minDepth;
+		/** Whether the piece ended where the next one starts (or at the end of the document) */
+		private boolean endedCleanly;
+		
+		/**
+		 * Constructs new {@link RecordedEvents} for a piece that starts with the given tags open
+		 *
+		 * @param startTagNames The names of the tags that are open at the start of the piece, or null if none are
+		 */
+		private RecordedEvents(String[] startTagNames){
+			openTagNames = startTagNames != null?Arrays.copyOf(startTagNames, startTagNames.length + 16):
+					new String[16];
+			startDepth = startTagNames != null?startTagNames.length:0;
+			depth = startDepth;
+			minDepth = startDepth;
+		}
+		
+		/**
+		 * @param tagNames The names of some tags, from the outermost in
+		 * @return Whether exactly those tags are open, and none of the tags the piece started with were closed
+		 */
+		private boolean hasOpen(String[] tagNames){
+			// If a tag from the start was closed, it doesn't matter if another one with the same name was opened
+			return minDepth == startDepth && depth == tagNames.length &&
+					Arrays.equals(openTagNames, 0, depth, tagNames, 0, depth);
+		}
+		
+		/**
+		 * Records an event
+		 *
+		 * @param type The type of the event
+		 * @param value The tag or text for the event
+		 */
+		private void record(byte type, Object value){
+			if(count == types.length){
+				types = Arrays.copyOf(types, count * 2);
+				values = Arrays.copyOf(values, count * 2);
+			}
+			types[count] = type;
+			values[count] = value;
+			count++;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean startTag(HTMLTag tag){
+			record(START_TAG, tag);
+			if(depth == openTagNames.length){
+				openTagNames = Arrays.copyOf(openTagNames, depth * 2);
+			}
+			openTagNames[depth++] = tag.getTagName();
+			return true;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void endTag(HTMLTag tag){
+			record(END_TAG, null);
+			depth--;
+			minDepth = Math.min(minDepth, depth);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void text(CharSequence text){
+			record(TEXT, text.toString());
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void comment(CharSequence comment){
+			record(COMMENT, comment.toString());
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void doctype(CharSequence doctype){
+			record(DOCTYPE, doctype.toString());
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+
+/**
+ * Receives the {@link HTMLTag HTMLTags} and other content from an {@link HTMLParser} as it reads through HTML.
+ * All the methods do nothing by default, so a handler only needs to implement the events it cares about.
+ * <br><br>
+ * {@link #startTag(HTMLTag)} can return {@code false} to skip everything inside a tag: none of the tags inside it
+ * are built, and none of its contents are sent to the handler, until {@link #endTag(HTMLTag)} is called for it.
+ * <br><br>
+ * The {@link CharSequence CharSequences} given for text and comments are only valid until the method returns -
+ * call {@link CharSequence#toString() toString()} on them to keep them.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public interface HTMLParseHandler{
+	
+	/**
+	 * Called when a tag is opened, with the tag built from its name and attributes
+	 *
+	 * @param tag The {@link HTMLTag} that was opened
+	 * @return {@code true} to get the contents of the tag, or {@code false} to skip them
+	 */
+	default boolean startTag(HTMLTag tag){
+		return true;
+	}
+	
+	/**
+	 * Called when a tag is closed, whether by its end tag, by the end tag of a tag it's inside, or by the end of
+	 * the HTML. Tags that don't have contents (e.g. {@code <br>}) are closed right after they're opened.
+	 *
+	 * @param tag The {@link HTMLTag} that was closed (the same one that was given to {@link #startTag(HTMLTag)})
+	 */
+	default void endTag(HTMLTag tag){ }
+	
+	/**
+	 * Called for text between tags. A run of text may be split into more than one call.
+	 *
+	 * @param text The text
+	 */
+	default void text(CharSequence text){ }
+	
+	/**
+	 * Called for a comment
+	 *
+	 * @param comment The text of the comment, not including the {@code <!--} and {@code -->}
+	 */
+	default void comment(CharSequence comment){ }
+	
+	/**
+	 * Called for a doctype declaration
+	 *
+	 * @param doctype The text after {@code <!DOCTYPE} (e.g. {@code html})
+	 */
+	default void doctype(CharSequence doctype){ }
+}
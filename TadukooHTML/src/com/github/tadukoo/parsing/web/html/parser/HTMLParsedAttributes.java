@@ -0,0 +1,277 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLLazyAttributeMap;
+import com.github.tadukoo.parsing.web.html.util.HTMLCharacterReferences;
+
+import java.util.function.BiConsumer;
+
+/**
+ * The attributes of a parsed tag, kept as the text they were written in (from right after the tag name up to the
+ * {@code >}) until they're needed. That's either a copy of the text, or, for a memory-mapped file, an
+ * {@link HTMLByteSequence} over the mapped bytes, so nothing is decoded until it's read. The text is read the same
+ * way the {@link HTMLTokenizer} reads attributes, so the attributes are the same as if they'd been tokenized
+ * one at a time, and the character references in the values are decoded when they're read, the same as the
+ * {@link HTMLParser} does for attributes that aren't lazy.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+final class HTMLParsedAttributes extends HTMLLazyAttributeMap{
+	/*
+	 * Indexes in the span of an attribute
+	 */
+	/** The index of the first character of the name */
+	private static final int NAME_START = 0;
+	/** The index after the last character of the name */
+	private static final int NAME_END = 1;
+	/** The index of the first character of the value (-1 if there's no value) */
+	private static final int VALUE_START = 2;
+	/** The index after the last character of the value */
+	private static final int VALUE_END = 3;
+	/** The number of ints in the span of an attribute */
+	private static final int SPAN_SIZE = 4;
+	
+	/** The attributes, as they were written */
+	private final CharSequence text;
+	
+	/**
+	 * Constructs new {@link HTMLParsedAttributes} over the given text
+	 *
+	 * @param text The attributes, as they were written (this must not change afterwards)
+	 */
+	HTMLParsedAttributes(CharSequence text){
+		this.text = text;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void forEachAttribute(BiConsumer<String, CharSequence> action){
+		ValueView value = new ValueView(text);
+		int[] span = new int[SPAN_SIZE];
+		int[] earlierSpan = new int[SPAN_SIZE];
+		int i = 0;
+		while((i = nextAttribute(i, span)) != -1){
+			if(isRepeat(span[NAME_START], span[NAME_END], earlierSpan)){
+				continue;
+			}
+			String name = HTMLNameTable.ATTRIBUTE_NAMES.resolve(text, span[NAME_START], span[NAME_END]);
+			if(span[VALUE_START] == -1){
+				action.accept(name, null);
+			}else{
+				value.set(span[VALUE_START], span[VALUE_END]);
+				action.accept(name, HTMLCharacterReferences.mayContainReferences(value)?
+						HTMLCharacterReferences.decodeAttributeValue(value):value);
+			}
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The names are compared in place, so nothing is made but the value that's found.
+	 */
+	@Override
+	protected String findValue(String name){
+		int[] span = find(name);
+		return span == null || span[VALUE_START] == -1?null:HTMLCharacterReferences.decodeAttributeValue(
+				text.subSequence(span[VALUE_START], span[VALUE_END]));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The names are compared in place, so nothing is made.
+	 */
+	@Override
+	protected boolean hasAttribute(String name){
+		return find(name) != null;
+	}
+	
+	/**
+	 * Finds the first attribute with the given name (any repeats of it are ignored, as in the {@link HTMLParser})
+	 *
+	 * @param name The name of the attribute
+	 * @return The span of the attribute, or null if it's not in the text
+	 */
+	private int[] find(String name){
+		int[] span = new int[SPAN_SIZE];
+		int i = 0;
+		while((i = nextAttribute(i, span)) != -1){
+			if(nameEquals(span[NAME_START], span[NAME_END], name)){
+				return span;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Checks whether an attribute has the same name as one before it in the text, in which case it's ignored (the
+	 * first one counts, as in the {@link HTMLParser})
+	 *
+	 * @param start The index of the first character of the attribute's name
+	 * @param end The index after the last character of the name
+	 * @param span Used for the spans of the attributes before it
+	 * @return Whether an attribute before it has the same name, ignoring case
+	 */
+	private boolean isRepeat(int start, int end, int[] span){
+		int i = 0;
+		while((i = nextAttribute(i, span)) != -1 && span[NAME_START] < start){
+			if(span[NAME_END] - span[NAME_START] == end - start && namesMatch(span[NAME_START], start, end - start)){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * @param first The index of the first character of a name in the text
+	 * @param second The index of the first character of another name in the text
+	 * @param length The length of both names
+	 * @return Whether the names are the same, ignoring case
+	 */
+	private boolean namesMatch(int first, int second, int length){
+		for(int i = 0; i < length; i++){
+			if(HTMLNameTable.toLowerCase(text.charAt(first + i)) != HTMLNameTable.toLowerCase(text.charAt(second + i))){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param start The index of the first character of a name in the text
+	 * @param end The index after the last character of the name
+	 * @param name A name
+	 * @return Whether the name in the text is the given name, ignoring the case of the name in the text
+	 */
+	private boolean nameEquals(int start, int end, String name){
+		if(end - start != name.length()){
+			return false;
+		}
+		for(int i = start; i < end; i++){
+			if(HTMLNameTable.toLowerCase(text.charAt(i)) != name.charAt(i - start)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Reads the next attribute in the text, the same way the {@link HTMLTokenizer} does
+	 *
+	 * @param i The index in the text to start at
+	 * @param span Where to put the span of the attribute (the value start is -1 if it doesn't have a value)
+	 * @return The index in the text after the attribute, or -1 if there are no more attributes
+	 */
+	private int nextAttribute(int i, int[] span){
+		CharSequence text = this.text;
+		int length = text.length();
+		
+		// Skip to the next name (a / that's not right before the > is ignored)
+		while(i < length && (HTMLTokenizer.isWhitespace(text.charAt(i)) || text.charAt(i) == '/')){
+			i++;
+		}
+		if(i >= length){
+			return -1;
+		}
+		
+		// The first character is always part of the name, even if it's an =
+		span[NAME_START] = i++;
+		while(i < length && !isNameEnd(text.charAt(i))){
+			i++;
+		}
+		span[NAME_END] = i;
+		
+		// Whitespace is allowed before and after the =
+		while(i < length && HTMLTokenizer.isWhitespace(text.charAt(i))){
+			i++;
+		}
+		if(i >= length || text.charAt(i) != '='){
+			span[VALUE_START] = -1;
+			return i;
+		}
+		i++;
+		while(i < length && HTMLTokenizer.isWhitespace(text.charAt(i))){
+			i++;
+		}
+		
+		if(i < length && (text.charAt(i) == '"' || text.charAt(i) == '\'')){
+			char quote = text.charAt(i);
+			span[VALUE_START] = ++i;
+			while(i < length && text.charAt(i) != quote){
+				i++;
+			}
+			span[VALUE_END] = i;
+			// Skip the closing quote
+			return i + 1;
+		}
+		span[VALUE_START] = i;
+		while(i < length && !HTMLTokenizer.isWhitespace(text.charAt(i))){
+			i++;
+		}
+		span[VALUE_END] = i;
+		return i;
+	}
+	
+	/**
+	 * @param c A character
+	 * @return Whether the character ends an attribute name
+	 */
+	private static boolean isNameEnd(char c){
+		return HTMLTokenizer.isWhitespace(c) || c == '/' || c == '=';
+	}
+	
+	/**
+	 * A view of an attribute value in the text, which is moved to each value in turn
+	 */
+	private static final class ValueView implements CharSequence{
+		/** The text the values are in */
+		private final CharSequence text;
+		/** The index in the text of the first character of the value */
+		private int start;
+		/** The index in the text after the last character of the value */
+		private int end;
+		
+		/**
+		 * @param text The text the values are in
+		 */
+		private ValueView(CharSequence text){
+			this.text = text;
+		}
+		
+		/**
+		 * Moves this view to the given value
+		 *
+		 * @param start The index in the text of the first character of the value
+		 * @param end The index in the text after the last character of the value
+		 */
+		void set(int start, int end){
+			this.start = start;
+			this.end = end;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int length(){
+			return end - start;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public char charAt(int index){
+			return text.charAt(start + index);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public CharSequence subSequence(int start, int end){
+			return text.subSequence(this.start + start, this.start + end);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public String toString(){
+			return text.subSequence(start, end).toString();
+		}
+	}
+}
@@ -0,0 +1,447 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLHeadTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeMap;
+import com.github.tadukoo.parsing.web.html.tag.body.HTMLIFrameTag;
+import com.github.tadukoo.parsing.web.html.tag.builder.BaseHTMLTagBuilder;
+import com.github.tadukoo.parsing.web.html.util.HTMLCharacterReferences;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * A SAX-style HTML parser, which reads through HTML with an {@link HTMLTokenizer} and sends an {@link HTMLTag}
+ * for each tag to an {@link HTMLParseHandler} as it's opened and closed. The tags are built with the same
+ * builders used to make tags by hand: {@code html}, {@code head}, {@code body}, and {@code iframe} tags are built
+ * as {@link HTMLRootTag HTMLRootTags}, {@link HTMLHeadTag HTMLHeadTags}, {@link HTMLBodyTag HTMLBodyTags}, and
+ * {@link HTMLIFrameTag HTMLIFrameTags}, and any other tag is built with {@link HTMLTag#tagBuilder()} (the
+ * {@link HTMLTagType} of each tag comes from the same lookup that resolves its name, so picking the builder is
+ * free). Attributes aren't validated, so a tag keeps all the attributes it had in the HTML. If an attribute is
+ * given more than once in a tag, the first one counts and the rest are ignored, as in browsers.
+ * <br><br>
+ * Character references (e.g. {@code &amp;}) in attribute values and text are decoded with
+ * {@link HTMLCharacterReferences}, except in the contents of scripts, styles, and iframes. Text without any is
+ * given to the handler as it is, and a reference that's cut off at the end of a chunk is held back until the rest
+ * of it arrives.
+ * <br><br>
+ * With {@link #setLazyAttributes(boolean) lazy attributes} turned on, the attributes of each tag are kept as the
+ * text they were written in, and are only split up when they're needed: {@link HTMLTag#getAttribute(String)}
+ * finds a single attribute without making the others, and everything else is only made the first time the tag's
+ * attributes are asked for as a whole (e.g. by {@link HTMLTag#getAttributes()} or rendering). This is much cheaper
+ * when only a few attributes are read (e.g. a crawler that only wants the {@code href} of links).
+ * <br><br>
+ * If the handler returns {@code false} from {@link HTMLParseHandler#startTag(HTMLTag)}, the contents of that tag
+ * are skipped: the tokenizer still reads through them to find the end of the tag, but no tags are built, no
+ * attribute values are copied, and nothing is sent to the handler until the tag is closed. For example, a handler
+ * that only needs the metadata in the head can skip the body, and the body will cost little more than scanning
+ * its characters.
+ * <br><br>
+ * HTML can be parsed all at once with {@link #parse(CharSequence)} or {@link #parse(Reader)}, or incrementally
+ * as it arrives (e.g. from the network) with {@link #feed(CharBuffer)} or {@link #feed(ByteBuffer)}, followed by
+ * {@link #end()}. The chunks can be cut off anywhere, even in the middle of a tag name, attribute value, or
+ * character, and each tag is sent to the handler as soon as its start or end tag is complete, so handling can
+ * start with the first chunk instead of waiting for the whole document.
+ * <br><br>
+ * Files can be parsed with {@link #parse(Path)}, which memory-maps them (see {@link HTMLTokenizer#tokenize(Path)}),
+ * so files much larger than the heap can be parsed. Only the attribute values of the tags that are built are
+ * decoded into Strings - the contents of skipped tags are never copied out of the mapped file.
+ * <br><br>
+ * An end tag closes the most recent open tag with the same name, along with any tags that were opened after it
+ * and not closed yet. End tags that don't match an open tag are ignored, and tags that are still open at the end
+ * of the HTML are closed then. Void tags (e.g. {@code <br>} and {@code <img>}) and self-closing tags
+ * (e.g. {@code <p/>}) are closed right after they're opened, and are built without a closing tag.
+ * <br><br>
+ * An {@link HTMLParser} reuses its builders and buffers between tags and documents, so it isn't thread-safe, but
+ * can parse any number of documents one after another.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLParser implements HTMLTagConstants{
+	/** The names of the void tags, which never have contents or a closing tag */
+	public static final Set<String> VOID_TAG_NAMES = Set.of("area", HTML_BASE_TAG_NAME, "br", "col", "embed",
+			"hr", HTML_IMAGE_TAG_NAME, "input", HTML_LINK_TAG_NAME, HTML_META_TAG_NAME, "source", "track", "wbr");
+	/** The number of open tags there's room for at first (the stack grows as needed) */
+	private static final int INITIAL_DEPTH = 32;
+	
+	/** The {@link HTMLParseHandler} to send the tags to */
+	private final HTMLParseHandler handler;
+	/** The {@link HTMLTokenizer} used to read through the HTML */
+	private final HTMLTokenizer tokenizer;
+	/** The builder reused for {@code html} tags */
+	private final HTMLRootTag.HTMLRootTagBuilder rootBuilder = HTMLRootTag.builder();
+	/**
+	 * The attributes reused for {@code html} tags, in place of the default {@code lang} the builder resets to, so
+	 * parsed tags only have the attributes they had in the HTML
+	 */
+	private final HTMLAttributeMap rootAttributes = new HTMLAttributeMap();
+	/** The builder reused for {@code head} tags */
+	private final HTMLHeadTag.HTMLHeadTagBuilder headBuilder = HTMLHeadTag.builder();
+	/** The builder reused for {@code body} tags */
+	private final HTMLBodyTag.HTMLBodyTagBuilder bodyBuilder = HTMLBodyTag.builder();
+	/** The builder reused for {@code iframe} tags */
+	private final HTMLIFrameTag.HTMLIFrameTagBuilder iframeBuilder = HTMLIFrameTag.builder();
+	/** The builder reused for any other tags */
+	private final HTMLTag.HTMLTagBuilder tagBuilder = HTMLTag.tagBuilder();
+	/** The builder for the start tag being read, or null if it's being skipped */
+	private BaseHTMLTagBuilder<?> builder;
+	/** The names of the open tags, from the outermost in */
+	private String[] openTagNames = new String[INITIAL_DEPTH];
+	/** The open tags, from the outermost in (null for tags that are being skipped) */
+	private HTMLTag[] openTags = new HTMLTag[INITIAL_DEPTH];
+	/** The number of open tags */
+	private int depth;
+	/** The index of the open tag whose contents are being skipped, or -1 if nothing is being skipped */
+	private int skipIndex = -1;
+	/** Whether the attributes of the tags are only made when they're needed */
+	private boolean lazyAttributes;
+	/** Text that ends in a character reference that could be continued by the next text */
+	private final StringBuilder pendingText = new StringBuilder();
+	/** The buffer reused for text after its character references are decoded */
+	private final StringBuilder decodedText = new StringBuilder();
+	
+	/**
+	 * Constructs a new {@link HTMLParser} that sends the tags it reads to the given handler, and decodes bytes as
+	 * UTF-8
+	 *
+	 * @param handler The {@link HTMLParseHandler} to send the tags to
+	 */
+	public HTMLParser(HTMLParseHandler handler){
+		this(handler, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLParser} that sends the tags it reads to the given handler
+	 *
+	 * @param handler The {@link HTMLParseHandler} to send the tags to
+	 * @param charset The charset used to decode the bytes given to {@link #feed(ByteBuffer)}
+	 */
+	public HTMLParser(HTMLParseHandler handler, Charset charset){
+		this.handler = handler;
+		tokenizer = new HTMLTokenizer(new TokenHandler(), charset);
+	}
+	
+	/**
+	 * @return Whether the attributes of the tags are only made when they're needed
+	 */
+	public boolean isLazyAttributes(){
+		return lazyAttributes;
+	}
+	
+	/**
+	 * Sets whether the attributes of the tags are kept as the text they were written in and only made when
+	 * they're needed, rather than being made as each tag is read
+	 *
+	 * @param lazyAttributes Whether to only make the attributes of the tags when they're needed
+	 */
+	public void setLazyAttributes(boolean lazyAttributes){
+		this.lazyAttributes = lazyAttributes;
+		tokenizer.setCapturingAttributes(lazyAttributes);
+	}
+	
+	/**
+	 * Parses all the given HTML
+	 *
+	 * @param html The HTML to parse
+	 */
+	public void parse(CharSequence html){
+		tokenizer.tokenize(html);
+		finish();
+	}
+	
+	/**
+	 * Parses all the HTML from the given {@link Reader}. The reader isn't closed.
+	 *
+	 * @param reader The {@link Reader} to read the HTML from
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	public void parse(Reader reader) throws IOException{
+		tokenizer.tokenize(reader);
+		finish();
+	}
+	
+	/**
+	 * Parses the given file, memory-mapping it rather than reading it onto the heap
+	 *
+	 * @param path The path of the file to parse
+	 * @throws IOException If anything goes wrong in mapping the file
+	 */
+	public void parse(Path path) throws IOException{
+		tokenizer.tokenize(path);
+		finish();
+	}
+	
+	/**
+	 * Parses the next chunk of HTML. Call {@link #end()} after the last chunk.
+	 *
+	 * @param chunk The next chunk of HTML
+	 */
+	public void feed(CharSequence chunk){
+		tokenizer.feed(chunk);
+	}
+	
+	/**
+	 * Parses the next chunk of HTML. The chunk is consumed: afterwards, the buffer's position is at its limit.
+	 * Call {@link #end()} after the last chunk.
+	 *
+	 * @param chunk The next chunk of HTML
+	 */
+	public void feed(CharBuffer chunk){
+		tokenizer.feed(chunk);
+	}
+	
+	/**
+	 * Parses the next chunk of HTML, decoding it with the charset this parser was made with. The chunk is
+	 * consumed: afterwards, the buffer's position is at its limit. Call {@link #end()} after the last chunk.
+	 *
+	 * @param bytes The next chunk of HTML
+	 */
+	public void feed(ByteBuffer bytes){
+		tokenizer.feed(bytes);
+	}
+	
+	/**
+	 * Finishes HTML that was given to {@link #feed(CharBuffer)} or {@link #feed(ByteBuffer)}: anything that was
+	 * cut off at the end is handled, and any tags that are still open are closed. Afterwards, this parser can be
+	 * used for another document.
+	 */
+	public void end(){
+		tokenizer.end();
+		finish();
+	}
+	
+	/**
+	 * Closes any tags that are still open at the end of the HTML, and gets ready for another document
+	 */
+	private void finish(){
+		flushText();
+		closeTo(0);
+		builder = null;
+		skipIndex = -1;
+	}
+	
+	/**
+	 * Closes the open tags, from the innermost out to the given index
+	 *
+	 * @param index The index of the outermost open tag to close
+	 */
+	private void closeTo(int index){
+		while(depth > index){
+			depth--;
+			HTMLTag tag = openTags[depth];
+			openTags[depth] = null;
+			if(depth == skipIndex){
+				skipIndex = -1;
+			}
+			if(tag != null){
+				handler.endTag(tag);
+			}
+		}
+	}
+	
+	/**
+	 * Gives any text that was held back (because it ended in a character reference that could have been
+	 * continued) to the handler. This is done before anything else is given to the handler, and is also used by
+	 * the {@link HTMLParallelParser} at the end of a piece of a document.
+	 */
+	void flushText(){
+		if(pendingText.length() != 0){
+			decodedText.setLength(0);
+			try{
+				HTMLCharacterReferences.decodeText(pendingText, decodedText);
+			}catch(IOException e){
+				// StringBuilder doesn't actually throw IOExceptions
+				throw new UncheckedIOException(e);
+			}
+			pendingText.setLength(0);
+			handler.text(decodedText);
+		}
+	}
+	
+	/**
+	 * @return Whether the last chunk ended in text between tags, rather than in the middle of a tag, comment, or
+	 * raw text
+	 */
+	boolean isInText(){
+		return tokenizer.isInText();
+	}
+	
+	/**
+	 * Adds an open tag (also used by the {@link HTMLParallelParser} to start a piece of a document inside the
+	 * tags that are open where it starts)
+	 *
+	 * @param tagName The name of the tag
+	 * @param tag The tag, or null if it's being skipped
+	 */
+	void open(String tagName, HTMLTag tag){
+		if(depth == openTags.length){
+			openTagNames = Arrays.copyOf(openTagNames, depth * 2);
+			openTags = Arrays.copyOf(openTags, depth * 2);
+		}
+		openTagNames[depth] = tagName;
+		openTags[depth] = tag;
+		depth++;
+	}
+	
+	/**
+	 * @return Whether the contents of a tag are being skipped
+	 */
+	private boolean isSkipping(){
+		return skipIndex != -1;
+	}
+	
+	/**
+	 * Gets a builder for a tag with the given name, reset so it's ready to build the tag
+	 *
+	 * @param type The {@link HTMLTagType} of the tag
+	 * @param tagName The name of the tag
+	 * @return The builder to use for the tag
+	 */
+	private BaseHTMLTagBuilder<?> builderFor(HTMLTagType type, String tagName){
+		return switch(type){
+			case ROOT -> {
+				rootAttributes.clear();
+				yield rootBuilder.reset().attributes(rootAttributes);
+			}
+			case HEAD -> headBuilder.reset();
+			case BODY -> bodyBuilder.reset();
+			case INLINE_FRAME -> iframeBuilder.reset();
+			case OTHER -> tagBuilder.reset().tagName(tagName);
+		};
+	}
+	
+	/**
+	 * Turns the events from the {@link HTMLTokenizer} into {@link HTMLTag HTMLTags}
+	 */
+	private class TokenHandler implements HTMLTokenHandler{
+		
+		/** {@inheritDoc} */
+		@Override
+		public void startTag(String tagName){
+			flushText();
+			// The tokenizer just looked up the tag name, so its type comes from the index it found
+			builder = isSkipping()?null:builderFor(HTMLTagType.forIndex(tokenizer.getNameIndex()), tagName);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void attribute(String name, CharSequence value){
+			if(builder != null && !builder.hasAttribute(name)){
+				// The tokenizer just looked up the name, and its index in the table is its ordinal
+				builder.attribute(name, tokenizer.getNameIndex(),
+						value != null?HTMLCharacterReferences.decodeAttributeValue(value):null);
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void rawAttributes(CharSequence attributes){
+			if(builder != null){
+				// Mapped bytes are kept as a slice (they're never reused), but anything else has to be copied
+				builder.attributes(new HTMLParsedAttributes(attributes instanceof HTMLByteSequence bytes?
+						bytes.slice():attributes.toString()));
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void startTagEnd(String tagName, boolean selfClosing){
+			boolean isVoid = selfClosing || VOID_TAG_NAMES.contains(tagName);
+			if(builder == null){
+				// Still keep track of skipped tags, to know which end tag finishes the skipped contents
+				if(!isVoid){
+					open(tagName, null);
+				}
+				return;
+			}
+			if(builder == tagBuilder){
+				tagBuilder.closingTag(!isVoid);
+			}
+			HTMLTag tag = builder.build();
+			builder = null;
+			boolean readContents = handler.startTag(tag);
+			if(isVoid){
+				handler.endTag(tag);
+			}else{
+				open(tagName, tag);
+				if(!readContents){
+					skipIndex = depth - 1;
+				}
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void endTag(String tagName){
+			flushText();
+			for(int index = depth - 1; index >= 0; index--){
+				if(openTagNames[index].equals(tagName)){
+					closeTo(index);
+					return;
+				}
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void text(CharSequence text){
+			if(isSkipping()){
+				return;
+			}
+			if(tokenizer.isInUnescapedText() ||
+					(pendingText.length() == 0 && !HTMLCharacterReferences.mayContainReferences(text))){
+				handler.text(text);
+				return;
+			}
+			
+			// Decode the text, holding back a reference at the end that could be continued by the next text
+			decodedText.setLength(0);
+			try{
+				if(pendingText.length() == 0){
+					int end = HTMLCharacterReferences.decodeTextPiece(text, decodedText);
+					pendingText.append(text, end, text.length());
+				}else{
+					pendingText.append(text);
+					int end = HTMLCharacterReferences.decodeTextPiece(pendingText, decodedText);
+					pendingText.delete(0, end);
+				}
+			}catch(IOException e){
+				// StringBuilder doesn't actually throw IOExceptions
+				throw new UncheckedIOException(e);
+			}
+			if(decodedText.length() != 0){
+				handler.text(decodedText);
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void comment(CharSequence comment){
+			flushText();
+			if(!isSkipping()){
+				handler.comment(comment);
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void doctype(CharSequence doctype){
+			flushText();
+			if(!isSkipping()){
+				handler.doctype(doctype);
+			}
+		}
+	}
+}
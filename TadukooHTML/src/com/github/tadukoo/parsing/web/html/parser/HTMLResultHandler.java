@@ -0,0 +1,21 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+/**
+ * An {@link HTMLParseHandler} that makes a result out of a single document (e.g. the tags it's looking for, or some
+ * counts). An {@link HTMLBatchParser} makes a new one of these for each document, and gets the result once the
+ * document has been parsed.
+ *
+ * @param <R> The type of result made from the document
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public interface HTMLResultHandler<R> extends HTMLParseHandler{
+	
+	/**
+	 * Called once the whole document has been parsed
+	 *
+	 * @return The result made from the document
+	 */
+	R getResult();
+}
@@ -0,0 +1,384 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+
+import java.util.Arrays;
+
+/**
+ * A quick scan through HTML to find where it can be split into pieces to parse in parallel, used by the
+ * {@link HTMLParallelParser}. A document can only be split between the top-level children of its {@code body}
+ * (e.g. between two {@code <p>} or {@code <table>} tags), where the same tags are always open, so each piece can
+ * be parsed on its own as long as it starts with those tags open.
+ * <br><br>
+ * The scan follows the same rules as the {@link HTMLTokenizer} and {@link HTMLParser} to keep track of which tags
+ * are open, but without building anything or looking at attributes: comments, doctypes, quoted attribute values,
+ * and the contents of raw text tags like {@code <script>} are skipped over, so a {@code <} in them is never
+ * taken for a split point. The pieces are checked as they're parsed anyway, so a scan that gets it wrong (it
+ * shouldn't) only costs the time to parse the document again.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+final class HTMLSplitScanner implements HTMLTagConstants{
+	/** The number of open tags there's room for at first (the stack grows as needed) */
+	private static final int INITIAL_DEPTH = 32;
+	
+	/*
+	 * States for skipping over the attributes of a start tag
+	 */
+	/** Before an attribute name */
+	private static final int BEFORE_ATTRIBUTE_NAME = 0;
+	/** In an attribute name */
+	private static final int ATTRIBUTE_NAME = 1;
+	/** After an attribute name, before any {@code =} */
+	private static final int AFTER_ATTRIBUTE_NAME = 2;
+	/** After the {@code =} of an attribute */
+	private static final int BEFORE_ATTRIBUTE_VALUE = 3;
+	/** In an unquoted attribute value */
+	private static final int ATTRIBUTE_VALUE_UNQUOTED = 4;
+	/** After a {@code /} in a start tag */
+	private static final int SELF_CLOSING = 5;
+	
+	/** The HTML being scanned */
+	private final CharSequence html;
+	/** The length of the HTML */
+	private final int length;
+	/** The fewest characters to put in each piece */
+	private final int minPieceLength;
+	/** The names of the open tags, from the outermost in */
+	private String[] openTagNames = new String[INITIAL_DEPTH];
+	/** The number of open tags */
+	private int depth;
+	/** Whether the last start tag that was skipped ended with {@code />} */
+	private boolean selfClosing;
+	/** The index of the next {@code "} in the HTML (or its length), found as needed */
+	private int nextDoubleQuote = -1;
+	/** The index of the next {@code '} in the HTML (or its length), found as needed */
+	private int nextSingleQuote = -1;
+	/** The indexes in the HTML where it can be split */
+	private int[] splits = new int[16];
+	/** The number of indexes in {@link #splits} */
+	private int splitCount;
+	/** The names of the tags that are open at each split (null until the first split is found) */
+	private String[] splitTagNames;
+	
+	/**
+	 * Constructs a new {@link HTMLSplitScanner} for the given HTML
+	 *
+	 * @param html The HTML to scan
+	 * @param minPieceLength The fewest characters to put in each piece
+	 */
+	HTMLSplitScanner(CharSequence html, int minPieceLength){
+		this.html = html;
+		length = html.length();
+		this.minPieceLength = Math.max(1, minPieceLength);
+	}
+	
+	/**
+	 * Scans the HTML for split points. This can only be called once.
+	 *
+	 * @return The indexes in the HTML where it can be split, in order (the start of the HTML isn't included, and
+	 * the last piece is always at least the minimum length)
+	 */
+	int[] scan(){
+		int bodyDepth = -1;
+		int lastSplit = 0;
+		int i = indexOf('<', 0);
+		while(i < length - 1){
+			char c = html.charAt(i + 1);
+			if(HTMLTokenizer.isLetter(c)){
+				int nameEnd = nameEnd(i + 2);
+				String tagName = HTMLNameTable.TAG_NAMES.resolve(html, i + 1, nameEnd);
+				
+				// Split before a child of the body, if the piece before it is long enough
+				if(bodyDepth != -1 && depth == bodyDepth && i - lastSplit >= minPieceLength &&
+						length - i >= minPieceLength){
+					addSplit(i);
+					lastSplit = i;
+				}
+				
+				int end = skipStartTag(nameEnd);
+				if(end >= length){
+					// A tag that's cut off is dropped
+					break;
+				}
+				i = end + 1;
+				if(!selfClosing && !HTMLParser.VOID_TAG_NAMES.contains(tagName)){
+					if(HTMLTokenizer.isRawTextTag(tagName)){
+						// The contents are text up to the end tag, so the tag is closed as soon as it's opened
+						i = skipRawText(tagName, i);
+					}else{
+						open(tagName);
+						if(bodyDepth == -1 && tagName.equals(HTML_BODY_TAG_NAME)){
+							bodyDepth = depth;
+						}
+					}
+				}
+			}else if(c == '/' && i + 2 < length && HTMLTokenizer.isLetter(html.charAt(i + 2))){
+				int nameEnd = nameEnd(i + 3);
+				if(depth != 0 && nameEnd - i - 2 == openTagNames[depth - 1].length() &&
+						matchesIgnoreCase(openTagNames[depth - 1], i + 2)){
+					// Usually the end tag is for the innermost tag, so the name doesn't need to be looked up
+					depth--;
+				}else{
+					close(HTMLNameTable.TAG_NAMES.resolve(html, i + 2, nameEnd));
+				}
+				if(bodyDepth != -1 && depth < bodyDepth){
+					// The body's been closed, so there's nowhere left to split
+					break;
+				}
+				i = indexOf('>', nameEnd) + 1;
+			}else if(c == '!' && startsWith("<!--", i)){
+				i = indexOf("-->", i + 4) + 3;
+			}else if(c == '!' || c == '?' || c == '/'){
+				i = indexOf('>', i + 2) + 1;
+			}else{
+				// Not a tag, so the < is just text
+				i++;
+			}
+			i = indexOf('<', i);
+		}
+		return Arrays.copyOf(splits, splitCount);
+	}
+	
+	/**
+	 * @return The names of the tags that are open at each split, from the outermost in (empty if there are no
+	 * splits)
+	 */
+	String[] getSplitTagNames(){
+		return splitTagNames != null?splitTagNames:new String[0];
+	}
+	
+	/**
+	 * Adds a split point, keeping the names of the open tags there if it's the first one
+	 *
+	 * @param index The index in the HTML to split at
+	 */
+	private void addSplit(int index){
+		if(splitTagNames == null){
+			splitTagNames = Arrays.copyOf(openTagNames, depth);
+		}
+		if(splitCount == splits.length){
+			splits = Arrays.copyOf(splits, splitCount * 2);
+		}
+		splits[splitCount++] = index;
+	}
+	
+	/**
+	 * Adds an open tag
+	 *
+	 * @param tagName The name of the tag
+	 */
+	private void open(String tagName){
+		if(depth == openTagNames.length){
+			openTagNames = Arrays.copyOf(openTagNames, depth * 2);
+		}
+		openTagNames[depth++] = tagName;
+	}
+	
+	/**
+	 * Closes the most recent open tag with the given name, along with any tags opened after it (the same as the
+	 * {@link HTMLParser} does). An end tag that doesn't match an open tag is ignored.
+	 *
+	 * @param tagName The name of the tag
+	 */
+	private void close(String tagName){
+		for(int index = depth - 1; index >= 0; index--){
+			if(openTagNames[index].equals(tagName)){
+				depth = index;
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Finds the end of a tag name
+	 *
+	 * @param i The index after the first character of the name
+	 * @return The index after the last character of the name
+	 */
+	private int nameEnd(int i){
+		while(i < length){
+			char c = html.charAt(i);
+			if(HTMLTokenizer.isWhitespace(c) || c == '/' || c == '>'){
+				break;
+			}
+			i++;
+		}
+		return i;
+	}
+	
+	/**
+	 * Skips over the attributes of a start tag, the same way the {@link HTMLTokenizer} reads them, and sets
+	 * {@link #selfClosing}
+	 *
+	 * @param i The index after the tag name
+	 * @return The index of the {@code >} at the end of the tag, or the length of the HTML if there isn't one
+	 */
+	private int skipStartTag(int i){
+		// Most tags don't have quotes or a / at the end, so the first > ends them
+		int end = indexOf('>', i);
+		if(nextDoubleQuote < i){
+			nextDoubleQuote = indexOf('"', i);
+		}
+		if(nextSingleQuote < i){
+			nextSingleQuote = indexOf('\'', i);
+		}
+		selfClosing = false;
+		if(end < nextDoubleQuote && end < nextSingleQuote && html.charAt(end - 1) != '/'){
+			return end;
+		}
+		
+		int state = BEFORE_ATTRIBUTE_NAME;
+		while(i < length){
+			char c = html.charAt(i);
+			boolean whitespace = HTMLTokenizer.isWhitespace(c);
+			switch(state){
+				case BEFORE_ATTRIBUTE_NAME -> {
+					if(c == '>'){
+						return i;
+					}else if(c == '/'){
+						state = SELF_CLOSING;
+					}else if(!whitespace){
+						state = ATTRIBUTE_NAME;
+					}
+				}
+				case ATTRIBUTE_NAME, AFTER_ATTRIBUTE_NAME -> {
+					if(c == '>'){
+						return i;
+					}else if(c == '='){
+						state = BEFORE_ATTRIBUTE_VALUE;
+					}else if(c == '/'){
+						state = SELF_CLOSING;
+					}else if(whitespace){
+						state = AFTER_ATTRIBUTE_NAME;
+					}else{
+						state = ATTRIBUTE_NAME;
+					}
+				}
+				case BEFORE_ATTRIBUTE_VALUE -> {
+					if(c == '"' || c == '\''){
+						// Skip straight to the closing quote
+						i = indexOf(c, i + 1);
+						state = BEFORE_ATTRIBUTE_NAME;
+					}else if(c == '>'){
+						return i;
+					}else if(!whitespace){
+						state = ATTRIBUTE_VALUE_UNQUOTED;
+					}
+				}
+				case ATTRIBUTE_VALUE_UNQUOTED -> {
+					if(c == '>'){
+						return i;
+					}else if(whitespace){
+						state = BEFORE_ATTRIBUTE_NAME;
+					}
+				}
+				case SELF_CLOSING -> {
+					if(c == '>'){
+						selfClosing = true;
+						return i;
+					}
+					// A / that isn't right before the > is ignored - check this character again
+					state = BEFORE_ATTRIBUTE_NAME;
+					continue;
+				}
+			}
+			i++;
+		}
+		return length;
+	}
+	
+	/**
+	 * Skips over the contents of a raw text tag and its end tag
+	 *
+	 * @param tagName The name of the raw text tag
+	 * @param i The index after the start tag
+	 * @return The index after the end tag, or the length of the HTML if there isn't one
+	 */
+	private int skipRawText(String tagName, int i){
+		int nameLength = tagName.length();
+		while((i = indexOf("</", i)) < length){
+			int nameEnd = i + 2 + nameLength;
+			if(nameEnd < length && matchesIgnoreCase(tagName, i + 2)){
+				char c = html.charAt(nameEnd);
+				if(HTMLTokenizer.isWhitespace(c) || c == '/' || c == '>'){
+					return indexOf('>', nameEnd) + 1;
+				}
+			}
+			i++;
+		}
+		return length;
+	}
+	
+	/**
+	 * @param name A lowercase name
+	 * @param index An index in the HTML
+	 * @return Whether the HTML has the name at the given index, ignoring case
+	 */
+	private boolean matchesIgnoreCase(String name, int index){
+		for(int i = 0; i < name.length(); i++){
+			if(HTMLNameTable.toLowerCase(html.charAt(index + i)) != name.charAt(i)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param prefix Some text
+	 * @param index An index in the HTML
+	 * @return Whether the HTML has the text at the given index
+	 */
+	private boolean startsWith(String prefix, int index){
+		if(index + prefix.length() > length){
+			return false;
+		}
+		for(int i = 0; i < prefix.length(); i++){
+			if(html.charAt(index + i) != prefix.charAt(i)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Finds the next occurrence of the given character in the HTML
+	 *
+	 * @param c The character to find
+	 * @param from The index to start looking at
+	 * @return The index of the character, or the length of the HTML if it's not found
+	 */
+	private int indexOf(char c, int from){
+		if(html instanceof String string){
+			int index = string.indexOf(c, from);
+			return index == -1?length:index;
+		}
+		for(int i = from; i < length; i++){
+			if(html.charAt(i) == c){
+				return i;
+			}
+		}
+		return length;
+	}
+	
+	/**
+	 * Finds the next occurrence of the given text in the HTML
+	 *
+	 * @param text The text to find
+	 * @param from The index to start looking at
+	 * @return The index of the text, or the length of the HTML if it's not found
+	 */
+	private int indexOf(String text, int from){
+		if(html instanceof String string){
+			int index = string.indexOf(text, from);
+			return index == -1?length:index;
+		}
+		for(int i = indexOf(text.charAt(0), from); i < length; i = indexOf(text.charAt(0), i + 1)){
+			if(startsWith(text, i)){
+				return i;
+			}
+		}
+		return length;
+	}
+}
@@ -0,0 +1,117 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLHeadTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.body.HTMLIFrameTag;
+import com.github.tadukoo.parsing.web.html.tag.builder.BaseHTMLTagBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+
+/**
+ * The kinds of {@link HTMLTag} a tag name can be built as, each with the factory for its builder. Tag names are
+ * looked up in the perfect hash table of {@link HTMLNameTable#TAG_NAMES}, which gives the index of the name, and
+ * the type of each index is worked out once up front, so going from the characters (or bytes) of a tag name to
+ * the factory for its tag takes a single lookup and never creates a String.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public enum HTMLTagType implements HTMLTagConstants{
+	/** {@code html} tags, built as {@link HTMLRootTag HTMLRootTags} */
+	ROOT(HTMLRootTag::builder),
+	/** {@code head} tags, built as {@link HTMLHeadTag HTMLHeadTags} */
+	HEAD(HTMLHeadTag::builder),
+	/** {@code body} tags, built as {@link HTMLBodyTag HTMLBodyTags} */
+	BODY(HTMLBodyTag::builder),
+	/** {@code iframe} tags, built as {@link HTMLIFrameTag HTMLIFrameTags} */
+	INLINE_FRAME(HTMLIFrameTag::builder),
+	/** Any other tags, built with {@link HTMLTag#tagBuilder()} */
+	OTHER(HTMLTag::tagBuilder);
+	
+	/** The type of each name in {@link HTMLNameTable#TAG_NAMES}, by its index */
+	private static final HTMLTagType[] TYPES = findTypes();
+	
+	/** The factory for the builders of this type of tag */
+	private final Supplier<? extends BaseHTMLTagBuilder<?>> builderFactory;
+	
+	/**
+	 * Constructs a new {@link HTMLTagType} with the given factory
+	 *
+	 * @param builderFactory The factory for the builders of this type of tag
+	 */
+	HTMLTagType(Supplier<? extends BaseHTMLTagBuilder<?>> builderFactory){
+		this.builderFactory = builderFactory;
+	}
+	
+	/**
+	 * @return The type of each name in {@link HTMLNameTable#TAG_NAMES}, by its index
+	 */
+	private static HTMLTagType[] findTypes(){
+		HTMLTagType[] types = new HTMLTagType[HTMLNameTable.TAG_NAMES.size()];
+		for(int index = 0; index < types.length; index++){
+			types[index] = switch(HTMLNameTable.TAG_NAMES.nameAt(index)){
+				case HTML_ROOT_TAG_NAME -> ROOT;
+				case HTML_HEAD_TAG_NAME -> HEAD;
+				case HTML_BODY_TAG_NAME -> BODY;
+				case HTML_INLINE_FRAME_TAG_NAME -> INLINE_FRAME;
+				default -> OTHER;
+			};
+		}
+		return types;
+	}
+	
+	/**
+	 * Makes a new builder for a tag of this type
+	 *
+	 * @param tagName The name of the tag (only used for {@link #OTHER} tags, as the others always have the same
+	 * name)
+	 * @return A new builder for the tag
+	 */
+	public BaseHTMLTagBuilder<?> newBuilder(String tagName){
+		return this == OTHER?HTMLTag.tagBuilder().tagName(tagName):builderFactory.get();
+	}
+	
+	/**
+	 * @param tagNameIndex The index of a name in {@link HTMLNameTable#TAG_NAMES}, or -1 for a name that isn't in it
+	 * @return The type of tag with the given name
+	 */
+	public static HTMLTagType forIndex(int tagNameIndex){
+		return tagNameIndex == -1?OTHER:TYPES[tagNameIndex];
+	}
+	
+	/**
+	 * Finds the type of tag with the given name, ignoring ASCII case
+	 *
+	 * @param chars The characters of the name
+	 * @param start The index of the first character of the name
+	 * @param end The index after the last character of the name
+	 * @return The type of tag with the given name
+	 */
+	public static HTMLTagType of(CharSequence chars, int start, int end){
+		return forIndex(HTMLNameTable.TAG_NAMES.indexOf(chars, start, end));
+	}
+	
+	/**
+	 * Finds the type of tag with the given name, ignoring ASCII case, without decoding the bytes
+	 *
+	 * @param bytes The bytes of the name
+	 * @param start The index of the first byte of the name
+	 * @param end The index after the last byte of the name
+	 * @return The type of tag with the given name
+	 */
+	public static HTMLTagType of(ByteBuffer bytes, int start, int end){
+		return forIndex(HTMLNameTable.TAG_NAMES.indexOf(bytes, start, end));
+	}
+	
+	/**
+	 * @param tagName The name of a tag
+	 * @return The type of tag with the given name
+	 */
+	public static HTMLTagType of(String tagName){
+		return of(tagName, 0, tagName.length());
+	}
+}
@@ -0,0 +1,78 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+/**
+ * Receives the events from an {@link HTMLTokenizer} as it reads through HTML. All the methods do nothing by
+ * default, so a handler only needs to implement the events it cares about.
+ * <br><br>
+ * Tag and attribute names are always lowercase, and are the constants from
+ * {@link com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants} when they match one (so they can be compared
+ * with {@code ==}). The {@link CharSequence CharSequences} given for text, comments, and attribute values are
+ * only valid until the method returns, as they're views over the tokenizer's buffers - call
+ * {@link CharSequence#toString() toString()} on them to keep them. Character references (e.g. {@code &amp;amp;})
+ * aren't decoded.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public interface HTMLTokenHandler{
+	
+	/**
+	 * Called when a start tag is found, before any of its attributes
+	 *
+	 * @param tagName The name of the tag
+	 */
+	default void startTag(String tagName){ }
+	
+	/**
+	 * Called for each attribute in a start tag
+	 *
+	 * @param name The name of the attribute
+	 * @param value The value of the attribute, or {@code null} if it doesn't have one (e.g. {@code hidden})
+	 */
+	default void attribute(String name, CharSequence value){ }
+	
+	/**
+	 * Called instead of {@link #attribute(String, CharSequence)} when the tokenizer is
+	 * {@link HTMLTokenizer#setCapturingAttributes(boolean) capturing attributes}, with all the attributes of a start
+	 * tag as they were written. It's only called for tags that have attributes.
+	 *
+	 * @param attributes The text of the tag from right after its name up to (but not including) the {@code >}
+	 */
+	default void rawAttributes(CharSequence attributes){ }
+	
+	/**
+	 * Called at the end of a start tag, after all its attributes
+	 *
+	 * @param tagName The name of the tag
+	 * @param selfClosing Whether the tag ended with {@code />}
+	 */
+	default void startTagEnd(String tagName, boolean selfClosing){ }
+	
+	/**
+	 * Called when an end tag is found
+	 *
+	 * @param tagName The name of the tag
+	 */
+	default void endTag(String tagName){ }
+	
+	/**
+	 * Called for text between tags. A run of text may be split into more than one call.
+	 *
+	 * @param text The text
+	 */
+	default void text(CharSequence text){ }
+	
+	/**
+	 * Called for a comment, or for anything else in {@code <!...>} or {@code <?...>} that isn't a doctype
+	 *
+	 * @param comment The text of the comment, not including the {@code <!--} and {@code -->}
+	 */
+	default void comment(CharSequence comment){ }
+	
+	/**
+	 * Called for a doctype declaration
+	 *
+	 * @param doctype The text after {@code <!DOCTYPE} (e.g. {@code html})
+	 */
+	default void doctype(CharSequence doctype){ }
+}
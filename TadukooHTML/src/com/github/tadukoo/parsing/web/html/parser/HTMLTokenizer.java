@@ -0,0 +1,1162 @@
+package com.github.tadukoo.parsing.web.html.parser;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A streaming HTML tokenizer, which reads through HTML and sends start tags, attributes, end tags, text,
+ * comments, and doctypes to an {@link HTMLTokenHandler} as it finds them.
+ * <br><br>
+ * HTML can be given all at once ({@link #tokenize(CharSequence)} or {@link #tokenize(Reader)}), or in chunks
+ * with {@link #feed(CharSequence)}, {@link #feed(CharBuffer)}, or {@link #feed(ByteBuffer)} followed by
+ * {@link #end()}. The tokenizer keeps its state between chunks, so a chunk can end anywhere, even in the middle
+ * of a tag name or attribute value (or, for bytes, in the middle of a character).
+ * <br><br>
+ * Files can be tokenized with {@link #tokenize(Path)}, which memory-maps the file (in windows of up to
+ * {@link #MAP_WINDOW_SIZE} bytes, so files can be larger than 2 GB and larger than the heap). For UTF-8,
+ * ISO-8859-1, and US-ASCII, the mapped bytes are tokenized directly without being decoded, and the handler is
+ * given {@link HTMLByteSequence HTMLByteSequences} over the mapped bytes, which are only decoded if they're
+ * read. Tokens that fit in a chunk are
+ * given to the handler as views over the chunk, without being copied - only the part of a token that's cut off
+ * at the end of a chunk is copied into a buffer, so memory use depends on the largest single token and not on
+ * the size of the document. Text is given to the handler at the end of each chunk, so long runs of text don't
+ * build up either. Tag and attribute names are resolved to the constants in {@link HTMLTagConstants} using the
+ * {@link HTMLNameTable HTMLNameTables}, so only names that aren't known cause a new String to be made.
+ * <br><br>
+ * The contents of {@code <script>}, {@code <style>}, {@code <title>}, {@code <textarea>}, and {@code <iframe>}
+ * are treated as text until their end tag, the same as browsers do. Errors are handled leniently: a {@code <}
+ * that doesn't start a tag is text, and a tag that's cut off at the end of the HTML is dropped.
+ * <br><br>
+ * If {@link #setCapturingAttributes(boolean) capturing attributes} is turned on, the attributes of each start tag
+ * aren't split up: the handler gets them all at once, as they were written, in
+ * {@link HTMLTokenHandler#rawAttributes(CharSequence)}, which is cheaper when most of them won't be read.
+ * <br><br>
+ * An {@link HTMLTokenizer} isn't thread-safe, but can be reused for another document after {@link #end()}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLTokenizer implements HTMLTagConstants{
+	/** The size of the buffer used to read from a {@link Reader}, and to decode bytes into */
+	public static final int READ_BUFFER_SIZE = 8192;
+	/** The most bytes kept from the end of a {@link ByteBuffer} that didn't make a whole character */
+	private static final int LEFTOVER_BYTES_SIZE = 16;
+	/** The most bytes of a file that are mapped into memory at once by {@link #tokenize(Path)} */
+	public static final long MAP_WINDOW_SIZE = 1L << 30;
+	/** The textarea tag name, which isn't in {@link HTMLTagConstants} but holds raw text */
+	private static final String TEXTAREA_TAG_NAME = "textarea";
+	/** The keyword at the start of a doctype declaration */
+	private static final String DOCTYPE_KEYWORD = "doctype";
+	
+	/*
+	 * States
+	 */
+	/** In text between tags */
+	private static final int DATA = 0;
+	/** After a {@code <} */
+	private static final int TAG_OPEN = 1;
+	/** After a {@code </} */
+	private static final int END_TAG_OPEN = 2;
+	/** In the name of a start tag */
+	private static final int TAG_NAME = 3;
+	/** In the name of an end tag */
+	private static final int END_TAG_NAME = 4;
+	/** After the name of an end tag, skipping anything else up to the {@code >} */
+	private static final int END_TAG_CLOSE = 5;
+	/** In a start tag, before an attribute name */
+	private static final int BEFORE_ATTRIBUTE_NAME = 6;
+	/** In an attribute name */
+	private static final int ATTRIBUTE_NAME = 7;
+	/** After an attribute name, before any {@code =} */
+	private static final int AFTER_ATTRIBUTE_NAME = 8;
+	/** After the {@code =} of an attribute */
+	private static final int BEFORE_ATTRIBUTE_VALUE = 9;
+	/** In a double-quoted attribute value */
+	private static final int ATTRIBUTE_VALUE_DOUBLE_QUOTED = 10;
+	/** In a single-quoted attribute value */
+	private static final int ATTRIBUTE_VALUE_SINGLE_QUOTED = 11;
+	/** In an unquoted attribute value */
+	private static final int ATTRIBUTE_VALUE_UNQUOTED = 12;
+	/** After a {@code /} in a start tag */
+	private static final int SELF_CLOSING = 13;
+	/** After a {@code <!} */
+	private static final int DECLARATION_START = 14;
+	/** After a {@code <!-} */
+	private static final int DECLARATION_DASH = 15;
+	/** In a comment */
+	private static final int COMMENT = 16;
+	/** In a doctype, or anything else in {@code <!...>} or {@code <?...>} */
+	private static final int DECLARATION = 17;
+	/** In the contents of a tag that holds raw text (e.g. {@code <script>}) */
+	private static final int RAW_TEXT = 18;
+	
+	/** The handler to send the events to */
+	private final HTMLTokenHandler handler;
+	/** The charset used to decode the bytes given to {@link #feed(ByteBuffer)} */
+	private final Charset charset;
+	/** The view given to the handler for text, comments, and attribute values */
+	private final TokenText text = new TokenText();
+	/** The view given to the handler for text, comments, and attribute values when reading bytes directly */
+	private final HTMLByteSequence byteText;
+	/** The chunk used when reading bytes directly */
+	private final ByteChunk byteChunk = new ByteChunk();
+	/** Whether bytes are being read directly (in which case {@link #pending} holds bytes) */
+	private boolean readingBytes;
+	/** The raw length of the last token from {@link #token(int, int)} (in bytes when reading bytes directly) */
+	private int tokenLength;
+	/** The current state */
+	private int state = DATA;
+	/** The chunk currently being read */
+	private CharSequence chunk;
+	/** The index in {@link #chunk} where the current token starts */
+	private int mark;
+	/** The start of the current token that was cut off at the end of the previous chunk(s) */
+	private char[] pending = new char[64];
+	/** The number of characters in {@link #pending} */
+	private int pendingLength = 0;
+	/** The name of the tag currently being read */
+	private String tagName;
+	/** The name of the attribute currently being read */
+	private String attributeName;
+	/** The hash code of the tag or attribute name being read, which is worked out as it's read */
+	private int nameHash;
+	/** The index in its {@link HTMLNameTable} of the name that was resolved last, or -1 if it isn't in the table */
+	private int nameIndex = -1;
+	/** Whether the attributes of start tags are sent all at once, rather than one at a time */
+	private boolean capturingAttributes;
+	/** Whether an attribute has been found in the current start tag (only tracked when capturing attributes) */
+	private boolean capturedAttribute;
+	/** The number of {@code -} characters in a row at the current point in a comment */
+	private int dashes;
+	/** The name of the tag whose raw text is being read */
+	private String rawTextTagName;
+	/** The number of characters of the raw text end tag ({@code </name}) matched so far */
+	private int rawTextMatched;
+	/** Decodes the bytes given to {@link #feed(ByteBuffer)} - made the first time bytes are given */
+	private CharsetDecoder decoder;
+	/** The buffer that bytes are decoded into */
+	private CharBuffer decoded;
+	/** The bytes at the end of the last {@link ByteBuffer} that didn't make a whole character */
+	private ByteBuffer leftoverBytes;
+	
+	/**
+	 * Constructs a new {@link HTMLTokenizer} that sends its events to the given handler, and decodes bytes as
+	 * UTF-8
+	 *
+	 * @param handler The {@link HTMLTokenHandler} to send the events to
+	 */
+	public HTMLTokenizer(HTMLTokenHandler handler){
+		this(handler, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLTokenizer} that sends its events to the given handler
+	 *
+	 * @param handler The {@link HTMLTokenHandler} to send the events to
+	 * @param charset The charset used to decode the bytes given to {@link #feed(ByteBuffer)}
+	 */
+	public HTMLTokenizer(HTMLTokenHandler handler, Charset charset){
+		this.handler = handler;
+		this.charset = charset;
+		byteText = new HTMLByteSequence(ByteBuffer.allocate(0), charset, 0, 0);
+	}
+	
+	/**
+	 * @return Whether the attributes of start tags are sent all at once, rather than one at a time
+	 */
+	public boolean isCapturingAttributes(){
+		return capturingAttributes;
+	}
+	
+	/**
+	 * Sets whether the attributes of start tags are sent to the handler all at once with
+	 * {@link HTMLTokenHandler#rawAttributes(CharSequence)}, rather than one at a time with
+	 * {@link HTMLTokenHandler#attribute(String, CharSequence)}. The attributes are still read to find where the tag
+	 * ends, but no names are resolved and no values are made for them.
+	 *
+	 * @param capturingAttributes Whether to send the attributes of start tags all at once
+	 */
+	public void setCapturingAttributes(boolean capturingAttributes){
+		this.capturingAttributes = capturingAttributes;
+	}
+	
+	/**
+	 * @return Whether the last chunk ended in text between tags, rather than in the middle of a tag, comment, or
+	 * raw text
+	 */
+	boolean isInText(){
+		return state == DATA;
+	}
+	
+	/**
+	 * @return Whether the text being given to the handler is the contents of a script, style, or iframe, where
+	 * character references aren't decoded (unlike in the contents of a title or textarea, which are otherwise read
+	 * the same way)
+	 */
+	boolean isInUnescapedText(){
+		return rawTextTagName != null && rawTextTagName != HTML_TITLE_TAG_NAME &&
+				!TEXTAREA_TAG_NAME.equals(rawTextTagName);
+	}
+	
+	/**
+	 * Gets the index in its {@link HTMLNameTable} of the name that was resolved last. While the handler is being
+	 * given a start tag with {@link HTMLTokenHandler#startTag(String)}, this is the index of the tag name in
+	 * {@link HTMLNameTable#TAG_NAMES}, so the {@link HTMLParser} can get its {@link HTMLTagType} without looking
+	 * the name up again. Likewise, while it's being given an attribute with
+	 * {@link HTMLTokenHandler#attribute(String, CharSequence)}, this is the index of the attribute name in
+	 * {@link HTMLNameTable#ATTRIBUTE_NAMES}, which is its ordinal in the
+	 * {@link com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeRegistry HTMLAttributeRegistry}.
+	 *
+	 * @return The index of the name that was resolved last, or -1 if it isn't in the table
+	 */
+	int getNameIndex(){
+		return nameIndex;
+	}
+	
+	/**
+	 * Tokenizes the given HTML, as a complete document
+	 *
+	 * @param html The HTML to tokenize
+	 */
+	public void tokenize(CharSequence html){
+		feed(html);
+		end();
+	}
+	
+	/**
+	 * Tokenizes all the HTML from the given {@link Reader}, as a complete document. The reader is read in
+	 * chunks of {@link #READ_BUFFER_SIZE} characters, and isn't closed.
+	 *
+	 * @param reader The {@link Reader} to read the HTML from
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	public void tokenize(Reader reader) throws IOException{
+		char[] buffer = new char[READ_BUFFER_SIZE];
+		CharBuffer chunk = CharBuffer.wrap(buffer);
+		int read;
+		while((read = reader.read(buffer)) != -1){
+			chunk.clear().limit(read);
+			feed(chunk);
+		}
+		end();
+	}
+	
+	/**
+	 * Tokenizes the given file, as a complete document, by memory-mapping it in windows of up to
+	 * {@link #MAP_WINDOW_SIZE} bytes. If the charset is UTF-8, ISO-8859-1, or US-ASCII, the bytes are tokenized
+	 * directly, and the handler gets {@link HTMLByteSequence HTMLByteSequences} over the mapped bytes. Otherwise,
+	 * the windows are decoded the same as {@link #feed(ByteBuffer)}.
+	 *
+	 * @param path The path of the file to tokenize
+	 * @throws IOException If anything goes wrong in mapping the file
+	 */
+	public void tokenize(Path path) throws IOException{
+		tokenize(path, MAP_WINDOW_SIZE);
+	}
+	
+	/**
+	 * Tokenizes the given file, as a complete document, by memory-mapping it in windows of up to the given size
+	 *
+	 * @param path The path of the file to tokenize
+	 * @param windowSize The most bytes to map at once
+	 * @throws IOException If anything goes wrong in mapping the file
+	 */
+	void tokenize(Path path, long windowSize) throws IOException{
+		boolean direct = charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.ISO_8859_1) ||
+				charset.equals(StandardCharsets.US_ASCII);
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+			long size = channel.size();
+			long position = 0;
+			while(position < size){
+				MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+						Math.min(windowSize, size - position));
+				int length = window.limit();
+				if(direct){
+					// Don't cut a character in half between windows, so the tokens over each window decode cleanly
+					if(position + length < size && charset.equals(StandardCharsets.UTF_8)){
+						length = wholeUTF8Length(window, length);
+					}
+					readingBytes = true;
+					byteChunk.set(window, length);
+					read(byteChunk);
+				}else{
+					feed(window);
+				}
+				position += length;
+			}
+		}
+		end();
+	}
+	
+	/**
+	 * Finds how many of the given bytes make whole UTF-8 characters, leaving off a character that's cut off at
+	 * the end
+	 *
+	 * @param bytes The UTF-8 bytes
+	 * @param length The number of bytes
+	 * @return The number of bytes up to the end of the last whole character
+	 */
+	private static int wholeUTF8Length(ByteBuffer bytes, int length){
+		// Find the first byte of the last character
+		int start = length - 1;
+		while(start > 0 && start > length - 4 && (bytes.get(start) & 0xC0) == 0x80){
+			start--;
+		}
+		int lead = bytes.get(start) & 0xFF;
+		int characterLength = lead < 0x80?1:(lead >= 0xF0?4:(lead >= 0xE0?3:2));
+		// Only leave bytes off if there's something before them, so each window makes progress
+		return start + characterLength > length && start > 0?start:length;
+	}
+	
+	/**
+	 * Tokenizes the next chunk of HTML. The chunk can end anywhere - anything that's cut off is kept until the
+	 * next chunk. Call {@link #end()} after the last chunk.
+	 *
+	 * @param chunk The next chunk of HTML
+	 */
+	public void feed(CharSequence chunk){
+		readingBytes = false;
+		read(chunk);
+	}
+	
+	/**
+	 * Tokenizes the next chunk of HTML, which is either characters or the {@link #byteChunk}
+	 *
+	 * @param chunk The next chunk of HTML
+	 */
+	private void read(CharSequence chunk){
+		this.chunk = chunk;
+		mark = 0;
+		int length = chunk.length();
+		run(length);
+		
+		// Keep whatever's cut off at the end of the chunk for the next one
+		switch(state){
+			case DATA -> {
+				emitText(length, 0);
+			}
+			case RAW_TEXT -> {
+				// Send the text, but keep the part of the end tag that's been matched so far
+				if(pendingLength == 0){
+					emitText(length, rawTextMatched);
+					appendPending(chunk, length - rawTextMatched, length);
+				}else{
+					appendPending(chunk, mark, length);
+					int textLength = pendingLength - rawTextMatched;
+					if(textLength != 0){
+						handler.text(pendingView(textLength));
+					}
+					System.arraycopy(pending, textLength, pending, 0, rawTextMatched);
+					pendingLength = rawTextMatched;
+				}
+			}
+			case TAG_OPEN, END_TAG_OPEN, TAG_NAME, END_TAG_NAME, ATTRIBUTE_NAME, ATTRIBUTE_VALUE_DOUBLE_QUOTED,
+					ATTRIBUTE_VALUE_SINGLE_QUOTED, ATTRIBUTE_VALUE_UNQUOTED, DECLARATION_START, DECLARATION_DASH,
+					COMMENT, DECLARATION -> {
+				appendPending(chunk, mark, length);
+			}
+			case BEFORE_ATTRIBUTE_NAME, AFTER_ATTRIBUTE_NAME, BEFORE_ATTRIBUTE_VALUE, SELF_CLOSING -> {
+				// Captured attributes are a single token from the end of the tag name
+				if(capturingAttributes){
+					appendPending(chunk, mark, length);
+				}
+			}
+			default -> {
+				// Not in a token, so there's nothing to keep
+			}
+		}
+		this.chunk = null;
+	}
+	
+	/**
+	 * Tokenizes the next chunk of HTML, the same as {@link #feed(CharSequence)}, but also consumes the chunk:
+	 * afterwards, the buffer's position is at its limit.
+	 *
+	 * @param chunk The next chunk of HTML
+	 */
+	public void feed(CharBuffer chunk){
+		feed((CharSequence) chunk);
+		chunk.position(chunk.limit());
+	}
+	
+	/**
+	 * Tokenizes the next chunk of HTML, decoding it with the charset this tokenizer was made with. The bytes are
+	 * decoded into a reused buffer and tokenized as they're decoded, so a tag is sent to the handler as soon as
+	 * its bytes have been given. The chunk can end anywhere, even in the middle of a character - the bytes of the
+	 * cut-off character are kept until the next chunk. Afterwards, the buffer's position is at its limit.
+	 * Malformed input is replaced with the charset's replacement character.
+	 *
+	 * @param bytes The next chunk of HTML
+	 */
+	public void feed(ByteBuffer bytes){
+		if(decoder == null){
+			decoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			decoded = CharBuffer.allocate(READ_BUFFER_SIZE);
+			leftoverBytes = ByteBuffer.allocate(LEFTOVER_BYTES_SIZE);
+		}
+		
+		// Finish the character that was cut off at the end of the last chunk, one byte at a time
+		while(leftoverBytes.position() != 0 && bytes.hasRemaining()){
+			leftoverBytes.put(bytes.get()).flip();
+			decode(leftoverBytes, false);
+			leftoverBytes.compact();
+		}
+		decode(bytes, false);
+		
+		// Anything left is the start of a character that's cut off
+		leftoverBytes.put(bytes);
+	}
+	
+	/**
+	 * Decodes the given bytes, tokenizing the characters as the decoding buffer fills up
+	 *
+	 * @param bytes The bytes to decode
+	 * @param endOfInput Whether there are no more bytes after these
+	 */
+	private void decode(ByteBuffer bytes, boolean endOfInput){
+		CoderResult result;
+		do{
+			result = decoder.decode(bytes, decoded, endOfInput);
+			feedDecoded();
+		}while(result.isOverflow());
+	}
+	
+	/**
+	 * Tokenizes the characters in the decoding buffer, and clears it
+	 */
+	private void feedDecoded(){
+		decoded.flip();
+		if(decoded.hasRemaining()){
+			feed((CharSequence) decoded);
+		}
+		decoded.clear();
+	}
+	
+	/**
+	 * Finishes the HTML, sending anything that's left (e.g. text at the end that wasn't followed by a tag).
+	 * Afterwards, this tokenizer can be used for another document.
+	 */
+	public void end(){
+		if(decoder != null){
+			// Any bytes left over are a cut-off character, which decodes to the replacement character
+			leftoverBytes.flip();
+			decode(leftoverBytes, true);
+			while(decoder.flush(decoded).isOverflow()){
+				feedDecoded();
+			}
+			feedDecoded();
+			decoder.reset();
+			leftoverBytes.clear();
+		}
+		chunk = "";
+		mark = 0;
+		switch(state){
+			case DATA, RAW_TEXT, TAG_OPEN, END_TAG_OPEN -> emitText(0, 0);
+			case COMMENT, DECLARATION_START, DECLARATION_DASH -> handler.comment(token(0, 0));
+			case DECLARATION -> emitDeclaration(0);
+			default -> {
+				// A tag that's cut off is dropped
+			}
+		}
+		state = DATA;
+		pendingLength = 0;
+		tagName = null;
+		attributeName = null;
+		capturedAttribute = false;
+		rawTextTagName = null;
+		chunk = null;
+		readingBytes = false;
+	}
+	
+	/*
+	 * Tokens
+	 */
+	
+	/**
+	 * Adds the given characters to the end of {@link #pending}
+	 *
+	 * @param chars The characters to add
+	 * @param start The index of the first character to add
+	 * @param end The index after the last character to add
+	 */
+	private void appendPending(CharSequence chars, int start, int end){
+		int length = end - start;
+		if(length <= 0){
+			return;
+		}
+		if(pendingLength + length > pending.length){
+			pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + length));
+		}
+		if(chars instanceof String string){
+			string.getChars(start, end, pending, pendingLength);
+		}else{
+			for(int i = start; i < end; i++){
+				pending[pendingLength + i - start] = chars.charAt(i);
+			}
+		}
+		pendingLength += length;
+	}
+	
+	/**
+	 * Gets the current token, which runs from {@link #mark} up to the given index in the chunk, along with any
+	 * part of it that was cut off at the end of the previous chunk(s). Afterwards, {@link #pending} is cleared
+	 * (but the returned view over it is good until the next token is started).
+	 *
+	 * @param end The index in the chunk after the end of the token
+	 * @param trim The number of characters to leave off the end of the token
+	 * @return A view of the current token
+	 */
+	private CharSequence token(int end, int trim){
+		CharSequence token;
+		if(pendingLength == 0){
+			tokenLength = Math.max(0, end - trim - mark);
+			if(readingBytes){
+				byteText.set(byteChunk.buffer, charset, mark, tokenLength);
+				token = byteText;
+			}else{
+				text.set(chunk, mark, mark + tokenLength);
+				token = text;
+			}
+		}else{
+			appendPending(chunk, mark, end);
+			tokenLength = Math.max(0, pendingLength - trim);
+			token = pendingView(tokenLength);
+			pendingLength = 0;
+		}
+		return token;
+	}
+	
+	/**
+	 * Gets a view of the start of {@link #pending}, which is good until the next token is started
+	 *
+	 * @param length The number of characters (or bytes, if reading bytes directly) to view
+	 * @return A view of the start of {@link #pending}
+	 */
+	private CharSequence pendingView(int length){
+		if(!readingBytes){
+			text.set(pending, 0, length);
+			return text;
+		}
+		// A new array each time, so slices of the view stay valid (this is rare - only tokens cut off by a window)
+		ByteBuffer pendingBytes = ByteBuffer.allocate(length);
+		for(int i = 0; i < length; i++){
+			pendingBytes.put(i, (byte) pending[i]);
+		}
+		byteText.set(pendingBytes, charset, 0, length);
+		return byteText;
+	}
+	
+	/**
+	 * Resolves the current token as a name, using the hash code that was worked out as it was read
+	 *
+	 * @param table The {@link HTMLNameTable} to resolve the name with
+	 * @param end The index in the chunk after the end of the name
+	 * @return The name
+	 */
+	private String name(HTMLNameTable table, int end){
+		if(readingBytes && pendingLength == 0){
+			// Look the name up in the bytes themselves, rather than through a view of them
+			nameIndex = table.indexOf(nameHash, byteChunk.buffer, mark, end);
+			if(nameIndex != -1){
+				tokenLength = end - mark;
+				return table.nameAt(nameIndex);
+			}
+		}
+		CharSequence token = token(end, 0);
+		nameIndex = table.indexOf(nameHash, token, 0, token.length());
+		return nameIndex != -1?table.nameAt(nameIndex):
+				HTMLNameTable.toLowerCase(token, 0, token.length());
+	}
+	
+	/**
+	 * Sends the current token to the handler as text, if it isn't empty
+	 *
+	 * @param end The index in the chunk after the end of the text
+	 * @param trim The number of characters to leave off the end of the text
+	 */
+	private void emitText(int end, int trim){
+		CharSequence token = token(end, trim);
+		if(tokenLength != 0){
+			handler.text(token);
+		}
+	}
+	
+	/**
+	 * Sends the current token to the handler as a doctype if it starts with {@code doctype}, and otherwise as a
+	 * comment
+	 *
+	 * @param end The index in the chunk after the end of the declaration
+	 */
+	private void emitDeclaration(int end){
+		CharSequence token = token(end, 0);
+		if(!startsWithIgnoreCase(token, DOCTYPE_KEYWORD)){
+			handler.comment(token);
+			return;
+		}
+		// Skip the keyword and the whitespace after it, which are all single bytes when reading bytes
+		int start = DOCTYPE_KEYWORD.length();
+		while(start < tokenLength && isWhitespace(token.charAt(start))){
+			start++;
+		}
+		if(readingBytes){
+			byteText.trimStart(start);
+		}else{
+			text.trimStart(start);
+		}
+		handler.doctype(token);
+	}
+	
+	/**
+	 * @param token A token
+	 * @param prefix A lowercase ASCII prefix
+	 * @return Whether the token starts with the prefix, ignoring ASCII case
+	 */
+	private boolean startsWithIgnoreCase(CharSequence token, String prefix){
+		if(tokenLength < prefix.length()){
+			return false;
+		}
+		for(int i = 0; i < prefix.length(); i++){
+			if(HTMLNameTable.toLowerCase(token.charAt(i)) != prefix.charAt(i)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param c A character
+	 * @return Whether the character is whitespace in HTML
+	 */
+	static boolean isWhitespace(char c){
+		return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f';
+	}
+	
+	/**
+	 * @param c A character
+	 * @return Whether the character is an ASCII letter
+	 */
+	static boolean isLetter(char c){
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+	
+	/**
+	 * @param tagName The name of a tag
+	 * @return Whether the contents of the tag are raw text
+	 */
+	static boolean isRawTextTag(String tagName){
+		return tagName == HTML_SCRIPT_TAG_NAME || tagName == HTML_STYLE_TAG_NAME || tagName == HTML_TITLE_TAG_NAME ||
+				tagName == HTML_INLINE_FRAME_TAG_NAME || TEXTAREA_TAG_NAME.equals(tagName);
+	}
+	
+	/**
+	 * Finds the next occurrence of the given character in the chunk
+	 *
+	 * @param c The character to find
+	 * @param from The index to start looking at
+	 * @param length The length of the chunk
+	 * @return The index of the character, or the length of the chunk if it's not found
+	 */
+	private int indexOf(char c, int from, int length){
+		if(chunk instanceof String string){
+			int index = string.indexOf(c, from);
+			return index == -1?length:index;
+		}else if(readingBytes){
+			ByteBuffer bytes = byteChunk.buffer;
+			for(int i = from; i < length; i++){
+				if(bytes.get(i) == c){
+					return i;
+				}
+			}
+			return length;
+		}
+		for(int i = from; i < length; i++){
+			if(chunk.charAt(i) == c){
+				return i;
+			}
+		}
+		return length;
+	}
+	
+	/*
+	 * State Machine
+	 */
+	
+	/**
+	 * Finishes a start tag, sending it to the handler and moving on to its contents
+	 *
+	 * @param i The index of the {@code >} at the end of the tag
+	 * @param selfClosing Whether the tag ended with {@code />}
+	 */
+	private void finishStartTag(int i, boolean selfClosing){
+		if(capturedAttribute){
+			handler.rawAttributes(token(i, 0));
+			capturedAttribute = false;
+		}else if(capturingAttributes){
+			// Drop any whitespace that was kept from an earlier chunk
+			pendingLength = 0;
+		}
+		handler.startTagEnd(tagName, selfClosing);
+		mark = i + 1;
+		if(!selfClosing && isRawTextTag(tagName)){
+			rawTextTagName = tagName;
+			rawTextMatched = 0;
+			state = RAW_TEXT;
+		}else{
+			state = DATA;
+		}
+	}
+	
+	/**
+	 * Starts an attribute name. When capturing attributes, the name isn't marked, as it's part of the captured
+	 * attributes token.
+	 *
+	 * @param i The index of the first character of the name
+	 * @param c The first character of the name
+	 */
+	private void startAttributeName(int i, char c){
+		nameHash = HTMLNameTable.hash(0, c);
+		if(capturingAttributes){
+			capturedAttribute = true;
+		}else{
+			mark = i;
+		}
+		state = ATTRIBUTE_NAME;
+	}
+	
+	/**
+	 * Starts an attribute value. When capturing attributes, the value isn't marked, as it's part of the captured
+	 * attributes token.
+	 *
+	 * @param start The index of the first character of the value
+	 * @param valueState The state to read the value in
+	 */
+	private void startAttributeValue(int start, int valueState){
+		if(!capturingAttributes){
+			mark = start;
+		}
+		state = valueState;
+	}
+	
+	/**
+	 * Sends the current attribute to the handler with the given value, unless attributes are being captured
+	 *
+	 * @param value The value of the attribute, or {@code null} if it doesn't have one
+	 */
+	private void emitAttribute(CharSequence value){
+		if(!capturingAttributes){
+			handler.attribute(attributeName, value);
+		}
+	}
+	
+	/**
+	 * Sends the current attribute to the handler with the current token as its value, unless attributes are
+	 * being captured
+	 *
+	 * @param end The index in the chunk after the end of the value
+	 */
+	private void emitAttributeValue(int end){
+		if(!capturingAttributes){
+			handler.attribute(attributeName, token(end, 0));
+		}
+	}
+	
+	/**
+	 * Runs the state machine over the current chunk
+	 *
+	 * @param length The length of the chunk
+	 */
+	private void run(int length){
+		CharSequence chunk = this.chunk;
+		// Read bytes straight from the buffer, rather than through the chunk
+		ByteBuffer bytes = readingBytes?byteChunk.buffer:null;
+		int i = 0;
+		while(i < length){
+			char c = bytes != null?(char) (bytes.get(i) & 0xFF):chunk.charAt(i);
+			switch(state){
+				case DATA -> {
+					if(c != '<'){
+						// Skip straight to the next tag
+						i = indexOf('<', i + 1, length);
+						continue;
+					}
+					state = TAG_OPEN;
+				}
+				case TAG_OPEN -> {
+					if(isLetter(c)){
+						emitText(i, 1);
+						mark = i;
+						nameHash = HTMLNameTable.hash(0, c);
+						state = TAG_NAME;
+					}else if(c == '/'){
+						state = END_TAG_OPEN;
+					}else if(c == '!'){
+						emitText(i, 1);
+						mark = i + 1;
+						state = DECLARATION_START;
+					}else if(c == '?'){
+						emitText(i, 1);
+						mark = i;
+						state = DECLARATION;
+					}else{
+						// Not a tag, so the < is just text - check this character again as text
+						state = DATA;
+						continue;
+					}
+				}
+				case END_TAG_OPEN -> {
+					emitText(i, 2);
+					if(isLetter(c)){
+						mark = i;
+						nameHash = HTMLNameTable.hash(0, c);
+						state = END_TAG_NAME;
+					}else if(c == '>'){
+						// </> is ignored
+						mark = i + 1;
+						state = DATA;
+					}else{
+						mark = i;
+						state = DECLARATION;
+					}
+				}
+				case TAG_NAME -> {
+					if(isWhitespace(c) || c == '/' || c == '>'){
+						tagName = name(HTMLNameTable.TAG_NAMES, i);
+						handler.startTag(tagName);
+						// Captured attributes start right after the name
+						mark = i;
+						if(c == '>'){
+							finishStartTag(i, false);
+						}else{
+							state = c == '/'?SELF_CLOSING:BEFORE_ATTRIBUTE_NAME;
+						}
+					}else{
+						nameHash = HTMLNameTable.hash(nameHash, c);
+					}
+				}
+				case END_TAG_NAME -> {
+					if(isWhitespace(c) || c == '/' || c == '>'){
+						tagName = name(HTMLNameTable.TAG_NAMES, i);
+						if(c == '>'){
+							handler.endTag(tagName);
+							mark = i + 1;
+							state = DATA;
+						}else{
+							state = END_TAG_CLOSE;
+						}
+					}else{
+						nameHash = HTMLNameTable.hash(nameHash, c);
+					}
+				}
+				case END_TAG_CLOSE -> {
+					if(c == '>'){
+						handler.endTag(tagName);
+						mark = i + 1;
+						state = DATA;
+					}
+				}
+				case BEFORE_ATTRIBUTE_NAME -> {
+					if(c == '>'){
+						finishStartTag(i, false);
+					}else if(c == '/'){
+						state = SELF_CLOSING;
+					}else if(!isWhitespace(c)){
+						startAttributeName(i, c);
+					}
+				}
+				case ATTRIBUTE_NAME -> {
+					if(isWhitespace(c) || c == '/' || c == '>' || c == '='){
+						if(!capturingAttributes){
+							attributeName = name(HTMLNameTable.ATTRIBUTE_NAMES, i);
+						}
+						if(c == '='){
+							state = BEFORE_ATTRIBUTE_VALUE;
+						}else if(isWhitespace(c)){
+							state = AFTER_ATTRIBUTE_NAME;
+						}else{
+							emitAttribute(null);
+							if(c == '>'){
+								finishStartTag(i, false);
+							}else{
+								state = SELF_CLOSING;
+							}
+						}
+					}else{
+						nameHash = HTMLNameTable.hash(nameHash, c);
+					}
+				}
+				case AFTER_ATTRIBUTE_NAME -> {
+					if(c == '='){
+						state = BEFORE_ATTRIBUTE_VALUE;
+					}else if(!isWhitespace(c)){
+						emitAttribute(null);
+						if(c == '>'){
+							finishStartTag(i, false);
+						}else if(c == '/'){
+							state = SELF_CLOSING;
+						}else{
+							startAttributeName(i, c);
+						}
+					}
+				}
+				case BEFORE_ATTRIBUTE_VALUE -> {
+					if(c == '"'){
+						startAttributeValue(i + 1, ATTRIBUTE_VALUE_DOUBLE_QUOTED);
+					}else if(c == '\''){
+						startAttributeValue(i + 1, ATTRIBUTE_VALUE_SINGLE_QUOTED);
+					}else if(c == '>'){
+						emitAttribute("");
+						finishStartTag(i, false);
+					}else if(!isWhitespace(c)){
+						startAttributeValue(i, ATTRIBUTE_VALUE_UNQUOTED);
+					}
+				}
+				case ATTRIBUTE_VALUE_DOUBLE_QUOTED, ATTRIBUTE_VALUE_SINGLE_QUOTED -> {
+					char quote = state == ATTRIBUTE_VALUE_DOUBLE_QUOTED?'"':'\'';
+					if(c != quote){
+						i = indexOf(quote, i + 1, length);
+						continue;
+					}
+					emitAttributeValue(i);
+					state = BEFORE_ATTRIBUTE_NAME;
+				}
+				case ATTRIBUTE_VALUE_UNQUOTED -> {
+					if(isWhitespace(c) || c == '>'){
+						emitAttributeValue(i);
+						if(c == '>'){
+							finishStartTag(i, false);
+						}else{
+							state = BEFORE_ATTRIBUTE_NAME;
+						}
+					}
+				}
+				case SELF_CLOSING -> {
+					if(c == '>'){
+						finishStartTag(i, true);
+					}else{
+						// A / that isn't right before the > is ignored - check this character again
+						state = BEFORE_ATTRIBUTE_NAME;
+						continue;
+					}
+				}
+				case DECLARATION_START -> {
+					if(c == '-'){
+						state = DECLARATION_DASH;
+					}else{
+						state = DECLARATION;
+						continue;
+					}
+				}
+				case DECLARATION_DASH -> {
+					if(c == '-'){
+						// Drop the first dash if it was kept from the last chunk
+						mark = i + 1;
+						pendingLength = 0;
+						dashes = 0;
+						state = COMMENT;
+					}else{
+						state = DECLARATION;
+						continue;
+					}
+				}
+				case COMMENT -> {
+					if(c == '-'){
+						dashes++;
+					}else if(c == '>' && dashes >= 2){
+						handler.comment(token(i, 2));
+						mark = i + 1;
+						state = DATA;
+					}else{
+						dashes = 0;
+						i = indexOf('-', i + 1, length);
+						continue;
+					}
+				}
+				case DECLARATION -> {
+					if(c != '>'){
+						i = indexOf('>', i + 1, length);
+						continue;
+					}
+					emitDeclaration(i);
+					mark = i + 1;
+					state = DATA;
+				}
+				case RAW_TEXT -> {
+					int nameLength = rawTextTagName.length();
+					if(rawTextMatched == 0){
+						if(c != '<'){
+							i = indexOf('<', i + 1, length);
+							continue;
+						}
+						rawTextMatched = 1;
+					}else if(rawTextMatched == 1){
+						rawTextMatched = c == '/'?2:(c == '<'?1:0);
+					}else if(rawTextMatched < nameLength + 2){
+						if(HTMLNameTable.toLowerCase(c) == rawTextTagName.charAt(rawTextMatched - 2)){
+							rawTextMatched++;
+						}else{
+							rawTextMatched = c == '<'?1:0;
+						}
+					}else if(isWhitespace(c) || c == '/' || c == '>'){
+						// Found the end tag
+						emitText(i, rawTextMatched);
+						tagName = rawTextTagName;
+						rawTextTagName = null;
+						rawTextMatched = 0;
+						if(c == '>'){
+							handler.endTag(tagName);
+							mark = i + 1;
+							state = DATA;
+						}else{
+							state = END_TAG_CLOSE;
+						}
+					}else{
+						rawTextMatched = c == '<'?1:0;
+					}
+				}
+				default -> throw new IllegalStateException("Unknown tokenizer state: " + state);
+			}
+			i++;
+		}
+	}
+	
+	/**
+	 * A reusable view over part of a chunk or the pending buffer, which is what's given to the handler for
+	 * text, comments, and attribute values
+	 */
+	private static final class TokenText implements CharSequence{
+		/** The chunk being viewed, or {@code null} if viewing an array */
+		private CharSequence sequence;
+		/** The array being viewed, or {@code null} if viewing a chunk */
+		private char[] array;
+		/** The index of the first character in the view */
+		private int start;
+		/** The index after the last character in the view */
+		private int end;
+		
+		/**
+		 * Sets this view to part of a chunk
+		 *
+		 * @param sequence The chunk to view
+		 * @param start The index of the first character in the view
+		 * @param end The index after the last character in the view
+		 */
+		void set(CharSequence sequence, int start, int end){
+			this.sequence = sequence;
+			array = null;
+			this.start = start;
+			this.end = Math.max(start, end);
+		}
+		
+		/**
+		 * Sets this view to part of an array
+		 *
+		 * @param array The array to view
+		 * @param start The index of the first character in the view
+		 * @param end The index after the last character in the view
+		 */
+		void set(char[] array, int start, int end){
+			sequence = null;
+			this.array = array;
+			this.start = start;
+			this.end = Math.max(start, end);
+		}
+		
+		/**
+		 * Moves the start of this view forward by the given number of characters
+		 *
+		 * @param count The number of characters to skip
+		 */
+		void trimStart(int count){
+			start = Math.min(end, start + count);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int length(){
+			return end - start;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public char charAt(int index){
+			if(index < 0 || index >= end - start){
+				throw new IndexOutOfBoundsException("index " + index + " is out of bounds for length " + length());
+			}
+			return array != null?array[start + index]:sequence.charAt(start + index);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public CharSequence subSequence(int start, int end){
+			return toString().substring(start, end);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public String toString(){
+			if(array != null){
+				return new String(array, start, end - start);
+			}else if(sequence instanceof String string){
+				return string.substring(start, end);
+			}
+			return sequence.subSequence(start, end).toString();
+		}
+	}
+	
+	/**
+	 * A chunk of bytes that's read directly, one character per byte. All the characters HTML's syntax is made of
+	 * are ASCII, and in the charsets that are read directly, bytes that are part of other characters are never
+	 * ASCII, so the tokens are found in the right places without decoding anything.
+	 */
+	private static final class ByteChunk implements CharSequence{
+		/** The bytes in the chunk */
+		private ByteBuffer buffer;
+		/** The number of bytes in the chunk */
+		private int length;
+		
+		/**
+		 * Sets the bytes in this chunk
+		 *
+		 * @param buffer The bytes in the chunk, starting at index 0
+		 * @param length The number of bytes in the chunk
+		 */
+		void set(ByteBuffer buffer, int length){
+			this.buffer = buffer;
+			this.length = length;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int length(){
+			return length;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public char charAt(int index){
+			return (char) (buffer.get(index) & 0xFF);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public CharSequence subSequence(int start, int end){
+			throw new UnsupportedOperationException("The bytes are only read one at a time");
+		}
+	}
+}
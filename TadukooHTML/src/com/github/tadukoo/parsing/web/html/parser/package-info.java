@@ -0,0 +1,5 @@
+/**
+ * Contains the classes used to read HTML, turning it into events and
+ * {@link com.github.tadukoo.parsing.web.html.tag.HTMLTag HTMLTags}
+ */
+package com.github.tadukoo.parsing.web.html.parser;
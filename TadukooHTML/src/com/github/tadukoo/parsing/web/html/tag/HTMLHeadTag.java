@@ -27,193 +27,33 @@ public class HTMLHeadTag extends HTMLTag{
 	 * @author Logan Ferree (Tadukoo)
 	 * @version Alpha v.0.1
 	 */
-	public static class HTMLHeadTagBuilder extends BaseHTMLTagBuilder{
+	public static class HTMLHeadTagBuilder extends BaseHTMLTagBuilder<HTMLHeadTagBuilder>{
 		
 		/** Not allowed to instantiate outside {@link HTMLHeadTag} */
 		private HTMLHeadTagBuilder(){
 			super();
-			subTagWhitelist.addAll(VALID_HTML_HEAD_SUB_TAGS);
-			subTagBlacklist.add(HTML_ROOT_TAG_NAME);
+			subTagWhitelist = VALID_HTML_HEAD_SUB_TAGS;
+			subTagBlacklist = INVALID_HTML_HEAD_SUB_TAGS;
 		}
 		
 		/*
-		 * Global Attributes
+		 * Reuse
 		 */
 		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder accesskey(String value){
-			return (HTMLHeadTagBuilder) super.accesskey(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder classAttribute(String value){
-			return (HTMLHeadTagBuilder) super.classAttribute(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder contenteditable(String value){
-			return (HTMLHeadTagBuilder) super.contenteditable(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder data(String dataTagName, String value){
-			return (HTMLHeadTagBuilder) super.data(dataTagName, value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder dir(String value){
-			return (HTMLHeadTagBuilder) super.dir(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder draggable(String value){
-			return (HTMLHeadTagBuilder) super.draggable(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder hidden(){
-			return (HTMLHeadTagBuilder) super.hidden();
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder id(String value){
-			return (HTMLHeadTagBuilder) super.id(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder lang(String value){
-			return (HTMLHeadTagBuilder) super.lang(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder spellcheck(String value){
-			return (HTMLHeadTagBuilder) super.spellcheck(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder style(String value){
-			return (HTMLHeadTagBuilder) super.style(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder tabindex(String value){
-			return (HTMLHeadTagBuilder) super.tabindex(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder title(String value){
-			return (HTMLHeadTagBuilder) super.title(value);
-		}
-		
-		/** {@inheritDoc} */
-		public HTMLHeadTagBuilder translate(String value){
-			return (HTMLHeadTagBuilder) super.translate(value);
-		}
-		
-		/*
-		 * Global Drag Event Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder ondrag(String value){
-			return (HTMLHeadTagBuilder) super.ondrag(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder ondragend(String value){
-			return (HTMLHeadTagBuilder) super.ondragend(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder ondragenter(String value){
-			return (HTMLHeadTagBuilder) super.ondragenter(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder ondragleave(String value){
-			return (HTMLHeadTagBuilder) super.ondragleave(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder ondragover(String value){
-			return (HTMLHeadTagBuilder) super.ondragover(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder ondragstart(String value){
-			return (HTMLHeadTagBuilder) super.ondragstart(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder ondrop(String value){
-			return (HTMLHeadTagBuilder) super.ondrop(value);
-		}
-		
-		/*
-		 * Global Clipboard Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder oncopy(String value){
-			return (HTMLHeadTagBuilder) super.oncopy(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder oncut(String value){
-			return (HTMLHeadTagBuilder) super.oncut(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder onpaste(String value){
-			return (HTMLHeadTagBuilder) super.onpaste(value);
-		}
-		
-		/*
-		 * Global Other Event Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder oncontextmenu(String value){
-			return (HTMLHeadTagBuilder) super.oncontextmenu(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder onwheel(String value){
-			return (HTMLHeadTagBuilder) super.onwheel(value);
-		}
-		
-		/*
-		 * Custom Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLHeadTagBuilder attribute(String name, String value){
-			return (HTMLHeadTagBuilder) super.attribute(name, value);
-		}
-		
 		/** {@inheritDoc} */
 		@Override
-		public HTMLHeadTagBuilder attributes(Map<String, String> attributes){
-			return (HTMLHeadTagBuilder) super.attributes(attributes);
+		public HTMLHeadTagBuilder reset(){
+			super.reset();
+			subTagWhitelist = VALID_HTML_HEAD_SUB_TAGS;
+			subTagBlacklist = INVALID_HTML_HEAD_SUB_TAGS;
+			return this;
 		}
 		
 		/** {@inheritDoc} */
 		@Override
 		public HTMLHeadTag build(){
-			return new HTMLHeadTag(attributes, attributeWhitelist, subTagWhitelist, subTagBlacklist);
+			return new HTMLHeadTag(validateAttributes("HTMLHeadTag"), attributeWhitelist, subTagWhitelist,
+					subTagBlacklist, cacheRendering);
 		}
 	}
 	
@@ -224,11 +64,13 @@ public class HTMLHeadTag extends HTMLTag{
 	 * @param attributeWhitelist The Set of valid attributes for the {@link HTMLHeadTag}
 	 * @param subTagWhitelist The Set of valid sub tags for the {@link HTMLHeadTag}
 	 * @param subTagBlacklist The Set of invalid sub tags for the {@link HTMLHeadTag}
+	 * @param cacheRendering Whether to keep the rendered form of this {@link HTMLHeadTag} after it's first rendered
 	 */
 	private HTMLHeadTag(
 			Map<String, String> attributes, Set<String> attributeWhitelist,
-			Set<String> subTagWhitelist, Set<String> subTagBlacklist){
-		super(HTML_HEAD_TAG_NAME, attributes, attributeWhitelist, true, subTagWhitelist, subTagBlacklist);
+			Set<String> subTagWhitelist, Set<String> subTagBlacklist, boolean cacheRendering){
+		super(HTML_HEAD_TAG_NAME, attributes, attributeWhitelist, true, subTagWhitelist, subTagBlacklist,
+				cacheRendering);
 	}
 	
 	/**
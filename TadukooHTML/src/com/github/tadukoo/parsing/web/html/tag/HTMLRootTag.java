@@ -32,7 +32,7 @@ public class HTMLRootTag extends HTMLTag{
 	 * @author Logan Ferree (Tadukoo)
 	 * @version Alpha v.0.1
 	 */
-	public static class HTMLRootTagBuilder extends BaseHTMLTagBuilder{
+	public static class HTMLRootTagBuilder extends BaseHTMLTagBuilder<HTMLRootTagBuilder>{
 		
 		/**
 		 * Not allowed to instantiate outside {@link HTMLRootTag} - sets
@@ -41,198 +41,29 @@ public class HTMLRootTag extends HTMLTag{
 		private HTMLRootTagBuilder(){
 			super();
 			attributes.put(LANG_ATTRIBUTE_NAME, DEFAULT_LANG_VALUE);
-			attributeWhitelist.add(ON_SCROLL_ATTRIBUTE_NAME);
-			subTagWhitelist.add(HTML_HEAD_TAG_NAME);
-			subTagWhitelist.add(HTML_BODY_TAG_NAME);
-			subTagBlacklist.add(HTML_ROOT_TAG_NAME);
+			attributeWhitelist = ROOT_TAG_ATTRIBUTE_WHITELIST;
+			subTagWhitelist = VALID_HTML_ROOT_SUB_TAGS;
+			subTagBlacklist = INVALID_HTML_ROOT_SUB_TAGS;
 		}
 		
 		/*
-		 * Global Attributes
+		 * Reuse
 		 */
 		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder accesskey(String value){
-			return (HTMLRootTagBuilder) super.accesskey(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder classAttribute(String value){
-			return (HTMLRootTagBuilder) super.classAttribute(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder contenteditable(String value){
-			return (HTMLRootTagBuilder) super.contenteditable(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder data(String dataTagName, String value){
-			return (HTMLRootTagBuilder) super.data(dataTagName, value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder dir(String value){
-			return (HTMLRootTagBuilder) super.dir(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder draggable(String value){
-			return (HTMLRootTagBuilder) super.draggable(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder hidden(){
-			return (HTMLRootTagBuilder) super.hidden();
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder id(String value){
-			return (HTMLRootTagBuilder) super.id(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder lang(String value){
-			return (HTMLRootTagBuilder) super.lang(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder spellcheck(String value){
-			return (HTMLRootTagBuilder) super.spellcheck(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder style(String value){
-			return (HTMLRootTagBuilder) super.style(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder tabindex(String value){
-			return (HTMLRootTagBuilder) super.tabindex(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder title(String value){
-			return (HTMLRootTagBuilder) super.title(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder translate(String value){
-			return (HTMLRootTagBuilder) super.translate(value);
-		}
-		
-		/*
-		 * Global Drag Event Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder ondrag(String value){
-			return (HTMLRootTagBuilder) super.ondrag(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder ondragend(String value){
-			return (HTMLRootTagBuilder) super.ondragend(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder ondragenter(String value){
-			return (HTMLRootTagBuilder) super.ondragenter(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder ondragleave(String value){
-			return (HTMLRootTagBuilder) super.ondragleave(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder ondragover(String value){
-			return (HTMLRootTagBuilder) super.ondragover(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder ondragstart(String value){
-			return (HTMLRootTagBuilder) super.ondragstart(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder ondrop(String value){
-			return (HTMLRootTagBuilder) super.ondrop(value);
-		}
-		
-		/*
-		 * Global Clipboard Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder oncopy(String value){
-			return (HTMLRootTagBuilder) super.oncopy(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder oncut(String value){
-			return (HTMLRootTagBuilder) super.oncut(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder onpaste(String value){
-			return (HTMLRootTagBuilder) super.onpaste(value);
-		}
-		
-		/*
-		 * Global Other Event Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder oncontextmenu(String value){
-			return (HTMLRootTagBuilder) super.oncontextmenu(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder onwheel(String value){
-			return (HTMLRootTagBuilder) super.onwheel(value);
-		}
-		
-		/*
-		 * Custom Attributes
+		/**
+		 * Resets this builder to how it was when it was created, including putting the
+		 * {@link #LANG_ATTRIBUTE_NAME lang attribute} back to {@link #DEFAULT_LANG_VALUE}
+		 *
+		 * @return this, to continue building
 		 */
-		
-		/** {@inheritDoc} */
 		@Override
-		public HTMLRootTagBuilder attribute(String name, String value){
-			return (HTMLRootTagBuilder) super.attribute(name, value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLRootTagBuilder attributes(Map<String, String> attributes){
-			return (HTMLRootTagBuilder) super.attributes(attributes);
+		public HTMLRootTagBuilder reset(){
+			super.reset();
+			attributes.put(LANG_ATTRIBUTE_NAME, DEFAULT_LANG_VALUE);
+			attributeWhitelist = ROOT_TAG_ATTRIBUTE_WHITELIST;
+			subTagWhitelist = VALID_HTML_ROOT_SUB_TAGS;
+			subTagBlacklist = INVALID_HTML_ROOT_SUB_TAGS;
+			return this;
 		}
 		
 		/*
@@ -255,7 +86,8 @@ public class HTMLRootTag extends HTMLTag{
 		/** {@inheritDoc} */
 		@Override
 		public HTMLRootTag build(){
-			return new HTMLRootTag(attributes, attributeWhitelist, subTagWhitelist, subTagBlacklist);
+			return new HTMLRootTag(validateAttributes("HTMLRootTag"), attributeWhitelist, subTagWhitelist,
+					subTagBlacklist, cacheRendering);
 		}
 	}
 	
@@ -266,11 +98,13 @@ public class HTMLRootTag extends HTMLTag{
 	 * @param attributeWhitelist The Set of valid attributes for the {@link HTMLRootTag}
 	 * @param subTagWhitelist The Set of valid sub tags for the {@link HTMLRootTag}
 	 * @param subTagBlacklist The Set of invalid sub tags for the {@link HTMLRootTag}
+	 * @param cacheRendering Whether to keep the rendered form of this {@link HTMLRootTag} after it's first rendered
 	 */
 	private HTMLRootTag(
 			Map<String, String> attributes, Set<String> attributeWhitelist,
-			Set<String> subTagWhitelist, Set<String> subTagBlacklist){
-		super(HTML_ROOT_TAG_NAME, attributes, attributeWhitelist, true, subTagWhitelist, subTagBlacklist);
+			Set<String> subTagWhitelist, Set<String> subTagBlacklist, boolean cacheRendering){
+		super(HTML_ROOT_TAG_NAME, attributes, attributeWhitelist, true, subTagWhitelist, subTagBlacklist,
+				cacheRendering);
 	}
 	
 	/**
@@ -0,0 +1,214 @@
+package com.github.tadukoo.parsing.web.html.tag;
+
+import java.util.Set;
+
+/**
+ * A precompiled table for checking whether a tag can be nested inside an {@link HTMLTag}, built from its
+ * sub tag whitelist and blacklist. The tag names are placed using a perfect hash - a multiplier is searched for
+ * so that every name lands in its own slot - so a check is one multiply and shift of the (cached) String hash
+ * code, and one comparison, instead of a lookup in each Set.
+ * <br><br>
+ * A tag name is allowed if it isn't in the blacklist and either the whitelist has it or the whitelist is empty
+ * (meaning there are no restrictions). {@link HTMLTagConstants#HTML_CONTENT_NAME} is treated like any other
+ * name, so {@code canContain(HTML_CONTENT_NAME)} tells whether the tag can hold content.
+ * <br><br>
+ * Tables for the standard sub tag Sets in {@link HTMLTagConstants} are compiled once and shared. If two of the
+ * names have the same hash code, no multiplier can separate them, so the table falls back to checking the Sets.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLSubTagTable{
+	/** The most multipliers tried for one table size before the table size is doubled */
+	private static final int MAX_MULTIPLIER_ATTEMPTS = 256;
+	
+	/** A table with no restrictions, for an empty whitelist and blacklist */
+	public static final HTMLSubTagTable UNRESTRICTED = new HTMLSubTagTable(Set.of(), Set.of());
+	/** The table for {@link HTMLTagConstants#VALID_HTML_ROOT_SUB_TAGS} and the root blacklist */
+	public static final HTMLSubTagTable ROOT_SUB_TAGS = new HTMLSubTagTable(
+			HTMLTagConstants.VALID_HTML_ROOT_SUB_TAGS, HTMLTagConstants.INVALID_HTML_ROOT_SUB_TAGS);
+	/** The table for {@link HTMLTagConstants#VALID_HTML_HEAD_SUB_TAGS} and the head blacklist */
+	public static final HTMLSubTagTable HEAD_SUB_TAGS = new HTMLSubTagTable(
+			HTMLTagConstants.VALID_HTML_HEAD_SUB_TAGS, HTMLTagConstants.INVALID_HTML_HEAD_SUB_TAGS);
+	/** The table for {@link HTMLTagConstants#VALID_HTML_BODY_SUB_TAGS} */
+	public static final HTMLSubTagTable BODY_SUB_TAGS = new HTMLSubTagTable(
+			HTMLTagConstants.VALID_HTML_BODY_SUB_TAGS, Set.of());
+	/** The table for {@link HTMLTagConstants#VALID_HTML_INLINE_FRAME_SUB_TAGS} */
+	public static final HTMLSubTagTable INLINE_FRAME_SUB_TAGS = new HTMLSubTagTable(
+			HTMLTagConstants.VALID_HTML_INLINE_FRAME_SUB_TAGS, Set.of());
+	
+	/** The tag names in the table, in their slots (null for an empty slot) */
+	private final String[] names;
+	/** Whether the tag name in each slot is allowed */
+	private final boolean[] allowed;
+	/** The multiplier for the hash codes, which gives every name its own slot */
+	private final int multiplier;
+	/** How far to shift the multiplied hash codes to get a slot */
+	private final int shift;
+	/** Whether tag names that aren't in the table are allowed (true when the whitelist is empty) */
+	private final boolean allowedByDefault;
+	/** The Set of valid sub tags, only used if the names couldn't be perfectly hashed */
+	private final Set<String> subTagWhitelist;
+	/** The Set of invalid sub tags, only used if the names couldn't be perfectly hashed */
+	private final Set<String> subTagBlacklist;
+	
+	/**
+	 * Compiles a new {@link HTMLSubTagTable} from the given whitelist and blacklist
+	 *
+	 * @param subTagWhitelist The Set of valid sub tags (empty for no restrictions)
+	 * @param subTagBlacklist The Set of invalid sub tags
+	 */
+	private HTMLSubTagTable(Set<String> subTagWhitelist, Set<String> subTagBlacklist){
+		allowedByDefault = subTagWhitelist.isEmpty();
+		
+		// Gather all the names, with the blacklist winning if a name is in both
+		int count = subTagWhitelist.size() + subTagBlacklist.size();
+		String[] keys = new String[count];
+		boolean[] values = new boolean[count];
+		int index = 0;
+		for(String name: subTagBlacklist){
+			keys[index] = name;
+			values[index++] = false;
+		}
+		for(String name: subTagWhitelist){
+			if(!subTagBlacklist.contains(name)){
+				keys[index] = name;
+				values[index++] = true;
+			}
+		}
+		count = index;
+		this.subTagWhitelist = subTagWhitelist;
+		this.subTagBlacklist = subTagBlacklist;
+		if(!hasDistinctHashCodes(keys, count)){
+			names = null;
+			allowed = null;
+			multiplier = 0;
+			shift = 0;
+			return;
+		}
+		
+		// Search for a multiplier that puts every name in its own slot, making the table bigger if none is found
+		int bits = 32 - Integer.numberOfLeadingZeros(Math.max(1, count * 2 - 1));
+		int seed = 0x9E3779B9;
+		while(true){
+			int size = 1 << bits;
+			for(int attempt = 0; attempt < MAX_MULTIPLIER_ATTEMPTS; attempt++){
+				// Multipliers must be odd so no bits of the hash code are thrown away
+				int candidate = seed | 1;
+				seed = seed * 0x2C9277B5 + 0xAC564B05;
+				String[] slots = new String[size];
+				boolean[] slotAllowed = new boolean[size];
+				if(place(keys, values, count, candidate, 32 - bits, slots, slotAllowed)){
+					names = slots;
+					allowed = slotAllowed;
+					multiplier = candidate;
+					shift = 32 - bits;
+					return;
+				}
+			}
+			bits++;
+		}
+	}
+	
+	/**
+	 * @param keys The tag names
+	 * @param count The number of tag names
+	 * @return Whether all the tag names have different hash codes
+	 */
+	private static boolean hasDistinctHashCodes(String[] keys, int count){
+		for(int i = 0; i < count; i++){
+			for(int j = i + 1; j < count; j++){
+				if(keys[i].hashCode() == keys[j].hashCode()){
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Tries to place the given names in the given slots without any collisions
+	 *
+	 * @param keys The tag names to place
+	 * @param values Whether each tag name is allowed
+	 * @param count The number of tag names
+	 * @param multiplier The multiplier for the hash codes
+	 * @param shift How far to shift the multiplied hash codes
+	 * @param slots The slots to fill with the tag names
+	 * @param slotAllowed The slots to fill with whether each tag name is allowed
+	 * @return Whether all the names were placed without any collisions
+	 */
+	private static boolean place(
+			String[] keys, boolean[] values, int count, int multiplier, int shift,
+			String[] slots, boolean[] slotAllowed){
+		for(int i = 0; i < count; i++){
+			int slot = slotOf(keys[i], multiplier, shift);
+			if(slots[slot] != null){
+				return false;
+			}
+			slots[slot] = keys[i];
+			slotAllowed[slot] = values[i];
+		}
+		return true;
+	}
+	
+	/**
+	 * @param name The tag name
+	 * @param multiplier The multiplier for the hash code
+	 * @param shift How far to shift the multiplied hash code
+	 * @return The slot for the given tag name
+	 */
+	private static int slotOf(String name, int multiplier, int shift){
+		return (name.hashCode() * multiplier) >>> shift;
+	}
+	
+	/**
+	 * Gets the {@link HTMLSubTagTable} for the given whitelist and blacklist, using one of the shared tables if
+	 * they're the standard Sets in {@link HTMLTagConstants}, or else compiling a new one
+	 *
+	 * @param subTagWhitelist The Set of valid sub tags (empty for no restrictions)
+	 * @param subTagBlacklist The Set of invalid sub tags
+	 * @return The {@link HTMLSubTagTable} for the given whitelist and blacklist
+	 */
+	public static HTMLSubTagTable of(Set<String> subTagWhitelist, Set<String> subTagBlacklist){
+		if(subTagWhitelist.isEmpty() && subTagBlacklist.isEmpty()){
+			return UNRESTRICTED;
+		}else if(subTagWhitelist == HTMLTagConstants.VALID_HTML_BODY_SUB_TAGS && subTagBlacklist.isEmpty()){
+			return BODY_SUB_TAGS;
+		}else if(subTagWhitelist == HTMLTagConstants.VALID_HTML_HEAD_SUB_TAGS &&
+				subTagBlacklist == HTMLTagConstants.INVALID_HTML_HEAD_SUB_TAGS){
+			return HEAD_SUB_TAGS;
+		}else if(subTagWhitelist == HTMLTagConstants.VALID_HTML_ROOT_SUB_TAGS &&
+				subTagBlacklist == HTMLTagConstants.INVALID_HTML_ROOT_SUB_TAGS){
+			return ROOT_SUB_TAGS;
+		}else if(subTagWhitelist == HTMLTagConstants.VALID_HTML_INLINE_FRAME_SUB_TAGS && subTagBlacklist.isEmpty()){
+			return INLINE_FRAME_SUB_TAGS;
+		}
+		return new HTMLSubTagTable(subTagWhitelist, subTagBlacklist);
+	}
+	
+	/**
+	 * @param childTagName The name of the tag to check (or {@link HTMLTagConstants#HTML_CONTENT_NAME} to check
+	 * for content)
+	 * @return Whether the tag can be nested inside a tag using this table
+	 */
+	public boolean canContain(String childTagName){
+		if(names == null){
+			return !subTagBlacklist.contains(childTagName) &&
+					(allowedByDefault || subTagWhitelist.contains(childTagName));
+		}
+		int slot = slotOf(childTagName, multiplier, shift);
+		String name = names[slot];
+		if(name == childTagName || (name != null && name.equals(childTagName))){
+			return allowed[slot];
+		}
+		return allowedByDefault;
+	}
+	
+	/**
+	 * @return The number of slots in this table (0 if it falls back to checking the Sets)
+	 */
+	public int getSize(){
+		return names == null?0:names.length;
+	}
+}
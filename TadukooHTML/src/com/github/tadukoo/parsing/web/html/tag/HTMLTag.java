@@ -1,22 +1,49 @@
 package com.github.tadukoo.parsing.web.html.tag;
 
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeMap;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLLazyAttributeMap;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeWhitelist;
 import com.github.tadukoo.parsing.web.html.tag.builder.BaseHTMLTagBuilder;
+import com.github.tadukoo.parsing.web.html.util.HTMLCharacterReferences;
+import com.github.tadukoo.parsing.web.html.util.UTF8Encoder;
 import com.github.tadukoo.util.StringUtil;
-import com.github.tadukoo.util.map.MapUtil;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * Represents an HTML Tag (both opening and closing tag), e.g. {@code &lt;html lang="en-US">&lt;/html>}
+ * <br><br>
+ * {@link HTMLTag HTMLTags} are immutable: the attributes, whitelists, and blacklist are frozen into immutable
+ * copies when the tag is built, so changing (or {@link BaseHTMLTagBuilder#reset() resetting}) the builder
+ * afterwards doesn't affect it. An {@link HTMLLazyAttributeMap} (which is what parsed tags get) is the one thing
+ * that isn't copied: it's kept as-is, so the attributes are only materialized if they're rendered or asked for as a
+ * whole - {@link #getAttribute(String)} and {@link #hasAttribute(String)} look up one attribute without
+ * materializing them.
+ * <br><br>
+ * Not every field is final, though: the hash code, the compiled sub tag table used by {@link #canContain(String)},
+ * and the cached renderings (when {@code cacheRendering} is on) are set lazily the first time they're needed,
+ * without any locking. A built tag can still be cached and shared between threads, because each of these is only
+ * ever set to a value worked out from the tag's final fields, so threads that race to set one just set the same
+ * value. The hash code is a single int, the sub tag table only has final fields, and the cached renderings are
+ * volatile, so a thread either sees a complete value or none at all (and works it out again).
+ * <br><br>
+ * Attribute values are kept as plain text, and are escaped with {@link HTMLCharacterReferences} as they're
+ * rendered (e.g. a value of {@code "a & b"} is rendered as {@code "a &amp; b"}), so rendering values that don't
+ * need escaping (which is most of them) doesn't cost anything extra.
  *
  * @author Logan Ferree (Tadukoo)
  * @version Alpha v.0.1
  */
 public class HTMLTag implements HTMLTagConstants{
-	
 	/**
 	 * {@inheritDoc}
 	 *
@@ -59,7 +86,7 @@ public class HTMLTag implements HTMLTagConstants{
 	 * @author Logan Ferree (Tadukoo)
 	 * @version Alpha v.0.1
 	 */
-	public static class HTMLTagBuilder extends BaseHTMLTagBuilder{
+	public static class HTMLTagBuilder extends BaseHTMLTagBuilder<HTMLTagBuilder>{
 		/** The name of the {@link HTMLTag} */
 		private String tagName = null;
 		/** Whether to include a closing tag for this {@link HTMLTag} or not */
@@ -75,191 +102,16 @@ public class HTMLTag implements HTMLTagConstants{
 		}
 		
 		/*
-		 * Global Attributes
+		 * Reuse
 		 */
 		
 		/** {@inheritDoc} */
 		@Override
-		public HTMLTagBuilder accesskey(String value){
-			return (HTMLTagBuilder) super.accesskey(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder classAttribute(String value){
-			return (HTMLTagBuilder) super.classAttribute(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder contenteditable(String value){
-			return (HTMLTagBuilder) super.contenteditable(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder data(String dataTagName, String value){
-			return (HTMLTagBuilder) super.data(dataTagName, value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder dir(String value){
-			return (HTMLTagBuilder) super.dir(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder draggable(String value){
-			return (HTMLTagBuilder) super.draggable(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder hidden(){
-			return (HTMLTagBuilder) super.hidden();
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder id(String value){
-			return (HTMLTagBuilder) super.id(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder lang(String value){
-			return (HTMLTagBuilder) super.lang(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder spellcheck(String value){
-			return (HTMLTagBuilder) super.spellcheck(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder style(String value){
-			return (HTMLTagBuilder) super.style(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder tabindex(String value){
-			return (HTMLTagBuilder) super.tabindex(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder title(String value){
-			return (HTMLTagBuilder) super.title(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder translate(String value){
-			return (HTMLTagBuilder) super.translate(value);
-		}
-		
-		/*
-		 * Global Drag Event Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder ondrag(String value){
-			return (HTMLTagBuilder) super.ondrag(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder ondragend(String value){
-			return (HTMLTagBuilder) super.ondragend(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder ondragenter(String value){
-			return (HTMLTagBuilder) super.ondragenter(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder ondragleave(String value){
-			return (HTMLTagBuilder) super.ondragleave(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder ondragover(String value){
-			return (HTMLTagBuilder) super.ondragover(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder ondragstart(String value){
-			return (HTMLTagBuilder) super.ondragstart(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder ondrop(String value){
-			return (HTMLTagBuilder) super.ondrop(value);
-		}
-		
-		/*
-		 * Global Clipboard Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder oncopy(String value){
-			return (HTMLTagBuilder) super.oncopy(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder oncut(String value){
-			return (HTMLTagBuilder) super.oncut(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder onpaste(String value){
-			return (HTMLTagBuilder) super.onpaste(value);
-		}
-		
-		/*
-		 * Other Global Event Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder oncontextmenu(String value){
-			return (HTMLTagBuilder) super.oncontextmenu(value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder onwheel(String value){
-			return (HTMLTagBuilder) super.onwheel(value);
-		}
-		
-		/*
-		 * Custom Attributes
-		 */
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder attribute(String name, String value){
-			return (HTMLTagBuilder) super.attribute(name, value);
-		}
-		
-		/** {@inheritDoc} */
-		@Override
-		public HTMLTagBuilder attributes(Map<String, String> attributes){
-			return (HTMLTagBuilder) super.attributes(attributes);
+		public HTMLTagBuilder reset(){
+			super.reset();
+			tagName = null;
+			closingTag = true;
+			return this;
 		}
 		
 		/**
@@ -269,7 +121,11 @@ public class HTMLTag implements HTMLTagConstants{
 		 * @return this, to continue building
 		 */
 		public HTMLTagBuilder validAttribute(String attribute){
-			this.attributeWhitelist.add(attribute);
+			if(!ownsAttributeWhitelist && attributeWhitelist instanceof HTMLAttributeWhitelist whitelist){
+				attributeWhitelist = whitelist.with(attribute);
+			}else{
+				customAttributeWhitelist().add(attribute);
+			}
 			return this;
 		}
 		
@@ -281,6 +137,7 @@ public class HTMLTag implements HTMLTagConstants{
 		 */
 		public HTMLTagBuilder attributeWhitelist(Set<String> attributeWhitelist){
 			this.attributeWhitelist = attributeWhitelist;
+			ownsAttributeWhitelist = false;
 			return this;
 		}
 		
@@ -320,7 +177,7 @@ public class HTMLTag implements HTMLTagConstants{
 		 * @return this, to continue building
 		 */
 		public HTMLTagBuilder validSubTag(String validSubTag){
-			this.subTagWhitelist.add(validSubTag);
+			customSubTagWhitelist().add(validSubTag);
 			return this;
 		}
 		
@@ -332,6 +189,7 @@ public class HTMLTag implements HTMLTagConstants{
 		 */
 		public HTMLTagBuilder subTagWhitelist(Set<String> subTagWhitelist){
 			this.subTagWhitelist = subTagWhitelist;
+			ownsSubTagWhitelist = false;
 			return this;
 		}
 		
@@ -342,7 +200,7 @@ public class HTMLTag implements HTMLTagConstants{
 		 * @return this, to continue building
 		 */
 		public HTMLTagBuilder invalidSubTag(String invalidSubTag){
-			this.subTagBlacklist.add(invalidSubTag);
+			customSubTagBlacklist().add(invalidSubTag);
 			return this;
 		}
 		
@@ -354,6 +212,7 @@ public class HTMLTag implements HTMLTagConstants{
 		 */
 		public HTMLTagBuilder subTagBlacklist(Set<String> subTagBlacklist){
 			this.subTagBlacklist = subTagBlacklist;
+			ownsSubTagBlacklist = false;
 			return this;
 		}
 		
@@ -380,14 +239,20 @@ public class HTMLTag implements HTMLTagConstants{
 		public HTMLTag build(){
 			checkForErrors();
 			
-			return new HTMLTag(tagName, attributes, attributeWhitelist, closingTag, subTagWhitelist, subTagBlacklist);
+			return new HTMLTag(tagName, validateAttributes("HTMLTag"), attributeWhitelist, closingTag, subTagWhitelist,
+					subTagBlacklist, cacheRendering);
 		}
 	}
 	
 	/** The name of this {@link HTMLTag} */
 	private final String tagName;
-	/** The Map of attributes in this {@link HTMLTag} */
-	private final Map<String, String> attributes;
+	/**
+	 * The attributes in this {@link HTMLTag}, frozen and sorted in the order they're rendered in (null if they're
+	 * in {@link #lazyAttributes} instead)
+	 */
+	private final HTMLAttributeMap attributes;
+	/** The attributes in this {@link HTMLTag}, if they're only materialized when needed (null otherwise) */
+	private final HTMLLazyAttributeMap lazyAttributes;
 	/** The Set of valid attributes in this {@link HTMLTag} */
 	private final Set<String> attributeWhitelist;
 	/** Whether to include a closing tag for this {@link HTMLTag} or not */
@@ -396,6 +261,20 @@ public class HTMLTag implements HTMLTagConstants{
 	private final Set<String> subTagWhitelist;
 	/** The Set of invalid tags under this {@link HTMLTag} */
 	private final Set<String> subTagBlacklist;
+	/** Whether to keep the rendered form of this {@link HTMLTag} after it's first rendered */
+	private final boolean cacheRendering;
+	/** The cached opening tag - only set if {@link #cacheRendering} is {@code true} */
+	private volatile String cachedOpeningTag;
+	/** The cached closing tag - only set if {@link #cacheRendering} is {@code true} */
+	private volatile String cachedClosingTag;
+	/** The cached opening tag with the closing tag appended - only set if {@link #cacheRendering} is {@code true} */
+	private volatile String cachedTag;
+	/** The cached UTF-8 encoding of {@link #cachedTag} - only set if {@link #cacheRendering} is {@code true} */
+	private volatile byte[] cachedUTF8Tag;
+	/** The hash code of this {@link HTMLTag}, calculated the first time it's needed (0 until then) */
+	private int hash;
+	/** The compiled sub tag whitelist and blacklist, made the first time {@link #canContain(String)} is called */
+	private HTMLSubTagTable subTagTable;
 	
 	/**
 	 * Constructs an {@link HTMLTag} with the given parameters
@@ -406,16 +285,42 @@ public class HTMLTag implements HTMLTagConstants{
 	 * @param closingTag Whether to include a closing tag for this {@link HTMLTag} or not
 	 * @param subTagWhitelist The Set of valid tags under this {@link HTMLTag}
 	 * @param subTagBlacklist The Set of invalid tags under this {@link HTMLTag}
+	 * @param cacheRendering Whether to keep the rendered form of this {@link HTMLTag} after it's first rendered
 	 */
 	protected HTMLTag(
 			String tagName, Map<String, String> attributes, Set<String> attributeWhitelist, boolean closingTag,
-			Set<String> subTagWhitelist, Set<String> subTagBlacklist){
+			Set<String> subTagWhitelist, Set<String> subTagBlacklist, boolean cacheRendering){
 		this.tagName = tagName;
-		this.attributes = attributes;
-		this.attributeWhitelist = attributeWhitelist;
+		if(attributes instanceof HTMLLazyAttributeMap lazy && !lazy.isMaterialized()){
+			// Keep lazy attributes as-is, so they're only materialized if they're needed
+			this.attributes = null;
+			lazyAttributes = lazy;
+		}else{
+			// Copy and sort the attributes once here, so rendering is just a walk over them
+			this.attributes = HTMLAttributeMap.sortedCopyOf(attributes);
+			lazyAttributes = null;
+		}
+		this.attributeWhitelist = freeze(attributeWhitelist);
 		this.closingTag = closingTag;
-		this.subTagWhitelist = subTagWhitelist;
-		this.subTagBlacklist = subTagBlacklist;
+		this.subTagWhitelist = freeze(subTagWhitelist);
+		this.subTagBlacklist = freeze(subTagBlacklist);
+		this.cacheRendering = cacheRendering;
+	}
+	
+	/**
+	 * Makes an immutable copy of the given Set for an {@link HTMLTag} to keep. The shared Sets from
+	 * {@link HTMLTagConstants} (and any other immutable Sets) are already immutable, so they're kept as-is.
+	 *
+	 * @param set The Set to freeze (may be null, which is treated as empty)
+	 * @return An immutable Set with the same contents as the given Set
+	 */
+	private static Set<String> freeze(Set<String> set){
+		if(set == null){
+			return Set.of();
+		}else if(set instanceof HTMLAttributeWhitelist){
+			return set;
+		}
+		return Set.copyOf(set);
 	}
 	
 	/**
@@ -433,10 +338,39 @@ public class HTMLTag implements HTMLTagConstants{
 	}
 	
 	/**
-	 * @return The Map of attributes in this {@link HTMLTag}
+	 * @return The attributes in this {@link HTMLTag}, materializing them first if they're lazy
+	 */
+	private HTMLAttributeMap attributes(){
+		return attributes != null?attributes:lazyAttributes.materialize();
+	}
+	
+	/**
+	 * @return The Map of attributes in this {@link HTMLTag} (read-only, sorted by attribute name)
 	 */
 	public Map<String, String> getAttributes(){
-		return attributes;
+		return attributes();
+	}
+	
+	/**
+	 * Gets the value of a single attribute. If the attributes are lazy (e.g. for a parsed tag), this doesn't
+	 * materialize the others.
+	 *
+	 * @param name The name of the attribute
+	 * @return The value of the attribute, or null if it doesn't have one or isn't in this {@link HTMLTag}
+	 */
+	public String getAttribute(String name){
+		return attributes != null?attributes.get(name):lazyAttributes.get(name);
+	}
+	
+	/**
+	 * Checks whether this {@link HTMLTag} has the given attribute. If the attributes are lazy (e.g. for a parsed
+	 * tag), this doesn't materialize them.
+	 *
+	 * @param name The name of the attribute
+	 * @return Whether the attribute is in this {@link HTMLTag}
+	 */
+	public boolean hasAttribute(String name){
+		return attributes != null?attributes.containsKey(name):lazyAttributes.containsKey(name);
 	}
 	
 	/**
@@ -468,39 +402,325 @@ public class HTMLTag implements HTMLTagConstants{
 	}
 	
 	/**
-	 * @return The String representing the opening tag for this {@link HTMLTag}
+	 * Checks whether a tag can be nested inside this {@link HTMLTag}, based on the sub tag whitelist and
+	 * blacklist. A tag is allowed if it isn't in the blacklist, and either it's in the whitelist or the whitelist
+	 * is empty. Use {@link #HTML_CONTENT_NAME} to check whether this tag can hold content.
+	 *
+	 * @param childTagName The name of the tag to check
+	 * @return Whether the tag can be nested inside this {@link HTMLTag}
 	 */
-	public String toOpeningTag(){
-		// Build opening tag
-		StringBuilder tag = new StringBuilder("<");
-		tag.append(tagName);
+	public boolean canContain(String childTagName){
+		HTMLSubTagTable table = subTagTable;
+		if(table == null){
+			// Racing threads would compile equal tables, so there's no need to lock
+			table = HTMLSubTagTable.of(subTagWhitelist, subTagBlacklist);
+			subTagTable = table;
+		}
+		return table.canContain(childTagName);
+	}
+	
+	/**
+	 * @return Whether this {@link HTMLTag} keeps its rendered form after it's first rendered
+	 */
+	public boolean isRenderingCached(){
+		return cacheRendering;
+	}
+	
+	/**
+	 * Appends the opening tag for this {@link HTMLTag} to the given {@link Appendable}, without creating any
+	 * intermediate Strings
+	 *
+	 * @param out The {@link Appendable} to render the opening tag to
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	public void renderOpeningTo(Appendable out) throws IOException{
+		if(cacheRendering){
+			out.append(toOpeningTag());
+		}else{
+			appendOpeningTag(out);
+		}
+	}
+	
+	/**
+	 * Appends the closing tag for this {@link HTMLTag} to the given {@link Appendable} (appends nothing if
+	 * there's no closing tag)
+	 *
+	 * @param out The {@link Appendable} to render the closing tag to
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	public void renderClosingTo(Appendable out) throws IOException{
+		if(cacheRendering){
+			out.append(toClosingTag());
+		}else{
+			appendClosingTag(out);
+		}
+	}
+	
+	/**
+	 * Appends the opening tag followed by the closing tag for this {@link HTMLTag} to the given {@link Appendable}.
+	 * This allows rendering many tags into a single reused buffer.
+	 *
+	 * @param out The {@link Appendable} to render this {@link HTMLTag} to
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	public void renderTo(Appendable out) throws IOException{
+		if(cacheRendering){
+			out.append(toString());
+		}else{
+			appendOpeningTag(out);
+			appendClosingTag(out);
+		}
+	}
+	
+	/**
+	 * Builds the opening tag for this {@link HTMLTag} in the given {@link Appendable}
+	 *
+	 * @param out The {@link Appendable} to build the opening tag in
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	private void appendOpeningTag(Appendable out) throws IOException{
+		out.append('<').append(tagName);
+		HTMLAttributeMap attributes = attributes();
+		
+		// Add attributes if we have them (already in sorted order)
+		for(int i = 0; i < attributes.size(); i++){
+			out.append(' ').append(attributes.nameAt(i));
+			String value = attributes.valueAt(i);
+			if(value != null){
+				out.append("=\"");
+				HTMLCharacterReferences.escapeAttributeValue(value, out);
+				out.append('"');
+			}
+		}
+		out.append('>');
+	}
+	
+	/**
+	 * Builds the closing tag for this {@link HTMLTag} in the given {@link Appendable}
+	 *
+	 * @param out The {@link Appendable} to build the closing tag in
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	private void appendClosingTag(Appendable out) throws IOException{
+		if(closingTag){
+			out.append("</").append(tagName).append('>');
+		}
+	}
+	
+	/**
+	 * Writes the opening tag followed by the closing tag for this {@link HTMLTag} to the given {@link ByteBuffer}
+	 * as UTF-8, encoding straight into the buffer rather than going through a String first
+	 *
+	 * @param buffer The {@link ByteBuffer} to write this {@link HTMLTag} to
+	 * @throws BufferOverflowException If there's not enough room left in the buffer - the buffer's position is
+	 * left where it was in this case
+	 */
+	public void writeTo(ByteBuffer buffer){
+		if(cacheRendering){
+			buffer.put(toUTF8Bytes());
+			return;
+		}
+		
+		int start = buffer.position();
+		try{
+			encodeTag(buffer);
+		}catch(BufferOverflowException e){
+			buffer.position(start);
+			throw e;
+		}
+	}
+	
+	/**
+	 * Writes the opening tag followed by the closing tag for this {@link HTMLTag} to the given {@link OutputStream}
+	 * as UTF-8, using a single write
+	 *
+	 * @param out The {@link OutputStream} to write this {@link HTMLTag} to
+	 * @throws IOException If the {@link OutputStream} throws one
+	 */
+	public void writeTo(OutputStream out) throws IOException{
+		out.write(cacheRendering?toUTF8Bytes():encodeTag());
+	}
+	
+	/**
+	 * @return The opening tag followed by the closing tag for this {@link HTMLTag}, encoded as UTF-8
+	 * (the cached array if {@link #cacheRendering} is set - not to be modified)
+	 */
+	private byte[] toUTF8Bytes(){
+		if(!cacheRendering){
+			return encodeTag();
+		}
 		
-		// Add attributes if we have them
-		if(MapUtil.isNotBlank(attributes)){
-			for(String name: attributes.keySet().stream().sorted().toList()){
-				String value = attributes.get(name);
-				tag.append(' ').append(name);
-				if(value != null){
-					tag.append("=\"").append(value).append('"');
-				}
+		byte[] bytes = cachedUTF8Tag;
+		if(bytes == null){
+			bytes = encodeTag();
+			cachedUTF8Tag = bytes;
+		}
+		return bytes;
+	}
+	
+	/**
+	 * @return A new array containing the opening tag followed by the closing tag for this {@link HTMLTag},
+	 * encoded as UTF-8
+	 */
+	private byte[] encodeTag(){
+		// Count the bytes first, so the array is the exact size needed
+		int length = 2 + UTF8Encoder.utf8Length(tagName);
+		HTMLAttributeMap attributes = attributes();
+		for(int i = 0; i < attributes.size(); i++){
+			length += 1 + UTF8Encoder.utf8Length(attributes.nameAt(i));
+			String value = attributes.valueAt(i);
+			if(value != null){
+				length += 3 + HTMLCharacterReferences.escapedAttributeValueUTF8Length(value);
 			}
 		}
-		tag.append('>');
+		if(closingTag){
+			length += 3 + UTF8Encoder.utf8Length(tagName);
+		}
 		
+		byte[] bytes = new byte[length];
+		encodeTag(ByteBuffer.wrap(bytes));
+		return bytes;
+	}
+	
+	/**
+	 * Encodes the opening tag followed by the closing tag for this {@link HTMLTag} as UTF-8 into the given
+	 * {@link ByteBuffer}
+	 *
+	 * @param buffer The {@link ByteBuffer} to encode this {@link HTMLTag} into
+	 */
+	private void encodeTag(ByteBuffer buffer){
+		buffer.put((byte) '<');
+		UTF8Encoder.putUTF8(buffer, tagName);
+		HTMLAttributeMap attributes = attributes();
+		
+		// Add attributes if we have them (already in sorted order)
+		for(int i = 0; i < attributes.size(); i++){
+			buffer.put((byte) ' ');
+			UTF8Encoder.putUTF8(buffer, attributes.nameAt(i));
+			String value = attributes.valueAt(i);
+			if(value != null){
+				buffer.put((byte) '=').put((byte) '"');
+				HTMLCharacterReferences.putEscapedAttributeValue(buffer, value);
+				buffer.put((byte) '"');
+			}
+		}
+		buffer.put((byte) '>');
+		
+		if(closingTag){
+			buffer.put((byte) '<').put((byte) '/');
+			UTF8Encoder.putUTF8(buffer, tagName);
+			buffer.put((byte) '>');
+		}
+	}
+	
+	/**
+	 * Renders this {@link HTMLTag} into a single new String
+	 *
+	 * @param opening Whether to include the opening tag
+	 * @param closing Whether to include the closing tag
+	 * @return The rendered String
+	 */
+	private String renderToString(boolean opening, boolean closing){
+		StringBuilder tag = new StringBuilder();
+		try{
+			if(opening){
+				appendOpeningTag(tag);
+			}
+			if(closing){
+				appendClosingTag(tag);
+			}
+		}catch(IOException e){
+			// StringBuilder doesn't actually throw IOExceptions
+			throw new UncheckedIOException(e);
+		}
 		return tag.toString();
 	}
 	
+	/**
+	 * @return The String representing the opening tag for this {@link HTMLTag}
+	 */
+	public String toOpeningTag(){
+		if(!cacheRendering){
+			return renderToString(true, false);
+		}
+		
+		// Racing threads can only ever compute the same String, so there's no need to lock here
+		String openingTag = cachedOpeningTag;
+		if(openingTag == null){
+			openingTag = renderToString(true, false);
+			cachedOpeningTag = openingTag;
+		}
+		return openingTag;
+	}
+	
 	/**
 	 * @return The String representing the closing tag for this {@link HTMLTag} (may be empty if no closing tag)
 	 */
 	public String toClosingTag(){
-		return closingTag?"</" + tagName + ">":"";
+		if(!cacheRendering){
+			return closingTag?"</" + tagName + ">":"";
+		}
+		
+		String closing = cachedClosingTag;
+		if(closing == null){
+			closing = closingTag?"</" + tagName + ">":"";
+			cachedClosingTag = closing;
+		}
+		return closing;
 	}
 	
 	/**
 	 * @return The String representing the opening tag with the closing tag appended for this {@link HTMLTag}
 	 */
 	public String toString(){
-		return toOpeningTag() + toClosingTag();
+		if(!cacheRendering){
+			return renderToString(true, true);
+		}
+		
+		String tag = cachedTag;
+		if(tag == null){
+			tag = renderToString(true, true);
+			cachedTag = tag;
+		}
+		return tag;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * Two {@link HTMLTag HTMLTags} are equal if they're the same class and have the same tag name, attributes,
+	 * attribute whitelist, closing tag flag, and sub tag whitelist and blacklist. Whether the rendering is cached
+	 * isn't considered, as it doesn't change what's rendered.
+	 */
+	@Override
+	public boolean equals(Object o){
+		if(this == o){
+			return true;
+		}
+		if(o == null || o.getClass() != getClass()){
+			return false;
+		}
+		HTMLTag other = (HTMLTag) o;
+		return closingTag == other.closingTag && hashCode() == other.hashCode() &&
+				tagName.equals(other.tagName) && attributes().equals(other.attributes()) &&
+				Objects.equals(attributeWhitelist, other.attributeWhitelist) &&
+				Objects.equals(subTagWhitelist, other.subTagWhitelist) &&
+				Objects.equals(subTagBlacklist, other.subTagBlacklist);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * Only the tag name, attributes, and closing tag flag are hashed (the whitelists and blacklist are left to
+	 * {@link #equals(Object)}), and the hash is only calculated once.
+	 */
+	@Override
+	public int hashCode(){
+		int h = hash;
+		if(h == 0){
+			h = Objects.hash(getClass(), tagName, attributes(), closingTag);
+			hash = h;
+		}
+		return h;
 	}
 }
@@ -1,12 +1,15 @@
 package com.github.tadukoo.parsing.web.html.tag;
 
-import com.github.tadukoo.util.SetUtil;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeWhitelist;
 
 import java.util.Set;
 
 /**
  * An interface containing standard tag names, attribute names/prefixes, and default values for use in
- * {@link HTMLTag HTMLTags}
+ * {@link HTMLTag HTMLTags}. All the Sets in here are immutable, so builders and tags share them rather than
+ * making their own copies. The attribute whitelists are {@link HTMLAttributeWhitelist HTMLAttributeWhitelists},
+ * so checking an attribute whose ordinal is already known (as the builders and parser keep it) is a single bit
+ * test.
  *
  * @author Logan Ferree (Tadukoo)
  * @version Alpha v.0.1
@@ -21,6 +24,10 @@ public interface HTMLTagConstants{
 	String HTML_HEAD_TAG_NAME = "head";
 	/** The body HTML tag name - body */
 	String HTML_BODY_TAG_NAME = "body";
+	/** The Set of valid sub tags of the &lt;html> tag */
+	Set<String> VALID_HTML_ROOT_SUB_TAGS = Set.of(HTML_HEAD_TAG_NAME, HTML_BODY_TAG_NAME);
+	/** The Set of invalid sub tags of the &lt;html> tag */
+	Set<String> INVALID_HTML_ROOT_SUB_TAGS = Set.of(HTML_ROOT_TAG_NAME);
 	
 	/*
 	 * Head Tag Names (tags that go inside &lt;head> tag)
@@ -33,8 +40,10 @@ public interface HTMLTagConstants{
 	String HTML_SCRIPT_TAG_NAME = "script";
 	String HTML_NOSCRIPT_TAG_NAME = "noscript";
 	/** The Set of valid sub tags of the &lt;head> tag */
-	Set<String> VALID_HTML_HEAD_SUB_TAGS = SetUtil.createSet(HTML_TITLE_TAG_NAME, HTML_STYLE_TAG_NAME,
+	Set<String> VALID_HTML_HEAD_SUB_TAGS = Set.of(HTML_TITLE_TAG_NAME, HTML_STYLE_TAG_NAME,
 			HTML_BASE_TAG_NAME, HTML_LINK_TAG_NAME, HTML_META_TAG_NAME, HTML_SCRIPT_TAG_NAME, HTML_NOSCRIPT_TAG_NAME);
+	/** The Set of invalid sub tags of the &lt;head> tag */
+	Set<String> INVALID_HTML_HEAD_SUB_TAGS = Set.of(HTML_ROOT_TAG_NAME);
 	
 	/*
 	 * Body Tag Names (tags that go inside &lt;body> tag)
@@ -54,7 +63,7 @@ public interface HTMLTagConstants{
 	/** The inline frame HTML tag name - iframe */
 	String HTML_INLINE_FRAME_TAG_NAME = "iframe";
 	/** The Set of valid sub tags of the &lt;body> tag */
-	Set<String> VALID_HTML_BODY_SUB_TAGS = SetUtil.createSet(HTML_HEADING_1_TAG_NAME, HTML_HEADING_2_TAG_NAME,
+	Set<String> VALID_HTML_BODY_SUB_TAGS = Set.of(HTML_HEADING_1_TAG_NAME, HTML_HEADING_2_TAG_NAME,
 			HTML_HEADING_3_TAG_NAME, HTML_HEADING_4_TAG_NAME, HTML_HEADING_5_TAG_NAME, HTML_HEADING_6_TAG_NAME,
 			HTML_PARAGRAPH_TAG_NAME, HTML_IMAGE_TAG_NAME, HTML_HYPERLINK_TAG_NAME, HTML_TABLE_TAG_NAME,
 			HTML_UNORDERED_LIST_TAG_NAME, HTML_ORDERED_LIST_TAG_NAME, HTML_INLINE_FRAME_TAG_NAME);
@@ -64,6 +73,8 @@ public interface HTMLTagConstants{
 	 */
 	/** This is used to specify that content is valid to hold within an HTML tag */
 	String HTML_CONTENT_NAME = "{CONTENT}";
+	/** The Set of valid sub tags of the &lt;iframe> tag */
+	Set<String> VALID_HTML_INLINE_FRAME_SUB_TAGS = Set.of(HTML_CONTENT_NAME);
 	
 	/*
 	 * Global Attribute Names
@@ -97,10 +108,10 @@ public interface HTMLTagConstants{
 	/** translate - Specifies whether the content of an element should be translated or not */
 	String TRANSLATE_ATTRIBUTE_NAME = "translate";
 	/** The Set of global attributes as a whitelist */
-	Set<String> GLOBAL_ATTRIBUTE_WHITELIST = SetUtil.createSet(ACCESS_KEY_ATTRIBUTE_NAME, CLASS_ATTRIBUTE_NAME,
-			CONTENT_EDITABLE_ATTRIBUTE_NAME, DIR_ATTRIBUTE_NAME, DRAGGABLE_ATTRIBUTE_NAME, HIDDEN_ATTRIBUTE_NAME,
-			ID_ATTRIBUTE_NAME, LANG_ATTRIBUTE_NAME, SPELLCHECK_ATTRIBUTE_NAME, STYLE_ATTRIBUTE_NAME,
-			TAB_INDEX_ATTRIBUTE_NAME, TITLE_ATTRIBUTE_NAME, TRANSLATE_ATTRIBUTE_NAME);
+	HTMLAttributeWhitelist GLOBAL_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.of(ACCESS_KEY_ATTRIBUTE_NAME,
+			CLASS_ATTRIBUTE_NAME, CONTENT_EDITABLE_ATTRIBUTE_NAME, DIR_ATTRIBUTE_NAME, DRAGGABLE_ATTRIBUTE_NAME,
+			HIDDEN_ATTRIBUTE_NAME, ID_ATTRIBUTE_NAME, LANG_ATTRIBUTE_NAME, SPELLCHECK_ATTRIBUTE_NAME,
+			STYLE_ATTRIBUTE_NAME, TAB_INDEX_ATTRIBUTE_NAME, TITLE_ATTRIBUTE_NAME, TRANSLATE_ATTRIBUTE_NAME);
 	
 	/*
 	 * Global Drag Event Attribute Names - apply to all HTML tags
@@ -120,7 +131,7 @@ public interface HTMLTagConstants{
 	/** ondrop - Specifies a script to be run when dragged element is being dropped */
 	String ON_DROP_ATTRIBUTE_NAME = "ondrop";
 	/** The Set of global drag event attributes as a whitelist */
-	Set<String> GLOBAL_DRAG_EVENT_ATTRIBUTE_WHITELIST = SetUtil.createSet(ON_DRAG_ATTRIBUTE_NAME,
+	HTMLAttributeWhitelist GLOBAL_DRAG_EVENT_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.of(ON_DRAG_ATTRIBUTE_NAME,
 			ON_DRAG_END_ATTRIBUTE_NAME, ON_DRAG_ENTER_ATTRIBUTE_NAME, ON_DRAG_LEAVE_ATTRIBUTE_NAME,
 			ON_DRAG_OVER_ATTRIBUTE_NAME, ON_DRAG_START_ATTRIBUTE_NAME, ON_DROP_ATTRIBUTE_NAME);
 	
@@ -134,8 +145,8 @@ public interface HTMLTagConstants{
 	/** onpaste - Specifies a script to be run when the user pastes some content in an element */
 	String ON_PASTE_ATTRIBUTE_NAME = "onpaste";
 	/** The Set of all global clipboard event attributes as a whitelist */
-	Set<String> GLOBAL_CLIPBOARD_EVENT_ATTRIBUTE_WHITELIST = SetUtil.createSet(ON_COPY_ATTRIBUTE_NAME,
-			ON_CUT_ATTRIBUTE_NAME, ON_PASTE_ATTRIBUTE_NAME);
+	HTMLAttributeWhitelist GLOBAL_CLIPBOARD_EVENT_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.of(
+			ON_COPY_ATTRIBUTE_NAME, ON_CUT_ATTRIBUTE_NAME, ON_PASTE_ATTRIBUTE_NAME);
 	
 	/*
 	 * Other Global Event Attribute Names - apply to all HTML tags
@@ -144,11 +155,11 @@ public interface HTMLTagConstants{
 	String ON_CONTEXT_MENU_ATTRIBUTE_NAME = "oncontextmenu";
 	/** onwheel - Specifies a script to be run when the mouse wheel rolls up or down over an element */
 	String ON_WHEEL_ATTRIBUTE_NAME = "onwheel";
-	Set<String> OTHER_GLOBAL_EVENT_ATTRIBUTE_WHITELIST = SetUtil.createSet(ON_CONTEXT_MENU_ATTRIBUTE_NAME,
-			ON_WHEEL_ATTRIBUTE_NAME);
+	HTMLAttributeWhitelist OTHER_GLOBAL_EVENT_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.of(
+			ON_CONTEXT_MENU_ATTRIBUTE_NAME, ON_WHEEL_ATTRIBUTE_NAME);
 	
 	/** The Set of all global attributes that apply for all HTML tags */
-	Set<String> ALL_GLOBAL_ATTRIBUTE_WHITELIST = SetUtil.mergeSets(GLOBAL_ATTRIBUTE_WHITELIST,
+	HTMLAttributeWhitelist ALL_GLOBAL_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.union(GLOBAL_ATTRIBUTE_WHITELIST,
 			GLOBAL_DRAG_EVENT_ATTRIBUTE_WHITELIST, GLOBAL_CLIPBOARD_EVENT_ATTRIBUTE_WHITELIST,
 			OTHER_GLOBAL_EVENT_ATTRIBUTE_WHITELIST);
 	
@@ -161,7 +172,7 @@ public interface HTMLTagConstants{
 	/** onfocus - Specifies a script to run when the element gets focus */
 	String ON_FOCUS_ATTRIBUTE_NAME = "onfocus";
 	/** The Set of all global focus event attributes */
-	Set<String> GLOBAL_FOCUS_EVENT_ATTRIBUTE_WHITELIST = SetUtil.createSet(ON_BLUR_ATTRIBUTE_NAME,
+	HTMLAttributeWhitelist GLOBAL_FOCUS_EVENT_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.of(ON_BLUR_ATTRIBUTE_NAME,
 			ON_FOCUS_ATTRIBUTE_NAME);
 	
 	/*
@@ -175,8 +186,8 @@ public interface HTMLTagConstants{
 	/** onkeyup - Specifies a script to run when a user releases a key */
 	String ON_KEY_UP_ATTRIBUTE_NAME = "onkeyup";
 	/** The Set of all global keyboard event attributes */
-	Set<String> GLOBAL_KEYBOARD_EVENT_ATTRIBUTE_WHITELIST = SetUtil.createSet(ON_KEY_DOWN_ATTRIBUTE_NAME,
-			ON_KEY_PRESS_ATTRIBUTE_NAME, ON_KEY_UP_ATTRIBUTE_NAME);
+	HTMLAttributeWhitelist GLOBAL_KEYBOARD_EVENT_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.of(
+			ON_KEY_DOWN_ATTRIBUTE_NAME, ON_KEY_PRESS_ATTRIBUTE_NAME, ON_KEY_UP_ATTRIBUTE_NAME);
 	
 	/*
 	 * Global Mouse Event Attribute Names - apply to most HTML tags
@@ -197,14 +208,14 @@ public interface HTMLTagConstants{
 	/** onmouseup - Specifies a script that runs when a mouse button is released over an element */
 	String ON_MOUSE_UP_ATTRIBUTE_NAME = "onmouseup";
 	/** The Set of all global mouse event attributes */
-	Set<String> GLOBAL_MOUSE_EVENT_ATTRIBUTE_WHITELIST = SetUtil.createSet(ON_CLICK_ATTRIBUTE_NAME,
+	HTMLAttributeWhitelist GLOBAL_MOUSE_EVENT_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.of(ON_CLICK_ATTRIBUTE_NAME,
 			ON_DBL_CLICK_ATTRIBUTE_NAME, ON_MOUSE_DOWN_ATTRIBUTE_NAME, ON_MOUSE_MOVE_ATTRIBUTE_NAME,
 			ON_MOUSE_OUT_ATTRIBUTE_NAME, ON_MOUSE_OVER_ATTRIBUTE_NAME, ON_MOUSE_UP_ATTRIBUTE_NAME);
 	
 	/** The Set of all global attributes that apply to focusable elements as a whitelist */
-	Set<String> GLOBAL_FOCUSABLE_ATTRIBUTE_WHITELIST = SetUtil.mergeSets(ALL_GLOBAL_ATTRIBUTE_WHITELIST,
-			GLOBAL_FOCUS_EVENT_ATTRIBUTE_WHITELIST, GLOBAL_KEYBOARD_EVENT_ATTRIBUTE_WHITELIST,
-			GLOBAL_MOUSE_EVENT_ATTRIBUTE_WHITELIST);
+	HTMLAttributeWhitelist GLOBAL_FOCUSABLE_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.union(
+			ALL_GLOBAL_ATTRIBUTE_WHITELIST, GLOBAL_FOCUS_EVENT_ATTRIBUTE_WHITELIST,
+			GLOBAL_KEYBOARD_EVENT_ATTRIBUTE_WHITELIST, GLOBAL_MOUSE_EVENT_ATTRIBUTE_WHITELIST);
 	
 	/*
 	 * Global Load Event Attribute Names - apply to some html tags
@@ -215,14 +226,14 @@ public interface HTMLTagConstants{
 	/** onunload - Specifies the script to run once a page has unloaded (or the browser window has been closed) */
 	String ON_UNLOAD_ATTRIBUTE_NAME = "onunload";
 	/** The Set of all global load event attributes */
-	Set<String> GLOBAL_LOAD_EVENT_ATTRIBUTE_WHITELIST = SetUtil.createSet(ON_LOAD_ATTRIBUTE_NAME,
+	HTMLAttributeWhitelist GLOBAL_LOAD_EVENT_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.of(ON_LOAD_ATTRIBUTE_NAME,
 			ON_UNLOAD_ATTRIBUTE_NAME);
 	
 	/** The Set of all global attributes that apply to loadable elements as a whitelist */
-	Set<String> GLOBAL_LOADABLE_ATTRIBUTE_WHITELIST = SetUtil.mergeSets(ALL_GLOBAL_ATTRIBUTE_WHITELIST,
-			GLOBAL_LOAD_EVENT_ATTRIBUTE_WHITELIST);
+	HTMLAttributeWhitelist GLOBAL_LOADABLE_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.union(
+			ALL_GLOBAL_ATTRIBUTE_WHITELIST, GLOBAL_LOAD_EVENT_ATTRIBUTE_WHITELIST);
 	/** The Set of all global attributes that apply to elements that are focusable and loadable as a whitelist */
-	Set<String> GLOBAL_FOCUSABLE_AND_LOADABLE_ATTRIBUTE_WHITELIST = SetUtil.mergeSets(
+	HTMLAttributeWhitelist GLOBAL_FOCUSABLE_AND_LOADABLE_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.union(
 			GLOBAL_FOCUSABLE_ATTRIBUTE_WHITELIST, GLOBAL_LOADABLE_ATTRIBUTE_WHITELIST);
 	
 	/*
@@ -253,13 +264,13 @@ public interface HTMLTagConstants{
 	/** onstorage - Specifies the script to be run when a Web Storage area is updated */
 	String ON_STORAGE_ATTRIBUTE_NAME = "onstorage";
 	/** The Set of all global attributes for window events as a whitelist */
-	Set<String> GLOBAL_WINDOW_EVENT_ATTRIBUTE_WHITELIST = SetUtil.createSet(ON_AFTER_PRINT_ATTRIBUTE_NAME,
-			ON_BEFORE_PRINT_ATTRIBUTE_NAME, ON_BEFORE_UNLOAD_ATTRIBUTE_NAME, ON_HASH_CHANGE_ATTRIBUTE_NAME,
-			ON_MESSAGE_ATTRIBUTE_NAME, ON_OFFLINE_ATTRIBUTE_NAME, ON_ONLINE_ATTRIBUTE_NAME,
-			ON_PAGE_HIDE_ATTRIBUTE_NAME, ON_PAGE_SHOW_ATTRIBUTE_NAME, ON_POP_STATE_ATTRIBUTE_NAME,
-			ON_RESIZE_ATTRIBUTE_NAME, ON_STORAGE_ATTRIBUTE_NAME);
+	HTMLAttributeWhitelist GLOBAL_WINDOW_EVENT_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.of(
+			ON_AFTER_PRINT_ATTRIBUTE_NAME, ON_BEFORE_PRINT_ATTRIBUTE_NAME, ON_BEFORE_UNLOAD_ATTRIBUTE_NAME,
+			ON_HASH_CHANGE_ATTRIBUTE_NAME, ON_MESSAGE_ATTRIBUTE_NAME, ON_OFFLINE_ATTRIBUTE_NAME,
+			ON_ONLINE_ATTRIBUTE_NAME, ON_PAGE_HIDE_ATTRIBUTE_NAME, ON_PAGE_SHOW_ATTRIBUTE_NAME,
+			ON_POP_STATE_ATTRIBUTE_NAME, ON_RESIZE_ATTRIBUTE_NAME, ON_STORAGE_ATTRIBUTE_NAME);
 	/** The Set of all body tag attributes as a whitelist */
-	Set<String> BODY_TAG_ATTRIBUTE_WHITELIST = SetUtil.mergeSets(
+	HTMLAttributeWhitelist BODY_TAG_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.union(
 			GLOBAL_FOCUSABLE_AND_LOADABLE_ATTRIBUTE_WHITELIST, GLOBAL_WINDOW_EVENT_ATTRIBUTE_WHITELIST);
 	
 	/*
@@ -311,6 +322,9 @@ public interface HTMLTagConstants{
 	 * &lt;li>, &lt;menu>, &lt;object>, &lt;ol>, &lt;p>, &lt;pre>, &lt;select>, &lt;tbody>,
 	 * &lt;textarea>, &lt;tfoot>, &lt;thead>, and &lt;ul> */
 	String ON_SCROLL_ATTRIBUTE_NAME = "onscroll";
+	/** The Set of all html (root) tag attributes as a whitelist */
+	HTMLAttributeWhitelist ROOT_TAG_ATTRIBUTE_WHITELIST = HTMLAttributeWhitelist.union(ALL_GLOBAL_ATTRIBUTE_WHITELIST,
+			HTMLAttributeWhitelist.of(ON_SCROLL_ATTRIBUTE_NAME));
 	/*
 	 * ontoggle - used in details tag
 	 */
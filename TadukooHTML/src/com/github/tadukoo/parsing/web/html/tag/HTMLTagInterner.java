@@ -0,0 +1,111 @@
+package com.github.tadukoo.parsing.web.html.tag;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Canonicalizes {@link HTMLTag HTMLTags}, so that tags that are {@link HTMLTag#equals(Object) equal} (e.g. the
+ * same class and style on every row of a list) can share a single instance, along with its cached rendering
+ * (see {@link com.github.tadukoo.parsing.web.html.tag.builder.BaseHTMLTagBuilder#cacheRendering()}).
+ * <br><br>
+ * The table has a fixed number of slots and only holds {@link WeakReference WeakReferences} to the tags in it,
+ * so it never grows, and tags that aren't used anywhere else can still be garbage collected. It's safe to use
+ * from multiple threads without any locking. Because it's bounded, interning is best-effort: when all the
+ * slots a tag could go in are taken by other tags, one of them is replaced, so two equal tags aren't
+ * guaranteed to always come back as the same instance.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLTagInterner{
+	/** The default number of slots in an {@link HTMLTagInterner} */
+	public static final int DEFAULT_CAPACITY = 1024;
+	/** The number of slots that are checked for each tag */
+	private static final int PROBES = 4;
+	
+	/** The slots holding the interned {@link HTMLTag HTMLTags} */
+	private final AtomicReferenceArray<WeakReference<HTMLTag>> slots;
+	/** Used to find the slot for a hash code (the capacity is always a power of 2) */
+	private final int mask;
+	
+	/**
+	 * Constructs a new {@link HTMLTagInterner} with the {@link #DEFAULT_CAPACITY default capacity}
+	 */
+	public HTMLTagInterner(){
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLTagInterner} that holds at most the given number of tags (rounded up to a
+	 * power of 2, and at least 4)
+	 *
+	 * @param capacity The maximum number of tags to hold
+	 * @throws IllegalArgumentException If the capacity isn't positive
+	 */
+	public HTMLTagInterner(int capacity){
+		if(capacity <= 0 || capacity > 1 << 30){
+			throw new IllegalArgumentException("capacity must be between 1 and 2^30, but was " + capacity);
+		}
+		int size = Math.max(PROBES, Integer.highestOneBit(capacity - 1) << 1);
+		slots = new AtomicReferenceArray<>(size);
+		mask = size - 1;
+	}
+	
+	/**
+	 * @return The number of slots in this {@link HTMLTagInterner}
+	 */
+	public int getCapacity(){
+		return slots.length();
+	}
+	
+	/**
+	 * Returns the canonical instance of the given {@link HTMLTag}: an equal tag that was interned before, if
+	 * there's one still in the table, or else the given tag, which is added to the table
+	 *
+	 * @param tag The {@link HTMLTag} to intern
+	 * @param <Tag> The type of {@link HTMLTag} (equal tags are always the same class)
+	 * @return The canonical instance of the given {@link HTMLTag}
+	 */
+	@SuppressWarnings("unchecked")
+	public <Tag extends HTMLTag> Tag intern(Tag tag){
+		int hash = tag.hashCode();
+		// Spread the high bits down, as the capacity is usually much smaller than the range of hash codes
+		int home = (hash ^ (hash >>> 16)) & mask;
+		int free = -1;
+		for(int i = 0; i < PROBES; i++){
+			int index = (home + i) & mask;
+			WeakReference<HTMLTag> ref = slots.get(index);
+			HTMLTag existing = ref == null?null:ref.get();
+			if(existing == null){
+				if(free == -1){
+					free = index;
+				}
+			}else if(existing.equals(tag)){
+				return (Tag) existing;
+			}
+		}
+		
+		// Not found, so take a free slot if there is one, or else replace whatever's in the home slot
+		int index = free != -1?free:home;
+		WeakReference<HTMLTag> expected = slots.get(index);
+		WeakReference<HTMLTag> ref = new WeakReference<>(tag);
+		if(!slots.compareAndSet(index, expected, ref)){
+			// Another thread got to the slot first - if it put an equal tag there, use that one instead
+			WeakReference<HTMLTag> current = slots.get(index);
+			HTMLTag existing = current == null?null:current.get();
+			if(existing != null && existing.equals(tag)){
+				return (Tag) existing;
+			}
+		}
+		return tag;
+	}
+	
+	/**
+	 * Removes all the {@link HTMLTag HTMLTags} from this {@link HTMLTagInterner}
+	 */
+	public void clear(){
+		for(int i = 0; i < slots.length(); i++){
+			slots.set(i, null);
+		}
+	}
+}
@@ -0,0 +1,492 @@
+package com.github.tadukoo.parsing.web.html.tag.attribute;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A Map of attribute names to values that's much smaller than a {@link HashMap} for the handful of attributes most
+ * tags have. The names and values are stored interleaved in a single array and found with a linear scan, and only
+ * once there are more than {@link #MAX_LINEAR_SIZE} attributes is it promoted to a {@link HashMap}. An empty
+ * map doesn't allocate an array at all.
+ * <br><br>
+ * {@link #sortedCopyOf(Map)} makes a read-only copy with the attributes sorted by name, which is what
+ * {@link com.github.tadukoo.parsing.web.html.tag.HTMLTag HTMLTags} keep, so they can be rendered by walking the
+ * array with {@link #nameAt(int)} and {@link #valueAt(int)}. Read-only copies are never promoted, and use a
+ * binary search instead of a linear scan once they're larger than {@link #MAX_LINEAR_SIZE}. They can be read
+ * from any number of threads once they've been safely published (e.g. through a final field, as
+ * {@link com.github.tadukoo.parsing.web.html.tag.HTMLTag} does).
+ * <br><br>
+ * The {@link HTMLAttributeRegistry} ordinal of each attribute is kept alongside it (while the attributes are in
+ * the array), so an attribute can be checked against an {@link HTMLAttributeWhitelist} with a single bit test
+ * ({@link #ordinalAt(int)}). The ordinal is given to {@link #put(String, int, String)} by callers that already know
+ * it (e.g. the parser, which finds it while reading the name), and otherwise looked up the first time it's needed.
+ * <br><br>
+ * Like {@link HashMap}, values may be null (e.g. for attributes like hidden that have no value), but names may
+ * not be.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLAttributeMap extends AbstractMap<String, String>{
+	/** The most attributes that will be stored in the array before it's promoted to a {@link HashMap} */
+	public static final int MAX_LINEAR_SIZE = 8;
+	/** Shared empty array for maps without any attributes */
+	private static final String[] NO_ENTRIES = new String[0];
+	/** Shared empty array of ordinals for maps that haven't needed any yet */
+	private static final int[] NO_ORDINALS = new int[0];
+	/** Used in {@link #ordinals} for an ordinal that hasn't been looked up yet */
+	private static final int UNRESOLVED = -2;
+	/** A read-only {@link HTMLAttributeMap} without any attributes */
+	public static final HTMLAttributeMap EMPTY = new HTMLAttributeMap(NO_ENTRIES, 0, true);
+	
+	/** The attribute names and values, interleaved (name, value, name, value, ...) - unused once promoted */
+	private String[] entries;
+	/** The number of attributes in {@link #entries} */
+	private int size;
+	/**
+	 * The ordinal of each attribute in {@link #entries} (-1 if it isn't a standard attribute, or {@link #UNRESOLVED}
+	 * if it hasn't been looked up yet) - it's only made once an ordinal is known, so it may be shorter than
+	 * {@link #size} (the rest being {@link #UNRESOLVED}), and it's null for read-only copies, which don't keep them
+	 */
+	private int[] ordinals;
+	/** The {@link HashMap} the attributes were moved to when there got to be too many, or null if not promoted */
+	private Map<String, String> promoted;
+	/** Whether this map is a read-only copy with the attributes sorted by name */
+	private final boolean readOnly;
+	/** The {@link Set} view of the entries in this map, created when it's first asked for */
+	private Set<Entry<String, String>> entrySet;
+	/** The {@link Set} view of the attribute names in this map, created when it's first asked for */
+	private Set<String> nameSet;
+	
+	/**
+	 * Constructs a new empty {@link HTMLAttributeMap}
+	 */
+	public HTMLAttributeMap(){
+		this(NO_ENTRIES, 0, false);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLAttributeMap} with the given entries
+	 *
+	 * @param entries The attribute names and values, interleaved
+	 * @param size The number of attributes in the entries
+	 * @param readOnly Whether this map is a read-only copy with the attributes sorted by name
+	 */
+	private HTMLAttributeMap(String[] entries, int size, boolean readOnly){
+		this.entries = entries;
+		this.size = size;
+		this.readOnly = readOnly;
+		ordinals = readOnly?null:NO_ORDINALS;
+	}
+	
+	/**
+	 * Makes a read-only copy of the given attributes, sorted by name. If the attributes are already a read-only
+	 * {@link HTMLAttributeMap}, they're returned as-is rather than copied.
+	 *
+	 * @param attributes The attributes to copy (may be null, which is treated as empty)
+	 * @return A read-only {@link HTMLAttributeMap} of the given attributes, sorted by name
+	 */
+	public static HTMLAttributeMap sortedCopyOf(Map<String, String> attributes){
+		if(attributes instanceof HTMLAttributeMap attributeMap && attributeMap.readOnly){
+			return attributeMap;
+		}
+		int size = attributes == null?0:attributes.size();
+		if(size == 0){
+			return EMPTY;
+		}
+		String[] names = attributes.keySet().toArray(new String[size]);
+		Arrays.sort(names);
+		String[] entries = new String[size * 2];
+		for(int i = 0; i < size; i++){
+			entries[i * 2] = names[i];
+			entries[i * 2 + 1] = attributes.get(names[i]);
+		}
+		return new HTMLAttributeMap(entries, size, true);
+	}
+	
+	/**
+	 * @return Whether this map is a read-only copy with the attributes sorted by name
+	 */
+	public boolean isReadOnly(){
+		return readOnly;
+	}
+	
+	/**
+	 * Gets the name of the attribute at the given index, in iteration order - this is meant for walking over a
+	 * read-only copy without creating any {@link Entry Entries}
+	 *
+	 * @param index The index of the attribute
+	 * @return The name of the attribute at the given index
+	 * @throws IllegalStateException If this map has been promoted to a {@link HashMap}
+	 */
+	public String nameAt(int index){
+		checkNotPromoted();
+		return entries[index * 2];
+	}
+	
+	/**
+	 * Gets the value of the attribute at the given index, in iteration order - this is meant for walking over a
+	 * read-only copy without creating any {@link Entry Entries}
+	 *
+	 * @param index The index of the attribute
+	 * @return The value of the attribute at the given index
+	 * @throws IllegalStateException If this map has been promoted to a {@link HashMap}
+	 */
+	public String valueAt(int index){
+		checkNotPromoted();
+		return entries[index * 2 + 1];
+	}
+	
+	/**
+	 * Gets the ordinal in {@link HTMLAttributeRegistry} of the attribute at the given index, in iteration order. It's
+	 * only looked up the first time it's asked for (unless it was given to {@link #put(String, int, String)}), so
+	 * checking the attribute against an {@link HTMLAttributeWhitelist} after that doesn't need to hash its name.
+	 *
+	 * @param index The index of the attribute
+	 * @return The ordinal of the attribute at the given index, or -1 if it isn't a standard attribute
+	 * @throws IllegalStateException If this map has been promoted to a {@link HashMap}
+	 */
+	public int ordinalAt(int index){
+		checkNotPromoted();
+		if(ordinals == null){
+			// Read-only copies are shared between threads, so they look it up every time rather than keeping it
+			return HTMLAttributeRegistry.ordinalOf(entries[index * 2]);
+		}
+		int ordinal = index < ordinals.length?ordinals[index]:UNRESOLVED;
+		if(ordinal == UNRESOLVED){
+			ordinal = HTMLAttributeRegistry.ordinalOf(entries[index * 2]);
+			ensureOrdinals();
+			ordinals[index] = ordinal;
+		}
+		return ordinal;
+	}
+	
+	/**
+	 * Makes sure {@link #ordinals} has room for every attribute that {@link #entries} has room for, so the
+	 * ordinals array is only made (with no ordinals looked up yet) once one is needed
+	 */
+	private void ensureOrdinals(){
+		int length = ordinals.length;
+		if(length < entries.length / 2){
+			ordinals = Arrays.copyOf(ordinals, entries.length / 2);
+			Arrays.fill(ordinals, length, ordinals.length, UNRESOLVED);
+		}
+	}
+	
+	/**
+	 * @return Whether this map has been promoted to a {@link HashMap}, so the attributes can't be accessed by index
+	 */
+	public boolean isPromoted(){
+		return promoted != null;
+	}
+	
+	/**
+	 * Checks that the attributes are still in the array, for {@link #nameAt(int)} and {@link #valueAt(int)}
+	 *
+	 * @throws IllegalStateException If this map has been promoted to a {@link HashMap}
+	 */
+	private void checkNotPromoted(){
+		if(promoted != null){
+			throw new IllegalStateException("Attributes can't be accessed by index once there are more than " +
+					MAX_LINEAR_SIZE + " of them");
+		}
+	}
+	
+	/**
+	 * Checks that this map can be modified
+	 *
+	 * @throws UnsupportedOperationException If this map is a read-only copy
+	 */
+	private void checkNotReadOnly(){
+		if(readOnly){
+			throw new UnsupportedOperationException("This HTMLAttributeMap is read-only");
+		}
+	}
+	
+	/**
+	 * Finds the index of the attribute with the given name in {@link #entries}
+	 *
+	 * @param name The name of the attribute to find
+	 * @return The index of the attribute (not the index in the array), or -1 if it's not in this map
+	 */
+	private int indexOf(Object name){
+		if(!(name instanceof String key)){
+			return -1;
+		}
+		if(readOnly && size > MAX_LINEAR_SIZE){
+			// Read-only copies are sorted, so they can use a binary search
+			int low = 0, high = size - 1;
+			while(low <= high){
+				int mid = (low + high) >>> 1;
+				int comparison = entries[mid * 2].compareTo(key);
+				if(comparison < 0){
+					low = mid + 1;
+				}else if(comparison > 0){
+					high = mid - 1;
+				}else{
+					return mid;
+				}
+			}
+			return -1;
+		}
+		for(int i = 0; i < size; i++){
+			if(key.equals(entries[i * 2])){
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int size(){
+		return promoted != null?promoted.size():size;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean containsKey(Object key){
+		return promoted != null?promoted.containsKey(key):indexOf(key) != -1;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String get(Object key){
+		if(promoted != null){
+			return promoted.get(key);
+		}
+		int index = indexOf(key);
+		return index == -1?null:entries[index * 2 + 1];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String put(String key, String value){
+		return put(key, UNRESOLVED, value);
+	}
+	
+	/**
+	 * Adds the given attribute, along with its ordinal from {@link HTMLAttributeRegistry} when it's already known,
+	 * so it doesn't need to be looked up again for {@link #ordinalAt(int)}
+	 *
+	 * @param key The name of the attribute
+	 * @param ordinal The ordinal of the attribute from {@link HTMLAttributeRegistry#ordinalOf(String)} (which must
+	 * match the name), or -1 if it isn't a standard attribute
+	 * @param value The value of the attribute (may be null)
+	 * @return The previous value of the attribute, or null if it didn't have one
+	 */
+	public String put(String key, int ordinal, String value){
+		checkNotReadOnly();
+		if(key == null){
+			throw new NullPointerException("Attribute names can't be null");
+		}
+		if(promoted != null){
+			return promoted.put(key, value);
+		}
+		int index = indexOf(key);
+		if(index != -1){
+			String oldValue = entries[index * 2 + 1];
+			entries[index * 2 + 1] = value;
+			return oldValue;
+		}
+		if(size == MAX_LINEAR_SIZE){
+			// Too many attributes to keep scanning, so move them to a HashMap
+			promoted = new HashMap<>();
+			for(int i = 0; i < size; i++){
+				promoted.put(entries[i * 2], entries[i * 2 + 1]);
+			}
+			promoted.put(key, value);
+			entries = NO_ENTRIES;
+			ordinals = NO_ORDINALS;
+			size = 0;
+			return null;
+		}
+		if(size * 2 == entries.length){
+			entries = Arrays.copyOf(entries, Math.max(4, entries.length * 2));
+		}
+		entries[size * 2] = key;
+		entries[size * 2 + 1] = value;
+		if(ordinal != UNRESOLVED){
+			ensureOrdinals();
+		}
+		if(size < ordinals.length){
+			// Written even when it's unresolved, to replace the ordinal of an attribute that was removed
+			ordinals[size] = ordinal;
+		}
+		size++;
+		return null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String remove(Object key){
+		checkNotReadOnly();
+		if(promoted != null){
+			return promoted.remove(key);
+		}
+		int index = indexOf(key);
+		if(index == -1){
+			return null;
+		}
+		String oldValue = entries[index * 2 + 1];
+		removeAt(index);
+		return oldValue;
+	}
+	
+	/**
+	 * Removes the attribute at the given index, keeping the rest in the same order
+	 *
+	 * @param index The index of the attribute to remove
+	 */
+	private void removeAt(int index){
+		System.arraycopy(entries, (index + 1) * 2, entries, index * 2, (size - index - 1) * 2);
+		int ordinalsEnd = Math.min(size, ordinals.length);
+		if(index < ordinalsEnd){
+			System.arraycopy(ordinals, index + 1, ordinals, index, ordinalsEnd - index - 1);
+			ordinals[ordinalsEnd - 1] = UNRESOLVED;
+		}
+		size--;
+		entries[size * 2] = null;
+		entries[size * 2 + 1] = null;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The array is kept (unless this map was promoted), so a cleared map can be refilled without reallocating
+	 */
+	@Override
+	public void clear(){
+		checkNotReadOnly();
+		Arrays.fill(entries, 0, size * 2, null);
+		size = 0;
+		promoted = null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Set<Entry<String, String>> entrySet(){
+		if(entrySet == null){
+			entrySet = new AbstractSet<>(){
+				/** {@inheritDoc} */
+				@Override
+				public Iterator<Entry<String, String>> iterator(){
+					return promoted != null?promoted.entrySet().iterator():new EntryIterator();
+				}
+				
+				/** {@inheritDoc} */
+				@Override
+				public int size(){
+					return HTMLAttributeMap.this.size();
+				}
+			};
+		}
+		return entrySet;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * Iterating over the names doesn't create any {@link Entry Entries}
+	 */
+	@Override
+	public Set<String> keySet(){
+		if(nameSet == null){
+			nameSet = new AbstractSet<>(){
+				/** {@inheritDoc} */
+				@Override
+				public Iterator<String> iterator(){
+					return promoted != null?promoted.keySet().iterator():new NameIterator();
+				}
+				
+				/** {@inheritDoc} */
+				@Override
+				public int size(){
+					return HTMLAttributeMap.this.size();
+				}
+				
+				/** {@inheritDoc} */
+				@Override
+				public boolean contains(Object o){
+					return containsKey(o);
+				}
+			};
+		}
+		return nameSet;
+	}
+	
+	/**
+	 * A base {@link Iterator} over the attributes in {@link #entries}
+	 *
+	 * @param <Type> The type of object returned for each attribute
+	 */
+	private abstract class ArrayIterator<Type> implements Iterator<Type>{
+		/** The index of the next attribute to return */
+		private int next = 0;
+		/** Whether the last returned attribute can be removed */
+		private boolean canRemove = false;
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext(){
+			return next < size;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Type next(){
+			if(next >= size){
+				throw new NoSuchElementException();
+			}
+			canRemove = true;
+			return get(next++);
+		}
+		
+		/**
+		 * @param index The index of the attribute
+		 * @return The object to return for the attribute at the given index
+		 */
+		protected abstract Type get(int index);
+		
+		/** {@inheritDoc} */
+		@Override
+		public void remove(){
+			checkNotReadOnly();
+			if(!canRemove){
+				throw new IllegalStateException();
+			}
+			canRemove = false;
+			removeAt(--next);
+		}
+	}
+	
+	/**
+	 * An {@link Iterator} over the attributes in {@link #entries}
+	 */
+	private class EntryIterator extends ArrayIterator<Entry<String, String>>{
+		
+		/** {@inheritDoc} */
+		@Override
+		protected Entry<String, String> get(int index){
+			return new SimpleImmutableEntry<>(entries[index * 2], entries[index * 2 + 1]);
+		}
+	}
+	
+	/**
+	 * An {@link Iterator} over the attribute names in {@link #entries}
+	 */
+	private class NameIterator extends ArrayIterator<String>{
+		
+		/** {@inheritDoc} */
+		@Override
+		protected String get(int index){
+			return entries[index * 2];
+		}
+	}
+}
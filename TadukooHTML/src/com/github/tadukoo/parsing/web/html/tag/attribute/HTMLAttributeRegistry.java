@@ -0,0 +1,84 @@
+package com.github.tadukoo.parsing.web.html.tag.attribute;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants.*;
+
+/**
+ * Gives every standard attribute name a stable ordinal, which is what allows {@link HTMLAttributeWhitelist} to
+ * store its attributes as bits instead of Strings. The standard names are the attribute names in
+ * {@link com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants}, in the order they're declared there, so they
+ * always have the same (small) ordinals. The registry is fixed once the class is loaded: any other attribute name
+ * has no ordinal, and is kept by the whitelist that uses it instead, so custom names never build up here.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLAttributeRegistry{
+	/** The attribute names from {@link com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants}, in order */
+	private static final String[] STANDARD_ATTRIBUTE_NAMES = new String[]{
+			// Global Attributes
+			ACCESS_KEY_ATTRIBUTE_NAME, CLASS_ATTRIBUTE_NAME, CONTENT_EDITABLE_ATTRIBUTE_NAME, DIR_ATTRIBUTE_NAME,
+			DRAGGABLE_ATTRIBUTE_NAME, HIDDEN_ATTRIBUTE_NAME, ID_ATTRIBUTE_NAME, LANG_ATTRIBUTE_NAME,
+			SPELLCHECK_ATTRIBUTE_NAME, STYLE_ATTRIBUTE_NAME, TAB_INDEX_ATTRIBUTE_NAME, TITLE_ATTRIBUTE_NAME,
+			TRANSLATE_ATTRIBUTE_NAME,
+			// Global Drag Event Attributes
+			ON_DRAG_ATTRIBUTE_NAME, ON_DRAG_END_ATTRIBUTE_NAME, ON_DRAG_ENTER_ATTRIBUTE_NAME,
+			ON_DRAG_LEAVE_ATTRIBUTE_NAME, ON_DRAG_OVER_ATTRIBUTE_NAME, ON_DRAG_START_ATTRIBUTE_NAME,
+			ON_DROP_ATTRIBUTE_NAME,
+			// Global Clipboard Event Attributes
+			ON_COPY_ATTRIBUTE_NAME, ON_CUT_ATTRIBUTE_NAME, ON_PASTE_ATTRIBUTE_NAME,
+			// Other Global Event Attributes
+			ON_CONTEXT_MENU_ATTRIBUTE_NAME, ON_WHEEL_ATTRIBUTE_NAME,
+			// Global Focus Event Attributes
+			ON_BLUR_ATTRIBUTE_NAME, ON_FOCUS_ATTRIBUTE_NAME,
+			// Global Keyboard Event Attributes
+			ON_KEY_DOWN_ATTRIBUTE_NAME, ON_KEY_PRESS_ATTRIBUTE_NAME, ON_KEY_UP_ATTRIBUTE_NAME,
+			// Global Mouse Event Attributes
+			ON_CLICK_ATTRIBUTE_NAME, ON_DBL_CLICK_ATTRIBUTE_NAME, ON_MOUSE_DOWN_ATTRIBUTE_NAME,
+			ON_MOUSE_MOVE_ATTRIBUTE_NAME, ON_MOUSE_OUT_ATTRIBUTE_NAME, ON_MOUSE_OVER_ATTRIBUTE_NAME,
+			ON_MOUSE_UP_ATTRIBUTE_NAME,
+			// Global Load Event Attributes
+			ON_LOAD_ATTRIBUTE_NAME, ON_UNLOAD_ATTRIBUTE_NAME,
+			// Global Window Event Attributes
+			ON_AFTER_PRINT_ATTRIBUTE_NAME, ON_BEFORE_PRINT_ATTRIBUTE_NAME, ON_BEFORE_UNLOAD_ATTRIBUTE_NAME,
+			ON_HASH_CHANGE_ATTRIBUTE_NAME, ON_MESSAGE_ATTRIBUTE_NAME, ON_OFFLINE_ATTRIBUTE_NAME,
+			ON_ONLINE_ATTRIBUTE_NAME, ON_PAGE_HIDE_ATTRIBUTE_NAME, ON_PAGE_SHOW_ATTRIBUTE_NAME,
+			ON_POP_STATE_ATTRIBUTE_NAME, ON_RESIZE_ATTRIBUTE_NAME, ON_STORAGE_ATTRIBUTE_NAME,
+			// Other Attributes
+			ON_SCROLL_ATTRIBUTE_NAME
+	};
+	/** The number of attributes in {@link com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants} */
+	public static final int STANDARD_ATTRIBUTE_COUNT = STANDARD_ATTRIBUTE_NAMES.length;
+	
+	/** The ordinals of the standard attribute names (only written while the class is loaded) */
+	private static final Map<String, Integer> ordinals = new HashMap<>(STANDARD_ATTRIBUTE_COUNT * 2);
+	
+	static{
+		for(int ordinal = 0; ordinal < STANDARD_ATTRIBUTE_COUNT; ordinal++){
+			ordinals.put(STANDARD_ATTRIBUTE_NAMES[ordinal], ordinal);
+		}
+	}
+	
+	/** Not allowed to instantiate {@link HTMLAttributeRegistry} */
+	private HTMLAttributeRegistry(){ }
+	
+	/**
+	 * @param name The name of the attribute (may be null)
+	 * @return The ordinal of the given attribute, or -1 if it isn't a standard attribute
+	 */
+	public static int ordinalOf(String name){
+		Integer ordinal = ordinals.get(name);
+		return ordinal == null?-1:ordinal;
+	}
+	
+	/**
+	 * @param ordinal The ordinal of a standard attribute
+	 * @return The name of the attribute with the given ordinal
+	 * @throws IndexOutOfBoundsException If no standard attribute has the given ordinal
+	 */
+	public static String nameOf(int ordinal){
+		return STANDARD_ATTRIBUTE_NAMES[ordinal];
+	}
+}
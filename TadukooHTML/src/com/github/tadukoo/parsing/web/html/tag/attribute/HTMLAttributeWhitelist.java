@@ -0,0 +1,219 @@
+package com.github.tadukoo.parsing.web.html.tag.attribute;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable Set of attribute names stored as a bitmask over the ordinals from {@link HTMLAttributeRegistry}.
+ * Checking an attribute whose ordinal is already known is a single bit test with {@link #containsOrdinal(int)}
+ * (the builders keep the ordinals of their attributes, and the parser finds them while reading the names), and
+ * merging whitelists is a bitwise OR, so the whitelists in
+ * {@link com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants} are built from these. It's still a
+ * {@code Set<String>}, so it can be used anywhere a whitelist was used before, though {@link #contains(Object)}
+ * has to look the name up in the registry first.
+ * <br><br>
+ * Attribute names that aren't standard (so have no ordinal) are kept in a separate Set by the whitelist that uses
+ * them, rather than being added to the registry, so they go away along with the whitelist. Like a HashSet, a
+ * whitelist may contain null.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLAttributeWhitelist extends AbstractSet<String>{
+	/** The bits of the attribute ordinals in this whitelist, 64 ordinals per long */
+	private final long[] bits;
+	/** The attribute names in this whitelist that have no ordinal (never modified once the whitelist is made) */
+	private final Set<String> customNames;
+	/** The number of attributes in this whitelist */
+	private final int size;
+	
+	/**
+	 * Constructs a new {@link HTMLAttributeWhitelist} using the given bits and custom names
+	 *
+	 * @param bits The bits of the attribute ordinals in this whitelist
+	 * @param customNames The attribute names in this whitelist that have no ordinal (kept as-is, not copied)
+	 */
+	private HTMLAttributeWhitelist(long[] bits, Set<String> customNames){
+		this.bits = bits;
+		this.customNames = customNames.isEmpty()?Collections.emptySet():customNames;
+		int size = customNames.size();
+		for(long word: bits){
+			size += Long.bitCount(word);
+		}
+		this.size = size;
+	}
+	
+	/**
+	 * Creates an {@link HTMLAttributeWhitelist} of the given attribute names
+	 *
+	 * @param attributeNames The names of the attributes in the whitelist
+	 * @return The {@link HTMLAttributeWhitelist} of the given attributes
+	 */
+	public static HTMLAttributeWhitelist of(String ... attributeNames){
+		long[] bits = new long[0];
+		Set<String> customNames = new HashSet<>();
+		for(String attributeName: attributeNames){
+			int ordinal = HTMLAttributeRegistry.ordinalOf(attributeName);
+			if(ordinal == -1){
+				customNames.add(attributeName);
+				continue;
+			}
+			if(ordinal >>> 6 >= bits.length){
+				bits = Arrays.copyOf(bits, (ordinal >>> 6) + 1);
+			}
+			bits[ordinal >>> 6] |= 1L << ordinal;
+		}
+		return new HTMLAttributeWhitelist(bits, customNames);
+	}
+	
+	/**
+	 * Creates an {@link HTMLAttributeWhitelist} of every attribute in the given whitelists
+	 *
+	 * @param whitelists The whitelists to merge together
+	 * @return The {@link HTMLAttributeWhitelist} of all the attributes in the given whitelists
+	 */
+	public static HTMLAttributeWhitelist union(HTMLAttributeWhitelist ... whitelists){
+		int length = 0;
+		for(HTMLAttributeWhitelist whitelist: whitelists){
+			length = Math.max(length, whitelist.bits.length);
+		}
+		long[] bits = new long[length];
+		Set<String> customNames = new HashSet<>();
+		for(HTMLAttributeWhitelist whitelist: whitelists){
+			for(int i = 0; i < whitelist.bits.length; i++){
+				bits[i] |= whitelist.bits[i];
+			}
+			customNames.addAll(whitelist.customNames);
+		}
+		return new HTMLAttributeWhitelist(bits, customNames);
+	}
+	
+	/**
+	 * Creates an {@link HTMLAttributeWhitelist} of the attributes in this whitelist plus the given attribute
+	 *
+	 * @param attributeName The name of the attribute to add
+	 * @return This whitelist if it already contains the attribute, or else a new whitelist that includes it
+	 */
+	public HTMLAttributeWhitelist with(String attributeName){
+		if(contains(attributeName)){
+			return this;
+		}
+		int ordinal = HTMLAttributeRegistry.ordinalOf(attributeName);
+		if(ordinal == -1){
+			Set<String> newCustomNames = new HashSet<>(customNames);
+			newCustomNames.add(attributeName);
+			return new HTMLAttributeWhitelist(bits, newCustomNames);
+		}
+		long[] newBits = Arrays.copyOf(bits, Math.max(bits.length, (ordinal >>> 6) + 1));
+		newBits[ordinal >>> 6] |= 1L << ordinal;
+		return new HTMLAttributeWhitelist(newBits, customNames);
+	}
+	
+	/**
+	 * @param ordinal The ordinal of an attribute from {@link HTMLAttributeRegistry}
+	 * @return Whether the attribute with the given ordinal is in this whitelist
+	 */
+	public boolean containsOrdinal(int ordinal){
+		int index = ordinal >>> 6;
+		return ordinal >= 0 && index < bits.length && (bits[index] & (1L << ordinal)) != 0;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean contains(Object o){
+		if(o == null){
+			return customNames.contains(null);
+		}else if(o instanceof String name){
+			int ordinal = HTMLAttributeRegistry.ordinalOf(name);
+			return ordinal == -1?customNames.contains(name):containsOrdinal(ordinal);
+		}
+		return false;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object o){
+		if(o instanceof HTMLAttributeWhitelist other){
+			// Compare the bits, allowing for one of them to have extra empty words at the end
+			int length = Math.max(bits.length, other.bits.length);
+			for(int i = 0; i < length; i++){
+				if((i < bits.length?bits[i]:0) != (i < other.bits.length?other.bits[i]:0)){
+					return false;
+				}
+			}
+			return customNames.equals(other.customNames);
+		}
+		return super.equals(o);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode(){
+		return super.hashCode();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * Standard attributes are returned first, in the order of their ordinals, followed by any custom attributes
+	 */
+	@Override
+	public Iterator<String> iterator(){
+		return new Iterator<>(){
+			/** The ordinal of the next standard attribute to return, or -1 if there are none left */
+			private int next = nextOrdinal(0);
+			/** The custom attributes, returned once the standard attributes run out */
+			private final Iterator<String> customIterator = customNames.iterator();
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean hasNext(){
+				return next != -1 || customIterator.hasNext();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public String next(){
+				if(next == -1){
+					if(!customIterator.hasNext()){
+						throw new NoSuchElementException();
+					}
+					return customIterator.next();
+				}
+				String name = HTMLAttributeRegistry.nameOf(next);
+				next = nextOrdinal(next + 1);
+				return name;
+			}
+		};
+	}
+	
+	/**
+	 * @param from The ordinal to start searching at
+	 * @return The first ordinal at or after the given one that's in this whitelist, or -1 if there are none
+	 */
+	private int nextOrdinal(int from){
+		int index = from >>> 6;
+		if(index >= bits.length){
+			return -1;
+		}
+		long word = bits[index] & (-1L << from);
+		while(word == 0){
+			if(++index == bits.length){
+				return -1;
+			}
+			word = bits[index];
+		}
+		return (index << 6) + Long.numberOfTrailingZeros(word);
+	}
+}
@@ -0,0 +1,152 @@
+package com.github.tadukoo.parsing.web.html.tag.attribute;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A read-only Map of attributes that aren't made until they're needed, for tags whose attributes are usually
+ * never read (e.g. most of the tags from a parser). Subclasses only hold onto where the attributes came from, and
+ * give them to {@link #forEachAttribute(BiConsumer)} each time they're asked for.
+ * <br><br>
+ * Looking up a single attribute with {@link #get(Object)} or {@link #containsKey(Object)} goes through the
+ * attributes without keeping any of them, so only the value that's asked for is made. Anything else (e.g.
+ * iterating, {@link #size()}, or {@link #equals(Object)}) first materializes all the attributes into a read-only
+ * {@link HTMLAttributeMap}, which is kept and used from then on.
+ * <br><br>
+ * When one is given to an {@link com.github.tadukoo.parsing.web.html.tag.HTMLTag HTMLTag}, the tag keeps it as-is
+ * instead of copying it, and only materializes it when the attributes are rendered or asked for as a whole.
+ * Like {@link HTMLAttributeMap}, names are never null but values may be. Materializing is safe from any number of
+ * threads (at worst, the attributes are made more than once).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public abstract class HTMLLazyAttributeMap extends AbstractMap<String, String>{
+	/** The materialized attributes, or null if they haven't been needed yet */
+	private volatile HTMLAttributeMap attributes;
+	
+	/**
+	 * Gives each attribute to the given action, in the order they were written (if a name is given more than once,
+	 * the first one is the one that counts, and the map ignores any repeats given to the action). This may be
+	 * called any number of times, and must give the same attributes each time.
+	 *
+	 * @param action Takes the name and value of each attribute - the value is null if the attribute doesn't have
+	 * one, and is only valid until the action returns
+	 */
+	protected abstract void forEachAttribute(BiConsumer<String, CharSequence> action);
+	
+	/**
+	 * @return Whether the attributes have been materialized yet
+	 */
+	public boolean isMaterialized(){
+		return attributes != null;
+	}
+	
+	/**
+	 * Materializes the attributes, if they haven't been already
+	 *
+	 * @return A read-only {@link HTMLAttributeMap} of the attributes, sorted by name
+	 */
+	public HTMLAttributeMap materialize(){
+		HTMLAttributeMap materialized = attributes;
+		if(materialized == null){
+			HTMLAttributeMap map = new HTMLAttributeMap();
+			forEachAttribute((name, value) -> {
+				if(!map.containsKey(name)){
+					map.put(name, value == null?null:value.toString());
+				}
+			});
+			materialized = HTMLAttributeMap.sortedCopyOf(map);
+			attributes = materialized;
+		}
+		return materialized;
+	}
+	
+	/**
+	 * Finds the value of a single attribute without materializing the rest. By default, this goes through all the
+	 * attributes with {@link #forEachAttribute(BiConsumer)}, but subclasses can find it more directly.
+	 *
+	 * @param name The name of the attribute
+	 * @return The value of the attribute, or null if it doesn't have one or isn't in this map
+	 */
+	protected String findValue(String name){
+		Lookup lookup = new Lookup(name);
+		forEachAttribute(lookup);
+		return lookup.value;
+	}
+	
+	/**
+	 * Checks whether an attribute is in this map without materializing the rest. By default, this goes through all
+	 * the attributes with {@link #forEachAttribute(BiConsumer)}, but subclasses can find it more directly.
+	 *
+	 * @param name The name of the attribute
+	 * @return Whether the attribute is in this map
+	 */
+	protected boolean hasAttribute(String name){
+		Lookup lookup = new Lookup(name);
+		forEachAttribute(lookup);
+		return lookup.found;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String get(Object key){
+		HTMLAttributeMap materialized = attributes;
+		if(materialized != null){
+			return materialized.get(key);
+		}
+		return key instanceof String name?findValue(name):null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean containsKey(Object key){
+		HTMLAttributeMap materialized = attributes;
+		if(materialized != null){
+			return materialized.containsKey(key);
+		}
+		return key instanceof String name && hasAttribute(name);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int size(){
+		return materialize().size();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Set<Map.Entry<String, String>> entrySet(){
+		return materialize().entrySet();
+	}
+	
+	/**
+	 * Looks for a single attribute, only making its value
+	 */
+	private static final class Lookup implements BiConsumer<String, CharSequence>{
+		/** The name of the attribute to look for */
+		private final String name;
+		/** Whether the attribute was found */
+		private boolean found;
+		/** The value of the attribute (null if it wasn't found or doesn't have one) */
+		private String value;
+		
+		/**
+		 * @param name The name of the attribute to look for
+		 */
+		private Lookup(String name){
+			this.name = name;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void accept(String name, CharSequence value){
+			if(!found && this.name.equals(name)){
+				found = true;
+				this.value = value == null?null:value.toString();
+			}
+		}
+	}
+}
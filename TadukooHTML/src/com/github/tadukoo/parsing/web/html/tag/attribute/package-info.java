@@ -0,0 +1,5 @@
+/**
+ * Contains the structures used to store and check the attributes of
+ * {@link com.github.tadukoo.parsing.web.html.tag.HTMLTag HTMLTags}
+ */
+package com.github.tadukoo.parsing.web.html.tag.attribute;
@@ -2,8 +2,6 @@ package com.github.tadukoo.parsing.web.html.tag.builder;
 
 import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
 
-import java.util.Map;
-
 /**
  * A builder used to build focusable {@link HTMLTag HTML tags}. It includes everything from
  * {@link BaseHTMLTagBuilder BaseHTMLTagBuilder}, and also adds the following attributes
@@ -64,203 +62,30 @@ import java.util.Map;
  *     </tr>
  * </table>
  *
+ * @param <Builder> The type of the actual builder, which is returned by its methods
+ *
  * @author Logan Ferree (Tadukoo)
  * @version Alpha v.0.1
  */
-public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
+public abstract class BaseFocusableHTMLTagBuilder<Builder extends BaseFocusableHTMLTagBuilder<Builder>>
+		extends BaseHTMLTagBuilder<Builder>{
 	
 	/** Not allowed to instantiate outside here and extensions */
 	protected BaseFocusableHTMLTagBuilder(){
 		super();
-		attributeWhitelist.addAll(GLOBAL_FOCUSABLE_ATTRIBUTE_WHITELIST);
-	}
-	
-	/*
-	 * Global Attributes
-	 */
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder accesskey(String value){
-		return (BaseFocusableHTMLTagBuilder) super.accesskey(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder classAttribute(String value){
-		return (BaseFocusableHTMLTagBuilder) super.classAttribute(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder contenteditable(String value){
-		return (BaseFocusableHTMLTagBuilder) super.contenteditable(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder data(String dataTagName, String value){
-		return (BaseFocusableHTMLTagBuilder) super.data(dataTagName, value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder dir(String value){
-		return (BaseFocusableHTMLTagBuilder) super.dir(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder draggable(String value){
-		return (BaseFocusableHTMLTagBuilder) super.draggable(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder hidden(){
-		return (BaseFocusableHTMLTagBuilder) super.hidden();
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder id(String value){
-		return (BaseFocusableHTMLTagBuilder) super.id(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder lang(String value){
-		return (BaseFocusableHTMLTagBuilder) super.lang(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder spellcheck(String value){
-		return (BaseFocusableHTMLTagBuilder) super.spellcheck(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder style(String value){
-		return (BaseFocusableHTMLTagBuilder) super.style(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder tabindex(String value){
-		return (BaseFocusableHTMLTagBuilder) super.tabindex(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder title(String value){
-		return (BaseFocusableHTMLTagBuilder) super.title(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder translate(String value){
-		return (BaseFocusableHTMLTagBuilder) super.translate(value);
+		attributeWhitelist = GLOBAL_FOCUSABLE_ATTRIBUTE_WHITELIST;
 	}
 	
 	/*
-	 * Global Drag Event Attributes
+	 * Reuse
 	 */
 	
 	/** {@inheritDoc} */
 	@Override
-	public BaseFocusableHTMLTagBuilder ondrag(String value){
-		return (BaseFocusableHTMLTagBuilder) super.ondrag(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder ondragend(String value){
-		return (BaseFocusableHTMLTagBuilder) super.ondragend(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder ondragenter(String value){
-		return (BaseFocusableHTMLTagBuilder) super.ondragenter(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder ondragleave(String value){
-		return (BaseFocusableHTMLTagBuilder) super.ondragleave(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder ondragover(String value){
-		return (BaseFocusableHTMLTagBuilder) super.ondragover(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder ondragstart(String value){
-		return (BaseFocusableHTMLTagBuilder) super.ondragstart(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder ondrop(String value){
-		return (BaseFocusableHTMLTagBuilder) super.ondrop(value);
-	}
-	
-	/*
-	 * Global Clipboard Attributes
-	 */
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder oncopy(String value){
-		return (BaseFocusableHTMLTagBuilder) super.oncopy(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder oncut(String value){
-		return (BaseFocusableHTMLTagBuilder) super.oncut(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder onpaste(String value){
-		return (BaseFocusableHTMLTagBuilder) super.onpaste(value);
-	}
-	
-	/*
-	 * Global Other Event Attributes
-	 */
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder oncontextmenu(String value){
-		return (BaseFocusableHTMLTagBuilder) super.oncontextmenu(value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder onwheel(String value){
-		return (BaseFocusableHTMLTagBuilder) super.onwheel(value);
-	}
-	
-	/*
-	 * Custom Attributes
-	 */
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder attribute(String name, String value){
-		return (BaseFocusableHTMLTagBuilder) super.attribute(name, value);
-	}
-	
-	/** {@inheritDoc} */
-	@Override
-	public BaseFocusableHTMLTagBuilder attributes(Map<String, String> attributes){
-		return (BaseFocusableHTMLTagBuilder) super.attributes(attributes);
+	public Builder reset(){
+		super.reset();
+		attributeWhitelist = GLOBAL_FOCUSABLE_ATTRIBUTE_WHITELIST;
+		return self();
 	}
 	
 	/*
@@ -274,9 +99,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onblur} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onblur(String value){
+	public Builder onblur(String value){
 		attributes.put(ON_BLUR_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -286,9 +111,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onfocus} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onfocus(String value){
+	public Builder onfocus(String value){
 		attributes.put(ON_FOCUS_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/*
@@ -302,9 +127,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onkeydown} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onkeydown(String value){
+	public Builder onkeydown(String value){
 		attributes.put(ON_KEY_DOWN_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -314,9 +139,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onkeypress} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onkeypress(String value){
+	public Builder onkeypress(String value){
 		attributes.put(ON_KEY_PRESS_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -326,9 +151,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onkeyup} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onkeyup(String value){
+	public Builder onkeyup(String value){
 		attributes.put(ON_KEY_UP_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/*
@@ -342,9 +167,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onclick} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onclick(String value){
+	public Builder onclick(String value){
 		attributes.put(ON_CLICK_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -354,9 +179,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code ondblclick} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder ondblclick(String value){
+	public Builder ondblclick(String value){
 		attributes.put(ON_DBL_CLICK_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -366,9 +191,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onmousedown} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onmousedown(String value){
+	public Builder onmousedown(String value){
 		attributes.put(ON_MOUSE_DOWN_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -378,9 +203,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onmousemove} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onmousemove(String value){
+	public Builder onmousemove(String value){
 		attributes.put(ON_MOUSE_MOVE_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -390,9 +215,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onmouseout} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onmouseout(String value){
+	public Builder onmouseout(String value){
 		attributes.put(ON_MOUSE_OUT_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -402,9 +227,9 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onmouseover} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onmouseover(String value){
+	public Builder onmouseover(String value){
 		attributes.put(ON_MOUSE_OVER_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -414,8 +239,8 @@ public abstract class BaseFocusableHTMLTagBuilder extends BaseHTMLTagBuilder{
 	 * @param value The value for the {@code onmouseup} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseFocusableHTMLTagBuilder onmouseup(String value){
+	public Builder onmouseup(String value){
 		attributes.put(ON_MOUSE_UP_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 }
@@ -2,9 +2,13 @@ package com.github.tadukoo.parsing.web.html.tag.builder;
 
 import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
 import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeMap;
+import com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeWhitelist;
+import com.github.tadukoo.util.StringUtil;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -13,7 +17,14 @@ import java.util.Set;
  * attributes, including methods for the global attributes in HTML.
  *
  * It provides methods for the following global attributes, along with a few methods for custom attributes.
- * Note that there are no default or required attributes
+ * Note that there are no default or required attributes. It also provides {@link #cacheRendering()} to have the
+ * built {@link HTMLTag} keep its rendered form, {@link #reset()} so a builder can be reused (see
+ * {@link HTMLTagBuilderPool}), and {@link #attributeValidation(HTMLAttributeValidationMode)} to check the
+ * attributes against the attribute whitelist when building.
+ * <br><br>
+ * The builder is self-typed: each method returns {@code Builder}, the type of the actual builder (e.g.
+ * {@code HTMLBodyTagBuilder extends BaseFocusableAndLoadableHTMLTagBuilder<HTMLBodyTagBuilder>}), so chained calls
+ * keep the specific builder type without every builder overriding every method to narrow its return type.
  * <table>
  *     <caption>HTML Attribute Options</caption>
  *     <tr>
@@ -118,22 +129,99 @@ import java.util.Set;
  *     </tr>
  * </table>
  *
+ * @param <Builder> The type of the actual builder, which is returned by its methods
+ *
  * @author Logan Ferree (Tadukoo)
  * @version Alpha v.0.1
  */
-public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
+public abstract class BaseHTMLTagBuilder<Builder extends BaseHTMLTagBuilder<Builder>> implements HTMLTagConstants{
+	/** The Map of attributes this builder starts out with, which is reused when it's {@link #reset()} */
+	private final HTMLAttributeMap defaultAttributes = new HTMLAttributeMap();
 	/** The List of attributes in the {@link HTMLTag} */
-	protected Map<String, String> attributes = new HashMap<>();
-	/** The Set of valid attributes in the {@link HTMLTag} */
-	protected Set<String> attributeWhitelist = new HashSet<>();
-	/** The Set of valid tags under the {@link HTMLTag} */
-	protected Set<String> subTagWhitelist = new HashSet<>();
-	/** The Set of invalid tags under the {@link HTMLTag} */
-	protected Set<String> subTagBlacklist = new HashSet<>();
+	protected Map<String, String> attributes = defaultAttributes;
+	/**
+	 * The Set of valid attributes in the {@link HTMLTag} - this starts out as one of the shared immutable Sets from
+	 * {@link HTMLTagConstants}, so use {@link #customAttributeWhitelist()} to add to it
+	 */
+	protected Set<String> attributeWhitelist = ALL_GLOBAL_ATTRIBUTE_WHITELIST;
+	/**
+	 * The Set of valid tags under the {@link HTMLTag} - this starts out as a shared immutable Set, so use
+	 * {@link #customSubTagWhitelist()} to add to it
+	 */
+	protected Set<String> subTagWhitelist = Set.of();
+	/**
+	 * The Set of invalid tags under the {@link HTMLTag} - this starts out as a shared immutable Set, so use
+	 * {@link #customSubTagBlacklist()} to add to it
+	 */
+	protected Set<String> subTagBlacklist = Set.of();
+	/** Whether {@link #attributeWhitelist} is a copy that belongs to this builder, and so can be added to */
+	protected boolean ownsAttributeWhitelist = false;
+	/** Whether {@link #subTagWhitelist} is a copy that belongs to this builder, and so can be added to */
+	protected boolean ownsSubTagWhitelist = false;
+	/** Whether {@link #subTagBlacklist} is a copy that belongs to this builder, and so can be added to */
+	protected boolean ownsSubTagBlacklist = false;
+	/** Whether the {@link HTMLTag} should keep its rendered form after it's first rendered */
+	protected boolean cacheRendering = false;
+	/** How the attributes are checked against the {@link #attributeWhitelist} when the {@link HTMLTag} is built */
+	protected HTMLAttributeValidationMode attributeValidation = HTMLAttributeValidationMode.NONE;
+	/** The attributes that weren't in the whitelist in the last build, when using the report validation mode */
+	protected List<String> attributeViolations = List.of();
 	
 	/** Not allowed to instantiate outside here and extensions */
-	protected BaseHTMLTagBuilder(){
-		attributeWhitelist.addAll(ALL_GLOBAL_ATTRIBUTE_WHITELIST);
+	protected BaseHTMLTagBuilder(){ }
+	
+	/**
+	 * @return this builder as its actual type, so the methods in here can return it to continue building
+	 */
+	@SuppressWarnings("unchecked")
+	protected final Builder self(){
+		return (Builder) this;
+	}
+	
+	/*
+	 * Whitelists and Blacklists
+	 */
+	
+	/**
+	 * Copies the {@link #attributeWhitelist} the first time it's customized, so that the shared Set is never
+	 * modified (and tags that aren't customized don't need their own copy)
+	 *
+	 * @return The {@link #attributeWhitelist}, which is safe to add to
+	 */
+	protected Set<String> customAttributeWhitelist(){
+		if(!ownsAttributeWhitelist){
+			attributeWhitelist = new HashSet<>(attributeWhitelist);
+			ownsAttributeWhitelist = true;
+		}
+		return attributeWhitelist;
+	}
+	
+	/**
+	 * Copies the {@link #subTagWhitelist} the first time it's customized, so that the shared Set is never
+	 * modified (and tags that aren't customized don't need their own copy)
+	 *
+	 * @return The {@link #subTagWhitelist}, which is safe to add to
+	 */
+	protected Set<String> customSubTagWhitelist(){
+		if(!ownsSubTagWhitelist){
+			subTagWhitelist = new HashSet<>(subTagWhitelist);
+			ownsSubTagWhitelist = true;
+		}
+		return subTagWhitelist;
+	}
+	
+	/**
+	 * Copies the {@link #subTagBlacklist} the first time it's customized, so that the shared Set is never
+	 * modified (and tags that aren't customized don't need their own copy)
+	 *
+	 * @return The {@link #subTagBlacklist}, which is safe to add to
+	 */
+	protected Set<String> customSubTagBlacklist(){
+		if(!ownsSubTagBlacklist){
+			subTagBlacklist = new HashSet<>(subTagBlacklist);
+			ownsSubTagBlacklist = true;
+		}
+		return subTagBlacklist;
 	}
 	
 	/*
@@ -147,9 +235,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value for the {@code accesskey} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder accesskey(String value){
+	public Builder accesskey(String value){
 		attributes.put(ACCESS_KEY_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -159,9 +247,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value for the {@code class} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder classAttribute(String value){
+	public Builder classAttribute(String value){
 		attributes.put(CLASS_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -171,9 +259,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value for the {@code contenteditable} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder contenteditable(String value){
+	public Builder contenteditable(String value){
 		attributes.put(CONTENT_EDITABLE_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -184,9 +272,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value for the {@code data} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder data(String dataTagName, String value){
+	public Builder data(String dataTagName, String value){
 		attributes.put(DATA_ATTRIBUTE_NAME_PREFIX + dataTagName, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -196,9 +284,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value for the {@code dir} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder dir(String value){
+	public Builder dir(String value){
 		attributes.put(DIR_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -208,9 +296,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value for the {@code draggable} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder draggable(String value){
+	public Builder draggable(String value){
 		attributes.put(DRAGGABLE_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -219,9 +307,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 *
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder hidden(){
+	public Builder hidden(){
 		attributes.put(HIDDEN_ATTRIBUTE_NAME, null);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -231,9 +319,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value for the {@code id} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder id(String value){
+	public Builder id(String value){
 		attributes.put(ID_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -243,9 +331,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code lang} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder lang(String value){
+	public Builder lang(String value){
 		attributes.put(LANG_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -255,9 +343,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code spellcheck} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder spellcheck(String value){
+	public Builder spellcheck(String value){
 		attributes.put(SPELLCHECK_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -267,9 +355,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code style} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder style(String value){
+	public Builder style(String value){
 		attributes.put(STYLE_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -279,9 +367,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code tabindex} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder tabindex(String value){
+	public Builder tabindex(String value){
 		attributes.put(TAB_INDEX_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -291,9 +379,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code title} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder title(String value){
+	public Builder title(String value){
 		attributes.put(TITLE_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -303,9 +391,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code translate} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder translate(String value){
+	public Builder translate(String value){
 		attributes.put(TRANSLATE_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/*
@@ -319,9 +407,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code ondrag} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder ondrag(String value){
+	public Builder ondrag(String value){
 		attributes.put(ON_DRAG_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -331,9 +419,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code ondragend} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder ondragend(String value){
+	public Builder ondragend(String value){
 		attributes.put(ON_DRAG_END_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -343,9 +431,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code ondragenter} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder ondragenter(String value){
+	public Builder ondragenter(String value){
 		attributes.put(ON_DRAG_ENTER_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -355,9 +443,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code ondragleave} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder ondragleave(String value){
+	public Builder ondragleave(String value){
 		attributes.put(ON_DRAG_LEAVE_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -367,9 +455,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code ondragover} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder ondragover(String value){
+	public Builder ondragover(String value){
 		attributes.put(ON_DRAG_OVER_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -379,9 +467,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code ondragstart} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder ondragstart(String value){
+	public Builder ondragstart(String value){
 		attributes.put(ON_DRAG_START_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -391,9 +479,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code ondrop} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder ondrop(String value){
+	public Builder ondrop(String value){
 		attributes.put(ON_DROP_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/*
@@ -407,9 +495,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code oncopy} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder oncopy(String value){
+	public Builder oncopy(String value){
 		attributes.put(ON_COPY_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -419,9 +507,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code oncut} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder oncut(String value){
+	public Builder oncut(String value){
 		attributes.put(ON_CUT_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -431,9 +519,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code onpaste} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder onpaste(String value){
+	public Builder onpaste(String value){
 		attributes.put(ON_PASTE_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/*
@@ -447,9 +535,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code oncontextmenu} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder oncontextmenu(String value){
+	public Builder oncontextmenu(String value){
 		attributes.put(ON_CONTEXT_MENU_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/**
@@ -459,9 +547,9 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value of the {@code onwheel} attribute for the {@link HTMLTag}
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder onwheel(String value){
+	public Builder onwheel(String value){
 		attributes.put(ON_WHEEL_ATTRIBUTE_NAME, value);
-		return this;
+		return self();
 	}
 	
 	/*
@@ -475,9 +563,37 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param value The value for the attribute
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder attribute(String name, String value){
+	public Builder attribute(String name, String value){
 		this.attributes.put(name, value);
-		return this;
+		return self();
+	}
+	
+	/**
+	 * Used to add an attribute for the {@link HTMLTag} whose ordinal in the
+	 * {@link com.github.tadukoo.parsing.web.html.tag.attribute.HTMLAttributeRegistry HTMLAttributeRegistry} is
+	 * already known (e.g. by the parser, which finds it while reading the name), so validating it later doesn't
+	 * need to look the name up
+	 *
+	 * @param name The name of the attribute
+	 * @param ordinal The ordinal of the attribute (which must match the name), or -1 if it isn't a standard attribute
+	 * @param value The value for the attribute
+	 * @return this, to continue building
+	 */
+	public Builder attribute(String name, int ordinal, String value){
+		if(attributes instanceof HTMLAttributeMap attributeMap){
+			attributeMap.put(name, ordinal, value);
+		}else{
+			attributes.put(name, value);
+		}
+		return self();
+	}
+	
+	/**
+	 * @param name The name of an attribute
+	 * @return Whether the attribute has been set for the {@link HTMLTag}
+	 */
+	public boolean hasAttribute(String name){
+		return attributes.containsKey(name);
 	}
 	
 	/**
@@ -486,9 +602,202 @@ public abstract class BaseHTMLTagBuilder implements HTMLTagConstants{
 	 * @param attributes The {@link Map} of attributes
 	 * @return this, to continue building
 	 */
-	public BaseHTMLTagBuilder attributes(Map<String, String> attributes){
+	public Builder attributes(Map<String, String> attributes){
 		this.attributes = attributes;
-		return this;
+		return self();
+	}
+	
+	/*
+	 * Rendering Options
+	 */
+	
+	/**
+	 * Sets it so the {@link HTMLTag} will keep its rendered opening and closing tags the first time they're
+	 * rendered, so that rendering it again is just a copy. This is meant for tags that are built once and
+	 * rendered many times.
+	 *
+	 * @return this, to continue building
+	 */
+	public Builder cacheRendering(){
+		cacheRendering = true;
+		return self();
+	}
+	
+	/**
+	 * @param cacheRendering Whether the {@link HTMLTag} should keep its rendered form after it's first rendered
+	 * @return this, to continue building
+	 */
+	public Builder cacheRendering(boolean cacheRendering){
+		this.cacheRendering = cacheRendering;
+		return self();
+	}
+	
+	/*
+	 * Validation
+	 */
+	
+	/**
+	 * Sets how the attributes are checked against the attribute whitelist when the {@link HTMLTag} is built
+	 * (by default they aren't checked at all)
+	 *
+	 * @param attributeValidation The {@link HTMLAttributeValidationMode} to use
+	 * @return this, to continue building
+	 */
+	public Builder attributeValidation(HTMLAttributeValidationMode attributeValidation){
+		this.attributeValidation = attributeValidation;
+		return self();
+	}
+	
+	/**
+	 * @return The messages for the attributes that weren't in the whitelist the last time an {@link HTMLTag}
+	 * was built, when using {@link HTMLAttributeValidationMode#REPORT} (empty otherwise)
+	 */
+	public List<String> getAttributeViolations(){
+		return attributeViolations;
+	}
+	
+	/**
+	 * Checks if the given attribute is allowed in the {@link HTMLTag}. It's allowed if it's in the
+	 * {@link #attributeWhitelist} or it's a custom {@link #DATA_ATTRIBUTE_NAME_PREFIX data-} attribute.
+	 *
+	 * @param attribute The name of the attribute to check
+	 * @return Whether the attribute is allowed
+	 */
+	protected boolean isValidAttribute(String attribute){
+		return attributeWhitelist.contains(attribute) ||
+				(attribute.startsWith(DATA_ATTRIBUTE_NAME_PREFIX) &&
+						attribute.length() > DATA_ATTRIBUTE_NAME_PREFIX.length());
+	}
+	
+	/**
+	 * Checks if the given attribute is allowed in the {@link HTMLTag}, like {@link #isValidAttribute(String)}, but
+	 * using its ordinal when it has one, so that checking it against an {@link HTMLAttributeWhitelist} is a single
+	 * bit test rather than a lookup of the name
+	 *
+	 * @param attribute The name of the attribute to check
+	 * @param ordinal The ordinal of the attribute, or -1 if it isn't a standard attribute
+	 * @return Whether the attribute is allowed
+	 */
+	protected boolean isValidAttribute(String attribute, int ordinal){
+		if(ordinal != -1 && attributeWhitelist instanceof HTMLAttributeWhitelist whitelist){
+			return whitelist.containsOrdinal(ordinal);
+		}
+		return isValidAttribute(attribute);
+	}
+	
+	/**
+	 * Checks the attributes against the attribute whitelist using the {@link #attributeValidation} mode, to be
+	 * called by {@link #build()}
+	 *
+	 * @param tagType The type of {@link HTMLTag} being built, for the error message
+	 * @return The attributes to build the {@link HTMLTag} with (which leaves out the invalid attributes when
+	 * using {@link HTMLAttributeValidationMode#LENIENT})
+	 * @throws IllegalArgumentException If using {@link HTMLAttributeValidationMode#STRICT} and there are any
+	 * invalid attributes
+	 */
+	protected Map<String, String> validateAttributes(String tagType){
+		// Clear the last build's violations first, so they don't linger if the mode has changed since
+		attributeViolations = List.of();
+		if(attributeValidation == HTMLAttributeValidationMode.NONE){
+			return attributes;
+		}
+		
+		// Find any invalid attributes (nothing is allocated if they're all valid)
+		List<String> invalidAttributes = null;
+		if(attributes instanceof HTMLAttributeMap attributeMap && !attributeMap.isPromoted()){
+			// Check them by their ordinals, which the map keeps, rather than looking up their names
+			for(int i = 0; i < attributeMap.size(); i++){
+				String attribute = attributeMap.nameAt(i);
+				if(!isValidAttribute(attribute, attributeMap.ordinalAt(i))){
+					invalidAttributes = addInvalidAttribute(invalidAttributes, attribute);
+				}
+			}
+		}else{
+			for(String attribute: attributes.keySet()){
+				if(!isValidAttribute(attribute)){
+					invalidAttributes = addInvalidAttribute(invalidAttributes, attribute);
+				}
+			}
+		}
+		if(invalidAttributes == null){
+			return attributes;
+		}
+		
+		switch(attributeValidation){
+			case STRICT -> {
+				List<String> errors = new ArrayList<>();
+				for(String attribute: invalidAttributes){
+					errors.add(makeViolationMessage(attribute));
+				}
+				throw new IllegalArgumentException("Errors encountered in building a " + tagType + ": \n" +
+						StringUtil.buildStringWithNewLines(errors));
+			}
+			case LENIENT -> {
+				// Copy the attributes without the invalid ones, so the builder's attributes aren't changed
+				Map<String, String> validAttributes = new HTMLAttributeMap();
+				for(Map.Entry<String, String> attribute: attributes.entrySet()){
+					if(!invalidAttributes.contains(attribute.getKey())){
+						validAttributes.put(attribute.getKey(), attribute.getValue());
+					}
+				}
+				return validAttributes;
+			}
+			case REPORT -> {
+				List<String> violations = new ArrayList<>();
+				for(String attribute: invalidAttributes){
+					violations.add(makeViolationMessage(attribute));
+				}
+				attributeViolations = violations;
+			}
+		}
+		return attributes;
+	}
+	
+	/**
+	 * @param attribute The name of an attribute that isn't in the whitelist
+	 * @return The message to use for the invalid attribute
+	 */
+	private static String makeViolationMessage(String attribute){
+		return "attribute " + attribute + " is not in the attribute whitelist!";
+	}
+	
+	/**
+	 * @param invalidAttributes The invalid attributes found so far, or null if there haven't been any
+	 * @param attribute The name of another invalid attribute
+	 * @return The invalid attributes with the given one added (made the first time there is one)
+	 */
+	private static List<String> addInvalidAttribute(List<String> invalidAttributes, String attribute){
+		if(invalidAttributes == null){
+			invalidAttributes = new ArrayList<>();
+		}
+		invalidAttributes.add(attribute);
+		return invalidAttributes;
+	}
+	
+	/*
+	 * Reuse
+	 */
+	
+	/**
+	 * Resets this builder to how it was when it was created, so it can be used to build another {@link HTMLTag}.
+	 * Nothing is reallocated: the attributes Map is cleared and reused, and the whitelists and blacklist go back
+	 * to the shared defaults. Tags that were already built aren't affected.
+	 *
+	 * @return this, to continue building
+	 */
+	public Builder reset(){
+		defaultAttributes.clear();
+		attributes = defaultAttributes;
+		attributeWhitelist = ALL_GLOBAL_ATTRIBUTE_WHITELIST;
+		subTagWhitelist = Set.of();
+		subTagBlacklist = Set.of();
+		ownsAttributeWhitelist = false;
+		ownsSubTagWhitelist = false;
+		ownsSubTagBlacklist = false;
+		cacheRendering = false;
+		attributeValidation = HTMLAttributeValidationMode.NONE;
+		attributeViolations = List.of();
+		return self();
 	}
 	
 	/**
@@ -0,0 +1,24 @@
+package com.github.tadukoo.parsing.web.html.tag.builder;
+
+/**
+ * How a {@link BaseHTMLTagBuilder builder} checks the attributes of an
+ * {@link com.github.tadukoo.parsing.web.html.tag.HTMLTag} against its attribute whitelist when it's built.
+ * Attributes starting with {@link com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants#DATA_ATTRIBUTE_NAME_PREFIX
+ * data-} are custom data attributes, which are allowed on every tag, so they always pass.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public enum HTMLAttributeValidationMode{
+	/** Attributes aren't checked at all (the default) */
+	NONE,
+	/** Any attribute that isn't in the whitelist causes {@code build()} to throw an {@link IllegalArgumentException} */
+	STRICT,
+	/** Any attribute that isn't in the whitelist is left out of the built tag */
+	LENIENT,
+	/**
+	 * Attributes that aren't in the whitelist are kept, but are reported in
+	 * {@link BaseHTMLTagBuilder#getAttributeViolations()}
+	 */
+	REPORT
+}
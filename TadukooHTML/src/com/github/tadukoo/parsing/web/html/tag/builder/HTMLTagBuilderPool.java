@@ -0,0 +1,103 @@
+package com.github.tadukoo.parsing.web.html.tag.builder;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+
+import java.util.ArrayDeque;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A per-thread pool of {@link BaseHTMLTagBuilder builders}, for building lots of {@link HTMLTag HTMLTags} in a
+ * hot loop without creating a new builder for each one. Builders are {@link BaseHTMLTagBuilder#reset() reset}
+ * when they're released back to the pool, so a builder from {@link #acquire()} is always in its default state.
+ * <br><br>
+ * Each thread gets its own builders, so no locking is needed, and {@link #build(Function)} can be called
+ * recursively (e.g. to build sub tags while building a tag), as each nested call gets a different builder.
+ * <br><br>
+ * Example:
+ * <pre>{@code
+ * HTMLTagBuilderPool<HTMLBodyTag.HTMLBodyTagBuilder> pool = new HTMLTagBuilderPool<>(HTMLBodyTag::builder);
+ * HTMLBodyTag body = pool.build(builder -> builder.id("main").build());
+ * }</pre>
+ *
+ * @param <Builder> The type of {@link BaseHTMLTagBuilder builder} in the pool
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public class HTMLTagBuilderPool<Builder extends BaseHTMLTagBuilder<Builder>>{
+	/** The default most builders kept for each thread */
+	public static final int DEFAULT_MAX_POOLED_BUILDERS = 8;
+	
+	/** Used to create new builders when a thread doesn't have any free */
+	private final Supplier<Builder> builderSupplier;
+	/** The most builders kept for each thread - any more that are released are dropped */
+	private final int maxPooledBuilders;
+	/** The free builders for each thread */
+	private final ThreadLocal<ArrayDeque<Builder>> freeBuilders = ThreadLocal.withInitial(ArrayDeque::new);
+	
+	/**
+	 * Constructs a new {@link HTMLTagBuilderPool} that keeps up to {@link #DEFAULT_MAX_POOLED_BUILDERS}
+	 * builders for each thread
+	 *
+	 * @param builderSupplier Used to create new builders when a thread doesn't have any free
+	 */
+	public HTMLTagBuilderPool(Supplier<Builder> builderSupplier){
+		this(builderSupplier, DEFAULT_MAX_POOLED_BUILDERS);
+	}
+	
+	/**
+	 * Constructs a new {@link HTMLTagBuilderPool} that keeps up to the given number of builders for each thread
+	 *
+	 * @param builderSupplier Used to create new builders when a thread doesn't have any free
+	 * @param maxPooledBuilders The most builders kept for each thread
+	 */
+	public HTMLTagBuilderPool(Supplier<Builder> builderSupplier, int maxPooledBuilders){
+		if(maxPooledBuilders < 0){
+			throw new IllegalArgumentException("maxPooledBuilders can't be negative, but was " + maxPooledBuilders);
+		}
+		this.builderSupplier = builderSupplier;
+		this.maxPooledBuilders = maxPooledBuilders;
+	}
+	
+	/**
+	 * Takes a free builder from this thread's pool, or creates a new one if there aren't any. It should be
+	 * {@link #release(BaseHTMLTagBuilder) released} when it's done being used.
+	 *
+	 * @return A builder in its default state
+	 */
+	public Builder acquire(){
+		Builder builder = freeBuilders.get().pollFirst();
+		return builder != null?builder:builderSupplier.get();
+	}
+	
+	/**
+	 * Resets the given builder and puts it back in this thread's pool. The builder must not be used again
+	 * after it's released.
+	 *
+	 * @param builder The builder to release
+	 */
+	public void release(Builder builder){
+		builder.reset();
+		ArrayDeque<Builder> builders = freeBuilders.get();
+		if(builders.size() < maxPooledBuilders){
+			builders.addFirst(builder);
+		}
+	}
+	
+	/**
+	 * Builds an {@link HTMLTag} using a builder from this pool, releasing the builder afterwards
+	 *
+	 * @param build Sets up the builder and builds the {@link HTMLTag}
+	 * @param <Tag> The type of {@link HTMLTag} being built
+	 * @return The built {@link HTMLTag}
+	 */
+	public <Tag extends HTMLTag> Tag build(Function<Builder, Tag> build){
+		Builder builder = acquire();
+		try{
+			return build.apply(builder);
+		}finally{
+			release(builder);
+		}
+	}
+}
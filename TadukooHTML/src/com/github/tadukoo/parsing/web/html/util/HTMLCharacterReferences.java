@@ -0,0 +1,499 @@
+package com.github.tadukoo.parsing.web.html.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes and escapes character references in HTML text and attribute values.
+ * <br><br>
+ * Decoding follows the HTML specification: named references (e.g. {@code &amp;}) are looked up in a compact trie
+ * over the whole table of names ({@link HTMLEntityTrie}), taking the longest name that matches, and numeric
+ * references (e.g. {@code &#38;} or {@code &#x26;}) have the same fixes applied as in browsers (e.g. {@code &#0;}
+ * and surrogates become U+FFFD, and {@code &#150;} is the windows-1252 character it is in practice). The legacy
+ * names that can be written without a {@code ;} (e.g. {@code &copy}) are decoded without it too, except in an
+ * attribute value where they're followed by a letter, digit, or {@code =} (so {@code ?a=1&copy=2} in a link
+ * stays as it is). Anything that isn't a reference is kept as it was written.
+ * <br><br>
+ * Escaping replaces {@code &}, non-breaking spaces, and either {@code <} and {@code >} (in text) or {@code "}
+ * (in an attribute value in double quotes) with references, the same as the HTML serialization algorithm. Both
+ * directions scan for the first character that needs changing before doing anything else, so text that doesn't
+ * need it is returned as it is (or copied in a single run), and both can write to an {@link Appendable}, and
+ * escaping can also write UTF-8 straight into a {@link ByteBuffer}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLCharacterReferences{
+	/** The most a numeric reference can be before it's clamped (anything past U+10FFFF is replaced anyway) */
+	private static final int MAX_CODE_POINT = 0x110000;
+	/** What numeric references to U+0080 to U+009F stand for, the same as windows-1252 (where it has them) */
+	private static final String WINDOWS_1252 = "\u20AC\u0081\u201A\u0192\u201E\u2026\u2020\u2021" +
+			"\u02C6\u2030\u0160\u2039\u0152\u008D\u017D\u008F" +
+			"\u0090\u2018\u2019\u201C\u201D\u2022\u2013\u2014" +
+			"\u02DC\u2122\u0161\u203A\u0153\u009D\u017E\u0178";
+	
+	/** Not allowed to instantiate {@link HTMLCharacterReferences} */
+	private HTMLCharacterReferences(){ }
+	
+	/*
+	 * Decoding
+	 */
+	
+	/**
+	 * @param text Some text or an attribute value
+	 * @return Whether the text might have any character references in it (if not, decoding it won't change it)
+	 */
+	public static boolean mayContainReferences(CharSequence text){
+		return indexOf(text, '&', 0) != -1;
+	}
+	
+	/**
+	 * Decodes the character references in the given text
+	 *
+	 * @param text The text, as it's written in HTML
+	 * @return The decoded text (the same text as a String if it doesn't have any references)
+	 */
+	public static String decodeText(CharSequence text){
+		return decode(text, false);
+	}
+	
+	/**
+	 * Decodes the character references in the given text, appending it to the given {@link Appendable}
+	 *
+	 * @param text The text, as it's written in HTML
+	 * @param out The {@link Appendable} to append the decoded text to
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	public static void decodeText(CharSequence text, Appendable out) throws IOException{
+		decode(text, out, false, false);
+	}
+	
+	/**
+	 * Decodes the character references in a piece of text that may be continued by another piece (e.g. when
+	 * text arrives in chunks), appending it to the given {@link Appendable}. A reference at the end of the piece
+	 * that the next piece could change (e.g. {@code &am}, or {@code &not} which could be the start of
+	 * {@code &notin;}) isn't decoded: it should be put in front of the next piece, or decoded with
+	 * {@link #decodeText(CharSequence, Appendable)} if there isn't one.
+	 *
+	 * @param text The piece of text, as it's written in HTML
+	 * @param out The {@link Appendable} to append the decoded text to
+	 * @return The index of the reference at the end that wasn't decoded, or the length of the text if everything
+	 * was decoded
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	public static int decodeTextPiece(CharSequence text, Appendable out) throws IOException{
+		return decode(text, out, false, true);
+	}
+	
+	/**
+	 * Decodes the character references in the given attribute value
+	 *
+	 * @param value The attribute value, as it's written in HTML (without the quotes)
+	 * @return The decoded value (the same value as a String if it doesn't have any references)
+	 */
+	public static String decodeAttributeValue(CharSequence value){
+		return decode(value, true);
+	}
+	
+	/**
+	 * Decodes the character references in the given attribute value, appending it to the given {@link Appendable}
+	 *
+	 * @param value The attribute value, as it's written in HTML (without the quotes)
+	 * @param out The {@link Appendable} to append the decoded value to
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	public static void decodeAttributeValue(CharSequence value, Appendable out) throws IOException{
+		decode(value, out, true, false);
+	}
+	
+	/**
+	 * Decodes the character references in the given text or attribute value into a String
+	 *
+	 * @param text The text or attribute value, as it's written in HTML
+	 * @param attributeValue Whether it's an attribute value
+	 * @return The decoded text (the same text as a String if it doesn't have any references)
+	 */
+	private static String decode(CharSequence text, boolean attributeValue){
+		if(!mayContainReferences(text)){
+			return text.toString();
+		}
+		StringBuilder decoded = new StringBuilder(text.length());
+		try{
+			decode(text, decoded, attributeValue, false);
+		}catch(IOException e){
+			// StringBuilder doesn't actually throw IOExceptions
+			throw new UncheckedIOException(e);
+		}
+		return decoded.toString();
+	}
+	
+	/**
+	 * Decodes the character references in the given text or attribute value, appending it to the given
+	 * {@link Appendable}. Runs of text between references are appended as they are.
+	 *
+	 * @param text The text or attribute value, as it's written in HTML
+	 * @param out The {@link Appendable} to append the decoded text to
+	 * @param attributeValue Whether it's an attribute value
+	 * @param piece Whether the text could be continued by more text, so a reference at the end is left alone
+	 * @return The index of the reference at the end that wasn't decoded, or the length of the text if everything
+	 * was decoded
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	private static int decode(CharSequence text, Appendable out, boolean attributeValue, boolean piece)
+			throws IOException{
+		int length = text.length();
+		int runStart = 0;
+		int amp = indexOf(text, '&', 0);
+		while(amp != -1){
+			out.append(text, runStart, amp);
+			int end = amp + 1 < length && text.charAt(amp + 1) == '#'?
+					decodeNumeric(text, amp, out, piece):
+					decodeNamed(text, amp, out, attributeValue, piece);
+			if(end == -1){
+				return amp;
+			}
+			// If it wasn't a reference, the & is kept as part of the next run
+			runStart = end;
+			amp = indexOf(text, '&', end == amp?amp + 1:end);
+		}
+		out.append(text, runStart, length);
+		return length;
+	}
+	
+	/**
+	 * Decodes a named character reference, taking the longest name in the table that matches
+	 *
+	 * @param text The text the reference is in
+	 * @param amp The index of the {@code &} the reference starts with
+	 * @param out The {@link Appendable} to append what the reference stands for to
+	 * @param attributeValue Whether the text is an attribute value
+	 * @param piece Whether the text could be continued by more text
+	 * @return The index after the reference, {@code amp} if it's not a reference (nothing is appended), or -1 if
+	 * it's cut off at the end of a piece
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	private static int decodeNamed(CharSequence text, int amp, Appendable out, boolean attributeValue, boolean piece)
+			throws IOException{
+		int length = text.length();
+		int node = HTMLEntityTrie.ROOT;
+		String value = null;
+		int valueEnd = -1;
+		int i = amp + 1;
+		for(; i < length; i++){
+			node = HTMLEntityTrie.child(node, text.charAt(i));
+			if(node == -1){
+				break;
+			}
+			String nodeValue = HTMLEntityTrie.valueOf(node);
+			if(nodeValue != null){
+				value = nodeValue;
+				valueEnd = i + 1;
+			}
+		}
+		if(i == length && piece && HTMLEntityTrie.hasChildren(node)){
+			// The next piece could make it a longer name
+			return -1;
+		}
+		if(value == null){
+			return amp;
+		}
+		if(attributeValue && text.charAt(valueEnd - 1) != ';' && valueEnd < length){
+			char next = text.charAt(valueEnd);
+			if(next == '=' || isAsciiAlphanumeric(next)){
+				return amp;
+			}
+		}
+		out.append(value);
+		return valueEnd;
+	}
+	
+	/**
+	 * Decodes a numeric character reference ({@code &#} followed by decimal digits, or {@code &#x} or
+	 * {@code &#X} followed by hex digits, and a {@code ;} that may be left out)
+	 *
+	 * @param text The text the reference is in
+	 * @param amp The index of the {@code &} the reference starts with
+	 * @param out The {@link Appendable} to append the character the reference stands for to
+	 * @param piece Whether the text could be continued by more text
+	 * @return The index after the reference, {@code amp} if it's not a reference (nothing is appended), or -1 if
+	 * it's cut off at the end of a piece
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	private static int decodeNumeric(CharSequence text, int amp, Appendable out, boolean piece) throws IOException{
+		int length = text.length();
+		int i = amp + 2;
+		boolean hex = i < length && (text.charAt(i) == 'x' || text.charAt(i) == 'X');
+		if(hex){
+			i++;
+		}
+		int digitsStart = i;
+		int codePoint = 0;
+		for(; i < length; i++){
+			int digit = digit(text.charAt(i), hex);
+			if(digit == -1){
+				break;
+			}
+			codePoint = Math.min(codePoint * (hex?16:10) + digit, MAX_CODE_POINT);
+		}
+		if(i == length && piece){
+			// The next piece could have more digits or the ;
+			return -1;
+		}
+		if(i == digitsStart){
+			return amp;
+		}
+		if(i < length && text.charAt(i) == ';'){
+			i++;
+		}
+		
+		// Fix the code points that can't be used the same way browsers do
+		if(codePoint == 0 || codePoint >= MAX_CODE_POINT ||
+				(codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)){
+			codePoint = 0xFFFD;
+		}else if(codePoint >= 0x80 && codePoint <= 0x9F){
+			codePoint = WINDOWS_1252.charAt(codePoint - 0x80);
+		}
+		
+		if(codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT){
+			out.append((char) codePoint);
+		}else{
+			out.append(Character.highSurrogate(codePoint)).append(Character.lowSurrogate(codePoint));
+		}
+		return i;
+	}
+	
+	/**
+	 * @param c A character
+	 * @param hex Whether hex digits are allowed
+	 * @return The value of the character as an ASCII digit, or -1 if it's not one
+	 */
+	private static int digit(char c, boolean hex){
+		if(c >= '0' && c <= '9'){
+			return c - '0';
+		}
+		char lower = (char) (c | 0x20);
+		return hex && lower >= 'a' && lower <= 'f'?lower - 'a' + 10:-1;
+	}
+	
+	/**
+	 * @param c A character
+	 * @return Whether the character is an ASCII letter or digit
+	 */
+	private static boolean isAsciiAlphanumeric(char c){
+		char lower = (char) (c | 0x20);
+		return (c >= '0' && c <= '9') || (lower >= 'a' && lower <= 'z');
+	}
+	
+	/*
+	 * Escaping
+	 */
+	
+	/**
+	 * Escapes the given text, so it can be put between tags
+	 *
+	 * @param text The text to escape
+	 * @return The escaped text (the same String if nothing needed escaping)
+	 */
+	public static String escapeText(String text){
+		return escape(text, false);
+	}
+	
+	/**
+	 * Escapes the given text, so it can be put between tags, appending it to the given {@link Appendable}
+	 *
+	 * @param text The text to escape
+	 * @param out The {@link Appendable} to append the escaped text to
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	public static void escapeText(CharSequence text, Appendable out) throws IOException{
+		escape(text, out, false);
+	}
+	
+	/**
+	 * Escapes the given text as UTF-8 into the given {@link ByteBuffer}, so it can be put between tags
+	 *
+	 * @param buffer The {@link ByteBuffer} to write the escaped text to
+	 * @param text The text to escape
+	 * @throws java.nio.BufferOverflowException If the buffer runs out of room
+	 */
+	public static void putEscapedText(ByteBuffer buffer, CharSequence text){
+		putEscaped(buffer, text, false);
+	}
+	
+	/**
+	 * @param text Some text
+	 * @return The number of bytes the text takes up when escaped and encoded as UTF-8
+	 */
+	public static int escapedTextUTF8Length(CharSequence text){
+		return escapedUTF8Length(text, false);
+	}
+	
+	/**
+	 * Escapes the given attribute value, so it can be put in double quotes
+	 *
+	 * @param value The attribute value to escape
+	 * @return The escaped value (the same String if nothing needed escaping)
+	 */
+	public static String escapeAttributeValue(String value){
+		return escape(value, true);
+	}
+	
+	/**
+	 * Escapes the given attribute value, so it can be put in double quotes, appending it to the given
+	 * {@link Appendable}
+	 *
+	 * @param value The attribute value to escape
+	 * @param out The {@link Appendable} to append the escaped value to
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	public static void escapeAttributeValue(CharSequence value, Appendable out) throws IOException{
+		escape(value, out, true);
+	}
+	
+	/**
+	 * Escapes the given attribute value as UTF-8 into the given {@link ByteBuffer}, so it can be put in double
+	 * quotes
+	 *
+	 * @param buffer The {@link ByteBuffer} to write the escaped value to
+	 * @param value The attribute value to escape
+	 * @throws java.nio.BufferOverflowException If the buffer runs out of room
+	 */
+	public static void putEscapedAttributeValue(ByteBuffer buffer, CharSequence value){
+		putEscaped(buffer, value, true);
+	}
+	
+	/**
+	 * @param value An attribute value
+	 * @return The number of bytes the value takes up when escaped and encoded as UTF-8
+	 */
+	public static int escapedAttributeValueUTF8Length(CharSequence value){
+		return escapedUTF8Length(value, true);
+	}
+	
+	/**
+	 * Escapes the given text or attribute value into a String
+	 *
+	 * @param text The text or attribute value to escape
+	 * @param attributeValue Whether it's an attribute value
+	 * @return The escaped text (the same String if nothing needed escaping)
+	 */
+	private static String escape(String text, boolean attributeValue){
+		if(indexOfEscape(text, 0, attributeValue) == -1){
+			return text;
+		}
+		StringBuilder escaped = new StringBuilder(text.length() + 16);
+		try{
+			escape(text, escaped, attributeValue);
+		}catch(IOException e){
+			// StringBuilder doesn't actually throw IOExceptions
+			throw new UncheckedIOException(e);
+		}
+		return escaped.toString();
+	}
+	
+	/**
+	 * Escapes the given text or attribute value, appending it to the given {@link Appendable}. Runs of text
+	 * between the characters that need escaping are appended as they are.
+	 *
+	 * @param text The text or attribute value to escape
+	 * @param out The {@link Appendable} to append the escaped text to
+	 * @param attributeValue Whether it's an attribute value
+	 * @throws IOException If the {@link Appendable} throws one
+	 */
+	private static void escape(CharSequence text, Appendable out, boolean attributeValue) throws IOException{
+		int runStart = 0;
+		int i;
+		while((i = indexOfEscape(text, runStart, attributeValue)) != -1){
+			out.append(text, runStart, i).append(escapeOf(text.charAt(i)));
+			runStart = i + 1;
+		}
+		out.append(text, runStart, text.length());
+	}
+	
+	/**
+	 * Escapes the given text or attribute value as UTF-8 into the given {@link ByteBuffer}
+	 *
+	 * @param buffer The {@link ByteBuffer} to write the escaped text to
+	 * @param text The text or attribute value to escape
+	 * @param attributeValue Whether it's an attribute value
+	 */
+	private static void putEscaped(ByteBuffer buffer, CharSequence text, boolean attributeValue){
+		int runStart = 0;
+		int i;
+		while((i = indexOfEscape(text, runStart, attributeValue)) != -1){
+			UTF8Encoder.putUTF8(buffer, text, runStart, i);
+			UTF8Encoder.putUTF8(buffer, escapeOf(text.charAt(i)));
+			runStart = i + 1;
+		}
+		UTF8Encoder.putUTF8(buffer, text, runStart, text.length());
+	}
+	
+	/**
+	 * @param text Some text or an attribute value
+	 * @param attributeValue Whether it's an attribute value
+	 * @return The number of bytes the text takes up when escaped and encoded as UTF-8
+	 */
+	private static int escapedUTF8Length(CharSequence text, boolean attributeValue){
+		int length = UTF8Encoder.utf8Length(text);
+		int i = -1;
+		while((i = indexOfEscape(text, i + 1, attributeValue)) != -1){
+			// The reference takes the place of the character's own bytes (2 for a non-breaking space)
+			char c = text.charAt(i);
+			length += escapeOf(c).length() - (c < 0x80?1:2);
+		}
+		return length;
+	}
+	
+	/**
+	 * Finds the next character that needs escaping
+	 *
+	 * @param text Some text or an attribute value
+	 * @param start The index to start looking at
+	 * @param attributeValue Whether it's an attribute value
+	 * @return The index of the next character that needs escaping, or -1 if there isn't one
+	 */
+	private static int indexOfEscape(CharSequence text, int start, boolean attributeValue){
+		int length = text.length();
+		for(int i = start; i < length; i++){
+			char c = text.charAt(i);
+			if(c == '&' || c == '\u00A0' || (attributeValue?c == '"':c == '<' || c == '>')){
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * @param c A character that needs escaping
+	 * @return The character reference to use for it
+	 */
+	private static String escapeOf(char c){
+		return switch(c){
+			case '&' -> "&amp;";
+			case '<' -> "&lt;";
+			case '>' -> "&gt;";
+			case '"' -> "&quot;";
+			default -> "&nbsp;";
+		};
+	}
+	
+	/**
+	 * @param text Some text
+	 * @param c The character to find
+	 * @param start The index to start looking at
+	 * @return The index of the next occurrence of the character, or -1 if there isn't one
+	 */
+	private static int indexOf(CharSequence text, char c, int start){
+		if(text instanceof String string){
+			return string.indexOf(c, start);
+		}
+		int length = text.length();
+		for(int i = start; i < length; i++){
+			if(text.charAt(i) == c){
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,113 @@
+package com.github.tadukoo.parsing.web.html.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes text as UTF-8 straight into a {@link ByteBuffer}, without going through an intermediate String or
+ * byte[]. Runs of ASCII (which is what all tag and attribute names in
+ * {@link com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants} are) are copied straight into the backing
+ * array of heap buffers. Unpaired surrogates are encoded as {@code ?}, the same as {@link String#getBytes}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class UTF8Encoder{
+	
+	/** Not allowed to instantiate {@link UTF8Encoder} */
+	private UTF8Encoder(){ }
+	
+	/**
+	 * Calculates the number of bytes the given text takes up when encoded as UTF-8
+	 *
+	 * @param text The text to be encoded
+	 * @return The number of bytes needed to encode the text as UTF-8
+	 */
+	public static int utf8Length(CharSequence text){
+		int length = text.length();
+		int bytes = length;
+		for(int i = 0; i < length; i++){
+			char c = text.charAt(i);
+			if(c >= 0x80){
+				if(c < 0x800){
+					bytes++;
+				}else if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))){
+					// A surrogate pair is 4 bytes for 2 chars
+					bytes += 2;
+					i++;
+				}else if(Character.isSurrogate(c)){
+					// Unpaired surrogates are replaced with a single ?
+				}else{
+					bytes += 2;
+				}
+			}
+		}
+		return bytes;
+	}
+	
+	/**
+	 * Encodes the given text as UTF-8 into the given {@link ByteBuffer}, starting at its current position
+	 *
+	 * @param buffer The {@link ByteBuffer} to write the encoded text to
+	 * @param text The text to be encoded
+	 * @throws java.nio.BufferOverflowException If the buffer runs out of room (part of the text may have been
+	 * written already)
+	 */
+	public static void putUTF8(ByteBuffer buffer, CharSequence text){
+		putUTF8(buffer, text, 0, text.length());
+	}
+	
+	/**
+	 * Encodes part of the given text as UTF-8 into the given {@link ByteBuffer}, starting at its current position.
+	 * A surrogate pair that's cut off by the end of the part is encoded as {@code ?}.
+	 *
+	 * @param buffer The {@link ByteBuffer} to write the encoded text to
+	 * @param text The text to be encoded
+	 * @param start The index of the first character to encode
+	 * @param end The index after the last character to encode
+	 * @throws java.nio.BufferOverflowException If the buffer runs out of room (part of the text may have been
+	 * written already)
+	 */
+	public static void putUTF8(ByteBuffer buffer, CharSequence text, int start, int end){
+		int i = start;
+		
+		// Fast path - copy ASCII straight into the backing array
+		if(buffer.hasArray()){
+			byte[] array = buffer.array();
+			int offset = buffer.arrayOffset();
+			int pos = offset + buffer.position();
+			int asciiEnd = Math.min(end, i + buffer.remaining());
+			while(i < asciiEnd){
+				char c = text.charAt(i);
+				if(c >= 0x80){
+					break;
+				}
+				array[pos++] = (byte) c;
+				i++;
+			}
+			buffer.position(pos - offset);
+		}
+		
+		// Slow path - anything that's left (non-ASCII characters, direct buffers, or overflowing the buffer)
+		for(; i < end; i++){
+			char c = text.charAt(i);
+			if(c < 0x80){
+				buffer.put((byte) c);
+			}else if(c < 0x800){
+				buffer.put((byte) (0xC0 | (c >> 6)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			}else if(Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))){
+				int codePoint = Character.toCodePoint(c, text.charAt(++i));
+				buffer.put((byte) (0xF0 | (codePoint >> 18)));
+				buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+			}else if(Character.isSurrogate(c)){
+				buffer.put((byte) '?');
+			}else{
+				buffer.put((byte) (0xE0 | (c >> 12)));
+				buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+	}
+}
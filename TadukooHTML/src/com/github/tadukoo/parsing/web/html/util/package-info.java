@@ -0,0 +1,4 @@
+/**
+ * Contains low-level utilities used in rendering and parsing HTML
+ */
+package com.github.tadukoo.parsing.web.html.util;
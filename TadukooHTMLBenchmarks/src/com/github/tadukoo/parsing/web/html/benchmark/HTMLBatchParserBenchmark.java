@@ -0,0 +1,145 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLBatchParser;
+import com.github.tadukoo.parsing.web.html.parser.HTMLBatchResult;
+import com.github.tadukoo.parsing.web.html.parser.HTMLParser;
+import com.github.tadukoo.parsing.web.html.parser.HTMLResultHandler;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link HTMLBatchParser}, parsing lots of small generated pages the way an ingestion job
+ * would. The batch is parsed once with an {@link HTMLBatchParser}, as an ordered and an unordered Stream, and once
+ * one page at a time with a single {@link HTMLParser} to compare against. The batch parser should scale with the
+ * number of cores.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLBatchParserBenchmark{
+	/** The number of pages in the batch */
+	@Param({"10000"})
+	public int pages;
+	
+	/** The pages to parse */
+	private List<String> batch;
+	/** The batch parser, which is reused between operations */
+	private HTMLBatchParser<Integer> batchParser;
+	
+	/**
+	 * An {@link HTMLResultHandler} that counts the tags in a page
+	 */
+	private static class CountingHandler implements HTMLResultHandler<Integer>{
+		/** The number of tags */
+		private int count;
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean startTag(HTMLTag tag){
+			count++;
+			return true;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Integer getResult(){
+			return count;
+		}
+	}
+	
+	/**
+	 * Builds the pages to parse and the batch parser
+	 */
+	@Setup
+	public void setup(){
+		batch = new ArrayList<>(pages);
+		for(int i = 0; i < pages; i++){
+			StringBuilder html = new StringBuilder("<!DOCTYPE html>\n<html lang=\"en\"><head><title>Page ")
+					.append(i).append("</title><meta charset=\"utf-8\"></head>\n<body>\n");
+			for(int j = 0; j < 10 + i % 20; j++){
+				html.append("<p class=\"text\">Some text with <a href=\"/page").append(j).append("\">a link</a>")
+						.append(" and <b>bold</b> text.</p>\n");
+			}
+			batch.add(html.append("</body></html>").toString());
+		}
+		batchParser = new HTMLBatchParser<>(CountingHandler::new);
+	}
+	
+	/**
+	 * Stops the batch parser's threads
+	 */
+	@TearDown
+	public void tearDown(){
+		batchParser.close();
+	}
+	
+	/**
+	 * @return The number of tags in all the pages, from parsing them one at a time
+	 */
+	@Benchmark
+	public int parseOneAtATime(){
+		CountingHandler handler = new CountingHandler();
+		HTMLParser parser = new HTMLParser(handler);
+		for(String page: batch){
+			parser.parse(page);
+		}
+		return handler.count;
+	}
+	
+	/**
+	 * @return The number of tags in all the pages, from parsing them as a batch
+	 */
+	@Benchmark
+	public int parseAll(){
+		return count(batchParser.parseAll(batch).join());
+	}
+	
+	/**
+	 * @return The number of tags in all the pages, from parsing them as an ordered Stream
+	 */
+	@Benchmark
+	public int parseOrderedStream(){
+		return batchParser.parse(batch.stream(), true).mapToInt(HTMLBatchResult::getResult).sum();
+	}
+	
+	/**
+	 * @return The number of tags in all the pages, from parsing them as an unordered Stream
+	 */
+	@Benchmark
+	public int parseUnorderedStream(){
+		return batchParser.parse(batch.stream(), false).mapToInt(HTMLBatchResult::getResult).sum();
+	}
+	
+	/**
+	 * @param results The results of parsing the pages
+	 * @return The total number of tags in the pages
+	 */
+	private static int count(List<HTMLBatchResult<Integer>> results){
+		int count = 0;
+		for(HTMLBatchResult<Integer> result: results){
+			count += result.getResult();
+		}
+		return count;
+	}
+}
@@ -0,0 +1,41 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The main class of the benchmarks jar. It takes the usual JMH command line options, but always adds the
+ * {@link GCProfiler}, so every benchmark reports its allocation per operation ({@code gc.alloc.rate.norm})
+ * alongside its time.
+ * <br><br>
+ * Run all benchmarks with {@code java -jar TadukooHTMLBenchmarks/target/benchmarks.jar}, or pass a regex to
+ * only run some of them, e.g. {@code java -jar TadukooHTMLBenchmarks/target/benchmarks.jar HTMLTagBuild}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+public final class HTMLBenchmarkRunner{
+	
+	/** Not allowed to instantiate {@link HTMLBenchmarkRunner} */
+	private HTMLBenchmarkRunner(){ }
+	
+	/**
+	 * Runs the benchmarks with the {@link GCProfiler} added
+	 *
+	 * @param args The JMH command line options
+	 * @throws CommandLineOptionException If the command line options are invalid
+	 * @throws RunnerException If anything goes wrong in running the benchmarks
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException{
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,105 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.util.HTMLCharacterReferences;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for decoding and escaping character references with {@link HTMLCharacterReferences}. Most attribute
+ * values don't need escaping, so escaping them should cost no more than scanning them and shouldn't allocate,
+ * and decoding is benchmarked on text with a mix of named and numeric references.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLCharacterReferencesBenchmark{
+	/** Attribute values that don't need escaping */
+	private static final String[] PLAIN_VALUES = {"main-content", "https://example.com/some/page.html",
+			"nav-link active", "en-US", "width=device-width, initial-scale=1"};
+	/** Attribute values that need escaping */
+	private static final String[] ESCAPED_VALUES = {"/search?q=html&page=2", "say \"hi\"", "Tom & Jerry",
+			"a & b & c", "x"};
+	/** Text with character references in it */
+	private static final String TEXT = "Caf&eacute; &amp; bar &mdash; prices &lt; &euro;10, &#169; 2024 &copy " +
+			"&#x1F600; &notin; &nbsp;the end";
+	
+	/** The buffer reused for the results */
+	private StringBuilder out;
+	/** The buffer reused for escaping into bytes */
+	private ByteBuffer bytes;
+	
+	/**
+	 * Makes the buffers
+	 */
+	@Setup
+	public void setup(){
+		out = new StringBuilder(256);
+		bytes = ByteBuffer.allocate(1024);
+	}
+	
+	/**
+	 * @return The total length of the values, which are returned as they are
+	 */
+	@Benchmark
+	public int escapePlainValues(){
+		int length = 0;
+		for(String value: PLAIN_VALUES){
+			length += HTMLCharacterReferences.escapeAttributeValue(value).length();
+		}
+		return length;
+	}
+	
+	/**
+	 * @return The escaped values, appended to a reused buffer
+	 * @throws IOException Never
+	 */
+	@Benchmark
+	public StringBuilder escapeValuesToAppendable() throws IOException{
+		out.setLength(0);
+		for(String value: ESCAPED_VALUES){
+			HTMLCharacterReferences.escapeAttributeValue(value, out);
+		}
+		return out;
+	}
+	
+	/**
+	 * @return The escaped values, encoded as UTF-8 into a reused buffer
+	 */
+	@Benchmark
+	public ByteBuffer escapeValuesToBytes(){
+		bytes.clear();
+		for(String value: ESCAPED_VALUES){
+			HTMLCharacterReferences.putEscapedAttributeValue(bytes, value);
+		}
+		return bytes;
+	}
+	
+	/**
+	 * @return The decoded text, appended to a reused buffer
+	 * @throws IOException Never
+	 */
+	@Benchmark
+	public StringBuilder decodeText() throws IOException{
+		out.setLength(0);
+		HTMLCharacterReferences.decodeText(TEXT, out);
+		return out;
+	}
+}
@@ -0,0 +1,156 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.document.HTMLArenaCursor;
+import com.github.tadukoo.parsing.web.html.document.HTMLArenaDocument;
+import com.github.tadukoo.parsing.web.html.document.HTMLDocument;
+import com.github.tadukoo.parsing.web.html.document.HTMLElement;
+import com.github.tadukoo.parsing.web.html.document.HTMLNestingValidationMode;
+import com.github.tadukoo.parsing.web.html.document.HTMLNode;
+import com.github.tadukoo.parsing.web.html.document.HTMLParentNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for building an {@link HTMLDocument} tree from a generated document, with and without checking the
+ * nesting against the sub tag whitelists, and for rendering the tree back out. Rendering goes through one reused
+ * buffer, so it should allocate little beyond the attribute values it has to escape.
+ * <br><br>
+ * The same document is also built as an {@link HTMLArenaDocument}, which should allocate far less than the tree
+ * (compare their {@code gc.alloc.rate.norm}), and both are walked to count the elements with a {@code class}, to
+ * compare going down the tree of objects with going through the columns of the arena.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLDocumentBenchmark{
+	/** The number of times the repeated section is in the body */
+	@Param({"5000"})
+	public int sections;
+	
+	/** The document to parse */
+	private String html;
+	/** The parsed document, to render */
+	private HTMLDocument document;
+	/** The parsed document as an arena, to walk */
+	private HTMLArenaDocument arena;
+	/** The buffer reused for rendering */
+	private StringBuilder out;
+	
+	/**
+	 * Builds the document to parse and parses it once for rendering
+	 */
+	@Setup
+	public void setup(){
+		StringBuilder builder = new StringBuilder("<!DOCTYPE html>\n<html lang=\"en\"><head><title>Benchmark</title>")
+				.append("<meta charset=\"utf-8\"><link rel=stylesheet href=\"style.css\"></head>\n")
+				.append("<body onload=\"init()\">\n");
+		for(int i = 0; i < sections; i++){
+			builder.append("<div class=\"section\" id='section").append(i).append("' hidden>\n")
+					.append("<h1>Heading</h1><p>Some text with <a href=\"https://example.com\">a link</a>")
+					.append(" and <b>bold</b> text &amp; more.<br/></p>\n")
+					.append("<img src=image.png alt=\"An image\" />\n</div>\n");
+		}
+		html = builder.append("</body></html>").toString();
+		document = HTMLDocument.parse(html);
+		arena = HTMLArenaDocument.parse(html);
+		out = new StringBuilder(html.length());
+	}
+	
+	/**
+	 * @return The document built without checking the nesting
+	 */
+	@Benchmark
+	public HTMLDocument parse(){
+		return HTMLDocument.parse(html);
+	}
+	
+	/**
+	 * @return The document built while recording nesting violations
+	 */
+	@Benchmark
+	public HTMLDocument parseReportingViolations(){
+		return HTMLDocument.parse(html, HTMLNestingValidationMode.REPORT);
+	}
+	
+	/**
+	 * @return The rendered document, in the reused buffer
+	 * @throws IOException Never
+	 */
+	@Benchmark
+	public StringBuilder render() throws IOException{
+		out.setLength(0);
+		document.renderTo(out);
+		return out;
+	}
+	
+	/**
+	 * @return The document built as an arena
+	 */
+	@Benchmark
+	public HTMLArenaDocument parseArena(){
+		return HTMLArenaDocument.parse(html);
+	}
+	
+	/**
+	 * @return The number of elements with a {@code class} in the tree
+	 */
+	@Benchmark
+	public int countClassesInTree(){
+		return countClasses(document);
+	}
+	
+	/**
+	 * @param node A node of the tree
+	 * @return The number of elements with a {@code class} in the node (including itself)
+	 */
+	private static int countClasses(HTMLNode node){
+		int count = 0;
+		if(node instanceof HTMLElement element && element.getTag().hasAttribute("class")){
+			count++;
+		}
+		if(node instanceof HTMLParentNode parent){
+			for(HTMLNode child: parent.getChildren()){
+				count += countClasses(child);
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * @return The number of elements with a {@code class} in the arena
+	 */
+	@Benchmark
+	public int countClassesInArena(){
+		int classID = HTMLArenaDocument.sharedNameID("class");
+		HTMLArenaCursor cursor = arena.cursor();
+		int count = 0;
+		for(int node = 0; node < arena.getNodeCount(); node++){
+			cursor.moveTo(node);
+			for(int index = 0; index < cursor.getAttributeCount(); index++){
+				if(cursor.getAttributeNameID(index) == classID){
+					count++;
+					break;
+				}
+			}
+		}
+		return count;
+	}
+}
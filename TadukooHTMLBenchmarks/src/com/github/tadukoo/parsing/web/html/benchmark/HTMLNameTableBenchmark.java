@@ -0,0 +1,100 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLNameTable;
+import com.github.tadukoo.parsing.web.html.parser.HTMLTagType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for looking up tag names in the {@link HTMLNameTable} and getting their {@link HTMLTagType}, which
+ * the tokenizer and parser do for every tag. The names are a mix of known and unknown names in different cases,
+ * looked up in characters and in bytes. Every operation looks up all the names, and none of them should allocate.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLNameTableBenchmark{
+	/** The names to look up, as they'd be written in HTML */
+	private static final String[] NAMES = {"div", "p", "SPAN", "a", "li", "html", "Body", "head", "img", "table",
+			"td", "IFRAME", "script", "ul", "my-custom-element", "h1", "b", "meta"};
+	
+	/** The names to look up, separated by spaces */
+	private String names;
+	/** The names to look up as ASCII bytes, separated by spaces */
+	private ByteBuffer nameBytes;
+	/** The index of the start of each name */
+	private int[] starts;
+	/** The index after the end of each name */
+	private int[] ends;
+	
+	/**
+	 * Lays out the names to look up
+	 */
+	@Setup
+	public void setup(){
+		names = String.join(" ", NAMES);
+		nameBytes = ByteBuffer.wrap(names.getBytes(StandardCharsets.US_ASCII));
+		starts = new int[NAMES.length];
+		ends = new int[NAMES.length];
+		int start = 0;
+		for(int i = 0; i < NAMES.length; i++){
+			starts[i] = start;
+			ends[i] = start + NAMES[i].length();
+			start = ends[i] + 1;
+		}
+	}
+	
+	/**
+	 * @return The total of the indexes of the names, from looking them up in characters
+	 */
+	@Benchmark
+	public int indexOfChars(){
+		int total = 0;
+		for(int i = 0; i < starts.length; i++){
+			total += HTMLNameTable.TAG_NAMES.indexOf(names, starts[i], ends[i]);
+		}
+		return total;
+	}
+	
+	/**
+	 * @return The total of the indexes of the names, from looking them up in bytes
+	 */
+	@Benchmark
+	public int indexOfBytes(){
+		int total = 0;
+		for(int i = 0; i < starts.length; i++){
+			total += HTMLNameTable.TAG_NAMES.indexOf(nameBytes, starts[i], ends[i]);
+		}
+		return total;
+	}
+	
+	/**
+	 * @return The total of the ordinals of the {@link HTMLTagType} of each name
+	 */
+	@Benchmark
+	public int tagTypes(){
+		int total = 0;
+		for(int i = 0; i < starts.length; i++){
+			total += HTMLTagType.of(names, starts[i], ends[i]).ordinal();
+		}
+		return total;
+	}
+}
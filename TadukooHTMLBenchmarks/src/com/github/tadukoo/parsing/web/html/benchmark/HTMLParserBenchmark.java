@@ -0,0 +1,153 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLParallelParser;
+import com.github.tadukoo.parsing.web.html.parser.HTMLParseHandler;
+import com.github.tadukoo.parsing.web.html.parser.HTMLParser;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link HTMLParser}, parsing a generated document with a small head and a large body. One
+ * benchmark builds every tag, and another skips the body the way a handler that only needs the head metadata
+ * would, to show how little the skipped contents cost. The last two read the {@code href} of each link the way a
+ * crawler would, with and without lazy attributes, to show what's saved by not making the attributes nobody
+ * reads. Another parses the whole document with an {@link HTMLParallelParser} on the common pool, which should
+ * scale with the number of cores.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLParserBenchmark implements HTMLTagConstants{
+	/** The number of times the repeated section is in the body */
+	@Param({"5000"})
+	public int sections;
+	
+	/** The document to parse */
+	private String document;
+	/** Counts the tags from the parser, and skips the body if {@link #skipBody} is set */
+	private final CountingHandler handler = new CountingHandler();
+	/** The parser, which is reused between operations */
+	private final HTMLParser parser = new HTMLParser(handler);
+	/** The parallel parser, which is reused between operations */
+	private final HTMLParallelParser parallelParser = new HTMLParallelParser(handler);
+	
+	/**
+	 * An {@link HTMLParseHandler} that counts the tags it gets
+	 */
+	private static class CountingHandler implements HTMLParseHandler{
+		/** Whether to skip the contents of the body */
+		private boolean skipBody;
+		/** Whether to read the href of each link */
+		private boolean readLinks;
+		/** The number of tags (and links read) */
+		private int count;
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean startTag(HTMLTag tag){
+			count++;
+			if(readLinks && tag.getAttribute("href") != null){
+				count++;
+			}
+			return !skipBody || !HTML_BODY_TAG_NAME.equals(tag.getTagName());
+		}
+	}
+	
+	/**
+	 * Builds the document to parse
+	 */
+	@Setup
+	public void setup(){
+		StringBuilder html = new StringBuilder("<!DOCTYPE html>\n<html lang=\"en\"><head><title>Benchmark</title>")
+				.append("<meta charset=\"utf-8\"><link rel=stylesheet href=\"style.css\"></head>\n")
+				.append("<body onload=\"init()\">\n");
+		for(int i = 0; i < sections; i++){
+			html.append("<div class=\"section\" id='section").append(i).append("' hidden>\n")
+					.append("<h1>Heading</h1><p>Some text with <a href=\"https://example.com\">a link</a>")
+					.append(" and <b>bold</b> text.<br/></p>\n")
+					.append("<img src=image.png alt=\"An image\" />\n</div>\n");
+		}
+		document = html.append("</body></html>").toString();
+	}
+	
+	/**
+	 * @return The number of tags from parsing the whole document
+	 */
+	@Benchmark
+	public int parseAll(){
+		return parse(false, false, false);
+	}
+	
+	/**
+	 * @return The number of tags from parsing the document while skipping the body
+	 */
+	@Benchmark
+	public int parseSkippingBody(){
+		return parse(true, false, false);
+	}
+	
+	/**
+	 * @return The number of tags and links from parsing the whole document and reading the links
+	 */
+	@Benchmark
+	public int parseReadingLinks(){
+		return parse(false, true, false);
+	}
+	
+	/**
+	 * @return The number of tags and links from parsing the whole document with lazy attributes and reading the
+	 * links
+	 */
+	@Benchmark
+	public int parseReadingLinksLazily(){
+		return parse(false, true, true);
+	}
+	
+	/**
+	 * @return The number of tags from parsing the whole document in parallel
+	 */
+	@Benchmark
+	public int parseAllInParallel(){
+		handler.skipBody = false;
+		handler.readLinks = false;
+		handler.count = 0;
+		parallelParser.parse(document);
+		return handler.count;
+	}
+	
+	/**
+	 * Parses the document
+	 *
+	 * @param skipBody Whether to skip the contents of the body
+	 * @param readLinks Whether to read the href of each link
+	 * @param lazyAttributes Whether to only make the attributes of the tags when they're needed
+	 * @return The number of tags (and links read) from parsing the document
+	 */
+	private int parse(boolean skipBody, boolean readLinks, boolean lazyAttributes){
+		handler.skipBody = skipBody;
+		handler.readLinks = readLinks;
+		handler.count = 0;
+		parser.setLazyAttributes(lazyAttributes);
+		parser.parse(document);
+		return handler.count;
+	}
+}
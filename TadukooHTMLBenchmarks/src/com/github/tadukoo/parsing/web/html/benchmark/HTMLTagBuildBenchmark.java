@@ -0,0 +1,171 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLHeadTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.body.HTMLIFrameTag;
+import com.github.tadukoo.parsing.web.html.tag.builder.HTMLAttributeValidationMode;
+import com.github.tadukoo.parsing.web.html.tag.builder.HTMLTagBuilderPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for building {@link HTMLTag HTMLTags} through their builders, from creating the builder through
+ * to calling {@code build()}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLTagBuildBenchmark implements HTMLTagConstants{
+	/** A script to use for the event attributes */
+	private static final String SCRIPT = "myFunction(event)";
+	
+	/** A pool of {@link HTMLTag.HTMLTagBuilder HTMLTagBuilders}, for comparing against creating a new builder */
+	private final HTMLTagBuilderPool<HTMLTag.HTMLTagBuilder> tagBuilderPool =
+			new HTMLTagBuilderPool<>(HTMLTag::tagBuilder);
+	/** A pool of {@link HTMLBodyTag.HTMLBodyTagBuilder HTMLBodyTagBuilders} */
+	private final HTMLTagBuilderPool<HTMLBodyTag.HTMLBodyTagBuilder> bodyTagBuilderPool =
+			new HTMLTagBuilderPool<>(HTMLBodyTag::builder);
+	
+	/**
+	 * @return A custom {@link HTMLTag} built with {@link HTMLTag#tagBuilder()}
+	 */
+	@Benchmark
+	public HTMLTag buildTag(){
+		return HTMLTag.tagBuilder()
+				.tagName(HTML_PARAGRAPH_TAG_NAME)
+				.classAttribute("row")
+				.id("first-row")
+				.style("color:blue;")
+				.build();
+	}
+	
+	/**
+	 * @return The same tag as {@link #buildTag()}, but built with a builder from a {@link HTMLTagBuilderPool}
+	 */
+	@Benchmark
+	public HTMLTag buildTagPooled(){
+		return tagBuilderPool.build(builder -> builder
+				.tagName(HTML_PARAGRAPH_TAG_NAME)
+				.classAttribute("row")
+				.id("first-row")
+				.style("color:blue;")
+				.build());
+	}
+	
+	/**
+	 * @return The same tag as {@link #buildTag()}, but with {@link HTMLAttributeValidationMode#STRICT strict}
+	 * attribute validation, to compare the cost of validating
+	 */
+	@Benchmark
+	public HTMLTag buildTagStrict(){
+		return HTMLTag.tagBuilder()
+				.tagName(HTML_PARAGRAPH_TAG_NAME)
+				.classAttribute("row")
+				.id("first-row")
+				.style("color:blue;")
+				.attributeValidation(HTMLAttributeValidationMode.STRICT)
+				.build();
+	}
+	
+	/**
+	 * @return An {@link HTMLBodyTag} with all the window event attributes set
+	 */
+	@Benchmark
+	public HTMLBodyTag buildBodyTagWithWindowEvents(){
+		return HTMLBodyTag.builder()
+				.onafterprint(SCRIPT)
+				.onbeforeprint(SCRIPT)
+				.onbeforeunload(SCRIPT)
+				.onhashchange(SCRIPT)
+				.onmessage(SCRIPT)
+				.onoffline(SCRIPT)
+				.ononline(SCRIPT)
+				.onpagehide(SCRIPT)
+				.onpageshow(SCRIPT)
+				.onpopstate(SCRIPT)
+				.onresize(SCRIPT)
+				.onstorage(SCRIPT)
+				.build();
+	}
+	
+	/**
+	 * @return The same tag as {@link #buildBodyTagWithWindowEvents()}, but with
+	 * {@link HTMLAttributeValidationMode#STRICT strict} attribute validation
+	 */
+	@Benchmark
+	public HTMLBodyTag buildBodyTagWithWindowEventsStrict(){
+		return HTMLBodyTag.builder()
+				.onafterprint(SCRIPT)
+				.onbeforeprint(SCRIPT)
+				.onbeforeunload(SCRIPT)
+				.onhashchange(SCRIPT)
+				.onmessage(SCRIPT)
+				.onoffline(SCRIPT)
+				.ononline(SCRIPT)
+				.onpagehide(SCRIPT)
+				.onpageshow(SCRIPT)
+				.onpopstate(SCRIPT)
+				.onresize(SCRIPT)
+				.onstorage(SCRIPT)
+				.attributeValidation(HTMLAttributeValidationMode.STRICT)
+				.build();
+	}
+	
+	/**
+	 * @return A default {@link HTMLBodyTag}
+	 */
+	@Benchmark
+	public HTMLBodyTag buildBodyTag(){
+		return HTMLBodyTag.builder().build();
+	}
+	
+	/**
+	 * @return A default {@link HTMLBodyTag}, built with a builder from a {@link HTMLTagBuilderPool}
+	 */
+	@Benchmark
+	public HTMLBodyTag buildBodyTagPooled(){
+		return bodyTagBuilderPool.build(HTMLBodyTag.HTMLBodyTagBuilder::build);
+	}
+	
+	/**
+	 * @return A default {@link HTMLRootTag}
+	 */
+	@Benchmark
+	public HTMLRootTag buildRootTag(){
+		return HTMLRootTag.builder().build();
+	}
+	
+	/**
+	 * @return A default {@link HTMLHeadTag}
+	 */
+	@Benchmark
+	public HTMLHeadTag buildHeadTag(){
+		return HTMLHeadTag.builder().build();
+	}
+	
+	/**
+	 * @return A default {@link HTMLIFrameTag}
+	 */
+	@Benchmark
+	public HTMLIFrameTag buildIFrameTag(){
+		return HTMLIFrameTag.builder().build();
+	}
+}
@@ -0,0 +1,89 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLHeadTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for checking whether tags can be nested inside an {@link HTMLTag}, comparing
+ * {@link HTMLTag#canContain(String)} against checking the sub tag whitelist and blacklist Sets directly.
+ * Each benchmark checks the same mix of allowed and disallowed child tag names.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLTagCanContainBenchmark implements HTMLTagConstants{
+	/** The child tag names to check, as new Strings so they aren't the same instances as the constants */
+	private final String[] childTagNames = {new String(HTML_PARAGRAPH_TAG_NAME), new String(HTML_TITLE_TAG_NAME),
+			new String(HTML_TABLE_TAG_NAME), new String(HTML_ROOT_TAG_NAME), new String(HTML_CONTENT_NAME),
+			new String(HTML_INLINE_FRAME_TAG_NAME), new String(HTML_META_TAG_NAME),
+			new String(HTML_HEADING_1_TAG_NAME)};
+	/** An {@link HTMLBodyTag} to check against */
+	private final HTMLTag bodyTag = HTMLBodyTag.builder().build();
+	/** An {@link HTMLHeadTag} to check against */
+	private final HTMLTag headTag = HTMLHeadTag.builder().build();
+	/** The body sub tag whitelist, as a HashSet like callers had been using */
+	private final Set<String> bodyWhitelist = new HashSet<>(VALID_HTML_BODY_SUB_TAGS);
+	/** The body sub tag blacklist, as a HashSet like callers had been using */
+	private final Set<String> bodyBlacklist = new HashSet<>();
+	/** The head sub tag whitelist, as a HashSet like callers had been using */
+	private final Set<String> headWhitelist = new HashSet<>(VALID_HTML_HEAD_SUB_TAGS);
+	/** The head sub tag blacklist, as a HashSet like callers had been using */
+	private final Set<String> headBlacklist = new HashSet<>(INVALID_HTML_HEAD_SUB_TAGS);
+	
+	/**
+	 * @return The number of child tag names allowed in the body and head tags, using
+	 * {@link HTMLTag#canContain(String)}
+	 */
+	@Benchmark
+	public int canContain(){
+		int allowed = 0;
+		for(String childTagName: childTagNames){
+			if(bodyTag.canContain(childTagName)){
+				allowed++;
+			}
+			if(headTag.canContain(childTagName)){
+				allowed++;
+			}
+		}
+		return allowed;
+	}
+	
+	/**
+	 * @return The number of child tag names allowed in the body and head tags, using a lookup in both the
+	 * whitelist and blacklist HashSets
+	 */
+	@Benchmark
+	public int hashSetLookups(){
+		int allowed = 0;
+		for(String childTagName: childTagNames){
+			if(!bodyBlacklist.contains(childTagName) && bodyWhitelist.contains(childTagName)){
+				allowed++;
+			}
+			if(!headBlacklist.contains(childTagName) && headWhitelist.contains(childTagName)){
+				allowed++;
+			}
+		}
+		return allowed;
+	}
+}
@@ -0,0 +1,164 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for rendering a page worth of {@link HTMLTag HTMLTags}, comparing the String-returning methods
+ * with rendering into a single reused {@link Appendable}. Every benchmark counts one operation per tag, so
+ * running with {@code -prof gc} reports the allocation per tag in {@code gc.alloc.rate.norm}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLTagRenderBenchmark implements HTMLTagConstants{
+	/** The number of tags rendered in each benchmark invocation */
+	private static final int TAG_COUNT = 1000;
+	
+	/** The page of {@link HTMLTag HTMLTags} to render */
+	private HTMLTag[] tags;
+	/** The same page of {@link HTMLTag HTMLTags}, but with their rendering cached */
+	private HTMLTag[] cachedTags;
+	/** The buffer reused between invocations by {@link #renderToReusedBuffer()} */
+	private StringBuilder buffer;
+	/** The byte buffer reused between invocations by {@link #writeToReusedByteBuffer()} */
+	private ByteBuffer byteBuffer;
+	
+	/**
+	 * Builds the page of {@link HTMLTag HTMLTags} to render, mixing tags with and without attributes
+	 */
+	@Setup
+	public void setup(){
+		tags = new HTMLTag[TAG_COUNT];
+		cachedTags = new HTMLTag[TAG_COUNT];
+		for(int i = 0; i < TAG_COUNT; i++){
+			HTMLTag.HTMLTagBuilder builder = HTMLTag.tagBuilder().tagName(HTML_PARAGRAPH_TAG_NAME);
+			if(i % 4 != 0){
+				builder.classAttribute("row").style("color:blue;").id("row-" + i);
+			}
+			tags[i] = builder.build();
+			cachedTags[i] = builder.cacheRendering().build();
+		}
+		buffer = new StringBuilder(64 * TAG_COUNT);
+		byteBuffer = ByteBuffer.allocateDirect(64 * TAG_COUNT);
+	}
+	
+	/**
+	 * @return The page rendered by concatenating {@link HTMLTag#toString()} for every tag
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TAG_COUNT)
+	public String concatenateToString(){
+		StringBuilder page = new StringBuilder();
+		for(HTMLTag tag: tags){
+			page.append(tag.toString());
+		}
+		return page.toString();
+	}
+	
+	/**
+	 * @return The page rendered by appending {@link HTMLTag#toOpeningTag()} and {@link HTMLTag#toClosingTag()}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TAG_COUNT)
+	public String concatenateOpeningAndClosingTags(){
+		StringBuilder page = new StringBuilder();
+		for(HTMLTag tag: tags){
+			page.append(tag.toOpeningTag()).append(tag.toClosingTag());
+		}
+		return page.toString();
+	}
+	
+	/**
+	 * @return The length of the page rendered with {@link HTMLTag#renderTo(Appendable)} into a reused buffer
+	 * @throws IOException Never, as {@link StringBuilder} doesn't throw them
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TAG_COUNT)
+	public int renderToReusedBuffer() throws IOException{
+		buffer.setLength(0);
+		for(HTMLTag tag: tags){
+			tag.renderTo(buffer);
+		}
+		return buffer.length();
+	}
+	
+	/**
+	 * @return The length of the page rendered with {@link HTMLTag#renderTo(Appendable)} into a reused buffer,
+	 * using tags with their rendering cached
+	 * @throws IOException Never, as {@link StringBuilder} doesn't throw them
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TAG_COUNT)
+	public int renderCachedToReusedBuffer() throws IOException{
+		buffer.setLength(0);
+		for(HTMLTag tag: cachedTags){
+			tag.renderTo(buffer);
+		}
+		return buffer.length();
+	}
+	
+	/**
+	 * @return The page rendered by encoding {@link HTMLTag#toString()} as UTF-8 for every tag, which is what
+	 * had to be done before {@link HTMLTag#writeTo(ByteBuffer)}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TAG_COUNT)
+	public int encodeToStringToReusedByteBuffer(){
+		byteBuffer.clear();
+		for(HTMLTag tag: tags){
+			byteBuffer.put(tag.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		return byteBuffer.position();
+	}
+	
+	/**
+	 * @return The number of bytes in the page written with {@link HTMLTag#writeTo(ByteBuffer)} into a reused
+	 * direct buffer
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TAG_COUNT)
+	public int writeToReusedByteBuffer(){
+		byteBuffer.clear();
+		for(HTMLTag tag: tags){
+			tag.writeTo(byteBuffer);
+		}
+		return byteBuffer.position();
+	}
+	
+	/**
+	 * @return The number of bytes in the page written with {@link HTMLTag#writeTo(ByteBuffer)} into a reused
+	 * direct buffer, using tags with their rendering cached
+	 */
+	@Benchmark
+	@OperationsPerInvocation(TAG_COUNT)
+	public int writeCachedToReusedByteBuffer(){
+		byteBuffer.clear();
+		for(HTMLTag tag: cachedTags){
+			tag.writeTo(byteBuffer);
+		}
+		return byteBuffer.position();
+	}
+}
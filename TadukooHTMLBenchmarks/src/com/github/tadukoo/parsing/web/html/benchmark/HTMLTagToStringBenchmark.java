@@ -0,0 +1,87 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.tag.HTMLBodyTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLHeadTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLRootTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTag;
+import com.github.tadukoo.parsing.web.html.tag.HTMLTagConstants;
+import com.github.tadukoo.parsing.web.html.tag.body.HTMLIFrameTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link HTMLTag#toOpeningTag()} and {@link HTMLTag#toString()} on each kind of
+ * {@link HTMLTag}, picked by the {@link #tagName} parameter
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLTagToStringBenchmark implements HTMLTagConstants{
+	/** The name of the tag to benchmark */
+	@Param({HTML_ROOT_TAG_NAME, HTML_HEAD_TAG_NAME, HTML_BODY_TAG_NAME, HTML_INLINE_FRAME_TAG_NAME,
+			HTML_PARAGRAPH_TAG_NAME})
+	public String tagName;
+	
+	/** The {@link HTMLTag} to render */
+	private HTMLTag tag;
+	
+	/**
+	 * Builds the {@link HTMLTag} to render, with a few attributes set
+	 */
+	@Setup
+	public void setup(){
+		tag = switch(tagName){
+			case HTML_ROOT_TAG_NAME -> HTMLRootTag.builder().build();
+			case HTML_HEAD_TAG_NAME -> HTMLHeadTag.builder().build();
+			case HTML_BODY_TAG_NAME -> HTMLBodyTag.builder()
+					.classAttribute("page")
+					.onload("init()")
+					.onresize("layout()")
+					.build();
+			case HTML_INLINE_FRAME_TAG_NAME -> HTMLIFrameTag.builder()
+					.id("frame")
+					.style("border:none;")
+					.onload("frameLoaded()")
+					.build();
+			default -> HTMLTag.tagBuilder()
+					.tagName(tagName)
+					.classAttribute("row")
+					.id("first-row")
+					.style("color:blue;")
+					.build();
+		};
+	}
+	
+	/**
+	 * @return The result of {@link HTMLTag#toOpeningTag()}
+	 */
+	@Benchmark
+	public String toOpeningTag(){
+		return tag.toOpeningTag();
+	}
+	
+	/**
+	 * @return The result of {@link HTMLTag#toString()}
+	 */
+	@Benchmark
+	public String toStringTag(){
+		return tag.toString();
+	}
+}
@@ -0,0 +1,176 @@
+package com.github.tadukoo.parsing.web.html.benchmark;
+
+import com.github.tadukoo.parsing.web.html.parser.HTMLTokenHandler;
+import com.github.tadukoo.parsing.web.html.parser.HTMLTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link HTMLTokenizer}, tokenizing a generated document of around 1 MB. Divide the document
+ * size by the time per operation to get the throughput - the allocation per operation should stay flat no matter
+ * the document size, as the tokenizer only keeps the token it's in the middle of.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HTMLTokenizerBenchmark{
+	/** The number of times the repeated section is in the document */
+	@Param({"5000"})
+	public int sections;
+	/** The size of the chunks the UTF-8 document is fed in, like packets from the network */
+	@Param({"16384"})
+	public int chunkSize;
+	
+	/** The document to tokenize */
+	private String document;
+	/** The document to tokenize, encoded as UTF-8 */
+	private ByteBuffer documentBytes;
+	/** A temporary file holding the document, encoded as UTF-8 */
+	private Path documentFile;
+	/** Counts the events from the tokenizer, so none of them are optimized away */
+	private final CountingHandler handler = new CountingHandler();
+	/** The tokenizer, which is reused between operations */
+	private final HTMLTokenizer tokenizer = new HTMLTokenizer(handler);
+	
+	/**
+	 * An {@link HTMLTokenHandler} that adds up the lengths of everything it gets
+	 */
+	private static class CountingHandler implements HTMLTokenHandler{
+		/** The total of the lengths */
+		private long count;
+		
+		/** {@inheritDoc} */
+		@Override
+		public void startTag(String tagName){
+			count += tagName.length();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void attribute(String name, CharSequence value){
+			count += value != null?value.length():1;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void endTag(String tagName){
+			count++;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void text(CharSequence text){
+			count += text.length();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void comment(CharSequence comment){
+			count += comment.length();
+		}
+	}
+	
+	/**
+	 * Builds the document to tokenize
+	 *
+	 * @throws IOException If anything goes wrong in writing the document to a file
+	 */
+	@Setup
+	public void setup() throws IOException{
+		StringBuilder html = new StringBuilder("<!DOCTYPE html>\n<html lang=\"en\"><head><title>Benchmark</title>")
+				.append("<style>p > a{ color:blue; }</style></head>\n<body onload=\"init()\">\n");
+		for(int i = 0; i < sections; i++){
+			html.append("<div class=\"section\" id='section").append(i).append("' hidden>\n")
+					.append("<!-- section ").append(i).append(" -->\n")
+					.append("<h1>Heading</h1><p>Some text with <a href=\"https://example.com\">a link</a>")
+					.append(" and <b>bold</b> text.<br/></p>\n")
+					.append("<img src=image.png alt=\"An image\" />\n")
+					.append("<script>if(a < b){ run(); }</script>\n</div>\n");
+		}
+		document = html.append("</body></html>").toString();
+		documentBytes = ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8));
+		documentFile = Files.createTempFile("benchmark", ".html");
+		Files.write(documentFile, documentBytes.array());
+	}
+	
+	/**
+	 * Deletes the temporary file holding the document
+	 *
+	 * @throws IOException If anything goes wrong in deleting the file
+	 */
+	@TearDown
+	public void tearDown() throws IOException{
+		Files.delete(documentFile);
+	}
+	
+	/**
+	 * @return The count of the events from tokenizing the document as a String
+	 */
+	@Benchmark
+	public long tokenizeString(){
+		handler.count = 0;
+		tokenizer.tokenize(document);
+		return handler.count;
+	}
+	
+	/**
+	 * @return The count of the events from tokenizing the document through a Reader
+	 * @throws IOException Not thrown by the {@link StringReader}
+	 */
+	@Benchmark
+	public long tokenizeReader() throws IOException{
+		handler.count = 0;
+		tokenizer.tokenize(new StringReader(document));
+		return handler.count;
+	}
+	
+	/**
+	 * @return The count of the events from tokenizing the UTF-8 document, fed in chunks of {@link #chunkSize}
+	 */
+	@Benchmark
+	public long tokenizeBytesInChunks(){
+		handler.count = 0;
+		ByteBuffer bytes = documentBytes.duplicate();
+		int length = bytes.limit();
+		for(int start = 0; start < length; start += chunkSize){
+			tokenizer.feed(bytes.limit(Math.min(length, start + chunkSize)));
+		}
+		tokenizer.end();
+		return handler.count;
+	}
+	
+	/**
+	 * @return The count of the events from tokenizing the UTF-8 document straight from a memory-mapped file
+	 * @throws IOException If anything goes wrong in mapping the file
+	 */
+	@Benchmark
+	public long tokenizeMappedFile() throws IOException{
+		handler.count = 0;
+		tokenizer.tokenize(documentFile);
+		return handler.count;
+	}
+}